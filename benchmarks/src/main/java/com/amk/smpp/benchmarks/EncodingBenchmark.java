@@ -0,0 +1,86 @@
+/*
+ *      File: EncodingBenchmark.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amk.smpp.codec.ConcatenationType;
+import com.amk.smpp.codec.MessageCodec;
+import com.amk.smpp.codec.MessageSegmenter;
+import com.amk.smpp.codec.Segment;
+
+/**
+ * Encoding of the body done by <code>submit()</code> and <code>data()</code> of the facade: the body is encoded in
+ * the buffer of the thread and, for a <code>submit_sm</code>, split in parts.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodingBenchmark {
+    /**
+     * data_coding of the body.
+     */
+    @Param({"0", "3", "8"})
+    private byte             dataCoding;
+    /**
+     * Length of the body.
+     */
+    @Param({"SHORT", "LONG"})
+    private String           length;
+    /**
+     * Splits the body.
+     */
+    private final MessageSegmenter segmenter = new MessageSegmenter();
+
+    /**
+     * Body of the benchmark.
+     * @return the body.
+     */
+    private String body() {
+        return "LONG".equals(length) ? Operations.LONG_BODY : Operations.SHORT_BODY;
+    }
+
+    /**
+     * Body of a <code>data_sm</code>, encoded in a new array.
+     * @return the octets.
+     */
+    @Benchmark
+    public byte[] data() {
+        return MessageCodec.encode(body(), dataCoding);
+    }
+
+    /**
+     * Body of a <code>submit_sm</code>, encoded in the buffer of the thread and split.
+     * @return the parts.
+     */
+    @Benchmark
+    public List< Segment > submit() {
+        final String body = body();
+        final byte[] payload = MessageCodec.buffer(MessageCodec.maxLength(body, dataCoding));
+        final int encoded = MessageCodec.encode(body, dataCoding, payload);
+        return segmenter.split(payload, encoded, dataCoding, ConcatenationType.UDH_8BIT);
+    }
+}
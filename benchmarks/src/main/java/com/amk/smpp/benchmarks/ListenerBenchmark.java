@@ -0,0 +1,96 @@
+/*
+ *      File: ListenerBenchmark.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smpp.Receiver;
+import org.smpp.ServerPDUEvent;
+import org.smpp.TCPIPConnection;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.SubmitSMResp;
+
+import com.amk.smpp.util.BasicPDUListener;
+import com.amk.smpp.util.PDUListener;
+
+/**
+ * Enqueue and dequeue of the events received asynchronously by the {@link BasicPDUListener}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerBenchmark {
+    /**
+     * Listener measured.
+     */
+    private PDUListener    listener;
+    /**
+     * A deliver_sm event.
+     */
+    private ServerPDUEvent request;
+    /**
+     * A response event.
+     */
+    private ServerPDUEvent response;
+
+    /**
+     * Creates the listener and the events.
+     */
+    @Setup
+    public void setUp() {
+        listener = new BasicPDUListener();
+        listener.setIntervalTime(1L);
+        final TCPIPConnection connection = new TCPIPConnection("localhost", 0);
+        final Receiver receiver = new Receiver(connection);
+        request = new ServerPDUEvent(receiver, connection, new DeliverSM());
+        response = new ServerPDUEvent(receiver, connection, new SubmitSMResp());
+    }
+
+    /**
+     * Enqueues and dequeues one request from a single thread.
+     * @return the dequeued event.
+     */
+    @Benchmark
+    @Threads(1)
+    public ServerPDUEvent roundTrip() {
+        listener.handleEvent(request);
+        return listener.getRequestEvent();
+    }
+
+    /**
+     * Enqueues and dequeues one request from several threads sharing the listener, as the receiver thread and
+     * the application threads do. Every thread enqueues before dequeuing, so no thread waits for an event that never
+     * arrives.
+     * @return the dequeued event.
+     */
+    @Benchmark
+    @Threads(4)
+    public ServerPDUEvent contended() {
+        listener.handleEvent(request);
+        listener.handleEvent(response);
+        listener.getResponseEvent();
+        return listener.getRequestEvent();
+    }
+}
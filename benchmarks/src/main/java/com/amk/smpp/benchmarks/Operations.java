@@ -0,0 +1,83 @@
+/*
+ *      File: Operations.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.benchmarks;
+
+import java.util.Date;
+
+import org.smpp.pdu.Address;
+import org.smpp.pdu.WrongLengthOfStringException;
+
+import com.amk.smpp.core.BindingType;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.util.Message;
+import com.amk.smpp.util.PDUListener;
+
+/**
+ * Operations shared by the benchmarks.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Operations {
+    /**
+     * Body of one short_message in the GSM default alphabet.
+     */
+    static final String SHORT_BODY = "Mi mensaje de prueba para el benchmark del conector, cabe en un solo short_message.";
+    /**
+     * Body of several parts.
+     */
+    static final String LONG_BODY  = new String(new char[6]).replace("\0", SHORT_BODY);
+
+    /**
+     * Creates an instance of Operations.
+     */
+    private Operations() {
+        //
+    }
+
+    /**
+     * Properties with every field used by the PDUs informed.
+     * @param dataCoding data_coding of the body.
+     * @return the properties.
+     * @throws WrongLengthOfStringException If an address is invalid.
+     */
+    static PDUOperationProperties props(final byte dataCoding) throws WrongLengthOfStringException {
+        return new PDUOperationPropertiesBuilder()
+                .setServiceType("CMT")
+                .setSourceAddress(new Address("5529094190"))
+                .setDestAddress(new Address[]{new Address("5529094190"), new Address("5529094191")})
+                .setNumberOfDestination(2)
+                .setScheduleDeliveryTime(new Date(System.currentTimeMillis() + 3600000L))
+                .setRegisteredDelivery((byte) 1)
+                .setDataCoding(dataCoding)
+                .build();
+    }
+
+    /**
+     * Creates an operation.
+     * @param type type of the operation.
+     * @param body body of the message.
+     * @param props properties of the operation.
+     * @param listener listener of an asynchronous bind, null for a synchronous one.
+     * @return the operation.
+     */
+    static PDUOperation operation(final PDUOperationTypes type, final String body, final PDUOperationProperties props,
+            final PDUListener listener) {
+        return PDUOperation.newBuilder()
+                .withOperationType(type)
+                .withOperationProps(props)
+                .withSmsMessage(new Message(null, body))
+                .withBindingType(BindingType.TRX)
+                .withAsynchronous(listener != null)
+                .withListener(listener)
+                .build();
+    }
+}
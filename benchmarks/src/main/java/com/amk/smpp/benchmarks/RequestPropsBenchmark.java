@@ -0,0 +1,177 @@
+/*
+ *      File: RequestPropsBenchmark.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smpp.SmppException;
+import org.smpp.pdu.CancelSM;
+import org.smpp.pdu.DataSM;
+import org.smpp.pdu.QuerySM;
+import org.smpp.pdu.ReplaceSM;
+import org.smpp.pdu.SubmitMultiSM;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.util.ByteBuffer;
+
+import com.amk.smpp.codec.ConcatenationType;
+import com.amk.smpp.codec.EncodedPDU;
+import com.amk.smpp.codec.MessageCodec;
+import com.amk.smpp.codec.MessageSegmenter;
+import com.amk.smpp.codec.Segment;
+import com.amk.smpp.codec.SubmitTemplate;
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.util.OperationPropertiesUtil;
+
+/**
+ * Copy of the properties of the operation to every PDU type:
+ * {@link OperationPropertiesUtil#setRequestProps(SubmitSM, PDUOperationProperties)} and its overloads, and the
+ * <code>submit_sm</code> encoded from the properties against the one encoded from a {@link SubmitTemplate}, into an
+ * array or into a direct buffer.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestPropsBenchmark {
+    /**
+     * Properties copied.
+     */
+    private PDUOperationProperties props;
+    /**
+     * Template of the properties.
+     */
+    private SubmitTemplate         template;
+    /**
+     * Single part of {@link Operations#SHORT_BODY}.
+     */
+    private Segment                segment;
+    /**
+     * Write buffer of a connection.
+     */
+    private java.nio.ByteBuffer    direct;
+
+    /**
+     * Creates the properties.
+     * @throws SmppException If an address is invalid.
+     */
+    @Setup
+    public void setUp() throws SmppException {
+        props = Operations.props(MessageCodec.DC_DEFAULT);
+        template = SubmitTemplate.compile(props);
+        final byte[] body = Operations.SHORT_BODY.getBytes(StandardCharsets.US_ASCII);
+        direct = java.nio.ByteBuffer.allocateDirect(64 * 1024);
+        segment = new MessageSegmenter().split(body, body.length, MessageCodec.DC_DEFAULT, ConcatenationType.UDH_8BIT).get(0);
+    }
+
+    /**
+     * Body of a <code>submit_sm</code> built from the properties.
+     * @return the body.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public ByteBuffer submitBody() throws SmppException {
+        return segment.applyTo(OperationPropertiesUtil.setRequestProps(new SubmitSM(), props)).getBody();
+    }
+
+    /**
+     * Body of a <code>submit_sm</code> created from the template.
+     * @return the body.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public ByteBuffer templateBody() throws SmppException {
+        return template.newSubmit(props.getDestAddress()[0], segment).getBody();
+    }
+
+    /**
+     * Whole <code>submit_sm</code> created from the template and written into a direct buffer.
+     * @return the buffer.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public java.nio.ByteBuffer templateDirect() throws SmppException {
+        direct.clear();
+        ((EncodedPDU) template.newSubmit(props.getDestAddress()[0], segment).getData()).writeTo(direct);
+        return direct;
+    }
+
+    /**
+     * submit_sm.
+     * @return the request.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public SubmitSM submit() throws SmppException {
+        return OperationPropertiesUtil.setRequestProps(new SubmitSM(), props);
+    }
+
+    /**
+     * submit_multi.
+     * @return the request.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public SubmitMultiSM submitMulti() throws SmppException {
+        return OperationPropertiesUtil.setRequestProps(new SubmitMultiSM(), props);
+    }
+
+    /**
+     * data_sm.
+     * @return the request.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public DataSM data() throws SmppException {
+        return OperationPropertiesUtil.setRequestProps(new DataSM(), props);
+    }
+
+    /**
+     * query_sm.
+     * @return the request.
+     */
+    @Benchmark
+    public QuerySM query() {
+        return OperationPropertiesUtil.setRequestProps(new QuerySM(), props);
+    }
+
+    /**
+     * replace_sm.
+     * @return the request.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public ReplaceSM replace() throws SmppException {
+        return OperationPropertiesUtil.setRequestProps(new ReplaceSM(), props);
+    }
+
+    /**
+     * cancel_sm.
+     * @return the request.
+     * @throws SmppException If a value is invalid.
+     */
+    @Benchmark
+    public CancelSM cancel() throws SmppException {
+        return OperationPropertiesUtil.setRequestProps(new CancelSM(), props);
+    }
+}
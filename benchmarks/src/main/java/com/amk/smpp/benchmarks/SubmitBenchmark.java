@@ -0,0 +1,160 @@
+/*
+ *      File: SubmitBenchmark.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smpp.TCPIPConnection;
+import org.smpp.pdu.SubmitSMResp;
+
+import com.amk.smpp.codec.MessageCodec;
+import com.amk.smpp.core.AMKSmppFacade;
+import com.amk.smpp.core.BindingManager;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.sim.SIMSimulator;
+import com.amk.smpp.util.BasicPDUListener;
+
+/**
+ * End-to-end <code>submit_sm</code> against the in-process {@link SIMSimulator}: one synchronous operation at a
+ * time, and a window of asynchronous operations.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmitBenchmark {
+    /**
+     * Operations outstanding at the same time in the asynchronous case.
+     */
+    private static final int WINDOW = BindingManager.DEFAULT_WINDOW_SIZE;
+
+    /**
+     * Simulator and bound facades.
+     */
+    @State(Scope.Benchmark)
+    public static class Link {
+        /**
+         * Port of the simulator.
+         */
+        private static final int PORT = 35000;
+        /**
+         * SMSC simulator.
+         */
+        private SIMSimulator  simulator;
+        /**
+         * Facade bound synchronously.
+         */
+        private AMKSmppFacade syncFacade;
+        /**
+         * Facade bound asynchronously.
+         */
+        private AMKSmppFacade asyncFacade;
+        /**
+         * Synchronous submit.
+         */
+        private PDUOperation  syncSubmit;
+        /**
+         * Asynchronous submit.
+         */
+        private PDUOperation  asyncSubmit;
+
+        /**
+         * Starts the simulator and binds.
+         * @throws Exception If the simulator does not start or the bind fails.
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            simulator = new SIMSimulator();
+            simulator.init(PORT);
+            syncFacade = facade();
+            asyncFacade = facade();
+            final BasicPDUListener listener = new BasicPDUListener();
+            listener.setIntervalTime(1000L);
+            syncSubmit = Operations.operation(PDUOperationTypes.SUBMIT_SMS, Operations.SHORT_BODY,
+                    Operations.props(MessageCodec.DC_DEFAULT), null);
+            asyncSubmit = Operations.operation(PDUOperationTypes.SUBMIT_SMS, Operations.SHORT_BODY,
+                    Operations.props(MessageCodec.DC_DEFAULT), listener);
+            syncFacade.executeOperation(syncSubmit);
+            asyncFacade.executeOperationAsync(asyncSubmit).get(5, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Creates a facade with its own connection to the simulator.
+         * @return the facade.
+         */
+        private static AMKSmppFacade facade() {
+            final TCPIPConnection connection = new TCPIPConnection("0.0.0.0", PORT);
+            final AMKSmppFacade facade = new AMKSmppFacade(connection);
+            facade.setBindingManager(new BindingManager("hugo", "ggoohu", connection));
+            return facade;
+        }
+
+        /**
+         * Unbinds and stops the simulator.
+         * @throws Exception If the unbind fails.
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            syncFacade.getBindingManager().unBind();
+            asyncFacade.getBindingManager().unBind();
+            simulator.stop();
+        }
+    }
+
+    /**
+     * One synchronous submit.
+     * @param link bound facade.
+     * @return the response.
+     * @throws Exception If the operation fails.
+     */
+    @Benchmark
+    public SubmitSMResp sync(final Link link) throws Exception {
+        return link.syncFacade.executeOperation(link.syncSubmit);
+    }
+
+    /**
+     * A window of asynchronous submits, written back-to-back and then awaited.
+     * @param link bound facade.
+     * @return the responses.
+     * @throws Exception If an operation fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public List< SubmitSMResp > async(final Link link) throws Exception {
+        final List< CompletableFuture< SubmitSMResp > > futures = new ArrayList<>(WINDOW);
+        for (int i = 0; i < WINDOW; i++) {
+            futures.add(link.asyncFacade.executeOperationAsync(link.asyncSubmit));
+        }
+        final List< SubmitSMResp > responses = new ArrayList<>(WINDOW);
+        for (final CompletableFuture< SubmitSMResp > future : futures) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+}
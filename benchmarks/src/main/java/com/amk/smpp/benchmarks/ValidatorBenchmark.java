@@ -0,0 +1,71 @@
+/*
+ *      File: ValidatorBenchmark.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.smpp.SmppException;
+
+import com.amk.smpp.codec.MessageCodec;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.rules.PDUOperationsValidator;
+
+/**
+ * Validation done before every operation: {@link PDUOperationsValidator#validNotEmpty(PDUOperation)}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+    /**
+     * Type of the validated operation.
+     */
+    @Param({"SUBMIT_SMS", "DATA", "QUERY", "RECEIVE"})
+    private PDUOperationTypes type;
+    /**
+     * Validated operation.
+     */
+    private PDUOperation      operation;
+
+    /**
+     * Creates the operation.
+     * @throws SmppException If an address is invalid.
+     */
+    @Setup
+    public void setUp() throws SmppException {
+        operation = Operations.operation(type, Operations.SHORT_BODY, Operations.props(MessageCodec.DC_DEFAULT), null);
+    }
+
+    /**
+     * Validates the operation.
+     * @return the operation.
+     */
+    @Benchmark
+    public PDUOperation validNotEmpty() {
+        PDUOperationsValidator.validNotEmpty(operation);
+        return operation;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *      File: ChunkedSubmitMultiSMResp.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.smpp.Data;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.SubmitMultiSMResp;
+import org.smpp.pdu.UnsuccessSME;
+import org.smpp.pdu.ValueNotSetException;
+import org.smpp.pdu.WrongLengthOfStringException;
+
+/**
+ * Aggregate result of a <code>submit_multi</code> sent in several chunks of destinations.<br/>
+ * It takes the sequence number of the first chunk and the <code>message_id</code> of the first accepted chunk. The
+ * unsuccessful destinations of every chunk are merged in order; every destination of a chunk rejected by the SMSC
+ * is added with the <code>command_status</code> of the chunk, and of a chunk without response with
+ * <code>ESME_RSYSERR</code>. The <code>command_status</code> is <code>ESME_ROK</code> when at least one chunk was
+ * accepted, otherwise the one of the first chunk.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ChunkedSubmitMultiSMResp extends SubmitMultiSMResp {
+    /**
+     * Response of every chunk, null for a chunk without response.
+     */
+    private final List< SubmitMultiSMResp > chunks;
+    /**
+     * Unsuccessful destinations of every chunk.
+     */
+    private final List< UnsuccessSME >      unsuccessful;
+
+    /**
+     * Creates an instance of ChunkedSubmitMultiSMResp.
+     * @param destinations Destinations of the operation.
+     * @param chunkSize Destinations of every chunk, the last one may have less.
+     * @param chunks Response of every chunk in order, null for a chunk without response.
+     * @throws WrongLengthOfStringException If a <code>message_id</code> or a destination is invalid.
+     */
+    public ChunkedSubmitMultiSMResp(final Address[] destinations, final int chunkSize, final List< SubmitMultiSMResp > chunks)
+            throws WrongLengthOfStringException {
+        this.chunks = Collections.unmodifiableList(chunks);
+        final List< UnsuccessSME > merged = new ArrayList<>();
+        int status = Data.ESME_RSYSERR;
+        boolean accepted = false;
+        for (int i = 0; i < chunks.size(); i++) {
+            final SubmitMultiSMResp chunk = chunks.get(i);
+            if (i == 0 && Objects.nonNull(chunk)) {
+                setSequenceNumber(chunk.getSequenceNumber());
+                status = chunk.getCommandStatus();
+            }
+            if (Objects.nonNull(chunk) && chunk.getCommandStatus() == Data.ESME_ROK) {
+                if (!accepted) {
+                    setMessageId(chunk.getMessageId());
+                    accepted = true;
+                }
+                addUnsuccessful(chunk, merged);
+            } else {
+                final int error = Objects.isNull(chunk) ? Data.ESME_RSYSERR : chunk.getCommandStatus();
+                for (int d = i * chunkSize; d < Math.min(destinations.length, (i + 1) * chunkSize); d++) {
+                    merged.add(new UnsuccessSME(destinations[d].getTon(), destinations[d].getNpi(),
+                            destinations[d].getAddress(), error));
+                }
+            }
+        }
+        setCommandStatus(accepted ? Data.ESME_ROK : status);
+        this.unsuccessful = Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * Adds the unsuccessful destinations reported by an accepted chunk.
+     * @param chunk response of the chunk.
+     * @param merged destinations of the previous chunks.
+     */
+    private static void addUnsuccessful(final SubmitMultiSMResp chunk, final List< UnsuccessSME > merged) {
+        for (int i = 0; i < chunk.getNoUnsuccess(); i++) {
+            try {
+                merged.add(chunk.getUnsuccessSME(i));
+            } catch (final ValueNotSetException e) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Number of unsuccessful destinations of every chunk.
+     * @return the size of {@link #getUnsuccessful()}, at most {@link Short#MAX_VALUE}.
+     */
+    @Override
+    public short getNoUnsuccess() {
+        return (short) Math.min(unsuccessful.size(), Short.MAX_VALUE);
+    }
+
+    /**
+     * Unsuccessful destination of any chunk.
+     * @param index position in {@link #getUnsuccessful()}.
+     * @return the destination.
+     */
+    @Override
+    public UnsuccessSME getUnsuccessSME(final int index) {
+        return unsuccessful.get(index);
+    }
+
+    /**
+     * Getter for unsuccessful.
+     * @return unsuccessful destinations of every chunk, in order.
+     **/
+    public List< UnsuccessSME > getUnsuccessful() {
+        return unsuccessful;
+    }
+
+    /**
+     * Getter for chunks.
+     * @return response of every chunk in order, null for a chunk without response.
+     **/
+    public List< SubmitMultiSMResp > getChunks() {
+        return chunks;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *      File: ConcatenationType.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+/**
+ * When the body of a message does not fit in one <code>short_message</code> it is split in several parts, the
+ * handset joins them again using the information of one of the following mechanisms:
+ *
+ *  <ul>
+ *  <li>{@link #UDH_8BIT}</li>
+ *  <li>{@link #UDH_16BIT}</li>
+ *  <li>{@link #SAR}</li>
+ *  </ul>
+ *
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ConcatenationType {
+    /**
+     * User Data Header at the beginning of every part, information element 0x00 with an 8-bit reference number.
+     */
+    UDH_8BIT(6, 0xFF),
+    /**
+     * User Data Header at the beginning of every part, information element 0x08 with a 16-bit reference number.
+     */
+    UDH_16BIT(7, 0xFFFF),
+    /**
+     * Optional parameters <code>sar_msg_ref_num, sar_total_segments, sar_segment_seqnum</code>, the
+     * <code>short_message</code> carries only text.
+     */
+    SAR(0, 0xFFFF);
+
+    /**
+     * Octets taken by the header in every part.
+     */
+    private final int headerLength;
+    /**
+     * Greatest reference number.
+     */
+    private final int maxReference;
+
+    /**
+     * Creates an instance of ConcatenationType.
+     * @param headerLength Octets taken by the header in every part.
+     * @param maxReference Greatest reference number.
+     */
+    ConcatenationType(final int headerLength, final int maxReference) {
+        this.headerLength = headerLength;
+        this.maxReference = maxReference;
+    }
+
+    /**
+     * Getter for headerLength.
+     * @return octets taken by the header in every part.
+     **/
+    public int getHeaderLength() {
+        return headerLength;
+    }
+
+    /**
+     * Getter for maxReference.
+     * @return greatest reference number.
+     **/
+    public int getMaxReference() {
+        return maxReference;
+    }
+}
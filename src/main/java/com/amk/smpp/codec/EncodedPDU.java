@@ -0,0 +1,75 @@
+/*
+ *      File: EncodedPDU.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import java.util.Objects;
+
+import org.smpp.util.ByteBuffer;
+
+/**
+ * Data of a PDU created from a {@link SubmitTemplate}, encoded only when the connection writes it.<br/>
+ * A {@link com.amk.smpp.transport.NioConnection} calls {@link #writeTo(java.nio.ByteBuffer)} to write the header,
+ * the body and the optional parameters straight into its pooled direct buffer, back-patching the
+ * <code>command_length</code>; no array is allocated. Any other {@link org.smpp.Connection} reads
+ * {@link #getBuffer()}, which encodes the PDU once into an array of the exact size.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EncodedPDU extends ByteBuffer {
+    /**
+     * Request encoded.
+     */
+    private final TemplateSubmitSM request;
+    /**
+     * Octets of the PDU.
+     */
+    private final int              length;
+
+    /**
+     * Creates an instance of EncodedPDU.
+     * @param request Request encoded.
+     */
+    EncodedPDU(final TemplateSubmitSM request) {
+        this.request = request;
+        this.length = request.getEncodedLength();
+    }
+
+    /**
+     * Writes the PDU at the position of a buffer.
+     * @param out destination, with at least {@link #length()} octets remaining.
+     * @throws java.nio.BufferOverflowException If the PDU does not fit, the buffer is left in an undefined state.
+     */
+    public void writeTo(final java.nio.ByteBuffer out) {
+        request.encode(out);
+    }
+
+    /**
+     * Encodes the PDU into an array, the first time it is called.
+     * @return the PDU.
+     */
+    @Override
+    public byte[] getBuffer() {
+        byte[] data = super.getBuffer();
+        if (Objects.isNull(data)) {
+            data = new byte[length];
+            request.encode(java.nio.ByteBuffer.wrap(data));
+            setBuffer(data);
+        }
+        return data;
+    }
+
+    /**
+     * Octets of the PDU, without encoding it.
+     * @return the <code>command_length</code>.
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+}
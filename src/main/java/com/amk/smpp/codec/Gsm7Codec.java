@@ -0,0 +1,213 @@
+/*
+ *      File: Gsm7Codec.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import java.util.Arrays;
+
+/**
+ * GSM 03.38 7-bit default alphabet.<br/>
+ * Every character is looked up in a table built once; the characters of the extension table are written as the
+ * escape septet <code>0x1B</code> followed by their code, the characters out of the alphabet are written as
+ * <code>'?'</code>. The septets are written one per octet directly in the array of the caller, {@link #pack} joins
+ * them when the SMSC expects the packed form.
+ * See "3GPP TS 23.038, 6.2.1 GSM 7 bit Default Alphabet."
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Gsm7Codec {
+    /**
+     * Escape to the extension table.
+     */
+    public static final byte   ESCAPE      = 0x1B;
+    /**
+     * Septets that fit in 140 octets.
+     */
+    public static final int    MAX_SEPTETS = 160;
+    /**
+     * Septet written for the characters out of the alphabet.
+     */
+    private static final byte  UNKNOWN     = 0x3F;
+    /**
+     * Mark of the extension table in {@link #ENCODE}.
+     */
+    private static final short EXTENDED    = 0x100;
+    /**
+     * Characters of the basic table, by septet. The escape position holds a space that is never looked up.
+     */
+    private static final String BASIC     = "@£$¥èéùìòÇ\nØø\rÅå"
+            + "Δ_ΦΓΛΩΠΨΣΘΞ ÆæßÉ"
+            + " !\"#¤%&'()*+,-./0123456789:;<=>?"
+            + "¡ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÑÜ§"
+            + "¿abcdefghijklmnopqrstuvwxyzäöñüà";
+    /**
+     * Characters of the extension table.
+     */
+    private static final String EXTENSION  = "\f^{}\\[~]|€";
+    /**
+     * Septets of the characters of the extension table, same order as {@link #EXTENSION}.
+     */
+    private static final byte[] EXTENSION_CODES = {0x0A, 0x14, 0x28, 0x29, 0x2F, 0x3C, 0x3D, 0x3E, 0x40, 0x65};
+    /**
+     * Euro sign, the only character of the alphabet beyond {@link #ENCODE}.
+     */
+    private static final char   EURO       = '€';
+    /**
+     * Septet of every character below <code>U+0400</code>, {@link #EXTENDED} marks the extension table and -1 the
+     * characters out of the alphabet.
+     */
+    private static final short[] ENCODE    = new short[0x0400];
+    /**
+     * Character of every septet of the extension table, 0 when undefined.
+     */
+    private static final char[]  DECODE_EXTENSION = new char[128];
+
+    static {
+        Arrays.fill(ENCODE, (short) -1);
+        for (int septet = 0; septet < BASIC.length(); septet++) {
+            if (septet != ESCAPE) {
+                ENCODE[BASIC.charAt(septet)] = (short) septet;
+            }
+        }
+        for (int i = 0; i < EXTENSION.length(); i++) {
+            final char character = EXTENSION.charAt(i);
+            if (character < ENCODE.length) {
+                ENCODE[character] = (short) (EXTENDED | EXTENSION_CODES[i]);
+            }
+            DECODE_EXTENSION[EXTENSION_CODES[i]] = character;
+        }
+    }
+
+    /**
+     * Creates an instance of Gsm7Codec.
+     */
+    private Gsm7Codec() {
+        //
+    }
+
+    /**
+     * Septet of the character.
+     * @param character expected.
+     * @return the septet, {@link #EXTENDED} plus the septet for the extension table, -1 if out of the alphabet.
+     */
+    private static int lookup(final char character) {
+        if (character < ENCODE.length) {
+            return ENCODE[character];
+        }
+        return character == EURO ? EXTENDED | 0x65 : -1;
+    }
+
+    /**
+     * Validates if every character belongs to the alphabet.
+     * @param text expected.
+     * @return true if the text can be encoded without loss.
+     */
+    public static boolean canEncode(final CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (lookup(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of septets of the encoded text, the characters of the extension table take two.
+     * @param text expected.
+     * @return septets.
+     */
+    public static int septetLength(final CharSequence text) {
+        int length = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            final int septet = lookup(text.charAt(i));
+            if (septet > 0 && (septet & EXTENDED) != 0) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encodes the text one septet per octet.
+     * @param text expected.
+     * @param out destination, with room for {@link #septetLength(CharSequence)} octets from the offset.
+     * @param offset first octet to write.
+     * @return number of octets written.
+     */
+    public static int encode(final CharSequence text, final byte[] out, final int offset) {
+        int position = offset;
+        for (int i = 0; i < text.length(); i++) {
+            final int septet = lookup(text.charAt(i));
+            if (septet < 0) {
+                out[position++] = UNKNOWN;
+            } else if ((septet & EXTENDED) != 0) {
+                out[position++] = ESCAPE;
+                out[position++] = (byte) (septet & 0x7F);
+            } else {
+                out[position++] = (byte) septet;
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * Decodes septets written one per octet.
+     * @param septets expected.
+     * @param offset first septet.
+     * @param length number of septets.
+     * @return the text.
+     */
+    public static String decode(final byte[] septets, final int offset, final int length) {
+        final StringBuilder text = new StringBuilder(length);
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            final int septet = septets[i] & 0x7F;
+            if (septet == ESCAPE && i + 1 < end) {
+                final char extended = DECODE_EXTENSION[septets[++i] & 0x7F];
+                text.append(extended == 0 ? ' ' : extended);
+            } else {
+                text.append(BASIC.charAt(septet));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Number of octets taken by packed septets.
+     * @param septets number of septets.
+     * @return octets.
+     */
+    public static int packedLength(final int septets) {
+        return (septets * 7 + 7) / 8;
+    }
+
+    /**
+     * Packs septets, 8 septets in 7 octets, least significant bit first.
+     * @param septets septets written one per octet.
+     * @param from first septet to pack.
+     * @param count number of septets to pack.
+     * @param out destination, the octets are combined with its current content.
+     * @param septetOffset position, counted in septets from the beginning of <code>out</code>, of the first packed
+     * septet; it lets the text start after a User Data Header with its fill bits.
+     * @return index of the octet following the last one written.
+     */
+    public static int pack(final byte[] septets, final int from, final int count, final byte[] out, final int septetOffset) {
+        int bit = septetOffset * 7;
+        for (int i = from; i < from + count; i++) {
+            final int septet = septets[i] & 0x7F;
+            final int index = bit >>> 3;
+            final int shift = bit & 7;
+            out[index] |= (byte) (septet << shift);
+            if (shift > 1) {
+                out[index + 1] |= (byte) (septet >>> (8 - shift));
+            }
+            bit += 7;
+        }
+        return (bit + 7) >>> 3;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *      File: MessageCodec.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+/**
+ * Encodes the body of a message with the alphabet of its <code>data_coding</code>.<br/>
+ * The text is written directly in an array of the caller, usually the one of {@link #buffer(int)} that every thread
+ * reuses, without intermediate copies nor charset lookups.
+ * See "SMPP Protocol Specification 3.4, 5.2.19 data_coding."
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MessageCodec {
+    /**
+     * SMSC Default Alphabet, GSM 03.38 7-bit.
+     */
+    public static final byte DC_DEFAULT = 0x00;
+    /**
+     * IA5 (CCITT T.50)/ASCII.
+     */
+    public static final byte DC_IA5    = 0x01;
+    /**
+     * Latin 1 (ISO-8859-1).
+     */
+    public static final byte DC_LATIN1 = 0x03;
+    /**
+     * UCS2 (ISO/IEC-10646).
+     */
+    public static final byte DC_UCS2   = 0x08;
+    /**
+     * Octet written for the characters out of the alphabet.
+     */
+    private static final byte UNKNOWN  = '?';
+    /**
+     * Initial size of the buffer of every thread.
+     */
+    private static final int  INITIAL_BUFFER = 512;
+
+    /**
+     * Buffer reused by every thread.
+     */
+    private static final ThreadLocal< byte[] > BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER]);
+
+    /**
+     * Creates an instance of MessageCodec.
+     */
+    private MessageCodec() {
+        //
+    }
+
+    /**
+     * Buffer of the current thread, it is replaced only when it is smaller than required. Its content is valid
+     * until the next call from the same thread.
+     * @param capacity minimum size.
+     * @return the buffer.
+     */
+    public static byte[] buffer(final int capacity) {
+        byte[] buffer = BUFFER.get();
+        if (buffer.length < capacity) {
+            buffer = new byte[Math.max(capacity, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Greatest number of octets of the encoded body.
+     * @param body text of the message.
+     * @param dataCoding <code>data_coding</code> of the request.
+     * @return octets.
+     */
+    public static int maxLength(final CharSequence body, final byte dataCoding) {
+        return body.length() * 2;
+    }
+
+    /**
+     * Encodes the body; the default alphabet is written one septet per octet.
+     * @param body text of the message.
+     * @param dataCoding <code>data_coding</code> of the request.
+     * @param out destination, with room for {@link #maxLength(CharSequence, byte)} octets.
+     * @return number of octets written.
+     */
+    public static int encode(final CharSequence body, final byte dataCoding, final byte[] out) {
+        switch (dataCoding) {
+            case DC_DEFAULT:
+                return Gsm7Codec.encode(body, out, 0);
+            case DC_UCS2:
+                return encodeUcs2(body, out);
+            case DC_LATIN1:
+                return encodeSingleOctet(body, out, 0xFF);
+            default:
+                return encodeSingleOctet(body, out, 0x7F);
+        }
+    }
+
+    /**
+     * Encodes the body in a new array of its exact length.
+     * @param body text of the message.
+     * @param dataCoding <code>data_coding</code> of the request.
+     * @return the encoded body.
+     */
+    public static byte[] encode(final CharSequence body, final byte dataCoding) {
+        final byte[] buffer = buffer(maxLength(body, dataCoding));
+        final int length = encode(body, dataCoding, buffer);
+        final byte[] encoded = new byte[length];
+        System.arraycopy(buffer, 0, encoded, 0, length);
+        return encoded;
+    }
+
+    /**
+     * Octets of every code unit of the data coding, a part of a long message never splits one.
+     * @param dataCoding <code>data_coding</code> of the request.
+     * @return 2 for UCS2, 1 for the others.
+     */
+    public static int unitSize(final byte dataCoding) {
+        return dataCoding == DC_UCS2 ? 2 : 1;
+    }
+
+    /**
+     * Encodes UTF-16 big endian.
+     * @param body text of the message.
+     * @param out destination.
+     * @return number of octets written.
+     */
+    private static int encodeUcs2(final CharSequence body, final byte[] out) {
+        int position = 0;
+        for (int i = 0; i < body.length(); i++) {
+            final char character = body.charAt(i);
+            out[position++] = (byte) (character >>> 8);
+            out[position++] = (byte) character;
+        }
+        return position;
+    }
+
+    /**
+     * Encodes an alphabet of one octet per character that matches the first code points of Unicode.
+     * @param body text of the message.
+     * @param out destination.
+     * @param last greatest code point of the alphabet.
+     * @return number of octets written.
+     */
+    private static int encodeSingleOctet(final CharSequence body, final byte[] out, final int last) {
+        for (int i = 0; i < body.length(); i++) {
+            final char character = body.charAt(i);
+            out[i] = character <= last ? (byte) character : UNKNOWN;
+        }
+        return body.length();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ *      File: MessageSegmenter.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits the encoded body of a message in the parts sent to the SMSC.<br/>
+ * Every part is written once in its own array of the exact size, the header first and then its slice of the body;
+ * a part never ends in the middle of a character of the data coding: neither between the two code units of a UCS2
+ * surrogate pair nor between the escape septet of the GSM 7-bit alphabet and the extended character.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MessageSegmenter {
+    /**
+     * Octets of user data that fit in one message on the air interface.
+     */
+    public static final int    MAX_LENGTH   = 140;
+    /**
+     * Greatest number of parts of a message.
+     */
+    public static final int    MAX_SEGMENTS = 255;
+    /**
+     * Error msg.
+     */
+    private static final String TOO_LONG    = "[X] error, the message needs more than " + MAX_SEGMENTS + " parts -> ";
+
+    /**
+     * Octets of the <code>short_message</code> of every part.
+     */
+    private final int           maxLength;
+    /**
+     * Source of the reference numbers.
+     */
+    private final AtomicInteger reference = new AtomicInteger(ThreadLocalRandom.current().nextInt());
+
+    /**
+     * Creates an instance of MessageSegmenter with parts of {@link #MAX_LENGTH} octets.
+     */
+    public MessageSegmenter() {
+        this(MAX_LENGTH);
+    }
+
+    /**
+     * Creates an instance of MessageSegmenter.
+     * @param maxLength Octets of the <code>short_message</code> of every part.
+     */
+    public MessageSegmenter(final int maxLength) {
+        if (maxLength <= ConcatenationType.UDH_16BIT.getHeaderLength() + 2) {
+            throw new IllegalArgumentException("[X] error, invalid length of the parts " + maxLength);
+        }
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Splits the body. A body that fits in one <code>short_message</code> results in a single part without header.
+     * A body of the GSM 7-bit default alphabet is packed by the SMSC, so it is measured in septets: 160 fit in one
+     * message and every part holds 160 minus the septets of the User Data Header, 153 with the 8-bit reference.
+     * @param payload encoded body, the default alphabet one septet per octet.
+     * @param length octets of the payload in use.
+     * @param dataCoding <code>data_coding</code> of the request.
+     * @param type How the parts are joined by the handset.
+     * @return the parts, in order.
+     * @throws IllegalArgumentException If the body needs more than {@link #MAX_SEGMENTS} parts.
+     */
+    public List< Segment > split(final byte[] payload, final int length, final byte dataCoding, final ConcatenationType type) {
+        Objects.requireNonNull(type);
+        final boolean septets = dataCoding == MessageCodec.DC_DEFAULT;
+        if (length <= (septets ? maxSeptets() : maxLength)) {
+            final byte[] data = new byte[length];
+            System.arraycopy(payload, 0, data, 0, length);
+            return Collections.singletonList(new Segment(data, type, 0, 1, 1));
+        }
+        final int unitSize = MessageCodec.unitSize(dataCoding);
+        final int capacity = septets
+                ? maxSeptets() - headerSeptets(type)
+                : (maxLength - type.getHeaderLength()) / unitSize * unitSize;
+        final int[] ends = boundaries(payload, length, dataCoding, capacity);
+        final int total = ends.length;
+        final int ref = nextReference(type);
+        final List< Segment > segments = new ArrayList<>(total);
+        int start = 0;
+        for (int i = 0; i < total; i++) {
+            final int header = type.getHeaderLength();
+            final byte[] data = new byte[header + ends[i] - start];
+            writeHeader(data, type, ref, total, i + 1);
+            System.arraycopy(payload, start, data, header, ends[i] - start);
+            segments.add(new Segment(data, type, ref, total, i + 1));
+            start = ends[i];
+        }
+        return segments;
+    }
+
+    /**
+     * Splits a body of the GSM 7-bit default alphabet and packs the septets of every part, 160 septets fit in one
+     * <code>short_message</code>. The text of every part starts on a septet boundary after the User Data Header.
+     * @param septets encoded body, one septet per octet.
+     * @param length septets in use.
+     * @param type How the parts are joined by the handset.
+     * @return the parts, in order.
+     * @throws IllegalArgumentException If the body needs more than {@link #MAX_SEGMENTS} parts.
+     * @see Gsm7Codec#pack(byte[], int, int, byte[], int)
+     */
+    public List< Segment > splitPacked(final byte[] septets, final int length, final ConcatenationType type) {
+        Objects.requireNonNull(type);
+        final int maxSeptets = maxSeptets();
+        if (length <= maxSeptets) {
+            final byte[] data = new byte[Gsm7Codec.packedLength(length)];
+            Gsm7Codec.pack(septets, 0, length, data, 0);
+            return Collections.singletonList(new Segment(data, type, 0, 1, 1));
+        }
+        final int headerSeptets = headerSeptets(type);
+        final int[] ends = boundaries(septets, length, MessageCodec.DC_DEFAULT, maxSeptets - headerSeptets);
+        final int total = ends.length;
+        final int ref = nextReference(type);
+        final List< Segment > segments = new ArrayList<>(total);
+        int start = 0;
+        for (int i = 0; i < total; i++) {
+            final int count = ends[i] - start;
+            final byte[] data = new byte[Gsm7Codec.packedLength(headerSeptets + count)];
+            writeHeader(data, type, ref, total, i + 1);
+            Gsm7Codec.pack(septets, start, count, data, headerSeptets);
+            segments.add(new Segment(data, type, ref, total, i + 1));
+            start = ends[i];
+        }
+        return segments;
+    }
+
+    /**
+     * Septets that fit in one <code>short_message</code>, {@link Gsm7Codec#MAX_SEPTETS} in {@link #MAX_LENGTH} octets.
+     * @return the septets.
+     */
+    private int maxSeptets() {
+        return maxLength * Gsm7Codec.MAX_SEPTETS / MAX_LENGTH;
+    }
+
+    /**
+     * Septets taken by the User Data Header of the type, the header and its fill bits.
+     * @param type How the parts are joined by the handset.
+     * @return the septets.
+     */
+    private static int headerSeptets(final ConcatenationType type) {
+        return (type.getHeaderLength() * 8 + 6) / 7;
+    }
+
+    /**
+     * Next reference number of the type.
+     * @param type How the parts are joined by the handset.
+     * @return the reference number.
+     */
+    private int nextReference(final ConcatenationType type) {
+        return Math.floorMod(reference.getAndIncrement(), type.getMaxReference() + 1);
+    }
+
+    /**
+     * Finds where every part ends, without splitting a character of the data coding.
+     * @param payload encoded body.
+     * @param length octets of the payload in use.
+     * @param dataCoding <code>data_coding</code> of the request.
+     * @param capacity octets of text of every part.
+     * @return end offset (exclusive) of every part.
+     */
+    private int[] boundaries(final byte[] payload, final int length, final byte dataCoding, final int capacity) {
+        final int[] ends = new int[MAX_SEGMENTS];
+        int count = 0;
+        int start = 0;
+        while (start < length) {
+            if (count == MAX_SEGMENTS) {
+                throw new IllegalArgumentException(TOO_LONG + length + " octets");
+            }
+            int end = Math.min(start + capacity, length);
+            if (end < length && dataCoding == MessageCodec.DC_UCS2 && isHighSurrogate(payload, end - 2)) {
+                end -= 2;
+            } else if (end < length && dataCoding == MessageCodec.DC_DEFAULT && payload[end - 1] == Gsm7Codec.ESCAPE) {
+                end--;
+            }
+            ends[count++] = end;
+            start = end;
+        }
+        final int[] result = new int[count];
+        System.arraycopy(ends, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Validates if the UTF-16BE code unit at the offset is a high surrogate.
+     * @param payload encoded body.
+     * @param offset offset of the code unit.
+     * @return true if the next unit belongs to the same character.
+     */
+    private static boolean isHighSurrogate(final byte[] payload, final int offset) {
+        return Character.isHighSurrogate((char) (((payload[offset] & 0xFF) << 8) | (payload[offset + 1] & 0xFF)));
+    }
+
+    /**
+     * Writes the User Data Header of the part, nothing for {@link ConcatenationType#SAR}.
+     * @param data array of the part.
+     * @param type How the parts are joined by the handset.
+     * @param ref Reference number.
+     * @param total Number of parts.
+     * @param number Position of the part.
+     */
+    private static void writeHeader(final byte[] data, final ConcatenationType type, final int ref, final int total,
+            final int number) {
+        switch (type) {
+            case UDH_8BIT:
+                data[0] = 0x05;
+                data[1] = 0x00;
+                data[2] = 0x03;
+                data[3] = (byte) ref;
+                data[4] = (byte) total;
+                data[5] = (byte) number;
+                break;
+            case UDH_16BIT:
+                data[0] = 0x06;
+                data[1] = 0x08;
+                data[2] = 0x04;
+                data[3] = (byte) (ref >>> 8);
+                data[4] = (byte) ref;
+                data[5] = (byte) total;
+                data[6] = (byte) number;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Getter for maxLength.
+     * @return octets of the <code>short_message</code> of every part.
+     **/
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
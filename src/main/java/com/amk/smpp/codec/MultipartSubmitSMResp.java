@@ -0,0 +1,56 @@
+/*
+ *      File: MultipartSubmitSMResp.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.smpp.Data;
+import org.smpp.pdu.SubmitSMResp;
+import org.smpp.pdu.WrongLengthOfStringException;
+
+/**
+ * Aggregate result of a message sent in several parts.<br/>
+ * It takes the sequence number and <code>message_id</code> of the first part and the first
+ * <code>command_status</code> that is not <code>ESME_ROK</code>; the response of every part is kept in order.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MultipartSubmitSMResp extends SubmitSMResp {
+    /**
+     * Response of every part.
+     */
+    private final List< SubmitSMResp > parts;
+
+    /**
+     * Creates an instance of MultipartSubmitSMResp.
+     * @param parts Response of every part, in order.
+     * @throws WrongLengthOfStringException If the <code>message_id</code> of the first part is invalid.
+     */
+    public MultipartSubmitSMResp(final List< SubmitSMResp > parts) throws WrongLengthOfStringException {
+        this.parts = Collections.unmodifiableList(parts);
+        final SubmitSMResp first = parts.get(0);
+        setSequenceNumber(first.getSequenceNumber());
+        setMessageId(first.getMessageId());
+        for (final SubmitSMResp part : parts) {
+            if (part.getCommandStatus() != Data.ESME_ROK) {
+                setCommandStatus(part.getCommandStatus());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Getter for parts.
+     * @return response of every part, in order.
+     **/
+    public List< SubmitSMResp > getParts() {
+        return parts;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *      File: Segment.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import org.smpp.Data;
+import org.smpp.pdu.PDUException;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.util.ByteBuffer;
+
+/**
+ * One part of a message, ready to be copied in the <code>short_message</code> of a {@link SubmitSM}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see MessageSegmenter
+ */
+public final class Segment {
+    /**
+     * Content of the <code>short_message</code>, header included.
+     */
+    private final byte[]            data;
+    /**
+     * How the parts are joined by the handset.
+     */
+    private final ConcatenationType type;
+    /**
+     * Reference number shared by all the parts of the message.
+     */
+    private final int               reference;
+    /**
+     * Number of parts of the message.
+     */
+    private final int               total;
+    /**
+     * Position of this part, starting at 1.
+     */
+    private final int               number;
+
+    /**
+     * Creates an instance of Segment.
+     * @param data Content of the <code>short_message</code>, header included.
+     * @param type How the parts are joined by the handset.
+     * @param reference Reference number shared by all the parts of the message.
+     * @param total Number of parts of the message.
+     * @param number Position of this part, starting at 1.
+     */
+    Segment(final byte[] data, final ConcatenationType type, final int reference, final int total, final int number) {
+        this.data = data;
+        this.type = type;
+        this.reference = reference;
+        this.total = total;
+        this.number = number;
+    }
+
+    /**
+     * Copies the part in the request: the <code>short_message</code> and, when the message has several parts, the
+     * UDHI flag of the <code>esm_class</code> or the SAR optional parameters.
+     * @param request Request of the part, with the properties of the operation already set.
+     * @return the same request.
+     * @throws PDUException If the part exceeds the length of the <code>short_message</code>.
+     */
+    public SubmitSM applyTo(final SubmitSM request) throws PDUException {
+        request.setShortMessageData(new ByteBuffer(data));
+        if (total > 1) {
+            if (ConcatenationType.SAR.equals(type)) {
+                request.setSarMsgRefNum((short) reference);
+                request.setSarTotalSegments((short) total);
+                request.setSarSegmentSeqnum((short) number);
+            } else {
+                request.setEsmClass((byte) (request.getEsmClass() | Data.SM_UDH_GSM));
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Getter for data.
+     * @return content of the <code>short_message</code>, header included.
+     **/
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Getter for type.
+     * @return type.
+     **/
+    public ConcatenationType getType() {
+        return type;
+    }
+
+    /**
+     * Getter for reference.
+     * @return reference.
+     **/
+    public int getReference() {
+        return reference;
+    }
+
+    /**
+     * Getter for total.
+     * @return total.
+     **/
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Getter for number.
+     * @return number.
+     **/
+    public int getNumber() {
+        return number;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *      File: SubmitTemplate.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.smpp.Data;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.PDUException;
+import org.smpp.pdu.SubmitSM;
+
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.util.OperationPropertiesUtil;
+
+/**
+ * <code>submit_sm</code> with the fixed fields of a {@link PDUOperationProperties} already encoded.<br/>
+ * The properties are validated and the octets from <code>service_type</code> to <code>source_addr</code> and from
+ * <code>protocol_id</code> to <code>sm_default_msg_id</code> are written once, when the template is compiled. Every
+ * request created from the template only keeps its destination and <code>short_message</code>; the body is written
+ * in a single array of the exact size when the request is sent, instead of copying every property into a new
+ * {@link SubmitSM} and appending its fields one by one. Over a {@link com.amk.smpp.transport.NioConnection} the
+ * whole PDU is written straight into a direct buffer of the connection, see {@link EncodedPDU}.<br/>
+ * The template can be shared by every thread; the properties must not be changed after the compilation.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SubmitTemplate {
+    /**
+     * Longest <code>short_message</code>, its length is written in one octet.
+     */
+    private static final int MAX_SHORT_MESSAGE = 254;
+
+    /**
+     * Properties compiled.
+     */
+    private final PDUOperationProperties props;
+    /**
+     * <code>service_type</code>, <code>source_addr_ton</code>, <code>source_addr_npi</code> and
+     * <code>source_addr</code>.
+     */
+    private final byte[] head;
+    /**
+     * From <code>protocol_id</code> to <code>sm_default_msg_id</code>.
+     */
+    private final byte[] tail;
+    /**
+     * <code>schedule_delivery_time</code> in the SMPP absolute time format, null to deliver immediately.
+     */
+    private final String scheduleDeliveryTime;
+
+    /**
+     * Creates an instance of SubmitTemplate.
+     * @param props Properties compiled.
+     */
+    private SubmitTemplate(final PDUOperationProperties props) {
+        this.props = props;
+        final Address source = props.getSourceAddress();
+        final String sourceAddr = Objects.isNull(source) ? "" : source.getAddress();
+        head = new byte[cOctetLength(props.getServiceType()) + 2 + cOctetLength(sourceAddr)];
+        int offset = putCOctet(head, 0, props.getServiceType());
+        head[offset++] = Objects.isNull(source) ? 0 : source.getTon();
+        head[offset++] = Objects.isNull(source) ? 0 : source.getNpi();
+        putCOctet(head, offset, sourceAddr);
+        scheduleDeliveryTime = OperationPropertiesUtil.scheduleDeliveryTime(props);
+        tail = new byte[2 + cOctetLength(scheduleDeliveryTime) + cOctetLength(props.getValidityPeriod()) + 4];
+        offset = 0;
+        tail[offset++] = props.getProtocolId();
+        tail[offset++] = props.getPriorityFlag();
+        offset = putCOctet(tail, offset, scheduleDeliveryTime);
+        offset = putCOctet(tail, offset, props.getValidityPeriod());
+        tail[offset++] = props.getRegisteredDelivery();
+        tail[offset++] = props.getReplaceIfPresentFlag();
+        tail[offset++] = props.getDataCoding();
+        tail[offset] = props.getSmDefaultMsgId();
+    }
+
+    /**
+     * Validates and encodes the fixed fields of the properties. The destination of the properties is ignored.
+     * @param props Properties shared by the messages.
+     * @return the template.
+     * @throws PDUException If the <code>service_type</code>, the source address, the schedule or the validity period
+     * are invalid.
+     */
+    public static SubmitTemplate compile(final PDUOperationProperties props) throws PDUException {
+        final SubmitSM probe = new SubmitSM();
+        probe.setServiceType(props.getServiceType());
+        probe.setSourceAddr(props.getSourceAddress());
+        probe.setScheduleDeliveryTime(OperationPropertiesUtil.scheduleDeliveryTime(props));
+        probe.setValidityPeriod(props.getValidityPeriod());
+        return new SubmitTemplate(props);
+    }
+
+    /**
+     * Creates the request of one part of a message.
+     * @param destination destination address.
+     * @param segment the part, as split by the {@link MessageSegmenter}.
+     * @return the request, without sequence number.
+     */
+    public SubmitSM newSubmit(final Address destination, final Segment segment) {
+        final byte[] data = segment.getData();
+        if (data.length > MAX_SHORT_MESSAGE) {
+            throw new IllegalArgumentException("[X] error, short_message of " + data.length + " octets");
+        }
+        byte esmClass = props.getEsmClass();
+        final TemplateSubmitSM request = new TemplateSubmitSM(this, destination, data);
+        if (segment.getTotal() > 1) {
+            if (ConcatenationType.SAR.equals(segment.getType())) {
+                request.setSarMsgRefNum((short) segment.getReference());
+                request.setSarTotalSegments((short) segment.getTotal());
+                request.setSarSegmentSeqnum((short) segment.getNumber());
+            } else {
+                esmClass |= Data.SM_UDH_GSM;
+            }
+        }
+        request.setEsmClass(esmClass);
+        return request;
+    }
+
+    /**
+     * Writes the mandatory parameters of a request.
+     * @param destination destination address.
+     * @param esmClass <code>esm_class</code> of the part.
+     * @param shortMessage <code>short_message</code> of the part.
+     * @return the body, exactly sized.
+     */
+    byte[] encode(final Address destination, final byte esmClass, final byte[] shortMessage) {
+        final byte[] body = new byte[bodyLength(destination, shortMessage)];
+        encode(ByteBuffer.wrap(body), destination, esmClass, shortMessage);
+        return body;
+    }
+
+    /**
+     * Writes the mandatory parameters of a request at the position of a buffer.
+     * @param out destination, with at least {@link #bodyLength(Address, byte[])} octets remaining.
+     * @param destination destination address.
+     * @param esmClass <code>esm_class</code> of the part.
+     * @param shortMessage <code>short_message</code> of the part.
+     */
+    void encode(final ByteBuffer out, final Address destination, final byte esmClass, final byte[] shortMessage) {
+        out.put(head);
+        out.put(Objects.isNull(destination) ? 0 : destination.getTon());
+        out.put(Objects.isNull(destination) ? 0 : destination.getNpi());
+        putCOctet(out, Objects.isNull(destination) ? "" : destination.getAddress());
+        out.put(esmClass);
+        out.put(tail);
+        out.put((byte) shortMessage.length);
+        out.put(shortMessage);
+    }
+
+    /**
+     * Octets of the mandatory parameters of a request.
+     * @param destination destination address.
+     * @param shortMessage <code>short_message</code> of the part.
+     * @return the length of the body.
+     */
+    int bodyLength(final Address destination, final byte[] shortMessage) {
+        final String destinationAddr = Objects.isNull(destination) ? "" : destination.getAddress();
+        return head.length + 2 + cOctetLength(destinationAddr) + 1 + tail.length + 1 + shortMessage.length;
+    }
+
+    /**
+     * Octets of a C-Octet String.
+     * @param value text, null is written as empty.
+     * @return the length with the terminating zero.
+     */
+    private static int cOctetLength(final String value) {
+        return (Objects.isNull(value) ? 0 : value.length()) + 1;
+    }
+
+    /**
+     * Writes a C-Octet String of ASCII characters.
+     * @param out destination.
+     * @param offset first octet.
+     * @param value text, null is written as empty.
+     * @return the offset after the terminating zero.
+     */
+    private static int putCOctet(final byte[] out, final int offset, final String value) {
+        int position = offset;
+        if (Objects.nonNull(value)) {
+            for (int i = 0; i < value.length(); i++) {
+                out[position++] = (byte) value.charAt(i);
+            }
+        }
+        out[position++] = 0;
+        return position;
+    }
+
+    /**
+     * Writes a C-Octet String of ASCII characters at the position of a buffer.
+     * @param out destination.
+     * @param value text, null is written as empty.
+     */
+    private static void putCOctet(final ByteBuffer out, final String value) {
+        if (Objects.nonNull(value)) {
+            for (int i = 0; i < value.length(); i++) {
+                out.put((byte) value.charAt(i));
+            }
+        }
+        out.put((byte) 0);
+    }
+
+    /**
+     * Getter for scheduleDeliveryTime.
+     * @return scheduleDeliveryTime, null to deliver immediately.
+     **/
+    public String getScheduleDeliveryTime() {
+        return scheduleDeliveryTime;
+    }
+
+    /**
+     * Getter for properties.
+     * @return properties compiled.
+     **/
+    public PDUOperationProperties getProperties() {
+        return props;
+    }
+}
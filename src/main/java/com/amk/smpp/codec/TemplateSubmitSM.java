@@ -0,0 +1,237 @@
+/*
+ *      File: TemplateSubmitSM.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.codec;
+
+import org.smpp.Data;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.util.ByteBuffer;
+
+/**
+ * <code>submit_sm</code> created by a {@link SubmitTemplate}.<br/>
+ * The fixed fields are read from the template, only the destination, the <code>esm_class</code> and the
+ * <code>short_message</code> belong to the request. The header, the sequence number and the optional parameters
+ * are handled by {@link SubmitSM}; the SAR parameters are also kept by the request so that {@link #getData()} can
+ * write the whole PDU, without the intermediate buffers of {@link SubmitSM}, into the buffer of the connection.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TemplateSubmitSM extends SubmitSM {
+    /**
+     * Octets of the PDU header.
+     */
+    private static final int   HEADER_LENGTH          = 16;
+    /**
+     * Octets of the three SAR parameters.
+     */
+    private static final int   SAR_LENGTH             = 16;
+    /**
+     * Tag of <code>sar_msg_ref_num</code>.
+     */
+    private static final short TAG_SAR_MSG_REF_NUM    = 0x020C;
+    /**
+     * Tag of <code>sar_total_segments</code>.
+     */
+    private static final short TAG_SAR_TOTAL_SEGMENTS = 0x020E;
+    /**
+     * Tag of <code>sar_segment_seqnum</code>.
+     */
+    private static final short TAG_SAR_SEGMENT_SEQNUM = 0x020F;
+
+    /**
+     * Template of the request.
+     */
+    private final SubmitTemplate template;
+    /**
+     * <code>short_message</code> of the request.
+     */
+    private final byte[]         shortMessage;
+    /**
+     * Destination address.
+     */
+    private Address              destination;
+    /**
+     * <code>esm_class</code> of the request.
+     */
+    private byte                 esmClass;
+    /**
+     * The SAR optional parameters are set.
+     */
+    private boolean              sar;
+    /**
+     * <code>sar_msg_ref_num</code>.
+     */
+    private short                sarMsgRefNum;
+    /**
+     * <code>sar_total_segments</code>.
+     */
+    private short                sarTotalSegments;
+    /**
+     * <code>sar_segment_seqnum</code>.
+     */
+    private short                sarSegmentSeqnum;
+
+    /**
+     * Creates an instance of TemplateSubmitSM.
+     * @param template Template of the request.
+     * @param destination Destination address.
+     * @param shortMessage <code>short_message</code> of the request.
+     */
+    TemplateSubmitSM(final SubmitTemplate template, final Address destination, final byte[] shortMessage) {
+        this.template = template;
+        this.destination = destination;
+        this.shortMessage = shortMessage;
+    }
+
+    /**
+     * Writes the mandatory parameters from the template.
+     * @return the body.
+     */
+    @Override
+    public ByteBuffer getBody() {
+        return new ByteBuffer(template.encode(destination, esmClass, shortMessage));
+    }
+
+    /**
+     * The whole PDU, encoded when the connection writes it.
+     * @return the PDU.
+     */
+    @Override
+    public ByteBuffer getData() {
+        return new EncodedPDU(this);
+    }
+
+    /**
+     * Octets of the whole PDU.
+     * @return the <code>command_length</code>.
+     */
+    int getEncodedLength() {
+        return HEADER_LENGTH + template.bodyLength(destination, shortMessage) + (sar ? SAR_LENGTH : 0);
+    }
+
+    /**
+     * Writes the whole PDU at the position of a buffer, the <code>command_length</code> is written at the end.
+     * @param out destination, with at least {@link #getEncodedLength()} octets remaining.
+     */
+    void encode(final java.nio.ByteBuffer out) {
+        final int start = out.position();
+        out.putInt(0);
+        out.putInt(Data.SUBMIT_SM);
+        out.putInt(getCommandStatus());
+        out.putInt(getSequenceNumber());
+        template.encode(out, destination, esmClass, shortMessage);
+        if (sar) {
+            out.putShort(TAG_SAR_MSG_REF_NUM).putShort((short) 2).putShort(sarMsgRefNum);
+            out.putShort(TAG_SAR_TOTAL_SEGMENTS).putShort((short) 1).put((byte) sarTotalSegments);
+            out.putShort(TAG_SAR_SEGMENT_SEQNUM).putShort((short) 1).put((byte) sarSegmentSeqnum);
+        }
+        out.putInt(start, out.position() - start);
+    }
+
+    @Override
+    public void setSarMsgRefNum(final short sarMsgRefNum) {
+        super.setSarMsgRefNum(sarMsgRefNum);
+        this.sarMsgRefNum = sarMsgRefNum;
+        sar = true;
+    }
+
+    @Override
+    public void setSarTotalSegments(final short sarTotalSegments) {
+        super.setSarTotalSegments(sarTotalSegments);
+        this.sarTotalSegments = sarTotalSegments;
+        sar = true;
+    }
+
+    @Override
+    public void setSarSegmentSeqnum(final short sarSegmentSeqnum) {
+        super.setSarSegmentSeqnum(sarSegmentSeqnum);
+        this.sarSegmentSeqnum = sarSegmentSeqnum;
+        sar = true;
+    }
+
+    @Override
+    public void setDestAddr(final Address destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public Address getDestAddr() {
+        return destination;
+    }
+
+    @Override
+    public void setEsmClass(final byte esmClass) {
+        this.esmClass = esmClass;
+    }
+
+    @Override
+    public byte getEsmClass() {
+        return esmClass;
+    }
+
+    @Override
+    public String getServiceType() {
+        return template.getProperties().getServiceType();
+    }
+
+    @Override
+    public Address getSourceAddr() {
+        return template.getProperties().getSourceAddress();
+    }
+
+    @Override
+    public byte getProtocolId() {
+        return template.getProperties().getProtocolId();
+    }
+
+    @Override
+    public byte getPriorityFlag() {
+        return template.getProperties().getPriorityFlag();
+    }
+
+    @Override
+    public String getScheduleDeliveryTime() {
+        return template.getScheduleDeliveryTime();
+    }
+
+    @Override
+    public String getValidityPeriod() {
+        return template.getProperties().getValidityPeriod();
+    }
+
+    @Override
+    public byte getRegisteredDelivery() {
+        return template.getProperties().getRegisteredDelivery();
+    }
+
+    @Override
+    public byte getReplaceIfPresentFlag() {
+        return template.getProperties().getReplaceIfPresentFlag();
+    }
+
+    @Override
+    public byte getDataCoding() {
+        return template.getProperties().getDataCoding();
+    }
+
+    @Override
+    public byte getSmDefaultMsgId() {
+        return template.getProperties().getSmDefaultMsgId();
+    }
+
+    @Override
+    public short getSmLength() {
+        return (short) shortMessage.length;
+    }
+
+    @Override
+    public ByteBuffer getShortMessageData() {
+        return new ByteBuffer(shortMessage);
+    }
+}
@@ -7,9 +7,17 @@
 
 package com.amk.smpp.core;
 
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -22,6 +30,7 @@ import org.smpp.Data;
 import org.smpp.ServerPDUEvent;
 import org.smpp.Session;
 import org.smpp.SmppException;
+import org.smpp.pdu.Address;
 import org.smpp.pdu.CancelSM;
 import org.smpp.pdu.CancelSMResp;
 import org.smpp.pdu.DataSM;
@@ -39,11 +48,30 @@ import org.smpp.pdu.SubmitMultiSM;
 import org.smpp.pdu.SubmitMultiSMResp;
 import org.smpp.pdu.SubmitSM;
 import org.smpp.pdu.SubmitSMResp;
+import org.smpp.pdu.WrongLengthOfStringException;
 import org.smpp.util.ByteBuffer;
 
+import com.amk.smpp.codec.ChunkedSubmitMultiSMResp;
+import com.amk.smpp.codec.MessageCodec;
+import com.amk.smpp.codec.MessageSegmenter;
+import com.amk.smpp.codec.MultipartSubmitSMResp;
+import com.amk.smpp.codec.Segment;
+import com.amk.smpp.codec.SubmitTemplate;
+import com.amk.smpp.flow.DuplicateFilter;
+import com.amk.smpp.flow.DuplicateOperationException;
+import com.amk.smpp.inbound.DeliveryReceipt;
+import com.amk.smpp.inbound.DeliveryReceiptListener;
+import com.amk.smpp.inbound.DeliveryReceiptParser;
+import com.amk.smpp.inbound.MessageIdIndex;
+import com.amk.smpp.inbound.ReceiptCorrelator;
+import com.amk.smpp.metrics.OperationMetrics;
 import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationProperties;
 import com.amk.smpp.operation.PDUOperationTypes;
 import com.amk.smpp.rules.PDUOperationsValidator;
+import com.amk.smpp.store.LogRecord;
+import com.amk.smpp.store.PDUOperationCodec;
+import com.amk.smpp.store.WriteAheadLog;
 import com.amk.smpp.util.OperationPropertiesUtil;
 
 /**
@@ -65,17 +93,55 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      */
     private static final String INVALID_CONNECTION = "[X] error, Connection null";
     /**
-     * SMCS Connection.
+     * First correlation id, far above the ids of the write-ahead log so they never collide in the
+     * {@link MessageIdIndex}.
      */
-    private Connection     connection;
+    static final long           CORRELATION_BASE   = 1L << 62;
     /**
-     * Session for SMPP communication.
+     * SMCS Connection.
      */
-    private Session        session;
+    private Connection     connection;
     /**
      * Provides us the link with the SMSC.
      */
     private BindingManager bindingManager;
+    /**
+     * Provides several links with the SMSC, used instead of the {@link #bindingManager} when present.
+     */
+    private BindingPool    bindingPool;
+    /**
+     * Splits the messages longer than one <code>short_message</code>.
+     */
+    private final MessageSegmenter segmenter = new MessageSegmenter();
+    /**
+     * Links the delivery receipts with the submissions that requested them, may be null. It keeps every submission
+     * until its final receipt, the {@link #messageIdIndex} is the bounded alternative.
+     */
+    private ReceiptCorrelator       receiptCorrelator;
+    /**
+     * Notified of every delivery receipt received, may be null.
+     */
+    private DeliveryReceiptListener deliveryReceiptListener;
+    /**
+     * Keeps the <code>submit_sm</code> operations on disk until the SMSC answers them, may be null.
+     */
+    private WriteAheadLog           writeAheadLog;
+    /**
+     * Off-heap index of the <code>message_id</code> of the accepted submissions, may be null.
+     */
+    private MessageIdIndex          messageIdIndex;
+    /**
+     * Last correlation id given to an operation indexed without write-ahead log record.
+     */
+    private final AtomicLong        correlationIds = new AtomicLong(CORRELATION_BASE);
+    /**
+     * Most destinations of every <code>submit_multi</code> written, a longer list is sent in several chunks.
+     */
+    private int                     submitMultiChunkSize = OperationPropertiesUtil.MAX_DESTINATIONS;
+    /**
+     * Suppresses the messages repeated within its window, may be null.
+     */
+    private DuplicateFilter         duplicateFilter;
 
     /**
      * Creates an instance of AMKSmppFacade.
@@ -92,49 +158,359 @@ public class AMKSmppFacade implements SmppWrapperFacade {
     }
 
     /**
-     * init the session.
+     * Creates an instance of AMKSmppFacade that spreads the operations over the binds of the pool.
+     *
+     * @param bindingPool binds of the SMSC account.
      */
-    private void init() {
-        LOGGER.debug("init: ");
-        if (Objects.isNull(session)) {
-            LOGGER.debug("init: Session");
-            this.session = new Session(this.connection);
-        }
+    private AMKSmppFacade(final BindingPool bindingPool) {
+        this.bindingPool = bindingPool;
     }
 
     /**
-     * Executes the requested operation.
+     * Creates an instance of AMKSmppFacade that spreads the operations over the binds of the pool.
+     * @param bindingPool binds of the SMSC account.
+     * @return the facade.
+     */
+    public static AMKSmppFacade newInstance(@NotNull final BindingPool bindingPool) {
+        PDUOperationsValidator.validNotNull(bindingPool);
+        return new AMKSmppFacade(bindingPool);
+    }
+
+    /**
+     * Executes the requested operation. A message already sent within the window of the {@link DuplicateFilter} is
+     * not sent again.
+     * With a write-ahead log the id of the record of a <code>submit_sm</code> is set as the tracking id of the
+     * operation; with a {@link MessageIdIndex} any other operation gets a correlation id, see
+     * {@link PDUOperation#getTrackingId()}.
      * @param <E> Classes that inherit from {@link Response}.
      * @param pduOperation requested Operation.
      * @return the SMCS response.
+     * @throws DuplicateOperationException If the message is a duplicate.
      * @see Response
      */
     @Override
     public < E extends Response > E executeOperation(final PDUOperation pduOperation) throws SmppException {
-        init();
         PDUOperationsValidator.validNotNull(pduOperation);
         PDUOperationsValidator.validNotEmpty(pduOperation);
-        PDUOperationsValidator.validNotNull(bindingManager);
-        bind(pduOperation);
+        final DuplicateFilter filter = duplicateFilter;
+        final boolean admitted = admit(filter, pduOperation);
+        try {
+            final E response = isChunked(pduOperation) ? executeChunked(pduOperation) : execute(pduOperation);
+            if (admitted) {
+                release(filter, pduOperation, response);
+            }
+            return response;
+        } catch (final SmppException | RuntimeException e) {
+            if (admitted) {
+                filter.forget(pduOperation);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Performs the requested operation over the bind chosen for it, recording its metrics.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return the SMCS response.
+     * @throws SmppException If an error occurs when performing the operation.
+     */
+    private < E extends Response > E execute(final PDUOperation pduOperation) throws SmppException {
+        final BindingManager manager = bind(pduOperation);
         LOGGER.debug("executeOperation: " + pduOperation.getOperationType());
+        log(Collections.singletonList(pduOperation));
+        correlate(pduOperation);
+        final OperationMetrics metrics = manager.getMetrics().get(pduOperation.getOperationType());
+        final long start = System.nanoTime();
+        try {
+            final E response = perform(manager, pduOperation);
+            record(metrics, start, response);
+            submitted(pduOperation, response);
+            index(pduOperation, response);
+            return response;
+        } catch (final SmppException | RuntimeException e) {
+            metrics.record(System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes a <code>submit_multi</code> with more destinations than {@link #submitMultiChunkSize}: the chunks are
+     * written over asynchronous binds, spread over the members of the {@link BindingPool} when there is one, and
+     * their responses are merged.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return the {@link ChunkedSubmitMultiSMResp}, null if the operation is asynchronous.
+     * @throws SmppException If an error occurs when binding or the responses did not arrive in time.
+     */
+    @CheckForNull
+    private < E extends Response > E executeChunked(final PDUOperation pduOperation) throws SmppException {
+        final PDUOperation asyncOperation = PDUOperation.newBuilder(pduOperation).withAsynchronous(true).build();
+        final BindingManager manager = bind(asyncOperation);
+        LOGGER.debug("executeOperation: " + pduOperation.getOperationType() + " in chunks");
+        final CompletableFuture< E > future = sendAsync(manager, asyncOperation);
+        return pduOperation.isAsynchronous() ? null : join(future, manager.getResponseTimeout());
+    }
+
+    /**
+     * Validates if the operation is a <code>submit_multi</code> that must be sent in several chunks.
+     * @param pduOperation Object containing the details of the operation.
+     * @return true if it has more destinations than {@link #submitMultiChunkSize}.
+     */
+    private boolean isChunked(final PDUOperation pduOperation) {
+        return PDUOperationTypes.SUBMIT_SMS_MULTI.equals(pduOperation.getOperationType())
+                && pduOperation.getOperationProps().getDestAddress().length > submitMultiChunkSize;
+    }
+
+    /**
+     * Performs the requested operation over the bind.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param manager bound link.
+     * @param pduOperation requested Operation.
+     * @return the SMCS response, null if the operation is asynchronous.
+     * @throws SmppException If an error occurs when performing the operation.
+     */
+    @CheckForNull
+    private < E extends Response > E perform(final BindingManager manager, final PDUOperation pduOperation) throws SmppException {
+        final Session session = manager.getSession();
+        if (!PDUOperationTypes.SUBMIT_SMS.equals(pduOperation.getOperationType())) {
+            manager.throttle();
+        }
+        final E response;
         switch (pduOperation.getOperationType()) {
             case SUBMIT_SMS:
-                return submit(pduOperation);
+                return submit(manager, pduOperation);
             case SUBMIT_SMS_MULTI:
-                return submitMulti(pduOperation);
+                response = submitMulti(session, pduOperation);
+                break;
             case DATA:
-                return data(pduOperation);
+                response = data(session, pduOperation);
+                break;
             case QUERY:
-                return query(pduOperation);
+                response = query(session, pduOperation);
+                break;
             case REPLACE:
-                return replace(pduOperation);
+                response = replace(session, pduOperation);
+                break;
             case CANCEL:
-                return cancel(pduOperation);
+                response = cancel(session, pduOperation);
+                break;
             case ENQUIRE:
-                return enquireLink(pduOperation);
+                response = enquireLink(session, pduOperation);
+                break;
             default:
                 throw new IllegalArgumentException("Esa operacion no es permitida, usa el metodo receiveOperation(final PDUOperation pduOperation)");
         }
+        manager.observe(response);
+        return response;
+    }
+
+    /**
+     * Writes the requested operation without waiting for the response. The operation is always performed over an
+     * asynchronous bind, several operations can be outstanding at the same time up to the window size of the bind.
+     * With a write-ahead log the id of the record of a <code>submit_sm</code> is set as the tracking id of the
+     * operation; with a {@link MessageIdIndex} any other operation gets a correlation id, see
+     * {@link PDUOperation#getTrackingId()}.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return the future completed when the SMCS response with the same sequence number arrives.
+     * @throws SmppException If an error occurs when performing the operation.
+     * @throws DuplicateOperationException If the message is a duplicate.
+     * @see BindingManager#sendAsync(Request)
+     */
+    @Override
+    public < E extends Response > CompletableFuture< E > executeOperationAsync(final PDUOperation pduOperation) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperation);
+        PDUOperationsValidator.validNotEmpty(pduOperation);
+        final DuplicateFilter filter = duplicateFilter;
+        final boolean admitted = admit(filter, pduOperation);
+        final CompletableFuture< E > future;
+        try {
+            log(Collections.singletonList(pduOperation));
+            correlate(pduOperation);
+            final PDUOperation asyncOperation = PDUOperation.newBuilder(pduOperation).withAsynchronous(true).build();
+            final BindingManager manager = bind(asyncOperation);
+            LOGGER.debug("executeOperationAsync: " + pduOperation.getOperationType());
+            future = sendAsync(manager, asyncOperation);
+        } catch (final SmppException | RuntimeException e) {
+            if (admitted) {
+                filter.forget(pduOperation);
+            }
+            throw e;
+        }
+        if (admitted) {
+            release(filter, pduOperation, future);
+        }
+        return future;
+    }
+
+    /**
+     * Checks the message in the {@link DuplicateFilter}. Only <code>submit_sm</code>, <code>submit_multi</code>
+     * and <code>data_sm</code> are checked; an operation recovered from the write-ahead log is a replay, not a
+     * duplicate. The caller reads the filter once and passes the same one to {@link #release}.
+     * @param filter filter of the call, may be null.
+     * @param pduOperation requested Operation.
+     * @return true if the operation was remembered by the filter, false if it is not checked.
+     * @throws DuplicateOperationException If the message was already sent within the window.
+     */
+    private boolean admit(@CheckForNull final DuplicateFilter filter, final PDUOperation pduOperation)
+            throws DuplicateOperationException {
+        if (Objects.isNull(filter) || isLogged(pduOperation)) {
+            return false;
+        }
+        switch (pduOperation.getOperationType()) {
+            case SUBMIT_SMS:
+            case SUBMIT_SMS_MULTI:
+            case DATA:
+                break;
+            default:
+                return false;
+        }
+        if (filter.isDuplicate(pduOperation)) {
+            LOGGER.warn("[!] duplicate " + pduOperation.getOperationType() + " suppressed");
+            throw new DuplicateOperationException("[!] duplicate " + pduOperation.getOperationType() + " suppressed");
+        }
+        return true;
+    }
+
+    /**
+     * Forgets a message rejected by the SMSC, so the client can send it again within the window.
+     * @param filter filter that admitted the operation.
+     * @param pduOperation Operation admitted by the {@link DuplicateFilter}.
+     * @param response SMCS response, null if the operation is asynchronous.
+     */
+    private static void release(final DuplicateFilter filter, final PDUOperation pduOperation, final Response response) {
+        if (Objects.nonNull(response) && response.getCommandStatus() != Data.ESME_ROK) {
+            filter.forget(pduOperation);
+        }
+    }
+
+    /**
+     * Forgets a message when its response is a rejection or does not arrive.
+     * @param filter filter that admitted the operation.
+     * @param pduOperation Operation admitted by the {@link DuplicateFilter}.
+     * @param future future of the response.
+     */
+    private static void release(final DuplicateFilter filter, final PDUOperation pduOperation,
+            final CompletableFuture< ? extends Response > future) {
+        future.whenComplete((response, error) -> {
+            if (Objects.nonNull(error) || Objects.nonNull(response) && response.getCommandStatus() != Data.ESME_ROK) {
+                filter.forget(pduOperation);
+            }
+        });
+    }
+
+    /**
+     * Executes a list of operations as one unit of work. The whole list is validated before anything is written,
+     * the link is looked up once and every request is written back-to-back without waiting for the previous
+     * response; then the responses are collected.
+     * With a write-ahead log the id of the record of a <code>submit_sm</code> is set as the tracking id of the
+     * operation; with a {@link MessageIdIndex} any other operation gets a correlation id, see
+     * {@link PDUOperation#getTrackingId()}.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperations requested Operations.
+     * @return the SMCS responses in the same order as the operations. The position of an operation whose request
+     * could not be written, whose response did not arrive within one response timeout counted from the last write
+     * or suppressed by the {@link DuplicateFilter}, is null.
+     * @throws SmppException If an error occurs when binding.
+     * @see BindingManager#getResponseTimeout()
+     */
+    @Override
+    public < E extends Response > List< E > executeBatch(final List< PDUOperation > pduOperations) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperations);
+        for (final PDUOperation pduOperation : pduOperations) {
+            PDUOperationsValidator.validNotNull(pduOperation);
+            PDUOperationsValidator.validNotEmpty(pduOperation);
+        }
+        final List< E > responses = new ArrayList<>(pduOperations.size());
+        if (pduOperations.isEmpty()) {
+            return responses;
+        }
+        LOGGER.debug("executeBatch: " + pduOperations.size() + " operations");
+        final boolean[] admitted = new boolean[pduOperations.size()];
+        final boolean[] duplicated = new boolean[pduOperations.size()];
+        final List< PDUOperation > sent = new ArrayList<>(pduOperations.size());
+        final DuplicateFilter filter = duplicateFilter;
+        for (int i = 0; i < pduOperations.size(); i++) {
+            try {
+                admitted[i] = admit(filter, pduOperations.get(i));
+                sent.add(pduOperations.get(i));
+            } catch (final DuplicateOperationException e) {
+                duplicated[i] = true;
+            }
+        }
+        final PDUOperation bindOperation = PDUOperation.newBuilder(pduOperations.get(0)).withAsynchronous(true).build();
+        BindingManager manager;
+        try {
+            log(sent);
+            sent.forEach(this::correlate);
+            manager = bind(bindOperation);
+        } catch (final SmppException | RuntimeException e) {
+            for (int i = 0; i < admitted.length; i++) {
+                if (admitted[i]) {
+                    filter.forget(pduOperations.get(i));
+                }
+            }
+            throw e;
+        }
+        final List< CompletableFuture< E > > futures = new ArrayList<>(pduOperations.size());
+        final List< BindingManager > managers = new ArrayList<>(pduOperations.size());
+        for (final PDUOperation pduOperation : pduOperations) {
+            final int index = futures.size();
+            CompletableFuture< E > future;
+            try {
+                if (duplicated[index]) {
+                    future = CompletableFuture.completedFuture(null);
+                } else {
+                    if (Objects.nonNull(bindingPool)) {
+                        manager = bind(bindOperation);
+                    }
+                    future = sendAsync(manager, pduOperation);
+                }
+            } catch (final SmppException | RuntimeException e) {
+                LOGGER.error("[X] error, batch operation " + index + " not written " + e.getMessage());
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            if (admitted[index]) {
+                release(filter, pduOperation, future);
+            }
+            futures.add(future);
+            managers.add(manager);
+        }
+        long timeout = 0L;
+        for (final BindingManager written : managers) {
+            timeout = Math.max(timeout, written.getResponseTimeout());
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        for (int i = 0; i < futures.size(); i++) {
+            responses.add(await(futures.get(i), Math.max(0L, deadline - System.nanoTime()), i));
+        }
+        return responses;
+    }
+
+    /**
+     * Waits for the response of one operation of a batch until the deadline of the batch.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param future future of the operation.
+     * @param remaining time left until the deadline, in nanoseconds.
+     * @param index position of the operation in the batch.
+     * @return the response, null if it failed or did not arrive in time.
+     */
+    @CheckForNull
+    private < E extends Response > E await(final CompletableFuture< E > future, final long remaining, final int index) {
+        try {
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.error("[X] error, batch operation " + index + " without response before the deadline of the batch");
+            future.completeExceptionally(e);
+        } catch (final ExecutionException e) {
+            LOGGER.error("[X] error, batch operation " + index + " failed " + e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return null;
     }
 
     /**
@@ -149,15 +525,23 @@ public class AMKSmppFacade implements SmppWrapperFacade {
     @Override
     public < E extends Request > E receiveOperation(final PDUOperation pduOperation) throws SmppException {
         final Request request;
-        init();
         PDUOperationsValidator.validNotNull(pduOperation);
         PDUOperationsValidator.validNotEmpty(pduOperation);
-        PDUOperationsValidator.validNotNull(bindingManager);
-        bind(pduOperation);
+        final BindingManager manager = bind(pduOperation);
 
         LOGGER.debug("executeOperation: " + pduOperation.getOperationType());
         if (PDUOperationTypes.RECEIVE.equals(pduOperation.getOperationType())) {
-            request = receive(pduOperation);
+            final OperationMetrics metrics = manager.getMetrics().get(PDUOperationTypes.RECEIVE);
+            final long start = System.nanoTime();
+            try {
+                request = receive(manager, pduOperation);
+            } catch (final SmppException e) {
+                metrics.record(System.nanoTime() - start, true);
+                throw e;
+            }
+            if (Objects.nonNull(request)) {
+                metrics.record(System.nanoTime() - start, false);
+            }
         } else {
             throw new IllegalArgumentException("Esa operacion no es permitida, usa el metodo executeOperation(final PDUOperation pduOperation)");
         }
@@ -165,20 +549,319 @@ public class AMKSmppFacade implements SmppWrapperFacade {
     }
 
     /**
-     * Search for link with SMSC.
+     * Validates if any link with the SMSC is up.
+     * @return false if the bind, or every member of the pool, is down.
+     */
+    @Override
+    public boolean isAvailable() {
+        if (Objects.nonNull(bindingPool)) {
+            for (final BindingManager member : bindingPool.getMembers()) {
+                if (!member.isDown()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return Objects.isNull(bindingManager) || !bindingManager.isDown();
+    }
+
+    /**
+     * Search for link with SMSC. When there is a {@link BindingPool} the link is chosen by its strategy.
      * @param pduOperation You need to know the type of operation and the bind type.
+     * @return the bound {@link BindingManager}.
      * @throws SmppException If there is an error.
      */
-    @CheckForNull
-    private void bind(@NotNull final PDUOperation pduOperation) throws SmppException {
-        this.session = this.bindingManager.bind(pduOperation);
+    private BindingManager bind(@NotNull final PDUOperation pduOperation) throws SmppException {
+        final BindingManager manager = Objects.isNull(bindingPool) ? bindingManager : bindingPool.select(pduOperation);
+        PDUOperationsValidator.validNotNull(manager);
+        manager.bind(pduOperation);
+        return manager;
+    }
+
+    /**
+     * Writes the request of the operation through the window of the bind. A <code>submit_sm</code> whose body does
+     * not fit in one <code>short_message</code> is written as all its parts back-to-back. The latency and
+     * <code>command_status</code> of the operation are recorded when the response arrives.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param manager bound link.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the future of the response, a {@link MultipartSubmitSMResp} for a message of several parts.
+     * @throws SmppException If any value of the operation is invalid or a request could not be written.
+     */
+    private < E extends Response > CompletableFuture< E > sendAsync(final BindingManager manager,
+            final PDUOperation pduOperation) throws SmppException {
+        final OperationMetrics metrics = manager.getMetrics().get(pduOperation.getOperationType());
+        final long start = System.nanoTime();
+        final CompletableFuture< E > future;
+        try {
+            future = write(manager, pduOperation);
+        } catch (final SmppException | RuntimeException e) {
+            metrics.record(System.nanoTime() - start, true);
+            throw e;
+        }
+        future.whenComplete((response, error) -> {
+            if (Objects.isNull(error)) {
+                record(metrics, start, response);
+            } else {
+                metrics.record(System.nanoTime() - start, true);
+            }
+        });
+        if (isTracked(pduOperation)) {
+            future.thenAccept(response -> track(pduOperation, response));
+        }
+        if (pduOperation.getTrackingId() != 0L) {
+            future.thenAccept(response -> submitted(pduOperation, response));
+        }
+        if (Objects.nonNull(messageIdIndex)) {
+            future.thenAccept(response -> index(pduOperation, response));
+        }
+        return future;
+    }
+
+    /**
+     * Appends to the write-ahead log every <code>submit_sm</code> operation not logged yet and waits until all of
+     * them are durable; the appends share the same force of the log. The id of the record is set as the tracking id
+     * of the caller's operation, so the same object performed again while its record is still pending, e.g. a retry
+     * or a recovered operation, is not appended again; an operation performed once more as a new message must be a
+     * copy without tracking id.
+     * @param pduOperations operations about to be performed.
+     * @throws SmppException If an operation could not be logged, none of them must be performed.
+     */
+    private void log(final List< PDUOperation > pduOperations) throws SmppException {
+        if (Objects.isNull(writeAheadLog)) {
+            return;
+        }
+        final List< PDUOperation > logged = new ArrayList<>(pduOperations.size());
+        final List< CompletableFuture< Long > > durable = new ArrayList<>(pduOperations.size());
+        try {
+            for (final PDUOperation pduOperation : pduOperations) {
+                if (PDUOperationTypes.SUBMIT_SMS.equals(pduOperation.getOperationType())
+                        && !writeAheadLog.isPending(pduOperation.getTrackingId())) {
+                    logged.add(pduOperation);
+                    durable.add(writeAheadLog.append(PDUOperationCodec.encode(pduOperation)));
+                }
+            }
+            for (int i = 0; i < logged.size(); i++) {
+                logged.get(i).setTrackingId(durable.get(i).get());
+            }
+        } catch (final IOException | ExecutionException | RuntimeException e) {
+            LOGGER.error("[X] error, operation not logged " + e);
+            throw new SmppException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmppException(e);
+        }
+    }
+
+    /**
+     * Validates if the operation still has a pending record in the write-ahead log, i.e. it is a retry or a
+     * recovered operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return true if its tracking id is a pending record.
+     */
+    private boolean isLogged(final PDUOperation pduOperation) {
+        final WriteAheadLog log = writeAheadLog;
+        return Objects.nonNull(log) && pduOperation.getTrackingId() != 0L && log.isPending(pduOperation.getTrackingId());
+    }
+
+    /**
+     * Gives a correlation id to an operation left without tracking id, e.g. a <code>data_sm</code> or any operation
+     * without write-ahead log, so its <code>message_id</code> is indexed with an id the caller can match with the
+     * {@link DeliveryReceipt#getTrackingId()}. The ids start at {@link #CORRELATION_BASE}; nothing is set without
+     * {@link MessageIdIndex}.
+     * @param pduOperation Object containing the details of the operation.
+     */
+    private void correlate(final PDUOperation pduOperation) {
+        if (Objects.nonNull(messageIdIndex) && pduOperation.getTrackingId() == 0L) {
+            pduOperation.setTrackingId(correlationIds.incrementAndGet());
+        }
+    }
+
+    /**
+     * Marks the record of the operation as submitted once the SMSC answered it, whatever its
+     * <code>command_status</code>. An operation without response, e.g. asynchronous or failed, stays pending.
+     * @param pduOperation Object containing the details of the operation.
+     * @param response response of the SMCS, may be null.
+     */
+    private void submitted(final PDUOperation pduOperation, final Response response) {
+        final WriteAheadLog log = writeAheadLog;
+        if (Objects.isNull(log) || Objects.isNull(response) || pduOperation.getTrackingId() == 0L) {
+            return;
+        }
+        try {
+            log.markSubmitted(pduOperation.getTrackingId());
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("[!] operation " + pduOperation.getTrackingId() + " not marked as submitted, it will be replayed " + e);
+        }
+    }
+
+    /**
+     * Reads the operations left pending in the write-ahead log by a previous run, i.e. logged but never answered by
+     * the SMSC. Each one keeps its tracking id, so performing it again marks its record; the asynchronous ones need a
+     * new listener.
+     * @return the operations in the order they were logged, empty if there is no log.
+     */
+    public List< PDUOperation > recoverOperations() {
+        final List< PDUOperation > recovered = new ArrayList<>();
+        if (Objects.isNull(writeAheadLog)) {
+            return recovered;
+        }
+        for (final LogRecord record : writeAheadLog.pending()) {
+            try {
+                final PDUOperation pduOperation = PDUOperationCodec.decode(record.getPayload());
+                pduOperation.setTrackingId(record.getId());
+                recovered.add(pduOperation);
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.error("[X] error, pending operation " + record.getId() + " can not be read " + e);
+            }
+        }
+        return recovered;
+    }
+
+    /**
+     * Writes the request, or every part of a <code>submit_sm</code>, through the window of the bind.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param manager bound link.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the future of the response.
+     * @throws SmppException If any value of the operation is invalid or a request could not be written.
+     */
+    private < E extends Response > CompletableFuture< E > write(final BindingManager manager,
+            final PDUOperation pduOperation) throws SmppException {
+        if (PDUOperationTypes.SUBMIT_SMS.equals(pduOperation.getOperationType())) {
+            final List< SubmitSM > parts = newSubmitParts(pduOperation);
+            if (parts.size() > 1) {
+                return (CompletableFuture< E >) sendParts(manager, parts);
+            }
+            return manager.sendAsync(parts.get(0));
+        }
+        if (isChunked(pduOperation)) {
+            return (CompletableFuture< E >) sendChunks(manager, pduOperation);
+        }
+        return manager.sendAsync(newRequest(pduOperation));
+    }
+
+    /**
+     * Records a performed operation.
+     * @param metrics metrics of the operation.
+     * @param start {@link System#nanoTime()} when the operation started.
+     * @param response SMCS response, null if the operation is asynchronous.
+     */
+    private static void record(final OperationMetrics metrics, final long start, final Response response) {
+        if (Objects.isNull(response)) {
+            metrics.record(System.nanoTime() - start, false);
+        } else {
+            metrics.record(System.nanoTime() - start, response.getCommandStatus());
+        }
+    }
+
+    /**
+     * Writes every part of a message without waiting for the previous response.
+     * @param manager bound link.
+     * @param parts requests of the parts, in order.
+     * @return the future completed with the aggregate response once every part has been answered, or exceptionally
+     * as soon as one part fails.
+     * @throws SmppException If a part could not be written, the parts already written are not cancelled.
+     */
+    private CompletableFuture< MultipartSubmitSMResp > sendParts(final BindingManager manager, final List< SubmitSM > parts)
+            throws SmppException {
+        final List< CompletableFuture< SubmitSMResp > > futures = new ArrayList<>(parts.size());
+        for (final SubmitSM part : parts) {
+            futures.add(manager.sendAsync(part));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture< ? >[0])).thenApply(ignored -> {
+            final List< SubmitSMResp > responses = new ArrayList<>(futures.size());
+            futures.forEach(future -> responses.add(future.join()));
+            try {
+                return new MultipartSubmitSMResp(responses);
+            } catch (final WrongLengthOfStringException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Writes every chunk of a <code>submit_multi</code> without waiting for the previous response. With a
+     * {@link BindingPool} every chunk is written through the member chosen by its strategy, so the chunks travel
+     * over all the binds at the same time.
+     * @param manager bound link of the first chunk.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the future completed with the merged response once every chunk has been answered or failed.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private CompletableFuture< ChunkedSubmitMultiSMResp > sendChunks(final BindingManager manager, final PDUOperation pduOperation)
+            throws SmppException {
+        final Address[] destinations = pduOperation.getOperationProps().getDestAddress();
+        final int chunkSize = submitMultiChunkSize;
+        final PDUOperation bindOperation = PDUOperation.newBuilder(pduOperation).withAsynchronous(true).build();
+        final List< SubmitMultiSM > requests = new ArrayList<>(destinations.length / chunkSize + 1);
+        for (int from = 0; from < destinations.length; from += chunkSize) {
+            requests.add(newSubmitMulti(pduOperation, from, Math.min(destinations.length, from + chunkSize)));
+        }
+        LOGGER.debug("submitMulti: " + destinations.length + " destinations in " + requests.size() + " chunks");
+        final List< CompletableFuture< SubmitMultiSMResp > > futures = new ArrayList<>(requests.size());
+        BindingManager target = manager;
+        for (final SubmitMultiSM request : requests) {
+            CompletableFuture< SubmitMultiSMResp > future;
+            try {
+                if (Objects.nonNull(bindingPool) && !futures.isEmpty()) {
+                    target = bind(bindOperation);
+                }
+                future = target.sendAsync(request);
+            } catch (final SmppException | RuntimeException e) {
+                LOGGER.error("[X] error, submit_multi chunk " + futures.size() + " not written " + e.getMessage());
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture< ? >[0])).handle((ignored, error) -> {
+            final List< SubmitMultiSMResp > responses = new ArrayList<>(futures.size());
+            futures.forEach(future -> responses.add(future.isCompletedExceptionally() ? null : future.join()));
+            try {
+                return new ChunkedSubmitMultiSMResp(destinations, chunkSize, responses);
+            } catch (final WrongLengthOfStringException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Creates the request of any operation other than <code>submit_sm</code>.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the request, without sequence number.
+     * @throws SmppException If any value of the operation is invalid.
+     * @see #newSubmitParts(PDUOperation)
+     */
+    private Request newRequest(final PDUOperation pduOperation) throws SmppException {
+        switch (pduOperation.getOperationType()) {
+            case SUBMIT_SMS_MULTI:
+                return newSubmitMulti(pduOperation);
+            case DATA:
+                return newData(pduOperation);
+            case QUERY:
+                return newQuery(pduOperation);
+            case REPLACE:
+                return newReplace(pduOperation);
+            case CANCEL:
+                return newCancel(pduOperation);
+            case ENQUIRE:
+                return new EnquireLink();
+            default:
+                throw new IllegalArgumentException("Esa operacion no es permitida, usa el metodo receiveOperation(final PDUOperation pduOperation)");
+        }
     }
 
     /**
      * Creates a new instance of <code>SubmitSM</code> class, lets you set
      * subset of fields of it. This PDU is used to send SMS message to a device.
      * See "SMPP Protocol Specification 3.4, 4.4 SUBMIT_SM Operation."
+     * A body longer than one <code>short_message</code> is sent in several parts; when the operation is synchronous
+     * the parts are written back-to-back and the response is a {@link MultipartSubmitSMResp}. When it is
+     * asynchronous every part takes a slot of the window of the bind and its response still reaches the listener;
+     * the record of the write-ahead log is marked once every part is answered.
      * @param <E> Classes that inherit from {@link Response}.
+     * @param manager bound link that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @throws SmppException If there is an error.
      * @see PDUOperation
@@ -188,32 +871,172 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @return response of the SMCS -> {@link SubmitSMResp}.
      * */
     @CheckForNull
-    private < E extends Response > E submit(@NotNull final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E submit(final BindingManager manager, @NotNull final PDUOperation pduOperation) throws SmppException {
         LOGGER.debug("executeOperation: submit");
+        final List< SubmitSM > parts = newSubmitParts(pduOperation);
+        if (parts.size() > 1 && !pduOperation.isAsynchronous()) {
+            LOGGER.debug("submit: " + parts.size() + " parts");
+            final MultipartSubmitSMResp multipart = join(sendParts(manager, parts), manager.getResponseTimeout());
+            track(pduOperation, multipart);
+            return (E) multipart;
+        }
+        final Session session = manager.getSession();
         SubmitSMResp response = null;
+        final List< CompletableFuture< Response > > sent = new ArrayList<>(parts.size());
         try {
-            final SubmitSM request = OperationPropertiesUtil.setRequestProps(new SubmitSM(), pduOperation.getOperationProps());
-            request.setShortMessage(pduOperation.getSmsMessage().getBody());
-            request.assignSequenceNumber(true);
-            final boolean asynchronous = pduOperation.isAsynchronous();
-            if (asynchronous) {
-                LOGGER.debug("submit: async");
-                session.submit(request);
-            } else {
-                response = session.submit(request);
+            for (final SubmitSM request : parts) {
+                final boolean asynchronous = pduOperation.isAsynchronous();
+                if (asynchronous) {
+                    LOGGER.debug("submit: async");
+                    sent.add(manager.sendObserved(request));
+                } else {
+                    manager.throttle();
+                    request.assignSequenceNumber(true);
+                    response = session.submit(request);
+                    manager.observe(response);
+                    track(pduOperation, response);
+                }
             }
         } catch (final Exception e) {
             throw new SmppException(e);
         }
+        if (!sent.isEmpty() && pduOperation.getTrackingId() != 0L) {
+            final CompletableFuture< Response > last = sent.get(sent.size() - 1);
+            CompletableFuture.allOf(sent.toArray(new CompletableFuture[0])).thenRun(() -> submitted(pduOperation, last.join()));
+        }
         return (E) response;
     }
 
+    /**
+     * Validates if the receipts of the submission must be correlated.
+     * @param pduOperation Object containing the details of the operation.
+     * @return true if the operation requests a delivery receipt and there is a correlator.
+     */
+    private boolean isTracked(final PDUOperation pduOperation) {
+        return Objects.nonNull(receiptCorrelator) && pduOperation.getOperationProps().getRegisteredDelivery() != 0;
+    }
+
+    /**
+     * Remembers the <code>message_id</code> of every accepted part of a submission that requests a receipt.
+     * @param pduOperation Object containing the details of the operation.
+     * @param response response of the SMCS, may be null.
+     */
+    private void track(final PDUOperation pduOperation, final Response response) {
+        if (!isTracked(pduOperation) || Objects.isNull(response)) {
+            return;
+        }
+        if (response instanceof MultipartSubmitSMResp) {
+            ((MultipartSubmitSMResp) response).getParts().forEach(part -> track(pduOperation, part));
+        } else if (response instanceof SubmitSMResp && response.getCommandStatus() == Data.ESME_ROK) {
+            receiptCorrelator.track(((SubmitSMResp) response).getMessageId(), pduOperation);
+        }
+    }
+
+    /**
+     * Indexes the <code>message_id</code> of every accepted <code>submit_sm</code> part or <code>data_sm</code>
+     * with the tracking id of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @param response response of the SMCS, may be null.
+     */
+    private void index(final PDUOperation pduOperation, final Response response) {
+        final MessageIdIndex index = messageIdIndex;
+        if (Objects.isNull(index) || Objects.isNull(response) || response.getCommandStatus() != Data.ESME_ROK) {
+            return;
+        }
+        if (response instanceof MultipartSubmitSMResp) {
+            ((MultipartSubmitSMResp) response).getParts().forEach(part -> index(pduOperation, part));
+        } else if (response instanceof SubmitSMResp) {
+            index.put(((SubmitSMResp) response).getMessageId(), pduOperation.getTrackingId());
+        } else if (response instanceof DataSMResp) {
+            index.put(((DataSMResp) response).getMessageId(), pduOperation.getTrackingId());
+        }
+    }
+
+    /**
+     * Parses the delivery receipt, correlates it with its submission and notifies the listener.
+     * @param pdu received PDU.
+     */
+    private void onReceipt(final PDU pdu) {
+        final DeliveryReceipt receipt = DeliveryReceiptParser.parse(pdu);
+        if (Objects.isNull(receipt)) {
+            return;
+        }
+        if (Objects.nonNull(receiptCorrelator)) {
+            receiptCorrelator.correlate(receipt);
+        }
+        if (Objects.nonNull(messageIdIndex)) {
+            messageIdIndex.correlate(receipt);
+        }
+        LOGGER.debug("Received " + receipt);
+        if (Objects.nonNull(deliveryReceiptListener)) {
+            try {
+                deliveryReceiptListener.onReceipt(receipt);
+            } catch (final RuntimeException e) {
+                LOGGER.error("[X] error, delivery receipt listener failed " + e);
+            }
+        }
+    }
+
+    /**
+     * Builds the <code>SubmitSM</code> of every part of the message. The body is encoded once, in the buffer of the
+     * thread, with the alphabet of the <code>data_coding</code> and split when it does not fit in one
+     * <code>short_message</code>. When the operation has a {@link SubmitTemplate} the parts are created from it and
+     * only the destination address is taken from the properties of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the requests, a single one when the body fits.
+     * @throws SmppException If any value of the operation is invalid.
+     * @see MessageSegmenter
+     */
+    private List< SubmitSM > newSubmitParts(final PDUOperation pduOperation) throws SmppException {
+        final SubmitTemplate template = pduOperation.getTemplate();
+        final PDUOperationProperties props = Objects.isNull(template) ? pduOperation.getOperationProps() : template.getProperties();
+        final byte dataCoding = props.getDataCoding();
+        final String body = pduOperation.getSmsMessage().getBody();
+        final byte[] payload = MessageCodec.buffer(MessageCodec.maxLength(body, dataCoding));
+        final int length = MessageCodec.encode(body, dataCoding, payload);
+        final List< Segment > segments = props.isSeptetPacking() && dataCoding == MessageCodec.DC_DEFAULT
+                ? segmenter.splitPacked(payload, length, props.getConcatenationType())
+                : segmenter.split(payload, length, dataCoding, props.getConcatenationType());
+        final List< SubmitSM > parts = new ArrayList<>(segments.size());
+        for (final Segment segment : segments) {
+            if (Objects.isNull(template)) {
+                parts.add(segment.applyTo(OperationPropertiesUtil.setRequestProps(new SubmitSM(), props)));
+            } else {
+                parts.add(template.newSubmit(pduOperation.getOperationProps().getDestAddress()[0], segment));
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Waits for the response of an operation written through the window of the bind.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param future future of the operation.
+     * @param timeout maximum time to wait, in milliseconds.
+     * @return the response.
+     * @throws SmppException If the operation failed or the response did not arrive in time.
+     */
+    private < E extends Response > E join(final CompletableFuture< E > future, final long timeout) throws SmppException {
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            future.completeExceptionally(e);
+            throw new SmppException("[X] error, no response after " + timeout + " ms", e);
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof SmppException ? (SmppException) e.getCause() : new SmppException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmppException(e);
+        }
+    }
+
     /**
      * Creates a new instance of <code>SubmitMultiSM</code> class, lets you set
      * subset of fields of it. This PDU is used to send SMS message to multiple devices.
      * See "SMPP Protocol Specification 3.4, 4.5 SUBMIT_MULTI Operation."
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Response}.
+     * @param session Session of the bind that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return response of the SMCS -> {@link SubmitMultiSMResp}.
      * @throws SmppException If there is an error.
@@ -222,14 +1045,11 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @see SubmitMultiSM
      * @see SubmitMultiSMResp
      * */
-    private < E extends Response > E submitMulti(final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E submitMulti(final Session session, final PDUOperation pduOperation) throws SmppException {
         LOGGER.debug(this.getClass().getName() + ".submitMulti()");
         SubmitMultiSMResp response = null;
         try {
-            final SubmitMultiSM requestMulti = OperationPropertiesUtil.setRequestProps(new SubmitMultiSM(), pduOperation
-                    .getOperationProps());
-            assert requestMulti != null;
-            requestMulti.setShortMessage(pduOperation.getSmsMessage().getBody());
+            final SubmitMultiSM requestMulti = newSubmitMulti(pduOperation);
             LOGGER.debug("submitMulti: DestAdresses: " + requestMulti.getNumberOfDests());
             // send the request
             final boolean asynchronous = pduOperation.isAsynchronous();
@@ -244,6 +1064,31 @@ public class AMKSmppFacade implements SmppWrapperFacade {
         return (E) response;
     }
 
+    /**
+     * Builds the <code>SubmitMultiSM</code> of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the request.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private SubmitMultiSM newSubmitMulti(final PDUOperation pduOperation) throws SmppException {
+        return newSubmitMulti(pduOperation, 0, pduOperation.getOperationProps().getDestAddress().length);
+    }
+
+    /**
+     * Builds the <code>SubmitMultiSM</code> of a chunk of the destinations of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @param from first destination of the chunk, inclusive.
+     * @param to last destination of the chunk, exclusive.
+     * @return the request.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private SubmitMultiSM newSubmitMulti(final PDUOperation pduOperation, final int from, final int to) throws SmppException {
+        final SubmitMultiSM requestMulti = OperationPropertiesUtil.setRequestProps(new SubmitMultiSM(), pduOperation
+                .getOperationProps(), from, to);
+        requestMulti.setShortMessage(pduOperation.getSmsMessage().getBody());
+        return requestMulti;
+    }
+
     /**
      * Creates a new instance of <code>DataSM</code> class, lets you set subset of fields of it. This PDU is an
      * alternative to the <code>SubmitSM</code> and <code>DeliverSM</code>. It delivers the data to the specified
@@ -251,6 +1096,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * See "SMPP Protocol Specification 3.4, 4.7 DATA_SM Operation."
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Response}.
+     * @param session Session of the bind that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return response of the SMCS -> {@link DataSMResp}.
      * @throws SmppException If there is an error.
@@ -259,18 +1105,10 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @see DataSM
      * @see DataSMResp
      */
-    private < E extends Response > E data(final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E data(final Session session, final PDUOperation pduOperation) throws SmppException {
         DataSMResp response = null;
         try {
-            final DataSM requestData = OperationPropertiesUtil.setRequestProps(new DataSM(), pduOperation.getOperationProps());
-            // send the request
-            assert requestData != null;
-            requestData.setAlertOnMsgDelivery(true);
-            requestData.setMessagePayload(
-                    new ByteBuffer(pduOperation.getSmsMessage()
-                            .getBody()
-                            .getBytes(Charset.forName(StandardCharsets.UTF_8.name())))
-            );
+            final DataSM requestData = newData(pduOperation);
             // send the request
             final boolean asynchronous = pduOperation.isAsynchronous();
             if (asynchronous) {
@@ -284,6 +1122,20 @@ public class AMKSmppFacade implements SmppWrapperFacade {
         return (E) response;
     }
 
+    /**
+     * Builds the <code>DataSM</code> of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the request.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private DataSM newData(final PDUOperation pduOperation) throws SmppException {
+        final DataSM requestData = OperationPropertiesUtil.setRequestProps(new DataSM(), pduOperation.getOperationProps());
+        requestData.setAlertOnMsgDelivery(true);
+        requestData.setMessagePayload(new ByteBuffer(MessageCodec.encode(pduOperation.getSmsMessage().getBody(),
+                pduOperation.getOperationProps().getDataCoding())));
+        return requestData;
+    }
+
     /**
      * Creates a new instance of <code>QuerySM</code> class, lets you set
      * subset of fields of it. This PDU is used to fetch information
@@ -294,6 +1146,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * See "SMPP Protocol Specification 3.4, 4.8 QUERY_SM Operation."
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Response}.
+     * @param session Session of the bind that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return response of the SMCS -> {@link QuerySMResp}.
      * @throws SmppException If there is an error.
@@ -301,13 +1154,10 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @see QuerySM
      * @see QuerySMResp
      */
-    private < E extends Response > E query(final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E query(final Session session, final PDUOperation pduOperation) throws SmppException {
         QuerySMResp response = null;
         try {
-            final QuerySM requestQuery = OperationPropertiesUtil.setRequestProps(new QuerySM(), pduOperation.getOperationProps());
-            // set values
-            assert requestQuery != null;
-            requestQuery.setMessageId(pduOperation.getSmsMessage().getId());
+            final QuerySM requestQuery = newQuery(pduOperation);
             System.out.println(requestQuery.debugString());
             // send the request
             if (pduOperation.isAsynchronous()) {
@@ -321,6 +1171,18 @@ public class AMKSmppFacade implements SmppWrapperFacade {
         return (E) response;
     }
 
+    /**
+     * Builds the <code>QuerySM</code> of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the request.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private QuerySM newQuery(final PDUOperation pduOperation) throws SmppException {
+        final QuerySM requestQuery = OperationPropertiesUtil.setRequestProps(new QuerySM(), pduOperation.getOperationProps());
+        requestQuery.setMessageId(pduOperation.getSmsMessage().getId());
+        return requestQuery;
+    }
+
     /**
      * * Creates a new instance of <code>ReplaceSM</code> class, lets you set
      * subset of fields of it. This PDU is used to replace certain
@@ -331,6 +1193,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * See "SMPP Protocol Specification 3.4, 4.10 REPLACE_SM Operation."
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Response}.
+     * @param session Session of the bind that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return response of the SMCS -> {@link ReplaceSMResp}.
      * @throws SmppException If there is an error.
@@ -338,13 +1201,10 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @see ReplaceSM
      * @see ReplaceSMResp
      */
-    private < E extends Response > E replace(final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E replace(final Session session, final PDUOperation pduOperation) throws SmppException {
         ReplaceSMResp response = null;
         try {
-            final ReplaceSM request = OperationPropertiesUtil.setRequestProps(new ReplaceSM(), pduOperation.getOperationProps());
-            assert request != null;
-            request.setMessageId(pduOperation.getSmsMessage().getId());
-            request.setShortMessage(pduOperation.getSmsMessage().getBody());
+            final ReplaceSM request = newReplace(pduOperation);
             // send the request
             if (pduOperation.isAsynchronous()) {
                 session.replace(request);
@@ -357,6 +1217,19 @@ public class AMKSmppFacade implements SmppWrapperFacade {
         return (E) response;
     }
 
+    /**
+     * Builds the <code>ReplaceSM</code> of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the request.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private ReplaceSM newReplace(final PDUOperation pduOperation) throws SmppException {
+        final ReplaceSM request = OperationPropertiesUtil.setRequestProps(new ReplaceSM(), pduOperation.getOperationProps());
+        request.setMessageId(pduOperation.getSmsMessage().getId());
+        request.setShortMessage(pduOperation.getSmsMessage().getBody());
+        return request;
+    }
+
     /**
      * * Creates a new instance of <code>CancelSM</code> class, lets you set
      * subset of fields of it. This PDU is used to cancel an already
@@ -365,6 +1238,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * See "SMPP Protocol Specification 3.4, 4.9 CANCEL_SM Operation."
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Response}.
+     * @param session Session of the bind that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return response of the SMCS -> {@link CancelSMResp}.
      * @throws SmppException If there is an error.
@@ -372,11 +1246,10 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @see CancelSM
      * @see CancelSMResp
      */
-    private < E extends Response > E cancel(final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E cancel(final Session session, final PDUOperation pduOperation) throws SmppException {
         CancelSMResp response = null;
         try {
-            final CancelSM request = OperationPropertiesUtil.setRequestProps(new CancelSM(), pduOperation.getOperationProps());
-            request.setMessageId(pduOperation.getSmsMessage().getId());
+            final CancelSM request = newCancel(pduOperation);
             // send the request
             if (pduOperation.isAsynchronous()) {
                 LOGGER.debug("cancel: ASYNC");
@@ -390,20 +1263,38 @@ public class AMKSmppFacade implements SmppWrapperFacade {
         return (E) response;
     }
 
+    /**
+     * Builds the <code>CancelSM</code> of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the request.
+     * @throws SmppException If any value of the operation is invalid.
+     */
+    private CancelSM newCancel(final PDUOperation pduOperation) throws SmppException {
+        final CancelSM request = OperationPropertiesUtil.setRequestProps(new CancelSM(), pduOperation.getOperationProps());
+        request.setMessageId(pduOperation.getSmsMessage().getId());
+        return request;
+    }
+
     /**
      * Receives one PDU of any type from SMSC.
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Request}.
+     * A <code>deliver_sm</code> or <code>data_sm</code> already answered by the fast ack of the bind is not
+     * answered again.
+     * @param manager bound link that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return request of the SMCS -> {@link Request}.
      * @throws SmppException If there is an error.
      * @see Session#receive()
+     * @see BindingManager#setFastAck(boolean)
      * @see PDU
      */
     @CheckForNull
-    private < E extends Request > E receive(@Nonnull final PDUOperation pduOperation) throws SmppException {
+    private < E extends Request > E receive(final BindingManager manager, @Nonnull final PDUOperation pduOperation) throws SmppException {
+        final Session session = manager.getSession();
         final Response response;
         PDU pdu = null;
+        boolean answered = false;
         long receiveTimeout = (Objects.isNull(pduOperation.getListener())) ? Data.RECEIVE_BLOCKING : pduOperation.getListener().getIntervalTime();
         if (receiveTimeout < 0) {
             receiveTimeout = Data.RECEIVE_BLOCKING;
@@ -422,13 +1313,14 @@ public class AMKSmppFacade implements SmppWrapperFacade {
                 pduEvent = pduOperation.getListener().getRequestEvent();
                 if (pduEvent != null) {
                     pdu = pduEvent.getPDU();
+                    answered = pduEvent instanceof BindingPDUListener.AckedEvent;
                 }
             } else {
                 pdu = session.receive(receiveTimeout);
             }
             if (pdu != null) {
                 LOGGER.debug("Received PDU " + pdu.debugString());
-                if (pdu.isRequest()) {
+                if (pdu.isRequest() && !answered) {
                     response = ((Request) pdu).getResponse();
                     // respond with default response
                     LOGGER.debug("Going to send default response to request " + response.debugString());
@@ -436,6 +1328,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
                     response.setBody(pdu.getBody());
                     response.setData(pdu.getData());
                 }
+                onReceipt(pdu);
             } else {
                 LOGGER.debug("No PDU received this time.");
             }
@@ -453,6 +1346,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * See "SMPP Protocol Specification 3.4, 4.11 ENQUIRE_LINK Operation."
      * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
      * @param <E> Classes that inherit from {@link Response}.
+     * @param session Session of the bind that performs the operation.
      * @param pduOperation Object containing the details of the operation.
      * @return response of the SMCS -> {@link EnquireLinkResp}.
      * @throws SmppException If there is an error.
@@ -461,7 +1355,7 @@ public class AMKSmppFacade implements SmppWrapperFacade {
      * @see EnquireLinkResp
      */
     @CheckForNull
-    private < E extends Response > E enquireLink(@NotNull final PDUOperation pduOperation) throws SmppException {
+    private < E extends Response > E enquireLink(final Session session, @NotNull final PDUOperation pduOperation) throws SmppException {
         EnquireLinkResp response = null;
         try {
             final EnquireLink request = new EnquireLink();
@@ -494,4 +1388,119 @@ public class AMKSmppFacade implements SmppWrapperFacade {
         this.bindingManager = bindingManager;
     }
 
+    /**
+     * Getter for bindingPool.
+     * @return bindingPool.
+     **/
+    public BindingPool getBindingPool() {
+        return bindingPool;
+    }
+
+    /**
+     * Getter for receiptCorrelator.
+     * @return receiptCorrelator.
+     **/
+    public ReceiptCorrelator getReceiptCorrelator() {
+        return receiptCorrelator;
+    }
+
+    /**
+     * Setter for receiptCorrelator, null (the default) stops the correlation.
+     * @param receiptCorrelator expected.
+     **/
+    public void setReceiptCorrelator(final ReceiptCorrelator receiptCorrelator) {
+        this.receiptCorrelator = receiptCorrelator;
+    }
+
+    /**
+     * Getter for deliveryReceiptListener.
+     * @return deliveryReceiptListener.
+     **/
+    public DeliveryReceiptListener getDeliveryReceiptListener() {
+        return deliveryReceiptListener;
+    }
+
+    /**
+     * Setter for deliveryReceiptListener.
+     * @param deliveryReceiptListener expected.
+     **/
+    public void setDeliveryReceiptListener(final DeliveryReceiptListener deliveryReceiptListener) {
+        this.deliveryReceiptListener = deliveryReceiptListener;
+    }
+
+    /**
+     * Getter for writeAheadLog.
+     * @return writeAheadLog.
+     **/
+    public WriteAheadLog getWriteAheadLog() {
+        return writeAheadLog;
+    }
+
+    /**
+     * Setter for writeAheadLog, null stops the logging.
+     * @param writeAheadLog expected.
+     **/
+    public void setWriteAheadLog(final WriteAheadLog writeAheadLog) {
+        this.writeAheadLog = writeAheadLog;
+    }
+
+    /**
+     * Getter for messageIdIndex.
+     * @return messageIdIndex.
+     **/
+    public MessageIdIndex getMessageIdIndex() {
+        return messageIdIndex;
+    }
+
+    /**
+     * Setter for messageIdIndex, null stops the indexing.
+     * @param messageIdIndex expected.
+     **/
+    public void setMessageIdIndex(final MessageIdIndex messageIdIndex) {
+        this.messageIdIndex = messageIdIndex;
+    }
+
+    /**
+     * Getter for submitMultiChunkSize.
+     * @return submitMultiChunkSize.
+     **/
+    public int getSubmitMultiChunkSize() {
+        return submitMultiChunkSize;
+    }
+
+    /**
+     * Setter for submitMultiChunkSize, the most destinations of a <code>submit_multi</code> accepted by the SMSC.
+     * @param submitMultiChunkSize from 1 to {@link OperationPropertiesUtil#MAX_DESTINATIONS}.
+     **/
+    public void setSubmitMultiChunkSize(final int submitMultiChunkSize) {
+        if (submitMultiChunkSize <= 0 || submitMultiChunkSize > OperationPropertiesUtil.MAX_DESTINATIONS) {
+            throw new IllegalArgumentException("[X] error, invalid submit_multi chunk size " + submitMultiChunkSize);
+        }
+        this.submitMultiChunkSize = submitMultiChunkSize;
+    }
+
+    /**
+     * Getter for duplicateFilter.
+     * @return duplicateFilter.
+     **/
+    public DuplicateFilter getDuplicateFilter() {
+        return duplicateFilter;
+    }
+
+    /**
+     * Setter for duplicateFilter, null sends every message.
+     * @param duplicateFilter expected.
+     **/
+    public void setDuplicateFilter(final DuplicateFilter duplicateFilter) {
+        this.duplicateFilter = duplicateFilter;
+    }
+
+    /**
+     * Getter for connection.
+     * @return connection.
+     **/
+    public Connection getConnection() {
+        return connection;
+    }
+
 }
@@ -0,0 +1,61 @@
+/*
+ *      File: BindSelectionStrategy.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.core;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contract that defines how the {@link BindingPool} chooses the bind that performs an operation.<br/>
+ * <b>Pattern: </b> <code>Strategy.</code>
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BindSelectionStrategy {
+
+    /**
+     * Chooses one of the binds.
+     * @param members Binds of the pool, never empty.
+     * @return the chosen bind.
+     */
+    BindingManager select(List< BindingManager > members);
+
+    /**
+     * Chooses the binds one after the other.
+     * @return a new round-robin strategy.
+     */
+    static BindSelectionStrategy roundRobin() {
+        final AtomicInteger next = new AtomicInteger();
+        return members -> members.get((next.getAndIncrement() & Integer.MAX_VALUE) % members.size());
+    }
+
+    /**
+     * Chooses the bind with less requests waiting for its response. Ties are resolved in round-robin order.
+     * @return a new least-outstanding strategy.
+     */
+    static BindSelectionStrategy leastOutstanding() {
+        final AtomicInteger next = new AtomicInteger();
+        return members -> {
+            final int size = members.size();
+            final int start = (next.getAndIncrement() & Integer.MAX_VALUE) % size;
+            BindingManager selected = members.get(start);
+            int minimum = selected.getWindow().getOutstanding();
+            for (int i = 1; i < size && minimum > 0; i++) {
+                final BindingManager member = members.get((start + i) % size);
+                final int outstanding = member.getWindow().getOutstanding();
+                if (outstanding < minimum) {
+                    selected = member;
+                    minimum = outstanding;
+                }
+            }
+            return selected;
+        };
+    }
+}
@@ -7,7 +7,11 @@
 
 package com.amk.smpp.core;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import javax.annotation.CheckForNull;
 import javax.validation.constraints.NotNull;
@@ -20,8 +24,23 @@ import org.smpp.Session;
 import org.smpp.SmppException;
 import org.smpp.pdu.BindRequest;
 import org.smpp.pdu.BindResponse;
+import org.smpp.pdu.CancelSM;
+import org.smpp.pdu.DataSM;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.EnquireLink;
+import org.smpp.pdu.PDU;
+import org.smpp.pdu.QuerySM;
+import org.smpp.pdu.ReplaceSM;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+import org.smpp.pdu.SubmitMultiSM;
+import org.smpp.pdu.SubmitSM;
 import org.smpp.pdu.UnbindResp;
 
+import com.amk.smpp.flow.AccountThrottles;
+import com.amk.smpp.flow.CongestionController;
+import com.amk.smpp.flow.TokenBucket;
+import com.amk.smpp.metrics.ConnectorMetrics;
 import com.amk.smpp.operation.PDUOperation;
 import com.amk.smpp.rules.PDUOperationsValidator;
 import com.amk.smpp.util.SMPPUtil;
@@ -42,10 +61,14 @@ public class BindingManager implements Binder {
      * Error msg.
      */
     private static final String      INVALID_CONNECTION = "[X] error, Connection null";
+    /**
+     * Default number of requests that can wait for its response on the bind.
+     */
+    public static final  int         DEFAULT_WINDOW_SIZE = 10;
     /**
      * Indicates if there is a link whit the SMSC.
      */
-    private              boolean     bound              = false;
+    private volatile     boolean     bound              = false;
     /**
      * Bind Request type.
      */
@@ -53,7 +76,11 @@ public class BindingManager implements Binder {
     /**
      * {@link Session} containing the connection to the SMSC.
      */
-    private Session session;
+    private volatile Session session;
+    /**
+     * Connection to the SMSC, a new {@link Session} is opened over it after the link drops.
+     */
+    private final Connection connection;
     /**
      * Login information to the SMSC - User.
      */
@@ -75,6 +102,57 @@ public class BindingManager implements Binder {
      * Protocol version, 3.4 .
      */
     private byte   interfaceVersion   = (byte) 0x34;
+    /**
+     * Requests written asynchronously that are waiting for its response.
+     */
+    private final RequestWindow window          = new RequestWindow(DEFAULT_WINDOW_SIZE);
+    /**
+     * Maximum time to wait for a free slot of the window, in milliseconds.
+     */
+    private       long          windowTimeout   = 30000L;
+    /**
+     * Maximum time to wait for the response of a request written asynchronously, in milliseconds.
+     */
+    private       long          responseTimeout = 30000L;
+    /**
+     * Rate limit of this bind, null when it is not limited. The limit shared by all the binds of the same account
+     * is defined in {@link AccountThrottles}.
+     */
+    private volatile TokenBucket rateLimiter;
+    /**
+     * Adapts the window and the rate limit to the responses, null when it is disabled.
+     */
+    private volatile CongestionController congestionController;
+    /**
+     * Indicates that the link dropped and the bind is waiting to be bound again.
+     */
+    private volatile boolean      down;
+    /**
+     * Last time a PDU was received, in nanoseconds. Written requests do not count, only the SMSC answering proves
+     * the link is alive.
+     */
+    private volatile long         lastActivity = System.nanoTime();
+    /**
+     * Operation of the last bind, repeated to bind again after the link drops.
+     */
+    private volatile PDUOperation bindOperation;
+    /**
+     * Receives the requests that were waiting for its response when the link dropped, null to fail them.
+     */
+    private volatile Consumer< List< RequestWindow.Pending > > failover;
+    /**
+     * Counters and latencies of the operations performed over this bind.
+     */
+    private final ConnectorMetrics metrics = new ConnectorMetrics();
+    /**
+     * Indicates if the <code>deliver_sm</code> and <code>data_sm</code> received asynchronously are answered by the
+     * receiver thread as soon as they arrive, instead of when the application reads them.
+     */
+    private volatile boolean fastAck;
+    /**
+     * <code>command_status</code> of the responses written by the fast ack.
+     */
+    private volatile int     fastAckStatus = Data.ESME_ROK;
 
     /**
      * Creates an instance of BindingManager.
@@ -91,6 +169,7 @@ public class BindingManager implements Binder {
         }
         this.systemId = systemId;
         this.password = password;
+        this.connection = connection;
         this.session = new Session(connection);
     }
 
@@ -119,6 +198,20 @@ public class BindingManager implements Binder {
     @CheckForNull
     @Override
     public Session bind(@NotNull final PDUOperation pduOperation) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperation);
+        if (bound) {
+            return session;
+        }
+        return bindSession(pduOperation);
+    }
+
+    /**
+     * Create the link, only one thread at a time.
+     * @param pduOperation Object containing the details of the operation.
+     * @return The {@link Session} containing the connection to the SMSC.
+     * @throws SmppException If there is an error.
+     */
+    private synchronized Session bindSession(final PDUOperation pduOperation) throws SmppException {
         LOGGER.debug("bind:");
         final BindResponse response;
         final boolean asynchronous = pduOperation.isAsynchronous();
@@ -129,22 +222,28 @@ public class BindingManager implements Binder {
             return session;
         }
 
+        final long start = System.nanoTime();
         try {
             if (asynchronous) {
                 LOGGER.debug("bind: ASYNC");
                 if (Objects.isNull(pduOperation.getListener())) {
                     LOGGER.warn("[!] There is no Listener who receives the response asynchronously");
                 }
-                response = session.bind(bindRequest, pduOperation.getListener());
+                response = session.bind(bindRequest, new BindingPDUListener(this, pduOperation.getListener()));
             } else {
                 LOGGER.debug("bind: SYNC");
                 response = session.bind(bindRequest);
             }
             LOGGER.debug("Bind response " + response.debugString());
+            metrics.getBind().record(System.nanoTime() - start, response.getCommandStatus());
             if (response.getCommandStatus() == Data.ESME_ROK) {
+                bindOperation = pduOperation;
+                down = false;
                 bound = true;
+                touch();
             }
         } catch (final Exception e) {
+            metrics.getBind().record(System.nanoTime() - start, true);
             throw new SmppException(e);
         }
 
@@ -160,7 +259,7 @@ public class BindingManager implements Binder {
      * @throws SmppException If there is an error.
      */
     @Override
-    public void unBind() throws SmppException {
+    public synchronized void unBind() throws SmppException {
         try {
             if (!bound) {
                 LOGGER.warn("Not bound, cannot unbind.");
@@ -174,12 +273,346 @@ public class BindingManager implements Binder {
             final UnbindResp response = session.unbind();
             LOGGER.info("Unbind response " + response.debugString());
             bound = false;
+            window.failAll(new SmppException("[X] error, session unbound before the response arrived"));
         } catch (final Exception e) {
             LOGGER.error("Unbind operation failed. " + e.getMessage());
             throw new SmppException("Unbind operation failed. " + e);
         }
     }
 
+    /**
+     * Writes the request through the session of this bind without waiting for the response.<br/>
+     * The request takes a slot of the {@link RequestWindow}; if the window is full the caller waits until a
+     * response arrives; if no response arrives within the {@link #responseTimeout} the future fails and the slot is
+     * released. If the session was bound synchronously the write blocks until the response arrives.
+     * Stages depending on the returned future run on the thread that receives the response.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request to write, the sequence number is assigned here.
+     * @return the future completed with the response of the request.
+     * @throws SmppException If there is no permit of the rate limits or no free slot in time.
+     */
+    public < E extends Response > CompletableFuture< E > sendAsync(@NotNull final Request request) throws SmppException {
+        return send(request, false);
+    }
+
+    /**
+     * Writes the request like {@link #sendAsync(Request)}, but its response is also passed to the listener of the
+     * bind, as any request written directly through the session of an asynchronous bind.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request to write, the sequence number is assigned here.
+     * @return the future completed with the response of the request.
+     * @throws SmppException If there is no permit of the rate limits or no free slot in time.
+     */
+    public < E extends Response > CompletableFuture< E > sendObserved(@NotNull final Request request) throws SmppException {
+        return send(request, true);
+    }
+
+    /**
+     * Writes the request through the window.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request to write, the sequence number is assigned here.
+     * @param passed Indicates if the response is also passed to the listener.
+     * @return the future completed with the response of the request.
+     * @throws SmppException If there is no permit of the rate limits or no free slot in time.
+     */
+    private < E extends Response > CompletableFuture< E > send(final Request request, final boolean passed) throws SmppException {
+        throttle();
+        request.assignSequenceNumber(true);
+        final CompletableFuture< E > future = passed ? window.observe(request, windowTimeout, responseTimeout)
+                : window.register(request, windowTimeout, responseTimeout);
+        return write(request, future);
+    }
+
+    /**
+     * Writes an <code>enquire_link</code> without waiting for the response. The ping takes no permit of the rate
+     * limits and no slot of the {@link RequestWindow}, so a busy bind is not reported dead; its response is expected
+     * up to the {@link #responseTimeout}.
+     * @return the future completed with the response of the ping.
+     * @see KeepAlive
+     */
+    public CompletableFuture< Response > enquireLink() {
+        final EnquireLink request = new EnquireLink();
+        request.assignSequenceNumber(true);
+        return write(request, window.track(request, responseTimeout));
+    }
+
+    /**
+     * Writes the request whose response is expected by the window, a write failure completes the future.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request to write.
+     * @param future completed with the response of the request.
+     * @return the future.
+     */
+    private < E extends Response > CompletableFuture< E > write(final Request request, final CompletableFuture< E > future) {
+        try {
+            final Response response = write(request);
+            if (Objects.nonNull(response)) {
+                observe(response);
+                window.complete(response);
+            }
+        } catch (final Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Declares the link dead: the session is closed and replaced by a new one over the same connection, and the
+     * requests waiting for its response are passed to the {@link #failover} handler, or failed if there is none.
+     * Operations on this bind try to bind again until {@link #rebind()} succeeds.
+     * @param cause reason of the failure.
+     */
+    public void markDown(final Throwable cause) {
+        synchronized (this) {
+            if (down) {
+                return;
+            }
+            down = true;
+            bound = false;
+        }
+        LOGGER.error("[X] error, link of " + systemId + " down " + cause);
+        final Session dead = session;
+        session = new Session(connection);
+        try {
+            dead.close();
+        } catch (final Exception e) {
+            LOGGER.debug("close of the dead session failed " + e.getMessage());
+        }
+        final List< RequestWindow.Pending > inFlight = window.drain();
+        final Consumer< List< RequestWindow.Pending > > handler = failover;
+        if (Objects.nonNull(handler) && !inFlight.isEmpty()) {
+            handler.accept(inFlight);
+        } else {
+            inFlight.forEach(pending -> pending.getFuture().completeExceptionally(cause));
+        }
+    }
+
+    /**
+     * Binds again with the operation of the last bind after {@link #markDown(Throwable)}.
+     * @throws SmppException If the bind fails or this bind was never bound.
+     */
+    public void rebind() throws SmppException {
+        final PDUOperation operation = bindOperation;
+        if (Objects.isNull(operation)) {
+            throw new SmppException("[X] error, " + systemId + " was never bound");
+        }
+        bindSession(operation);
+        if (!bound) {
+            throw new SmppException("[X] error, rebind of " + systemId + " rejected by the SMSC");
+        }
+        LOGGER.info("Rebind of " + systemId + " done");
+    }
+
+    /**
+     * Records that a PDU was received, a keepalive is not necessary while the SMSC is sending.
+     */
+    void touch() {
+        lastActivity = System.nanoTime();
+    }
+
+    /**
+     * Time since the last PDU was received.
+     * @return idle time, in milliseconds.
+     */
+    public long getIdleTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastActivity);
+    }
+
+    /**
+     * Passes the <code>command_status</code> of a response of this bind to the {@link CongestionController}, if
+     * enabled.
+     * @param response Response received from the SMSC, may be null.
+     */
+    public void observe(@CheckForNull final Response response) {
+        if (Objects.isNull(response)) {
+            return;
+        }
+        touch();
+        final CongestionController controller = congestionController;
+        if (Objects.nonNull(controller)) {
+            controller.onResponse(response.getCommandStatus());
+        }
+    }
+
+    /**
+     * Enables the adaptive congestion control of this bind. The window starts at its largest size and is adjusted
+     * between both sizes; the rate limit of the bind, if any, is adjusted up to its current rate. The rate limit must
+     * be set before.
+     * @param minWindow Smallest window.
+     * @param maxWindow Largest window.
+     * @return the controller.
+     * @see CongestionController
+     */
+    public CongestionController enableCongestionControl(final int minWindow, final int maxWindow) {
+        final CongestionController controller = new CongestionController(window::setSize, rateLimiter, minWindow, maxWindow);
+        window.setSize(maxWindow);
+        congestionController = controller;
+        return controller;
+    }
+
+    /**
+     * Disables the adaptive congestion control, the window and the rate keep their current values.
+     */
+    public void disableCongestionControl() {
+        congestionController = null;
+    }
+
+    /**
+     * Takes one permit of the rate limit of this bind and one of its account. Both are reserved against the same
+     * {@link #windowTimeout} and the caller waits once, for the later of them; if the permit of the account is not
+     * available in time the permit of the bind is given back. Every request written to the SMSC must take its
+     * permits first.
+     * @throws SmppException If a permit is not available in time.
+     * @see AccountThrottles
+     */
+    public void throttle() throws SmppException {
+        final long timeout = windowTimeout;
+        final TokenBucket bindLimit = rateLimiter;
+        final long bindWait = reserve(bindLimit, timeout);
+        final long accountWait;
+        try {
+            accountWait = reserve(AccountThrottles.get(systemId), timeout);
+        } catch (final SmppException e) {
+            if (Objects.nonNull(bindLimit)) {
+                bindLimit.release();
+            }
+            throw e;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(Math.max(bindWait, accountWait));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmppException(e);
+        }
+    }
+
+    /**
+     * Reserves one permit of the limit.
+     * @param limit rate limit, may be null.
+     * @param timeout maximum time to wait for the permit, in milliseconds.
+     * @return nanoseconds until the permit is due.
+     * @throws SmppException If the permit is not available in time.
+     */
+    private static long reserve(@CheckForNull final TokenBucket limit, final long timeout) throws SmppException {
+        if (Objects.isNull(limit)) {
+            return 0L;
+        }
+        final long wait = limit.tryReserve(timeout, TimeUnit.MILLISECONDS);
+        if (wait < 0L) {
+            throw new SmppException("[X] error, rate limit of " + limit.getPermitsPerSecond() + " per second, no permit in "
+                    + timeout + " ms");
+        }
+        return wait;
+    }
+
+    /**
+     * Writes the request using the operation of the {@link Session} that corresponds to its type.
+     * @param request Request to write.
+     * @return the response if the session is synchronous, null otherwise.
+     * @throws Exception If there is an error writing the request.
+     */
+    @CheckForNull
+    private Response write(final Request request) throws Exception {
+        if (request instanceof SubmitSM) {
+            return session.submit((SubmitSM) request);
+        } else if (request instanceof DataSM) {
+            return session.data((DataSM) request);
+        } else if (request instanceof SubmitMultiSM) {
+            return session.submitMulti((SubmitMultiSM) request);
+        } else if (request instanceof QuerySM) {
+            return session.query((QuerySM) request);
+        } else if (request instanceof ReplaceSM) {
+            return session.replace((ReplaceSM) request);
+        } else if (request instanceof CancelSM) {
+            return session.cancel((CancelSM) request);
+        } else if (request instanceof EnquireLink) {
+            return session.enquireLink((EnquireLink) request);
+        }
+        throw new SmppException("[X] error, request not supported " + request.getClass().getName());
+    }
+
+    /**
+     * Getter for window.
+     * @return window.
+     **/
+    public RequestWindow getWindow() {
+        return window;
+    }
+
+    /**
+     * Setter for the size of the window.
+     * @param windowSize maximum number of requests waiting for its response.
+     **/
+    public void setWindowSize(final int windowSize) {
+        window.setSize(windowSize);
+    }
+
+    /**
+     * Getter for windowTimeout.
+     * @return windowTimeout.
+     **/
+    public long getWindowTimeout() {
+        return windowTimeout;
+    }
+
+    /**
+     * Setter for windowTimeout.
+     * @param windowTimeout expected.
+     **/
+    public void setWindowTimeout(final long windowTimeout) {
+        this.windowTimeout = windowTimeout;
+    }
+
+    /**
+     * Getter for responseTimeout.
+     * @return responseTimeout.
+     **/
+    public long getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    /**
+     * Setter for responseTimeout.
+     * @param responseTimeout expected.
+     **/
+    public void setResponseTimeout(final long responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    /**
+     * Getter for rateLimiter.
+     * @return rateLimiter, null when the bind is not limited.
+     **/
+    @CheckForNull
+    public TokenBucket getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Setter for rateLimiter.
+     * @param rateLimiter expected, null to remove the limit.
+     **/
+    public void setRateLimiter(final TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Getter for congestionController.
+     * @return congestionController, null when it is disabled.
+     **/
+    @CheckForNull
+    public CongestionController getCongestionController() {
+        return congestionController;
+    }
+
+    /**
+     * Getter for metrics.
+     * @return metrics.
+     **/
+    public ConnectorMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Getter for systemId.
      * @return systemId.
@@ -228,4 +661,91 @@ public class BindingManager implements Binder {
         return bound;
     }
 
+    /**
+     * Getter for down.
+     * @return true if the link dropped and the bind was not bound again yet.
+     **/
+    public boolean isDown() {
+        return down;
+    }
+
+    /**
+     * Answers a request received asynchronously when the fast ack is enabled.
+     * @param request received request.
+     * @return true if the request was answered here and must not be answered again.
+     */
+    boolean fastAck(final Request request) {
+        if (!isFastAcked(request)) {
+            return false;
+        }
+        respond(request, fastAckStatus);
+        return true;
+    }
+
+    /**
+     * Answers a received request on the receiver thread.
+     * @param request received request.
+     * @param commandStatus <code>command_status</code> of the response.
+     */
+    void respond(final Request request, final int commandStatus) {
+        final Response response = request.getResponse();
+        response.setCommandStatus(commandStatus);
+        try {
+            session.respond(response);
+        } catch (final Exception e) {
+            LOGGER.error("[X] error, response to " + request.debugString() + " not written " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates if the request is answered by the fast ack.
+     * @param pdu received PDU.
+     * @return true if the fast ack is enabled and the PDU is a <code>deliver_sm</code> or a <code>data_sm</code>.
+     */
+    boolean isFastAcked(final PDU pdu) {
+        return fastAck && (pdu instanceof DeliverSM || pdu instanceof DataSM);
+    }
+
+    /**
+     * Getter for fastAck.
+     * @return fastAck.
+     **/
+    public boolean isFastAck() {
+        return fastAck;
+    }
+
+    /**
+     * Setter for fastAck. Only the binds bound asynchronously answer on the receiver thread, the requests read by a
+     * synchronous bind are still answered when read.
+     * @param fastAck expected.
+     **/
+    public void setFastAck(final boolean fastAck) {
+        this.fastAck = fastAck;
+    }
+
+    /**
+     * Getter for fastAckStatus.
+     * @return fastAckStatus.
+     **/
+    public int getFastAckStatus() {
+        return fastAckStatus;
+    }
+
+    /**
+     * Setter for fastAckStatus.
+     * @param fastAckStatus <code>command_status</code> of the responses written by the fast ack.
+     **/
+    public void setFastAckStatus(final int fastAckStatus) {
+        this.fastAckStatus = fastAckStatus;
+    }
+
+    /**
+     * Setter for failover.
+     * @param failover receives the requests that were waiting for its response when the link dropped, null to fail
+     * them.
+     **/
+    public void setFailover(final Consumer< List< RequestWindow.Pending > > failover) {
+        this.failover = failover;
+    }
+
 }
@@ -0,0 +1,128 @@
+/*
+ *      File: BindingPDUListener.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.core;
+
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.Data;
+import org.smpp.ReceiverBase;
+import org.smpp.ServerPDUEvent;
+import org.smpp.pdu.PDU;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.util.PDUListener;
+
+/**
+ * Listener installed by the {@link BindingManager} on every asynchronous bind.<br/>
+ * Every response is observed by the bind for its congestion control; responses expected by the
+ * {@link RequestWindow} of the bind complete their futures, every other event is passed to the listener of the
+ * {@link com.amk.smpp.operation.PDUOperation} that created the bind. With the fast ack enabled the
+ * <code>deliver_sm</code> and <code>data_sm</code> are answered here once the listener keeps them (see
+ * {@link PDUListener#retain(ServerPDUEvent)}), and passed as an {@link AckedEvent} so they are not answered again
+ * when read; a listener that can not keep them rejects them with <code>ESME_RMSGQFUL</code>, and without listener
+ * they are not answered, the SMSC sends them again.
+ * <b>Pattern: </b> <code>Decorator.</code>
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BindingPDUListener extends PDUListener {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(BindingPDUListener.class.getName());
+    /**
+     * The bind.
+     */
+    private final BindingManager manager;
+    /**
+     * Listener of the application, may be null.
+     */
+    private final PDUListener   delegate;
+
+    /**
+     * Creates an instance of BindingPDUListener.
+     * @param manager The bind.
+     * @param delegate Listener of the application, may be null.
+     */
+    public BindingPDUListener(final BindingManager manager, final PDUListener delegate) {
+        this.manager = manager;
+        this.delegate = delegate;
+        if (Objects.nonNull(delegate)) {
+            setIntervalTime(delegate.getIntervalTime());
+        }
+    }
+
+    /**
+     * Completes the pending request of the response or passes the event to the application listener.
+     * @param event the event received from the SMSC.
+     */
+    @Override
+    public void handleEvent(final ServerPDUEvent event) {
+        final PDU pdu = event.getPDU();
+        manager.touch();
+        if (pdu.isResponse()) {
+            manager.observe((Response) pdu);
+            if (manager.getWindow().complete((Response) pdu)) {
+                return;
+            }
+        } else if (pdu.isRequest() && Objects.nonNull(delegate) && manager.isFastAcked(pdu)) {
+            if (delegate.retain(new AckedEvent(event))) {
+                manager.respond((Request) pdu, manager.getFastAckStatus());
+            } else {
+                LOGGER.warn("[!] listener full, rejecting " + pdu.debugString());
+                manager.respond((Request) pdu, Data.ESME_RMSGQFUL);
+            }
+            return;
+        }
+        if (Objects.nonNull(delegate)) {
+            delegate.handleEvent(event);
+        } else {
+            LOGGER.warn("[!] no listener for the event, discarding " + pdu.debugString());
+        }
+    }
+
+    @Override
+    public ServerPDUEvent getRequestEvent() {
+        return Objects.isNull(delegate) ? null : delegate.getRequestEvent();
+    }
+
+    @Override
+    public ServerPDUEvent getResponseEvent() {
+        return Objects.isNull(delegate) ? null : delegate.getResponseEvent();
+    }
+
+    /**
+     * Getter for delegate.
+     * @return delegate.
+     **/
+    public PDUListener getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Event of a request already answered by the fast ack, the decision is recorded per PDU.
+     */
+    static final class AckedEvent extends ServerPDUEvent {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates an instance of AckedEvent.
+         * @param event The received event.
+         */
+        AckedEvent(final ServerPDUEvent event) {
+            super((ReceiverBase) event.getSource(), event.getConnection(), event.getPDU());
+        }
+    }
+}
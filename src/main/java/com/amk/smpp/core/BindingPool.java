@@ -0,0 +1,213 @@
+/*
+ *      File: BindingPool.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.Connection;
+import org.smpp.Session;
+import org.smpp.SmppException;
+
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Group of binds of the same account to the SMSC.<br/>
+ * Every member is a {@link BindingManager} with its own connection, session and window. Each operation is routed
+ * to the member chosen by the {@link BindSelectionStrategy}, which binds lazily the first time it is chosen. The
+ * members whose link is down are not chosen while there is any other, and the requests that were waiting for a
+ * response on a member when its link dropped are written again through the others.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BindingPool implements Binder {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER      = LogManager.getLogger(BindingPool.class.getName());
+    /**
+     * Error msg.
+     */
+    private static final String EMPTY_POOL  = "[X] error, the pool needs at least one bind";
+
+    /**
+     * Binds of the pool.
+     */
+    private final List< BindingManager > members;
+    /**
+     * Chooses the bind of every operation.
+     */
+    private final BindSelectionStrategy  strategy;
+
+    /**
+     * Creates an instance of BindingPool opening <code>size</code> binds of the same account.
+     * @param systemId User to log in with the SMSC.
+     * @param password Password to log in with the SMSC.
+     * @param connectionFactory Creates a new connection to the SMSC for every bind.
+     * @param size Number of binds.
+     * @param strategy Chooses the bind of every operation.
+     */
+    public BindingPool(final String systemId, final String password, final Supplier< Connection > connectionFactory, final int size,
+            final BindSelectionStrategy strategy) {
+        this(newMembers(systemId, password, connectionFactory, size), strategy);
+    }
+
+    /**
+     * Creates an instance of BindingPool with the given binds.
+     * @param members Binds of the pool.
+     * @param strategy Chooses the bind of every operation.
+     */
+    public BindingPool(final List< BindingManager > members, final BindSelectionStrategy strategy) {
+        if (Objects.isNull(members) || members.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_POOL);
+        }
+        this.members = Collections.unmodifiableList(new ArrayList<>(members));
+        this.strategy = Objects.isNull(strategy) ? BindSelectionStrategy.roundRobin() : strategy;
+        this.members.forEach(member -> member.setFailover(inFlight -> migrate(member, inFlight)));
+    }
+
+    /**
+     * Creates the binds of the pool.
+     * @param systemId User to log in with the SMSC.
+     * @param password Password to log in with the SMSC.
+     * @param connectionFactory Creates a new connection to the SMSC for every bind.
+     * @param size Number of binds.
+     * @return the binds.
+     */
+    private static List< BindingManager > newMembers(final String systemId, final String password,
+            final Supplier< Connection > connectionFactory, final int size) {
+        final List< BindingManager > members = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            members.add(new BindingManager(systemId, password, connectionFactory.get()));
+        }
+        return members;
+    }
+
+    /**
+     * Chooses the bind that performs the operation among the members whose link is not down, or among all of them
+     * when every link is down.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the chosen bind, it may not be bound yet.
+     */
+    public BindingManager select(@NotNull final PDUOperation pduOperation) {
+        return strategy.select(healthy(null));
+    }
+
+    /**
+     * Members whose link is not down.
+     * @param excluded member left out, may be null.
+     * @return the healthy members, all the members but the excluded one if none is healthy.
+     */
+    private List< BindingManager > healthy(final BindingManager excluded) {
+        boolean all = Objects.isNull(excluded);
+        for (final BindingManager member : members) {
+            all &= !member.isDown();
+        }
+        if (all) {
+            return members;
+        }
+        final List< BindingManager > healthy = new ArrayList<>(members.size());
+        final List< BindingManager > others = new ArrayList<>(members.size());
+        for (final BindingManager member : members) {
+            if (member != excluded) {
+                others.add(member);
+                if (!member.isDown()) {
+                    healthy.add(member);
+                }
+            }
+        }
+        return healthy.isEmpty() ? others : healthy;
+    }
+
+    /**
+     * Writes again, through the other members, the requests that were waiting for a response on a member whose
+     * link dropped. The original futures are completed with the new responses.
+     * @param failed member whose link dropped.
+     * @param inFlight requests waiting for a response.
+     */
+    private void migrate(final BindingManager failed, final List< RequestWindow.Pending > inFlight) {
+        LOGGER.warn("[!] moving " + inFlight.size() + " requests of a dropped bind");
+        for (final RequestWindow.Pending pending : inFlight) {
+            final List< BindingManager > others = healthy(failed);
+            if (others.isEmpty() || others.get(0).isDown()) {
+                pending.getFuture().completeExceptionally(new SmppException("[X] error, no bind available to move the request"));
+                continue;
+            }
+            try {
+                strategy.select(others).sendAsync(pending.getRequest()).whenComplete((response, error) -> {
+                    if (Objects.isNull(error)) {
+                        pending.getFuture().complete(response);
+                    } else {
+                        pending.getFuture().completeExceptionally(error);
+                    }
+                });
+            } catch (final SmppException | RuntimeException e) {
+                pending.getFuture().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Binds every member of the pool. A member that fails to bind is skipped while at least one is bound.
+     * @param pduOperation Object containing the details of the operation.
+     * @return The {@link Session} of the bind chosen by the strategy.
+     * @throws SmppException If no member could be bound.
+     */
+    @Override
+    public Session bind(@NotNull final PDUOperation pduOperation) throws SmppException {
+        SmppException error = null;
+        for (final BindingManager member : members) {
+            try {
+                member.bind(pduOperation);
+            } catch (final SmppException e) {
+                LOGGER.error("[X] error, bind of " + member.getSystemId() + " failed " + e.getMessage());
+                error = e;
+            }
+        }
+        if (Objects.nonNull(error) && members.stream().noneMatch(BindingManager::isBound)) {
+            throw error;
+        }
+        return select(pduOperation).getSession();
+    }
+
+    /**
+     * Breaks the link of every member with the SMSC.
+     * @throws SmppException If there is an error, after trying every member.
+     */
+    @Override
+    public void unBind() throws SmppException {
+        SmppException error = null;
+        for (final BindingManager member : members) {
+            try {
+                member.unBind();
+            } catch (final SmppException e) {
+                LOGGER.error("[X] error, unbind of " + member.getSystemId() + " failed " + e.getMessage());
+                error = e;
+            }
+        }
+        if (Objects.nonNull(error)) {
+            throw error;
+        }
+    }
+
+    /**
+     * Getter for members.
+     * @return members.
+     **/
+    public List< BindingManager > getMembers() {
+        return members;
+    }
+}
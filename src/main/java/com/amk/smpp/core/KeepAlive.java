@@ -0,0 +1,304 @@
+/*
+ *      File: KeepAlive.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.core;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.Data;
+import org.smpp.SmppException;
+import org.smpp.pdu.Response;
+
+/**
+ * Keeps the binds alive.<br/>
+ * Every interval each watched bind that has not received any PDU for a whole interval is checked with an
+ * <code>enquire_link</code>; while the SMSC is sending no ping is written. Written requests do not count, a
+ * half-open link keeps accepting writes. The ping bypasses the rate limits and the window of the bind (see
+ * {@link BindingManager#enquireLink()}) and the scheduler does not wait for its response, so the checks of the
+ * other binds are not delayed. When the ping fails or is not answered in time the bind is marked down (see {@link BindingManager#markDown(Throwable)}) and bound again with exponential
+ * backoff and jitter, between {@link #minBackoff} and {@link #maxBackoff}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class KeepAlive implements AutoCloseable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(KeepAlive.class.getName());
+
+    /**
+     * Runs the checks and the rebinds.
+     */
+    private final ScheduledExecutorService        scheduler;
+    /**
+     * Indicates if the scheduler was created here and must be shut down on close.
+     */
+    private final boolean                         ownScheduler;
+    /**
+     * Time between checks, in milliseconds.
+     */
+    private final long                            interval;
+    /**
+     * Checks of every watched bind.
+     */
+    private final Map< BindingManager, Watch >    watches = new ConcurrentHashMap<>();
+    /**
+     * First wait before binding again, in milliseconds.
+     */
+    private long minBackoff = 1000L;
+    /**
+     * Longest wait before binding again, in milliseconds.
+     */
+    private long maxBackoff = 60000L;
+
+    /**
+     * Creates an instance of KeepAlive with its own thread.
+     * @param interval Time between checks, in milliseconds.
+     */
+    public KeepAlive(final long interval) {
+        this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "smpp-keepalive");
+            thread.setDaemon(true);
+            return thread;
+        }), interval, true);
+    }
+
+    /**
+     * Creates an instance of KeepAlive.
+     * @param scheduler Runs the checks and the rebinds, it is not shut down on close.
+     * @param interval Time between checks, in milliseconds.
+     */
+    public KeepAlive(final ScheduledExecutorService scheduler, final long interval) {
+        this(scheduler, interval, false);
+    }
+
+    /**
+     * Creates an instance of KeepAlive.
+     * @param scheduler Runs the checks and the rebinds.
+     * @param interval Time between checks, in milliseconds.
+     * @param ownScheduler Indicates if the scheduler must be shut down on close.
+     */
+    private KeepAlive(final ScheduledExecutorService scheduler, final long interval, final boolean ownScheduler) {
+        if (interval <= 0L) {
+            throw new IllegalArgumentException("[X] error, invalid interval " + interval);
+        }
+        this.scheduler = Objects.requireNonNull(scheduler);
+        this.interval = interval;
+        this.ownScheduler = ownScheduler;
+    }
+
+    /**
+     * Starts checking the bind.
+     * @param manager bind to keep alive.
+     */
+    public void watch(final BindingManager manager) {
+        watches.computeIfAbsent(manager, key -> {
+            final Watch watch = new Watch(key);
+            watch.task = scheduler.scheduleWithFixedDelay(watch::check, interval, interval, TimeUnit.MILLISECONDS);
+            return watch;
+        });
+    }
+
+    /**
+     * Starts checking every bind of the pool.
+     * @param pool binds to keep alive.
+     */
+    public void watch(final BindingPool pool) {
+        pool.getMembers().forEach(this::watch);
+    }
+
+    /**
+     * Stops checking the bind.
+     * @param manager bind to forget.
+     */
+    public void unwatch(final BindingManager manager) {
+        final Watch watch = watches.remove(manager);
+        if (Objects.nonNull(watch)) {
+            watch.task.cancel(false);
+        }
+    }
+
+    /**
+     * Stops checking every bind.
+     */
+    @Override
+    public void close() {
+        watches.keySet().forEach(this::unwatch);
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait before the next attempt to bind again: exponential, capped, with a random half to avoid that every bind
+     * of a pool retries at the same moment.
+     * @param attempt number of failed attempts so far.
+     * @param min first wait, in milliseconds.
+     * @param max longest wait, in milliseconds.
+     * @return wait, in milliseconds, between half and all of the exponential value.
+     */
+    static long backoff(final int attempt, final long min, final long max) {
+        final long exponential = min << Math.min(attempt, 30);
+        final long capped = exponential <= 0L || exponential > max ? max : exponential;
+        final long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+
+    /**
+     * Setter for minBackoff.
+     * @param minBackoff expected, in milliseconds.
+     **/
+    public void setMinBackoff(final long minBackoff) {
+        this.minBackoff = minBackoff;
+    }
+
+    /**
+     * Setter for maxBackoff.
+     * @param maxBackoff expected, in milliseconds.
+     **/
+    public void setMaxBackoff(final long maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Checks of one bind.
+     */
+    private final class Watch {
+        /**
+         * The bind.
+         */
+        private final BindingManager       manager;
+        /**
+         * Periodic check.
+         */
+        private ScheduledFuture< ? >       task;
+        /**
+         * Failed attempts to bind again.
+         */
+        private volatile int               attempts;
+        /**
+         * Indicates if an attempt to bind again is scheduled.
+         */
+        private volatile boolean           rebinding;
+        /**
+         * Indicates if a ping is waiting for its response.
+         */
+        private volatile boolean           pinging;
+
+        /**
+         * Creates an instance of Watch.
+         * @param manager The bind.
+         */
+        private Watch(final BindingManager manager) {
+            this.manager = manager;
+        }
+
+        /**
+         * Pings the bind if it has not received any PDU for a whole interval and no ping is waiting. The response is
+         * handled when it arrives; if it does not arrive within the response timeout of the bind, or the interval
+         * when there is none, the ping fails.
+         */
+        private void check() {
+            if (manager.isDown()) {
+                scheduleRebind();
+                return;
+            }
+            if (pinging || !manager.isBound() || manager.getIdleTime() < interval) {
+                return;
+            }
+            pinging = true;
+            final CompletableFuture< Response > ping;
+            try {
+                ping = manager.enquireLink();
+            } catch (final RuntimeException e) {
+                pinging = false;
+                failed(e);
+                return;
+            }
+            final long timeout = manager.getResponseTimeout() > 0L ? manager.getResponseTimeout() : interval;
+            final ScheduledFuture< ? > expiry = scheduler.schedule(() -> ping.completeExceptionally(new SmppException(
+                    "[X] error, enquire_link not answered in " + timeout + " ms")), timeout, TimeUnit.MILLISECONDS);
+            ping.whenComplete((response, error) -> {
+                expiry.cancel(false);
+                if (Objects.isNull(error)) {
+                    pinging = false;
+                    if (response.getCommandStatus() != Data.ESME_ROK) {
+                        LOGGER.warn("[!] enquire_link of " + manager.getSystemId() + " answered " + response.getCommandStatus());
+                    }
+                    return;
+                }
+                try {
+                    scheduler.execute(() -> failed(error));
+                } catch (final RejectedExecutionException e) {
+                    pinging = false;
+                    LOGGER.warn("[!] keep alive closed, enquire_link of " + manager.getSystemId() + " failed " + error);
+                }
+            });
+        }
+
+        /**
+         * Marks the bind down after a failed ping and schedules the first attempt to bind again, unless the bind is
+         * no longer watched. No other ping is written before the bind is marked down.
+         * @param cause reason of the failure.
+         */
+        private void failed(final Throwable cause) {
+            try {
+                if (!watches.containsKey(manager)) {
+                    return;
+                }
+                manager.markDown(cause);
+                attempts = 0;
+                scheduleRebind();
+            } finally {
+                pinging = false;
+            }
+        }
+
+        /**
+         * Schedules the next attempt to bind again, unless there is one already scheduled.
+         */
+        private void scheduleRebind() {
+            if (rebinding) {
+                return;
+            }
+            rebinding = true;
+            final long wait = backoff(attempts, minBackoff, maxBackoff);
+            LOGGER.info("Rebind of " + manager.getSystemId() + " in " + wait + " ms");
+            scheduler.schedule(this::rebind, wait, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Binds again, scheduling the next attempt if it fails.
+         */
+        private void rebind() {
+            rebinding = false;
+            if (!manager.isDown() || !watches.containsKey(manager)) {
+                return;
+            }
+            try {
+                manager.rebind();
+                attempts = 0;
+            } catch (final Exception e) {
+                attempts++;
+                LOGGER.error("[X] error, rebind of " + manager.getSystemId() + " failed " + e.getMessage());
+                scheduleRebind();
+            }
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ *      File: RequestWindow.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.SmppException;
+import org.smpp.pdu.GenericNack;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+
+/**
+ * Outstanding-request window of a single bind.<br/>
+ * Every request written asynchronously takes one slot of the window and is linked to a {@link CompletableFuture}
+ * through its sequence number. The slot is released when the response with the same sequence number arrives, or
+ * when the future is completed by any other means (failure, cancellation, response timeout). A request whose response
+ * is lost fails when its response timeout expires, so a lost response never keeps its slot. When all the slots are
+ * taken the caller waits until one is released or the timeout expires.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RequestWindow {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER      = LogManager.getLogger(RequestWindow.class.getName());
+    /**
+     * Error msg.
+     */
+    private static final String WINDOW_FULL = "[X] error, window full, no response slot released in ";
+    /**
+     * Error msg.
+     */
+    private static final String INVALID_SIZE = "[X] error, window size must be greater than zero";
+    /**
+     * Fails the requests whose response did not arrive in time, shared by every window.
+     */
+    private static final ScheduledThreadPoolExecutor EXPIRER = newExpirer();
+
+    /**
+     * Requests written and waiting for its response, by sequence number.
+     */
+    private final Map< Integer, Pending > pending  = new ConcurrentHashMap<>();
+    /**
+     * Guards {@link #size} and {@link #outstanding}.
+     */
+    private final ReentrantLock           lock     = new ReentrantLock();
+    /**
+     * Signaled every time a slot is released.
+     */
+    private final Condition               released = lock.newCondition();
+    /**
+     * Maximum number of outstanding requests.
+     */
+    private volatile int size;
+    /**
+     * Number of slots in use.
+     */
+    private volatile int outstanding;
+
+    /**
+     * Creates an instance of RequestWindow.
+     * @param size Maximum number of outstanding requests.
+     */
+    public RequestWindow(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(INVALID_SIZE);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Takes a slot of the window for the request, waiting if necessary until one is available.<br/>
+     * The sequence number of the request must be already assigned. If the response does not arrive within the
+     * response timeout the future fails with a {@link SmppException} and the slot is released; a late response is
+     * ignored.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request about to be written.
+     * @param timeout Maximum time to wait for a slot, in milliseconds.
+     * @param responseTimeout Maximum time to wait for the response, in milliseconds; 0 or less never expires.
+     * @return the future completed with the response of the request.
+     * @throws SmppException If no slot is released before the timeout or the thread is interrupted.
+     */
+    public < E extends Response > CompletableFuture< E > register(final Request request, final long timeout,
+            final long responseTimeout) throws SmppException {
+        return register(request, timeout, responseTimeout, false);
+    }
+
+    /**
+     * Takes a slot of the window for a request whose response is also passed to the listener of the bind, e.g. an
+     * asynchronous request the application answers from its listener; see
+     * {@link #register(Request, long, long)}.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request about to be written.
+     * @param timeout Maximum time to wait for a slot, in milliseconds.
+     * @param responseTimeout Maximum time to wait for the response, in milliseconds; 0 or less never expires.
+     * @return the future completed with the response of the request.
+     * @throws SmppException If no slot is released before the timeout or the thread is interrupted.
+     */
+    public < E extends Response > CompletableFuture< E > observe(final Request request, final long timeout,
+            final long responseTimeout) throws SmppException {
+        return register(request, timeout, responseTimeout, true);
+    }
+
+    /**
+     * Expects the response of a request that takes no slot of the window, e.g. an <code>enquire_link</code> that
+     * must be written even while the window is full; see {@link #register(Request, long, long)}.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request about to be written.
+     * @param responseTimeout Maximum time to wait for the response, in milliseconds; 0 or less never expires.
+     * @return the future completed with the response of the request.
+     */
+    @SuppressWarnings("unchecked")
+    public < E extends Response > CompletableFuture< E > track(final Request request, final long responseTimeout) {
+        final Pending entry = expect(request, responseTimeout, false);
+        entry.future.whenComplete((response, error) -> pending.remove(request.getSequenceNumber(), entry));
+        return (CompletableFuture< E >) (CompletableFuture< ? >) entry.future;
+    }
+
+    /**
+     * Takes a slot of the window for the request.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request about to be written.
+     * @param timeout Maximum time to wait for a slot, in milliseconds.
+     * @param responseTimeout Maximum time to wait for the response, in milliseconds; 0 or less never expires.
+     * @param passed Indicates if the response is also passed to the listener.
+     * @return the future completed with the response of the request.
+     * @throws SmppException If no slot is released before the timeout or the thread is interrupted.
+     */
+    @SuppressWarnings("unchecked")
+    private < E extends Response > CompletableFuture< E > register(final Request request, final long timeout,
+            final long responseTimeout, final boolean passed) throws SmppException {
+        acquire(timeout);
+        final Pending entry = expect(request, responseTimeout, passed);
+        entry.future.whenComplete((response, error) -> release(request.getSequenceNumber(), entry));
+        return (CompletableFuture< E >) (CompletableFuture< ? >) entry.future;
+    }
+
+    /**
+     * Adds the request to the pending ones and schedules its response timeout.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param request Request about to be written.
+     * @param responseTimeout Maximum time to wait for the response, in milliseconds; 0 or less never expires.
+     * @param passed Indicates if the response is also passed to the listener.
+     * @return the pending entry of the request.
+     */
+    private Pending expect(final Request request, final long responseTimeout, final boolean passed) {
+        final Pending entry = new Pending(request, passed);
+        final int sequenceNumber = request.getSequenceNumber();
+        final Pending previous = pending.put(sequenceNumber, entry);
+        if (Objects.nonNull(previous)) {
+            LOGGER.warn("[!] sequence number " + sequenceNumber + " reused while still pending, failing previous request");
+            previous.future.completeExceptionally(new SmppException("[X] error, sequence number reused " + sequenceNumber));
+        }
+        if (responseTimeout > 0L) {
+            final ScheduledFuture< ? > expiry = EXPIRER.schedule(() -> entry.future.completeExceptionally(
+                    new SmppException("[X] error, response timeout, no response in " + responseTimeout + " ms to sequence number "
+                            + sequenceNumber)), responseTimeout, TimeUnit.MILLISECONDS);
+            entry.future.whenComplete((response, error) -> expiry.cancel(false));
+        }
+        return entry;
+    }
+
+    /**
+     * Completes the future of the request with the same sequence number as the response.
+     * A <code>generic_nack</code> completes it exceptionally.
+     * @param response Response received from the SMSC.
+     * @return true if the response was expected by this window and must not be passed to the listener.
+     */
+    public boolean complete(final Response response) {
+        final Pending entry = pending.get(response.getSequenceNumber());
+        if (Objects.isNull(entry)) {
+            return false;
+        }
+        if (response instanceof GenericNack) {
+            entry.future.completeExceptionally(
+                    new SmppException("[X] error, generic_nack received, command_status " + response.getCommandStatus()));
+        } else {
+            entry.future.complete(response);
+        }
+        return !entry.passed;
+    }
+
+    /**
+     * Fails every pending request, e.g. when the session is unbound.
+     * @param cause reason of the failure.
+     */
+    public void failAll(final Throwable cause) {
+        drain().forEach(entry -> entry.future.completeExceptionally(cause));
+    }
+
+    /**
+     * Removes every pending request from the window without completing its future.
+     * The slots are released when the futures complete.
+     * @return the removed requests.
+     */
+    public List< Pending > drain() {
+        final List< Pending > drained = new ArrayList<>(pending.values());
+        drained.forEach(entry -> pending.remove(entry.request.getSequenceNumber(), entry));
+        return drained;
+    }
+
+    /**
+     * Waits for a free slot and takes it.
+     * @param timeout Maximum time to wait, in milliseconds.
+     * @throws SmppException If no slot is released before the timeout or the thread is interrupted.
+     */
+    private void acquire(final long timeout) throws SmppException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (outstanding >= size) {
+                if (nanos <= 0L) {
+                    throw new SmppException(WINDOW_FULL + timeout + " ms");
+                }
+                nanos = released.awaitNanos(nanos);
+            }
+            outstanding++;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmppException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back the slot taken by the request.
+     * @param sequenceNumber sequence number of the request.
+     * @param entry pending entry of the request.
+     */
+    private void release(final int sequenceNumber, final Pending entry) {
+        pending.remove(sequenceNumber, entry);
+        lock.lock();
+        try {
+            outstanding--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates the scheduler of the response timeouts, a daemon thread that forgets the cancelled timeouts.
+     * @return the scheduler.
+     */
+    private static ScheduledThreadPoolExecutor newExpirer() {
+        final ScheduledThreadPoolExecutor expirer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "smpp-response-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        expirer.setRemoveOnCancelPolicy(true);
+        return expirer;
+    }
+
+    /**
+     * Getter for size.
+     * @return size.
+     **/
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Setter for size. Growing the window wakes up the waiting callers, shrinking it lets the outstanding requests
+     * finish.
+     * @param size expected.
+     **/
+    public void setSize(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(INVALID_SIZE);
+        }
+        lock.lock();
+        try {
+            this.size = size;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Getter for outstanding.
+     * @return number of slots in use.
+     **/
+    public int getOutstanding() {
+        return outstanding;
+    }
+
+    /**
+     * A request waiting for its response.
+     */
+    public static final class Pending {
+        /**
+         * The written request.
+         */
+        private final Request                       request;
+        /**
+         * Completed with the response.
+         */
+        private final CompletableFuture< Response > future = new CompletableFuture<>();
+        /**
+         * Indicates if the response is also passed to the listener.
+         */
+        private final boolean                       passed;
+
+        /**
+         * Creates an instance of Pending.
+         * @param request The written request.
+         * @param passed Indicates if the response is also passed to the listener.
+         */
+        private Pending(final Request request, final boolean passed) {
+            this.request = request;
+            this.passed = passed;
+        }
+
+        /**
+         * Getter for request.
+         * @return request.
+         **/
+        public Request getRequest() {
+            return request;
+        }
+
+        /**
+         * Getter for future.
+         * @return future.
+         **/
+        public CompletableFuture< Response > getFuture() {
+            return future;
+        }
+    }
+}
@@ -7,6 +7,9 @@
 
 package com.amk.smpp.core;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.smpp.SmppException;
 import org.smpp.pdu.Request;
 import org.smpp.pdu.Response;
@@ -32,6 +35,28 @@ public interface SmppWrapperFacade {
      */
     < E extends Response > E executeOperation(PDUOperation pduOperation) throws SmppException;
 
+    /**
+     * Writes the requested operation without waiting for the response.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return The future completed with the SMCS response.
+     * @throws SmppException If an error occurs when performing the operation.
+     * @see Response
+     * @see PDUOperation
+     */
+    < E extends Response > CompletableFuture< E > executeOperationAsync(PDUOperation pduOperation) throws SmppException;
+
+    /**
+     * Executes a list of operations writing all of them before waiting for the responses.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperations requested Operations.
+     * @return The SMCS responses, in the same order as the operations.
+     * @throws SmppException If an error occurs when performing the operations.
+     * @see Response
+     * @see PDUOperation
+     */
+    < E extends Response > List< E > executeBatch(List< PDUOperation > pduOperations) throws SmppException;
+
     /**
      * Executes the requested operation.
      * @param <E> Classes that inherit from {@link Request}.
@@ -42,4 +67,12 @@ public interface SmppWrapperFacade {
      * @see PDUOperation
      */
     < E extends Request > E receiveOperation(PDUOperation pduOperation) throws SmppException;
+
+    /**
+     * Validates if the facade can perform operations, used to choose a fallback when it can not.
+     * @return true unless its links with the SMSC are known to be down.
+     */
+    default boolean isAvailable() {
+        return true;
+    }
 }
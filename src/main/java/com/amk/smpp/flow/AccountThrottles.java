@@ -0,0 +1,65 @@
+/*
+ *      File: AccountThrottles.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.flow;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Rate limit of every SMSC account, shared by all the binds with the same <code>system_id</code>.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AccountThrottles {
+    /**
+     * Limit by system_id.
+     */
+    private static final Map< String, TokenBucket > LIMITS = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of AccountThrottles.
+     */
+    private AccountThrottles() {
+        //
+    }
+
+    /**
+     * Defines the limit of the account, replacing the previous one.
+     * @param systemId User of the account.
+     * @param permitsPerSecond Requests per second allowed by the SMSC.
+     * @param burst Requests that can be written back-to-back.
+     * @return the limit.
+     */
+    public static TokenBucket setLimit(final String systemId, final double permitsPerSecond, final int burst) {
+        final TokenBucket limit = new TokenBucket(permitsPerSecond, burst);
+        LIMITS.put(systemId, limit);
+        return limit;
+    }
+
+    /**
+     * Limit of the account.
+     * @param systemId User of the account.
+     * @return the limit, null when the account is not limited.
+     */
+    @CheckForNull
+    public static TokenBucket get(final String systemId) {
+        return Objects.isNull(systemId) ? null : LIMITS.get(systemId);
+    }
+
+    /**
+     * Removes the limit of the account.
+     * @param systemId User of the account.
+     */
+    public static void remove(final String systemId) {
+        LIMITS.remove(systemId);
+    }
+}
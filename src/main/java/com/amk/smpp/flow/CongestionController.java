@@ -0,0 +1,193 @@
+/*
+ *      File: CongestionController.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.flow;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.Data;
+
+/**
+ * Adapts the window and the rate of a bind to the <code>command_status</code> of the responses of the SMSC.<br/>
+ * Additive increase, multiplicative decrease: every <code>ESME_ROK</code> adds 1/window to the window and
+ * <code>rateStep</code>/window to the rate, so both grow by one step per window of successful responses; an
+ * <code>ESME_RTHROTTLED</code> or <code>ESME_RMSGQFUL</code> multiplies both by the decrease factor. The responses of
+ * the requests that were already outstanding when the SMSC got congested carry the same signal, so after a decrease
+ * the following congestion signals are ignored during the hold time.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CongestionController {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(CongestionController.class.getName());
+
+    /**
+     * Receives every new size of the window.
+     */
+    private final IntConsumer windowSize;
+    /**
+     * Rate limit of the bind, null if the rate is not controlled.
+     */
+    private final TokenBucket rateLimiter;
+    /**
+     * Smallest window.
+     */
+    private final int         minWindow;
+    /**
+     * Largest window.
+     */
+    private final int         maxWindow;
+    /**
+     * Largest rate, the initial rate of the limiter.
+     */
+    private final double      maxRate;
+    /**
+     * Smallest rate.
+     */
+    private final double      minRate;
+    /**
+     * Rate added per window of successful responses.
+     */
+    private final double      rateStep;
+    /**
+     * Factor applied to the window and the rate on congestion.
+     */
+    private double decreaseFactor = 0.5;
+    /**
+     * Time after a decrease during which the congestion signals are ignored, in nanoseconds.
+     */
+    private long   holdNanos      = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * Current window, with the fraction earned by the successful responses.
+     */
+    private double window;
+    /**
+     * Current rate.
+     */
+    private double rate;
+    /**
+     * Time of the last decrease.
+     */
+    private long   decreasedAt;
+    /**
+     * Indicates if there was any decrease.
+     */
+    private boolean decreased;
+
+    /**
+     * Creates an instance of CongestionController that starts at the largest window and the rate of the limiter.
+     * @param windowSize Receives every new size of the window.
+     * @param rateLimiter Rate limit of the bind, null if the rate is not controlled.
+     * @param minWindow Smallest window.
+     * @param maxWindow Largest window.
+     */
+    public CongestionController(final IntConsumer windowSize, @CheckForNull final TokenBucket rateLimiter,
+            final int minWindow, final int maxWindow) {
+        if (minWindow < 1 || maxWindow < minWindow) {
+            throw new IllegalArgumentException("[X] error, invalid window range " + minWindow + " - " + maxWindow);
+        }
+        this.windowSize = Objects.requireNonNull(windowSize);
+        this.rateLimiter = rateLimiter;
+        this.minWindow = minWindow;
+        this.maxWindow = maxWindow;
+        this.window = maxWindow;
+        this.maxRate = Objects.isNull(rateLimiter) ? 0.0 : rateLimiter.getPermitsPerSecond();
+        this.minRate = maxRate / 20.0;
+        this.rateStep = maxRate / 20.0;
+        this.rate = maxRate;
+    }
+
+    /**
+     * Takes the signal of a response.
+     * @param commandStatus <code>command_status</code> of the response.
+     */
+    public synchronized void onResponse(final int commandStatus) {
+        if (commandStatus == Data.ESME_ROK) {
+            increase();
+        } else if (commandStatus == Data.ESME_RTHROTTLED || commandStatus == Data.ESME_RMSGQFUL) {
+            decrease(System.nanoTime());
+        }
+    }
+
+    /**
+     * Additive increase.
+     */
+    private void increase() {
+        final int previous = (int) window;
+        window = Math.min(maxWindow, window + 1.0 / window);
+        if ((int) window != previous) {
+            windowSize.accept((int) window);
+        }
+        if (Objects.nonNull(rateLimiter) && rate < maxRate) {
+            rate = Math.min(maxRate, rate + rateStep / window);
+            rateLimiter.setPermitsPerSecond(rate);
+        }
+    }
+
+    /**
+     * Multiplicative decrease, once per hold time.
+     * @param now current time, in nanoseconds.
+     */
+    private void decrease(final long now) {
+        if (decreased && now - decreasedAt < holdNanos) {
+            return;
+        }
+        decreased = true;
+        decreasedAt = now;
+        window = Math.max(minWindow, Math.floor(window * decreaseFactor));
+        windowSize.accept((int) window);
+        if (Objects.nonNull(rateLimiter)) {
+            rate = Math.max(minRate, rate * decreaseFactor);
+            rateLimiter.setPermitsPerSecond(rate);
+        }
+        LOGGER.warn("[!] SMSC congested, window " + (int) window + ", rate " + rate);
+    }
+
+    /**
+     * Getter for window.
+     * @return current window.
+     **/
+    public synchronized int getWindow() {
+        return (int) window;
+    }
+
+    /**
+     * Getter for rate.
+     * @return current rate, 0 if the rate is not controlled.
+     **/
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * Setter for decreaseFactor.
+     * @param decreaseFactor expected, between 0 and 1.
+     **/
+    public synchronized void setDecreaseFactor(final double decreaseFactor) {
+        if (!(decreaseFactor > 0.0 && decreaseFactor < 1.0)) {
+            throw new IllegalArgumentException("[X] error, invalid decrease factor " + decreaseFactor);
+        }
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    /**
+     * Setter for the hold time.
+     * @param holdTime time after a decrease during which the congestion signals are ignored, in milliseconds.
+     **/
+    public synchronized void setHoldTime(final long holdTime) {
+        this.holdNanos = TimeUnit.MILLISECONDS.toNanos(holdTime);
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ *      File: DuplicateFilter.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.flow;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.smpp.pdu.Address;
+
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationProperties;
+
+/**
+ * Suppresses the operations repeated within a time window: same destinations, same body and same client reference,
+ * i.e. the id of the {@link com.amk.smpp.util.Message}.<br/>
+ * The operations seen are kept in a counting Bloom filter split in time buckets: the window is divided in
+ * {@link #SLICES} slices and there is one bucket per slice plus the one being filled, so an operation is remembered
+ * at least for the whole window and at most for one more slice. Every bucket is an array of 8-bit counters sized,
+ * when the filter is created, for the expected operations of one slice and the requested false-positive rate; the
+ * memory never grows. When a bucket gets old it is cleared and reused for the new slice.<br/>
+ * The counters allow to {@link #forget(PDUOperation)} an operation that failed, so the retry of the client is not
+ * suppressed. A false positive suppresses a new operation, the rate must be chosen accordingly.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DuplicateFilter {
+    /**
+     * Default probability that a new operation is taken as a duplicate.
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 1.0E-5;
+    /**
+     * Slices of the window.
+     */
+    public static final int    SLICES                      = 4;
+    /**
+     * Value of a saturated counter, it is never decremented.
+     */
+    private static final int   SATURATED                   = 0xFF;
+    /**
+     * Epoch of a filter that has not seen any operation.
+     */
+    private static final long  UNSET                       = Long.MIN_VALUE;
+    /**
+     * Separates the fields of the key.
+     */
+    private static final char  SEPARATOR                   = '\uFFFF';
+
+    /**
+     * Counters of every bucket.
+     */
+    private final byte[][] buckets;
+    /**
+     * Counters per bucket.
+     */
+    private final int      counters;
+    /**
+     * Counters of every operation.
+     */
+    private final int      hashes;
+    /**
+     * Duration of the window, in milliseconds.
+     */
+    private final long     window;
+    /**
+     * Duration of one slice, in milliseconds.
+     */
+    private final long     slice;
+    /**
+     * Requested false-positive rate.
+     */
+    private final double   falsePositiveRate;
+    /**
+     * Slice of the bucket being filled.
+     */
+    private long           epoch = UNSET;
+    /**
+     * Bucket being filled.
+     */
+    private int            current;
+    /**
+     * Operations checked.
+     */
+    private long           checked;
+    /**
+     * Operations suppressed.
+     */
+    private long           suppressed;
+
+    /**
+     * Creates an instance of DuplicateFilter with the {@link #DEFAULT_FALSE_POSITIVE_RATE}.
+     * @param window Duration of the window, in milliseconds.
+     * @param expected Operations expected in one window at the peak rate, every slice is sized for a quarter.
+     */
+    public DuplicateFilter(final long window, final int expected) {
+        this(window, expected, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Creates an instance of DuplicateFilter.
+     * @param window Duration of the window, in milliseconds, at least {@link #SLICES}.
+     * @param expected Operations expected in one window at the peak rate, every slice is sized for a quarter.
+     * @param falsePositiveRate Probability that a new operation is taken as a duplicate, between 0 and 1.
+     */
+    public DuplicateFilter(final long window, final int expected, final double falsePositiveRate) {
+        if (window < SLICES || expected <= 0 || !(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("[X] error, invalid window " + window + ", expected " + expected
+                    + " or false-positive rate " + falsePositiveRate);
+        }
+        final double perSlice = Math.ceil((double) expected / SLICES);
+        final double perBucketRate = falsePositiveRate / (SLICES + 1);
+        final double size = Math.ceil(-perSlice * Math.log(perBucketRate) / (Math.log(2) * Math.log(2)));
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("[X] error, filter of " + size + " counters per bucket");
+        }
+        this.counters = (int) size;
+        this.hashes = Math.max(1, (int) Math.round(size / perSlice * Math.log(2)));
+        this.window = window;
+        this.slice = window / SLICES;
+        this.falsePositiveRate = falsePositiveRate;
+        this.buckets = new byte[SLICES + 1][counters];
+    }
+
+    /**
+     * Checks the operation and remembers it.
+     * @param pduOperation Object containing the details of the operation.
+     * @return true if the same operation was seen within the window, it must be suppressed.
+     */
+    public boolean isDuplicate(final PDUOperation pduOperation) {
+        return isDuplicate(pduOperation, System.currentTimeMillis());
+    }
+
+    /**
+     * Checks the operation and remembers it.
+     * @param pduOperation Object containing the details of the operation.
+     * @param now current time, in milliseconds.
+     * @return true if the same operation was seen within the window.
+     */
+    boolean isDuplicate(final PDUOperation pduOperation, final long now) {
+        final long h1 = hash(pduOperation, 0xCBF29CE484222325L);
+        final long h2 = hash(pduOperation, 0x84222325CBF29CE4L) | 1L;
+        return check(h1, h2, now);
+    }
+
+    /**
+     * Forgets an operation that was not performed, so it can be sent again within the window.
+     * @param pduOperation Object containing the details of the operation.
+     */
+    public void forget(final PDUOperation pduOperation) {
+        forget(pduOperation, System.currentTimeMillis());
+    }
+
+    /**
+     * Forgets an operation that was not performed.
+     * @param pduOperation Object containing the details of the operation.
+     * @param now current time, in milliseconds.
+     */
+    void forget(final PDUOperation pduOperation, final long now) {
+        final long h1 = hash(pduOperation, 0xCBF29CE484222325L);
+        final long h2 = hash(pduOperation, 0x84222325CBF29CE4L) | 1L;
+        remove(h1, h2, now);
+    }
+
+    /**
+     * Looks for the key in every bucket and adds it to the current one.
+     * @param h1 first hash of the key.
+     * @param h2 second hash of the key, odd.
+     * @param now current time, in milliseconds.
+     * @return true if every counter of the key is set in a bucket.
+     */
+    private synchronized boolean check(final long h1, final long h2, final long now) {
+        rotate(now);
+        checked++;
+        for (final byte[] bucket : buckets) {
+            if (contains(bucket, h1, h2)) {
+                suppressed++;
+                return true;
+            }
+        }
+        final byte[] bucket = buckets[current];
+        for (int i = 0; i < hashes; i++) {
+            final int index = index(h1, h2, i);
+            if ((bucket[index] & SATURATED) != SATURATED) {
+                bucket[index]++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the key from the newest bucket that contains it.
+     * @param h1 first hash of the key.
+     * @param h2 second hash of the key, odd.
+     * @param now current time, in milliseconds.
+     */
+    private synchronized void remove(final long h1, final long h2, final long now) {
+        rotate(now);
+        for (int b = 0; b < buckets.length; b++) {
+            final byte[] bucket = buckets[Math.floorMod(current - b, buckets.length)];
+            if (contains(bucket, h1, h2)) {
+                for (int i = 0; i < hashes; i++) {
+                    final int index = index(h1, h2, i);
+                    if ((bucket[index] & SATURATED) != SATURATED) {
+                        bucket[index]--;
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Validates if every counter of the key is set in the bucket.
+     * @param bucket counters.
+     * @param h1 first hash of the key.
+     * @param h2 second hash of the key, odd.
+     * @return true if the key may be in the bucket.
+     */
+    private boolean contains(final byte[] bucket, final long h1, final long h2) {
+        for (int i = 0; i < hashes; i++) {
+            if (bucket[index(h1, h2, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counter of the key for one of the hashes.
+     * @param h1 first hash of the key.
+     * @param h2 second hash of the key, odd.
+     * @param i number of the hash.
+     * @return index of the counter.
+     */
+    private int index(final long h1, final long h2, final int i) {
+        return (int) Math.floorMod(h1 + i * h2, (long) counters);
+    }
+
+    /**
+     * Clears the buckets whose slice is older than the window.
+     * @param now current time, in milliseconds.
+     */
+    private void rotate(final long now) {
+        final long slot = Math.floorDiv(now, slice);
+        if (epoch == UNSET) {
+            epoch = slot;
+            return;
+        }
+        final long steps = Math.min(slot - epoch, buckets.length);
+        for (long s = 0; s < steps; s++) {
+            current = (current + 1) % buckets.length;
+            Arrays.fill(buckets[current], (byte) 0);
+        }
+        if (slot > epoch) {
+            epoch = slot;
+        }
+    }
+
+    /**
+     * Hash of the destinations, the body and the client reference of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @param seed initial value.
+     * @return the hash.
+     */
+    private static long hash(final PDUOperation pduOperation, final long seed) {
+        long hash = seed;
+        final PDUOperationProperties props = pduOperation.getOperationProps();
+        if (Objects.nonNull(props) && Objects.nonNull(props.getDestAddress())) {
+            for (final Address address : props.getDestAddress()) {
+                hash = hash(hash, Objects.isNull(address) ? null : address.getAddress());
+            }
+        }
+        if (Objects.nonNull(pduOperation.getSmsMessage())) {
+            hash = hash(hash, pduOperation.getSmsMessage().getBody());
+            hash = hash(hash, pduOperation.getSmsMessage().getId());
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Adds a field to the hash, FNV-1a over its characters followed by a separator.
+     * @param hash current hash.
+     * @param value field, may be null.
+     * @return the new hash.
+     */
+    private static long hash(final long hash, final String value) {
+        long result = hash;
+        if (Objects.nonNull(value)) {
+            for (int i = 0; i < value.length(); i++) {
+                result = (result ^ value.charAt(i)) * 0x100000001B3L;
+            }
+        }
+        return (result ^ SEPARATOR) * 0x100000001B3L;
+    }
+
+    /**
+     * Getter for window.
+     * @return window, in milliseconds.
+     **/
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Getter for falsePositiveRate.
+     * @return falsePositiveRate.
+     **/
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Memory of the counters.
+     * @return bytes.
+     */
+    public long getMemory() {
+        return (long) counters * buckets.length;
+    }
+
+    /**
+     * Getter for checked.
+     * @return operations checked.
+     **/
+    public synchronized long getChecked() {
+        return checked;
+    }
+
+    /**
+     * Getter for suppressed.
+     * @return operations suppressed as duplicates.
+     **/
+    public synchronized long getSuppressed() {
+        return suppressed;
+    }
+}
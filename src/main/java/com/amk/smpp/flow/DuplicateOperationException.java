@@ -0,0 +1,31 @@
+/*
+ *      File: DuplicateOperationException.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.flow;
+
+import org.smpp.SmppException;
+
+/**
+ * Thrown when an operation is suppressed by the {@link DuplicateFilter}, nothing was sent to the SMSC.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DuplicateOperationException extends SmppException {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an instance of DuplicateOperationException.
+     * @param message detail of the operation.
+     */
+    public DuplicateOperationException(final String message) {
+        super(message);
+    }
+}
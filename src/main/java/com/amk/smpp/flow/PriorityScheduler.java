@@ -0,0 +1,569 @@
+/*
+ *      File: PriorityScheduler.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.flow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.CheckForNull;
+import javax.validation.constraints.NotNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.SmppException;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.TrafficClass;
+import com.amk.smpp.rules.PDUOperationsValidator;
+
+/**
+ * {@link SmppWrapperFacade} that queues the outbound operations in one lane per {@link TrafficClass} and writes
+ * them through the wrapped facade in priority order instead of call order.<br/>
+ * A single dispatcher thread keeps at most <code>concurrency</code> operations outstanding, it must not exceed the
+ * windows of the binds behind the facade, so the operations wait in the lanes and not in the
+ * {@link com.amk.smpp.core.RequestWindow}: every time a response frees a slot the next operation is chosen among
+ * the lanes. With the strict policy the highest non-empty lane always goes first; with weights every non-empty lane
+ * gets a share of the slots proportional to its weight (smooth weighted round-robin), so the bulk traffic keeps
+ * moving behind a steady flow of urgent messages.<br/>
+ * Every operation is written with {@link SmppWrapperFacade#executeOperationAsync(PDUOperation)}; completing the
+ * returned future, e.g. on a timeout of the caller, gives its slot back.<br/>
+ * Every lane holds at most <code>laneCapacity</code> operations; the caller of a full lane waits up to
+ * {@link #getQueueTimeout()} for room and is rejected after it.
+ * <b>Pattern: </b> <code>WrapperFacade.</code>
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PriorityScheduler implements SmppWrapperFacade, AutoCloseable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER                = LogManager.getLogger(PriorityScheduler.class.getName());
+    /**
+     * Default maximum operations queued in every lane.
+     */
+    public static final int     DEFAULT_LANE_CAPACITY = 10000;
+
+    /**
+     * Facade that performs the operations.
+     */
+    private final SmppWrapperFacade              delegate;
+    /**
+     * Queued operations, one lane per {@link TrafficClass#ordinal()}.
+     */
+    private final List< ArrayDeque< Scheduled > > lanes;
+    /**
+     * Weight of every lane, null for strict priority.
+     */
+    private final int[]                          weights;
+    /**
+     * Credit of every lane in the weighted round-robin.
+     */
+    private final int[]                          credits;
+    /**
+     * Free slots of outstanding operations.
+     */
+    private final Semaphore                      slots;
+    /**
+     * Maximum outstanding operations.
+     */
+    private final int                            concurrency;
+    /**
+     * Maximum operations queued in every lane.
+     */
+    private final int                            laneCapacity;
+    /**
+     * Guards the lanes.
+     */
+    private final ReentrantLock                  lock     = new ReentrantLock();
+    /**
+     * Signaled every time an operation is queued.
+     */
+    private final Condition                      queued   = lock.newCondition();
+    /**
+     * Signaled every time an operation leaves a lane.
+     */
+    private final Condition                      dequeued = lock.newCondition();
+    /**
+     * Writes the queued operations.
+     */
+    private final Thread                         dispatcher;
+    /**
+     * Maximum time to wait for the response in the synchronous operations, in milliseconds.
+     */
+    private volatile long                        responseTimeout = 30000L;
+    /**
+     * Maximum time to wait for room in a full lane, in milliseconds; 0 rejects at once.
+     */
+    private volatile long                        queueTimeout;
+    /**
+     * Indicates the scheduler was closed.
+     */
+    private volatile boolean                     closed;
+
+    /**
+     * Creates an instance of PriorityScheduler with strict priority.
+     * @param delegate Facade that performs the operations.
+     * @param concurrency Maximum outstanding operations.
+     */
+    public PriorityScheduler(@NotNull final SmppWrapperFacade delegate, final int concurrency) {
+        this(delegate, concurrency, null);
+    }
+
+    /**
+     * Creates an instance of PriorityScheduler.
+     * @param delegate Facade that performs the operations.
+     * @param concurrency Maximum outstanding operations, the sum of the windows of the binds at most.
+     * @param weights Weight of every {@link TrafficClass}, from {@link TrafficClass#BULK} to
+     * {@link TrafficClass#URGENT}; null for strict priority.
+     */
+    public PriorityScheduler(@NotNull final SmppWrapperFacade delegate, final int concurrency,
+            @CheckForNull final int[] weights) {
+        this(delegate, concurrency, weights, DEFAULT_LANE_CAPACITY);
+    }
+
+    /**
+     * Creates an instance of PriorityScheduler with bounded lanes.
+     * @param delegate Facade that performs the operations.
+     * @param concurrency Maximum outstanding operations, the sum of the windows of the binds at most.
+     * @param weights Weight of every {@link TrafficClass}, from {@link TrafficClass#BULK} to
+     * {@link TrafficClass#URGENT}; null for strict priority.
+     * @param laneCapacity Maximum operations queued in every lane.
+     */
+    public PriorityScheduler(@NotNull final SmppWrapperFacade delegate, final int concurrency,
+            @CheckForNull final int[] weights, final int laneCapacity) {
+        PDUOperationsValidator.validNotNull(delegate);
+        final int classes = TrafficClass.values().length;
+        if (concurrency <= 0 || laneCapacity <= 0) {
+            throw new IllegalArgumentException("[X] error, concurrency and lane capacity must be greater than zero");
+        }
+        if (Objects.nonNull(weights)) {
+            if (weights.length != classes) {
+                throw new IllegalArgumentException("[X] error, expected " + classes + " weights, got " + weights.length);
+            }
+            for (final int weight : weights) {
+                if (weight <= 0) {
+                    throw new IllegalArgumentException("[X] error, weights must be greater than zero");
+                }
+            }
+        }
+        this.delegate = delegate;
+        this.weights = Objects.isNull(weights) ? null : weights.clone();
+        this.credits = new int[classes];
+        this.concurrency = concurrency;
+        this.laneCapacity = laneCapacity;
+        this.slots = new Semaphore(concurrency);
+        this.lanes = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            lanes.add(new ArrayDeque<>());
+        }
+        this.dispatcher = new Thread(this::dispatch, "smpp-priority-scheduler");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Queues the operation and waits for its response.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return the SMCS response, null if the operation is asynchronous.
+     * @throws SmppException If the operation fails or the response does not arrive in {@link #responseTimeout}.
+     */
+    @Override
+    @CheckForNull
+    public < E extends Response > E executeOperation(final PDUOperation pduOperation) throws SmppException {
+        final CompletableFuture< E > future = executeOperationAsync(pduOperation);
+        if (pduOperation.isAsynchronous()) {
+            return null;
+        }
+        try {
+            return future.get(responseTimeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            future.completeExceptionally(e);
+            throw new SmppException("[X] error, no response in " + responseTimeout + " ms");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof SmppException) {
+                throw (SmppException) e.getCause();
+            }
+            throw new SmppException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            throw new SmppException(e);
+        }
+    }
+
+    /**
+     * Queues the operation in the lane of its {@link TrafficClass}, waiting up to {@link #queueTimeout} while the
+     * lane is full.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return the future completed with the SMCS response.
+     * @throws SmppException If the scheduler is closed, or the lane is still full after {@link #queueTimeout}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public < E extends Response > CompletableFuture< E > executeOperationAsync(final PDUOperation pduOperation) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperation);
+        final Scheduled scheduled = new Scheduled(pduOperation);
+        final TrafficClass trafficClass = TrafficClass.of(pduOperation);
+        final ArrayDeque< Scheduled > lane = lanes.get(trafficClass.ordinal());
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+            while (!closed && lane.size() >= laneCapacity) {
+                if (remaining <= 0L) {
+                    throw new SmppException("[X] error, lane " + trafficClass + " full with " + laneCapacity + " operations");
+                }
+                remaining = dequeued.awaitNanos(remaining);
+            }
+            if (closed) {
+                throw new SmppException("[X] error, scheduler closed");
+            }
+            lane.add(scheduled);
+            queued.signal();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmppException(e);
+        } finally {
+            lock.unlock();
+        }
+        return (CompletableFuture< E >) (CompletableFuture< ? >) scheduled.future;
+    }
+
+    /**
+     * Queues every operation and waits for the responses.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperations requested Operations.
+     * @return the SMCS responses in the same order as the operations. The position of an operation that failed, or
+     * whose response did not arrive in time, is null.
+     * @throws SmppException If the scheduler is closed.
+     */
+    @Override
+    public < E extends Response > List< E > executeBatch(final List< PDUOperation > pduOperations) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperations);
+        final List< CompletableFuture< E > > futures = new ArrayList<>(pduOperations.size());
+        for (final PDUOperation pduOperation : pduOperations) {
+            futures.add(executeOperationAsync(pduOperation));
+        }
+        final List< E > responses = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            responses.add(await(futures.get(i), i));
+        }
+        return responses;
+    }
+
+    /**
+     * Waits for the response of an operation of a batch.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param future future of the operation.
+     * @param index position of the operation in the batch.
+     * @return the response, null if it failed or did not arrive in time.
+     */
+    @CheckForNull
+    private < E extends Response > E await(final CompletableFuture< E > future, final int index) {
+        try {
+            return future.get(responseTimeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.error("[X] error, batch operation " + index + " without response after " + responseTimeout + " ms");
+            future.completeExceptionally(e);
+        } catch (final ExecutionException e) {
+            LOGGER.error("[X] error, batch operation " + index + " failed " + e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return null;
+    }
+
+    /**
+     * Receives through the wrapped facade, without queueing.
+     * @param <E> Classes that inherit from {@link Request}.
+     * @param pduOperation requested Operation.
+     * @return The SMCS request.
+     * @throws SmppException If an error occurs when receiving.
+     */
+    @Override
+    public < E extends Request > E receiveOperation(final PDUOperation pduOperation) throws SmppException {
+        return delegate.receiveOperation(pduOperation);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    /**
+     * Loop of the dispatcher: takes a slot, then the next operation, and writes it.
+     */
+    private void dispatch() {
+        while (true) {
+            try {
+                slots.acquire();
+            } catch (final InterruptedException e) {
+                break;
+            }
+            final Scheduled scheduled;
+            try {
+                scheduled = next();
+            } catch (final InterruptedException e) {
+                slots.release();
+                break;
+            }
+            if (Objects.isNull(scheduled)) {
+                slots.release();
+                break;
+            }
+            if (scheduled.future.isDone()) {
+                slots.release();
+                continue;
+            }
+            write(scheduled);
+        }
+        failQueued();
+    }
+
+    /**
+     * Writes an operation through the wrapped facade; its slot is released when the response arrives or the future
+     * is completed by any other means.
+     * @param scheduled queued operation.
+     */
+    private void write(final Scheduled scheduled) {
+        final CompletableFuture< Response > sent;
+        try {
+            sent = delegate.executeOperationAsync(scheduled.pduOperation);
+        } catch (final SmppException | RuntimeException e) {
+            slots.release();
+            scheduled.future.completeExceptionally(e);
+            return;
+        }
+        sent.whenComplete((response, error) -> {
+            slots.release();
+            if (Objects.isNull(error)) {
+                scheduled.future.complete(response);
+            } else {
+                scheduled.future.completeExceptionally(error);
+            }
+        });
+        scheduled.future.whenComplete((response, error) -> {
+            if (Objects.nonNull(error)) {
+                sent.completeExceptionally(error);
+            }
+        });
+    }
+
+    /**
+     * Waits until an operation is queued and takes it from the lane chosen by the policy.
+     * @return the operation, null when the scheduler is closed and every lane is empty.
+     * @throws InterruptedException If the dispatcher is interrupted.
+     */
+    @CheckForNull
+    private Scheduled next() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                final int lane = Objects.isNull(weights) ? highest() : weighted();
+                if (lane >= 0) {
+                    dequeued.signalAll();
+                    return lanes.get(lane).poll();
+                }
+                if (closed) {
+                    return null;
+                }
+                queued.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Strict priority.
+     * @return the highest non-empty lane, -1 if all are empty.
+     */
+    private int highest() {
+        for (int lane = lanes.size() - 1; lane >= 0; lane--) {
+            if (!lanes.get(lane).isEmpty()) {
+                return lane;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Smooth weighted round-robin: every non-empty lane earns its weight, the lane with more credit is chosen and
+     * pays the weights of all of them. An empty lane loses its credit, it does not accumulate while idle.
+     * @return the chosen lane, -1 if all are empty.
+     */
+    private int weighted() {
+        int total = 0;
+        int chosen = -1;
+        for (int lane = lanes.size() - 1; lane >= 0; lane--) {
+            if (lanes.get(lane).isEmpty()) {
+                credits[lane] = 0;
+                continue;
+            }
+            credits[lane] += weights[lane];
+            total += weights[lane];
+            if (chosen < 0 || credits[lane] > credits[chosen]) {
+                chosen = lane;
+            }
+        }
+        if (chosen >= 0) {
+            credits[chosen] -= total;
+        }
+        return chosen;
+    }
+
+    /**
+     * Fails the operations left in the lanes when the dispatcher stops.
+     */
+    private void failQueued() {
+        lock.lock();
+        try {
+            for (final ArrayDeque< Scheduled > lane : lanes) {
+                for (final Scheduled scheduled : lane) {
+                    scheduled.future.completeExceptionally(new SmppException("[X] error, scheduler stopped"));
+                }
+                lane.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Operations waiting in the lane.
+     * @param trafficClass lane.
+     * @return size.
+     */
+    public int getQueued(@NotNull final TrafficClass trafficClass) {
+        lock.lock();
+        try {
+            return lanes.get(trafficClass.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Operations written and waiting for its response.
+     * @return outstanding operations.
+     */
+    public int getOutstanding() {
+        return concurrency - slots.availablePermits();
+    }
+
+    /**
+     * Getter for concurrency.
+     * @return concurrency.
+     **/
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Getter for laneCapacity.
+     * @return laneCapacity.
+     **/
+    public int getLaneCapacity() {
+        return laneCapacity;
+    }
+
+    /**
+     * Stops accepting operations; the dispatcher writes the operations already queued and stops.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queued.signalAll();
+            dequeued.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the dispatcher to write every queued operation after {@link #close()}.
+     * @param timeout maximum time to wait, in milliseconds.
+     * @return true if the dispatcher stopped.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    public boolean awaitTermination(final long timeout) throws InterruptedException {
+        dispatcher.join(timeout);
+        return !dispatcher.isAlive();
+    }
+
+    /**
+     * Getter for responseTimeout.
+     * @return responseTimeout.
+     **/
+    public long getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    /**
+     * Setter for responseTimeout.
+     * @param responseTimeout expected.
+     **/
+    public void setResponseTimeout(final long responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    /**
+     * Getter for queueTimeout.
+     * @return queueTimeout in milliseconds.
+     **/
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    /**
+     * Setter for queueTimeout, 0 rejects the operations of a full lane at once.
+     * @param queueTimeout expected, in milliseconds.
+     **/
+    public void setQueueTimeout(final long queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    /**
+     * An operation waiting in its lane.
+     */
+    private static final class Scheduled {
+        /**
+         * Queued operation.
+         */
+        private final PDUOperation                  pduOperation;
+        /**
+         * Completed with the response.
+         */
+        private final CompletableFuture< Response > future = new CompletableFuture<>();
+
+        /**
+         * Creates an instance of Scheduled.
+         * @param pduOperation Queued operation.
+         */
+        private Scheduled(final PDUOperation pduOperation) {
+            this.pduOperation = pduOperation;
+        }
+    }
+}
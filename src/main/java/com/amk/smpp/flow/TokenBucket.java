@@ -0,0 +1,175 @@
+/*
+ *      File: TokenBucket.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.flow;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiter.<br/>
+ * The bucket holds up to <code>burst</code> permits and is refilled continuously at <code>permitsPerSecond</code>.
+ * A caller that finds the bucket empty reserves the next permit and sleeps until it is due, so consecutive callers
+ * are paced evenly instead of being released together when a whole second has elapsed.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TokenBucket {
+    /**
+     * Nanoseconds in one second.
+     */
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Permits added per second.
+     */
+    private double permitsPerSecond;
+    /**
+     * Maximum number of permits stored.
+     */
+    private final int burst;
+    /**
+     * Permits available, negative when there are permits reserved in advance.
+     */
+    private double permits;
+    /**
+     * Last time the bucket was refilled.
+     */
+    private long   refilledAt;
+
+    /**
+     * Creates an instance of TokenBucket, full.
+     * @param permitsPerSecond Permits added per second.
+     * @param burst Maximum number of permits stored.
+     */
+    public TokenBucket(final double permitsPerSecond, final int burst) {
+        validRate(permitsPerSecond);
+        if (burst < 1) {
+            throw new IllegalArgumentException("[X] error, burst must be greater than zero");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.permits = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Takes one permit, waiting as long as necessary.
+     * @throws InterruptedException If the thread is interrupted while waiting, the permit is consumed anyway.
+     */
+    public void acquire() throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(reserve(Long.MAX_VALUE));
+    }
+
+    /**
+     * Takes one permit only if it is available now.
+     * @return true if the permit was taken.
+     */
+    public boolean tryAcquire() {
+        return reserve(0L) == 0L;
+    }
+
+    /**
+     * Takes one permit if it is available before the timeout, waiting for it.
+     * @param timeout maximum time to wait.
+     * @param unit unit of the timeout.
+     * @return true if the permit was taken, false immediately if it would not be available in time.
+     * @throws InterruptedException If the thread is interrupted while waiting, the permit is consumed anyway.
+     */
+    public boolean tryAcquire(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long wait = tryReserve(timeout, unit);
+        if (wait < 0L) {
+            return false;
+        }
+        TimeUnit.NANOSECONDS.sleep(wait);
+        return true;
+    }
+
+    /**
+     * Reserves one permit if it is due before the timeout, without waiting for it. Lets a caller reserve the permits
+     * of several buckets against one deadline and wait once for the last of them.
+     * @param timeout maximum time to wait.
+     * @param unit unit of the timeout.
+     * @return nanoseconds until the reserved permit is due, -1 if it is not reserved.
+     * @see #release()
+     */
+    public long tryReserve(final long timeout, final TimeUnit unit) {
+        return reserve(unit.toNanos(timeout));
+    }
+
+    /**
+     * Gives back a permit taken or reserved and not used, e.g. when the permit of another limit was not available.
+     */
+    public synchronized void release() {
+        refill(System.nanoTime());
+        permits = Math.min(burst, permits + 1.0);
+    }
+
+    /**
+     * Reserves one permit if it is due within the maximum wait.
+     * @param maxWait maximum wait, in nanoseconds.
+     * @return nanoseconds until the reserved permit is due, -1 if it is not reserved.
+     */
+    private synchronized long reserve(final long maxWait) {
+        refill(System.nanoTime());
+        if (permits >= 1.0) {
+            permits -= 1.0;
+            return 0L;
+        }
+        final long wait = (long) Math.ceil((1.0 - permits) / permitsPerSecond * NANOS_PER_SECOND);
+        if (wait > maxWait) {
+            return -1L;
+        }
+        permits -= 1.0;
+        return wait;
+    }
+
+    /**
+     * Adds the permits earned since the last refill.
+     * @param now current time, in nanoseconds.
+     */
+    private void refill(final long now) {
+        permits = Math.min(burst, permits + (now - refilledAt) / NANOS_PER_SECOND * permitsPerSecond);
+        refilledAt = now;
+    }
+
+    /**
+     * Validates the rate.
+     * @param permitsPerSecond expected.
+     */
+    private static void validRate(final double permitsPerSecond) {
+        if (!(permitsPerSecond > 0.0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("[X] error, invalid rate " + permitsPerSecond);
+        }
+    }
+
+    /**
+     * Getter for permitsPerSecond.
+     * @return permitsPerSecond.
+     **/
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Setter for permitsPerSecond. The permits earned so far keep the previous rate.
+     * @param permitsPerSecond expected.
+     **/
+    public synchronized void setPermitsPerSecond(final double permitsPerSecond) {
+        validRate(permitsPerSecond);
+        refill(System.nanoTime());
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Getter for burst.
+     * @return burst.
+     **/
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ *      File: DeliveryReceipt.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import javax.annotation.CheckForNull;
+
+import org.smpp.pdu.DeliverSM;
+
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Delivery receipt of a submitted message.<br/>
+ * The dates are kept as the digits sent by the SMSC, <code>YYMMDDhhmm</code> or <code>YYMMDDhhmmss</code>, and
+ * converted only when requested.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see DeliveryReceiptParser
+ */
+public class DeliveryReceipt {
+    /**
+     * The PDU of the receipt.
+     */
+    private final DeliverSM    pdu;
+    /**
+     * <code>message_id</code> of the submitted message.
+     */
+    private String       messageId;
+    /**
+     * State of the message.
+     */
+    private MessageState state = MessageState.UNKNOWN;
+    /**
+     * Network specific error code, 0 if none.
+     */
+    private int          error;
+    /**
+     * Number of short messages originally submitted.
+     */
+    private int          submitted;
+    /**
+     * Number of short messages delivered.
+     */
+    private int          delivered;
+    /**
+     * Time the message was submitted, digits, 0 if not informed.
+     */
+    private long         submitDate;
+    /**
+     * Time the message reached its final state, digits, 0 if not informed.
+     */
+    private long         doneDate;
+    /**
+     * Operation that submitted the message, null if it could not be correlated.
+     */
+    private PDUOperation submission;
+    /**
+     * Internal id of the submission found in the {@link MessageIdIndex}, 0 if it could not be correlated.
+     */
+    private long         trackingId;
+    /**
+     * Time in milliseconds the submission was accepted by the SMSC, 0 if it could not be correlated.
+     */
+    private long         submittedAt;
+
+    /**
+     * Creates an instance of DeliveryReceipt.
+     * @param pdu The PDU of the receipt.
+     */
+    DeliveryReceipt(final DeliverSM pdu) {
+        this.pdu = pdu;
+    }
+
+    /**
+     * Converts the digits of a date of the receipt.
+     * @param digits <code>YYMMDDhhmm</code> or <code>YYMMDDhhmmss</code>.
+     * @return the date in the default time zone, null if not informed.
+     */
+    @CheckForNull
+    static Date toDate(final long digits) {
+        if (digits <= 0L) {
+            return null;
+        }
+        long value = digits;
+        int second = 0;
+        if (value > 9999999999L) {
+            second = (int) (value % 100);
+            value /= 100;
+        }
+        final Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2000 + (int) (value / 100000000L), (int) (value / 1000000L % 100) - 1, (int) (value / 10000L % 100),
+                (int) (value / 100L % 100), (int) (value % 100), second);
+        return calendar.getTime();
+    }
+
+    /**
+     * Getter for pdu.
+     * @return pdu.
+     **/
+    public DeliverSM getPdu() {
+        return pdu;
+    }
+
+    /**
+     * Getter for messageId.
+     * @return messageId.
+     **/
+    public String getMessageId() {
+        return messageId;
+    }
+
+    /**
+     * Setter for messageId.
+     * @param messageId expected.
+     **/
+    void setMessageId(final String messageId) {
+        this.messageId = messageId;
+    }
+
+    /**
+     * Getter for state.
+     * @return state.
+     **/
+    public MessageState getState() {
+        return state;
+    }
+
+    /**
+     * Setter for state.
+     * @param state expected.
+     **/
+    void setState(final MessageState state) {
+        this.state = state;
+    }
+
+    /**
+     * Getter for error.
+     * @return error.
+     **/
+    public int getError() {
+        return error;
+    }
+
+    /**
+     * Setter for error.
+     * @param error expected.
+     **/
+    void setError(final int error) {
+        this.error = error;
+    }
+
+    /**
+     * Getter for submitted.
+     * @return submitted.
+     **/
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * Setter for submitted.
+     * @param submitted expected.
+     **/
+    void setSubmitted(final int submitted) {
+        this.submitted = submitted;
+    }
+
+    /**
+     * Getter for delivered.
+     * @return delivered.
+     **/
+    public int getDelivered() {
+        return delivered;
+    }
+
+    /**
+     * Setter for delivered.
+     * @param delivered expected.
+     **/
+    void setDelivered(final int delivered) {
+        this.delivered = delivered;
+    }
+
+    /**
+     * Getter for submitDate.
+     * @return submitDate, null if not informed.
+     **/
+    @CheckForNull
+    public Date getSubmitDate() {
+        return toDate(submitDate);
+    }
+
+    /**
+     * Setter for submitDate.
+     * @param submitDate digits.
+     **/
+    void setSubmitDate(final long submitDate) {
+        this.submitDate = submitDate;
+    }
+
+    /**
+     * Getter for doneDate.
+     * @return doneDate, null if not informed.
+     **/
+    @CheckForNull
+    public Date getDoneDate() {
+        return toDate(doneDate);
+    }
+
+    /**
+     * Setter for doneDate.
+     * @param doneDate digits.
+     **/
+    void setDoneDate(final long doneDate) {
+        this.doneDate = doneDate;
+    }
+
+    /**
+     * Getter for submission.
+     * @return operation that submitted the message, null if it could not be correlated.
+     **/
+    @CheckForNull
+    public PDUOperation getSubmission() {
+        return submission;
+    }
+
+    /**
+     * Setter for submission.
+     * @param submission expected.
+     **/
+    void setSubmission(final PDUOperation submission) {
+        this.submission = submission;
+    }
+
+    /**
+     * Getter for trackingId.
+     * @return internal id of the submission, 0 if it could not be correlated.
+     **/
+    public long getTrackingId() {
+        return trackingId;
+    }
+
+    /**
+     * Setter for trackingId.
+     * @param trackingId expected.
+     **/
+    void setTrackingId(final long trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    /**
+     * Getter for submittedAt.
+     * @return time in milliseconds the submission was accepted by the SMSC, 0 if it could not be correlated.
+     **/
+    public long getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * Setter for submittedAt.
+     * @param submittedAt expected.
+     **/
+    void setSubmittedAt(final long submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DeliveryReceipt[id=" + messageId + ", state=" + state + ", err=" + error + "]";
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ *      File: DeliveryReceiptListener.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+/**
+ * Receives the delivery receipts, already parsed and correlated with the submitted message.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DeliveryReceiptListener {
+
+    /**
+     * Called for every delivery receipt.
+     * @param receipt the receipt.
+     */
+    void onReceipt(DeliveryReceipt receipt);
+}
@@ -0,0 +1,254 @@
+/*
+ *      File: DeliveryReceiptParser.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.PDU;
+import org.smpp.util.ByteBuffer;
+
+/**
+ * Parses delivery receipts.<br/>
+ * The fields are read in a single pass over the octets of the <code>short_message</code>, comparing the keys octet
+ * by octet; only the <code>message_id</code> becomes a String. The optional parameters
+ * <code>receipted_message_id</code> and <code>message_state</code>, when present, take precedence over the text.
+ * <pre>id:IIIIIIIIII sub:SSS dlvrd:DDD submit date:YYMMDDhhmm done date:YYMMDDhhmm stat:DDDDDDD err:E text:...</pre>
+ * See "SMPP Protocol Specification 3.4, Appendix B, Delivery Receipt Format."
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DeliveryReceiptParser {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(DeliveryReceiptParser.class.getName());
+    /**
+     * Message type bits of the <code>esm_class</code>.
+     */
+    private static final int    MESSAGE_TYPE      = 0x3C;
+    /**
+     * SMSC Delivery Receipt.
+     */
+    private static final int    DELIVERY_RECEIPT  = 0x04;
+    /**
+     * Intermediate Delivery Notification.
+     */
+    private static final int    INTERMEDIATE      = 0x20;
+    /**
+     * Keys of the fields, lower case.
+     */
+    private static final byte[] ID          = ascii("id:");
+    /**
+     * Key.
+     */
+    private static final byte[] SUB         = ascii("sub:");
+    /**
+     * Key.
+     */
+    private static final byte[] DLVRD       = ascii("dlvrd:");
+    /**
+     * Key.
+     */
+    private static final byte[] SUBMIT_DATE = ascii("submit date:");
+    /**
+     * Key.
+     */
+    private static final byte[] DONE_DATE   = ascii("done date:");
+    /**
+     * Key.
+     */
+    private static final byte[] STAT        = ascii("stat:");
+    /**
+     * Key.
+     */
+    private static final byte[] ERR         = ascii("err:");
+    /**
+     * Key of the last field, nothing after it is parsed.
+     */
+    private static final byte[] TEXT        = ascii("text:");
+    /**
+     * Keys of the fields before {@link #TEXT}, searched at every token.
+     */
+    private static final byte[][] KEYS      = {ID, SUB, DLVRD, SUBMIT_DATE, DONE_DATE, STAT, ERR};
+
+    /**
+     * Creates an instance of DeliveryReceiptParser.
+     */
+    private DeliveryReceiptParser() {
+        //
+    }
+
+    /**
+     * Encodes a key.
+     * @param key expected.
+     * @return the octets.
+     */
+    private static byte[] ascii(final String key) {
+        return key.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Validates if the PDU is a delivery receipt or an intermediate notification.
+     * @param pdu received PDU.
+     * @return true if it is a receipt.
+     */
+    public static boolean isReceipt(final PDU pdu) {
+        if (!(pdu instanceof DeliverSM)) {
+            return false;
+        }
+        final int type = ((DeliverSM) pdu).getEsmClass() & MESSAGE_TYPE;
+        return type == DELIVERY_RECEIPT || type == INTERMEDIATE;
+    }
+
+    /**
+     * Parses the receipt.
+     * @param pdu received PDU.
+     * @return the receipt, null if the PDU is not a receipt.
+     */
+    @CheckForNull
+    public static DeliveryReceipt parse(final PDU pdu) {
+        if (!isReceipt(pdu)) {
+            return null;
+        }
+        final DeliverSM deliver = (DeliverSM) pdu;
+        final DeliveryReceipt receipt = new DeliveryReceipt(deliver);
+        final ByteBuffer shortMessage = deliver.getShortMessageData();
+        if (Objects.nonNull(shortMessage) && Objects.nonNull(shortMessage.getBuffer())) {
+            parse(shortMessage.getBuffer(), shortMessage.length(), receipt);
+        }
+        try {
+            if (deliver.hasReceiptedMessageId()) {
+                receipt.setMessageId(deliver.getReceiptedMessageId());
+            }
+            if (deliver.hasMessageState()) {
+                receipt.setState(MessageState.valueOf(deliver.getMessageState() & 0xFF));
+            }
+        } catch (final Exception e) {
+            LOGGER.warn("[!] invalid optional parameters of the receipt " + e.getMessage());
+        }
+        return receipt;
+    }
+
+    /**
+     * Parses the text of the receipt.
+     * @param text octets of the <code>short_message</code>.
+     * @param length octets in use.
+     * @param receipt receives the fields.
+     */
+    static void parse(final byte[] text, final int length, final DeliveryReceipt receipt) {
+        int i = 0;
+        while (i < length) {
+            while (i < length && text[i] == ' ') {
+                i++;
+            }
+            if (matches(text, length, i, TEXT)) {
+                return;
+            }
+            final byte[] key = keyAt(text, length, i);
+            if (Objects.isNull(key)) {
+                while (i < length && text[i] != ' ') {
+                    i++;
+                }
+                continue;
+            }
+            final int start = i + key.length;
+            int end = start;
+            while (end < length && text[end] != ' ') {
+                end++;
+            }
+            field(key, text, start, end, receipt);
+            i = end;
+        }
+    }
+
+    /**
+     * Finds the key that starts at the position.
+     * @param text octets of the <code>short_message</code>.
+     * @param length octets in use.
+     * @param position first octet.
+     * @return the key, null if none.
+     */
+    @CheckForNull
+    private static byte[] keyAt(final byte[] text, final int length, final int position) {
+        for (final byte[] key : KEYS) {
+            if (matches(text, length, position, key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the value of a field.
+     * @param key key of the field.
+     * @param text octets of the <code>short_message</code>.
+     * @param start first octet of the value.
+     * @param end octet after the value.
+     * @param receipt receives the field.
+     */
+    private static void field(final byte[] key, final byte[] text, final int start, final int end, final DeliveryReceipt receipt) {
+        if (key == ID) {
+            receipt.setMessageId(new String(text, start, end - start, StandardCharsets.US_ASCII));
+        } else if (key == SUB) {
+            receipt.setSubmitted((int) digits(text, start, end));
+        } else if (key == DLVRD) {
+            receipt.setDelivered((int) digits(text, start, end));
+        } else if (key == SUBMIT_DATE) {
+            receipt.setSubmitDate(digits(text, start, end));
+        } else if (key == DONE_DATE) {
+            receipt.setDoneDate(digits(text, start, end));
+        } else if (key == STAT) {
+            receipt.setState(MessageState.valueOf(text, start, end - start));
+        } else {
+            receipt.setError((int) digits(text, start, end));
+        }
+    }
+
+    /**
+     * Compares a key ignoring the case.
+     * @param text octets of the <code>short_message</code>.
+     * @param length octets in use.
+     * @param position first octet to compare.
+     * @param key lower case key.
+     * @return true if the key starts at the position.
+     */
+    private static boolean matches(final byte[] text, final int length, final int position, final byte[] key) {
+        if (position + key.length > length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            final int octet = text[position + i];
+            if (octet != key[i] && (octet | 0x20) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the leading decimal digits of a value.
+     * @param text octets of the <code>short_message</code>.
+     * @param start first octet of the value.
+     * @param end octet after the value.
+     * @return the number, 0 if there are no digits.
+     */
+    private static long digits(final byte[] text, final int start, final int end) {
+        long value = 0L;
+        for (int i = start; i < end && text[i] >= '0' && text[i] <= '9'; i++) {
+            value = value * 10 + text[i] - '0';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ *      File: InboundDispatcher.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.SmppException;
+import org.smpp.pdu.Request;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Fans the requests received from the SMSC out to a pool of workers.<br/>
+ * Every worker is a single thread with its own bounded queue; a request goes to the worker chosen by the hash of its
+ * {@link StripeKey} address, so the messages of one handset are processed in order while different handsets run in
+ * parallel. When the queue of the worker is full the {@link RejectionPolicy} decides.
+ * The requests can be passed with {@link #dispatch(Request)}, or read by the dispatcher itself with
+ * {@link #start(SmppWrapperFacade, PDUOperation)}, only with {@link RejectionPolicy#BLOCK}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InboundDispatcher implements AutoCloseable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER        = LogManager.getLogger(InboundDispatcher.class.getName());
+    /**
+     * Default capacity of the queue of every worker.
+     */
+    public static final int     DEFAULT_DEPTH = 1024;
+
+    /**
+     * Processes the requests.
+     */
+    private final InboundHandler          handler;
+    /**
+     * Address that keeps the order.
+     */
+    private final StripeKey               stripeKey;
+    /**
+     * What to do when a queue is full.
+     */
+    private final RejectionPolicy         policy;
+    /**
+     * Single-thread workers.
+     */
+    private final List< ThreadPoolExecutor > workers;
+    /**
+     * Requests discarded with {@link RejectionPolicy#DISCARD}.
+     */
+    private final LongAdder               rejected = new LongAdder();
+    /**
+     * Thread that reads the requests from the facade, null if not started.
+     */
+    private volatile Thread               reader;
+    /**
+     * Indicates the dispatcher was closed.
+     */
+    private volatile boolean              closed;
+    /**
+     * First wait of the reader after a failed read or while the facade is not available, in milliseconds.
+     */
+    private volatile long                 minBackoff = 100L;
+    /**
+     * Longest wait of the reader, in milliseconds.
+     */
+    private volatile long                 maxBackoff = 5000L;
+
+    /**
+     * Creates an instance of InboundDispatcher with one worker per core, striped by source address, whose callers
+     * wait when a queue is full.
+     * @param handler Processes the requests.
+     */
+    public InboundDispatcher(final InboundHandler handler) {
+        this(handler, Runtime.getRuntime().availableProcessors(), DEFAULT_DEPTH, RejectionPolicy.BLOCK, StripeKey.SOURCE);
+    }
+
+    /**
+     * Creates an instance of InboundDispatcher.
+     * @param handler Processes the requests.
+     * @param stripes number of workers.
+     * @param depth capacity of the queue of every worker.
+     * @param policy What to do when a queue is full.
+     * @param stripeKey Address that keeps the order.
+     */
+    public InboundDispatcher(final InboundHandler handler, final int stripes, final int depth, final RejectionPolicy policy,
+            final StripeKey stripeKey) {
+        if (stripes <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("[X] error, stripes and depth must be greater than zero");
+        }
+        this.handler = Objects.requireNonNull(handler);
+        this.stripeKey = Objects.requireNonNull(stripeKey);
+        this.policy = Objects.requireNonNull(policy);
+        final RejectedExecutionHandler rejection = rejection(policy);
+        workers = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            final String name = "smpp-inbound-" + i;
+            workers.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(depth), runnable -> {
+                final Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }, rejection));
+        }
+    }
+
+    /**
+     * Translates the policy.
+     * @param policy What to do when a queue is full.
+     * @return the handler of the executors.
+     */
+    private RejectedExecutionHandler rejection(final RejectionPolicy policy) {
+        switch (policy) {
+            case BLOCK:
+                return (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("[X] error, dispatcher closed");
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(e);
+                    }
+                };
+            case DISCARD:
+                return (task, executor) -> {
+                    rejected.increment();
+                    LOGGER.warn("[!] inbound queue full, discarding request");
+                };
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    /**
+     * Queues the request in the worker of its address.
+     * @param request received request.
+     * @throws RejectedExecutionException If the queue is full with {@link RejectionPolicy#ABORT}, or the dispatcher
+     * is closed.
+     */
+    public void dispatch(final Request request) {
+        workers.get(stripe(stripeKey.addressOf(request))).execute(() -> {
+            try {
+                handler.onRequest(request);
+            } catch (final RuntimeException e) {
+                LOGGER.error("[X] error, inbound handler failed " + e);
+            }
+        });
+    }
+
+    /**
+     * Worker of an address.
+     * @param address address of the request, may be null.
+     * @return index of the worker.
+     */
+    int stripe(final String address) {
+        if (Objects.isNull(address)) {
+            return 0;
+        }
+        final int hash = address.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), workers.size());
+    }
+
+    /**
+     * Starts a thread that reads the requests with {@link SmppWrapperFacade#receiveOperation(PDUOperation)} and
+     * dispatches them until the dispatcher is closed. The facade answers every request before it is dispatched, so
+     * a request rejected afterwards would be lost: the reader is only allowed with {@link RejectionPolicy#BLOCK},
+     * a full queue stops the reads and the SMSC keeps the requests not answered yet.
+     * While the facade is not available, and after every failed read, the reader waits with exponential backoff
+     * between {@link #minBackoff} and {@link #maxBackoff}; a successful read resets the wait.
+     * @param facade facade of the bind.
+     * @param receiveOperation operation of type {@link com.amk.smpp.operation.PDUOperationTypes#RECEIVE}, its
+     * listener interval bounds every read.
+     * @throws IllegalStateException If the dispatcher was already started or closed, or its policy is not
+     * {@link RejectionPolicy#BLOCK}.
+     */
+    public synchronized void start(final SmppWrapperFacade facade, final PDUOperation receiveOperation) {
+        if (policy != RejectionPolicy.BLOCK) {
+            throw new IllegalStateException("[X] error, the requests read are already answered, the policy must be "
+                    + RejectionPolicy.BLOCK + " -> " + policy);
+        }
+        if (Objects.nonNull(reader) || closed) {
+            throw new IllegalStateException("[X] error, dispatcher already started or closed");
+        }
+        reader = new Thread(() -> {
+            int failures = 0;
+            while (!closed && !Thread.currentThread().isInterrupted()) {
+                if (!facade.isAvailable()) {
+                    if (!pause(failures++)) {
+                        break;
+                    }
+                    continue;
+                }
+                try {
+                    final Request request = facade.receiveOperation(receiveOperation);
+                    failures = 0;
+                    if (Objects.nonNull(request)) {
+                        dispatch(request);
+                    }
+                } catch (final SmppException | RejectedExecutionException e) {
+                    if (!closed) {
+                        LOGGER.error("[X] error, inbound read failed " + e.getMessage());
+                    }
+                    if (!pause(failures++)) {
+                        break;
+                    }
+                }
+            }
+        }, "smpp-inbound-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Waits before the next read: {@link #minBackoff} doubled on every consecutive failure, up to
+     * {@link #maxBackoff}.
+     * @param attempt number of consecutive failures before this one.
+     * @return false if the reader was interrupted.
+     */
+    private boolean pause(final int attempt) {
+        final long exponential = minBackoff << Math.min(attempt, 30);
+        try {
+            Thread.sleep(exponential <= 0L || exponential > maxBackoff ? maxBackoff : exponential);
+            return true;
+        } catch (final InterruptedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Setter for minBackoff.
+     * @param minBackoff expected, in milliseconds.
+     **/
+    public void setMinBackoff(final long minBackoff) {
+        this.minBackoff = minBackoff;
+    }
+
+    /**
+     * Setter for maxBackoff.
+     * @param maxBackoff expected, in milliseconds.
+     **/
+    public void setMaxBackoff(final long maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Getter for rejected.
+     * @return requests discarded because its queue was full.
+     **/
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Requests waiting in the queues.
+     * @return size.
+     */
+    public int getQueued() {
+        int queued = 0;
+        for (final ThreadPoolExecutor worker : workers) {
+            queued += worker.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * Stops reading and lets the workers finish the queued requests.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        final Thread thread = reader;
+        if (Objects.nonNull(thread)) {
+            thread.interrupt();
+        }
+        workers.forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    /**
+     * Waits for the workers to finish after {@link #close()}.
+     * @param timeout maximum time to wait, in milliseconds.
+     * @return true if every queued request was processed.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    public boolean awaitTermination(final long timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        for (final ThreadPoolExecutor worker : workers) {
+            if (!worker.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ *      File: InboundHandler.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import org.smpp.pdu.Request;
+
+/**
+ * Processes the requests received from the SMSC, invoked by the workers of the {@link InboundDispatcher}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface InboundHandler {
+
+    /**
+     * Processes one request, e.g. a <code>deliver_sm</code> or a <code>data_sm</code>. Requests of the same
+     * address arrive in order and never concurrently.
+     * @param request received request.
+     */
+    void onRequest(Request request);
+}
@@ -0,0 +1,568 @@
+/*
+ *      File: MessageIdIndex.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Off-heap index from the <code>message_id</code> assigned by the SMSC to the internal id of the submission.<br/>
+ * The entries live in direct buffers outside the heap (bounded by <code>-XX:MaxDirectMemorySize</code>), split in
+ * shards guarded by their own monitor. Every shard is an open-addressing table with linear probing of fixed
+ * {@link #SLOT}-byte slots: <code>[state][key length][-][hash][internal id][submitted at][expires at]
+ * [key]</code>. The keys are compared char by char against the stored bytes, so the lookups do not allocate.<br/>
+ * Every entry expires after the TTL of the index. The expired entries are skipped by the lookups and reclaimed a few
+ * slots at a time by every put; {@link #purge()} reclaims all of them at once, as does a put into a full shard once
+ * its oldest entry has expired. The slots of the removed entries are reclaimed by rebuilding the shard, into a spare
+ * table shared by all the shards, once they are 1/8 of its slots; a shard full of live entries rejects the put.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MessageIdIndex {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER         = LogManager.getLogger(MessageIdIndex.class.getName());
+    /**
+     * Returned by {@link #lookup(CharSequence)} when the <code>message_id</code> is not indexed.
+     */
+    public static final long    NOT_FOUND      = -1L;
+    /**
+     * Longest <code>message_id</code>, SMPP 3.4 defines it as a C-Octet String of up to 65 octets.
+     */
+    public static final int     MAX_KEY_LENGTH = 64;
+    /**
+     * Bytes of every slot.
+     */
+    static final int            SLOT           = 32 + MAX_KEY_LENGTH;
+    /**
+     * Default time to live of the entries, 72 hours, the usual validity period of a message.
+     */
+    public static final long    DEFAULT_TTL    = 72L * 60L * 60L * 1000L;
+
+    /**
+     * Offset of the state of the slot.
+     */
+    private static final int  STATE        = 0;
+    /**
+     * Offset of the key length.
+     */
+    private static final int  KEY_LENGTH   = 1;
+    /**
+     * Offset of the hash of the key.
+     */
+    private static final int  HASH         = 4;
+    /**
+     * Offset of the internal id.
+     */
+    private static final int  INTERNAL_ID  = 8;
+    /**
+     * Offset of the submission time.
+     */
+    private static final int  SUBMITTED_AT = 16;
+    /**
+     * Offset of the expiration time.
+     */
+    private static final int  EXPIRES_AT   = 24;
+    /**
+     * Offset of the key.
+     */
+    private static final int  KEY          = 32;
+    /**
+     * Slot never used, ends the probing.
+     */
+    private static final byte EMPTY        = 0;
+    /**
+     * Slot with an entry.
+     */
+    private static final byte FULL         = 1;
+    /**
+     * Slot of a removed entry, the probing continues.
+     */
+    private static final byte DELETED      = 2;
+    /**
+     * Slots examined for expired entries by every put.
+     */
+    private static final int  SWEEP        = 2;
+    /**
+     * Most shards of an index.
+     */
+    private static final int  MAX_SHARDS   = 64;
+
+    /**
+     * Tables of the index.
+     */
+    private final Shard[]      shards;
+    /**
+     * Spare table the shards are rebuilt into, swapped with the table rebuilt.
+     */
+    private final ByteBuffer[] spare = new ByteBuffer[1];
+    /**
+     * Bits of the hash that select the shard.
+     */
+    private final int          shardShift;
+    /**
+     * Time to live of the entries in milliseconds.
+     */
+    private final long         ttl;
+    /**
+     * Puts rejected because the shard was full.
+     */
+    private final AtomicLong   rejected = new AtomicLong();
+
+    /**
+     * Creates an instance of MessageIdIndex with the {@link #DEFAULT_TTL}.
+     * @param capacity Number of entries expected at the same time.
+     */
+    public MessageIdIndex(final int capacity) {
+        this(capacity, DEFAULT_TTL);
+    }
+
+    /**
+     * Creates an instance of MessageIdIndex. The tables take twice the capacity rounded up to a power of two, times
+     * {@link #SLOT} bytes of direct memory, so the shards stay below 3/4 of their slots even when the ids are not
+     * spread evenly; the spare table takes the slots of one shard more.
+     * @param capacity Number of entries expected at the same time.
+     * @param ttl Time to live of the entries in milliseconds.
+     */
+    public MessageIdIndex(final int capacity, final long ttl) {
+        if (capacity <= 0 || ttl <= 0L) {
+            throw new IllegalArgumentException("[X] error, capacity and ttl must be greater than zero");
+        }
+        final long slots = Long.highestOneBit(Math.max(64L, (long) capacity * 2L) * 2L - 1L);
+        int count = (int) Math.min(MAX_SHARDS, slots / 64L);
+        while (slots / count * SLOT > Integer.MAX_VALUE) {
+            count <<= 1;
+        }
+        shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard((int) (slots / count), spare);
+        }
+        spare[0] = ByteBuffer.allocateDirect((int) (slots / count) * SLOT);
+        shardShift = Integer.SIZE - Integer.numberOfTrailingZeros(count);
+        this.ttl = ttl;
+        LOGGER.info("MessageIdIndex of " + slots + " slots in " + count + " shards, " + (slots + slots / count) * SLOT + " bytes off-heap");
+    }
+
+    /**
+     * Indexes a <code>message_id</code>, replacing its previous entry.
+     * @param messageId <code>message_id</code> assigned by the SMSC.
+     * @param internalId internal id of the submission.
+     * @return false if the id is empty or longer than {@link #MAX_KEY_LENGTH}, or the index is full.
+     */
+    public boolean put(final CharSequence messageId, final long internalId) {
+        return put(messageId, internalId, System.currentTimeMillis());
+    }
+
+    /**
+     * Indexes a <code>message_id</code> at the given time.
+     * @param messageId <code>message_id</code> assigned by the SMSC.
+     * @param internalId internal id of the submission.
+     * @param now current time in milliseconds.
+     * @return false if the id is invalid or the index is full.
+     */
+    boolean put(final CharSequence messageId, final long internalId, final long now) {
+        if (!isValid(messageId)) {
+            return false;
+        }
+        final int hash = hash(messageId);
+        final boolean stored = shard(hash).put(messageId, hash, internalId, now, now + ttl);
+        if (!stored && rejected.getAndIncrement() % 10000L == 0L) {
+            LOGGER.warn("[!] MessageIdIndex full, " + rejected.get() + " message ids not indexed");
+        }
+        return stored;
+    }
+
+    /**
+     * Looks up the internal id of a <code>message_id</code>, without allocating.
+     * @param messageId <code>message_id</code> assigned by the SMSC.
+     * @return the internal id, {@link #NOT_FOUND} if it is not indexed or has expired.
+     */
+    public long lookup(final CharSequence messageId) {
+        return lookup(messageId, System.currentTimeMillis());
+    }
+
+    /**
+     * Looks up the internal id of a <code>message_id</code> at the given time.
+     * @param messageId <code>message_id</code> assigned by the SMSC.
+     * @param now current time in milliseconds.
+     * @return the internal id, {@link #NOT_FOUND} if it is not indexed or has expired.
+     */
+    long lookup(final CharSequence messageId, final long now) {
+        if (!isValid(messageId)) {
+            return NOT_FOUND;
+        }
+        final int hash = hash(messageId);
+        return shard(hash).get(messageId, hash, now, null, false);
+    }
+
+    /**
+     * Sets the internal id and the submission time of the receipt; the entry is removed when the receipt is final.
+     * @param receipt parsed receipt.
+     * @return the same receipt.
+     */
+    public DeliveryReceipt correlate(final DeliveryReceipt receipt) {
+        final String messageId = receipt.getMessageId();
+        if (isValid(messageId)) {
+            final int hash = hash(messageId);
+            shard(hash).get(messageId, hash, System.currentTimeMillis(), receipt, receipt.getState().isFinal());
+        }
+        return receipt;
+    }
+
+    /**
+     * Removes a <code>message_id</code>.
+     * @param messageId <code>message_id</code> assigned by the SMSC.
+     * @return true if it was indexed.
+     */
+    public boolean remove(final CharSequence messageId) {
+        if (!isValid(messageId)) {
+            return false;
+        }
+        final int hash = hash(messageId);
+        return shard(hash).get(messageId, hash, Long.MIN_VALUE, null, true) != NOT_FOUND;
+    }
+
+    /**
+     * Removes every expired entry.
+     * @return number of entries removed.
+     */
+    public int purge() {
+        final long now = System.currentTimeMillis();
+        int purged = 0;
+        for (final Shard shard : shards) {
+            purged += shard.purge(now);
+        }
+        return purged;
+    }
+
+    /**
+     * Number of entries, expired or not, still in the index.
+     * @return size.
+     */
+    public long size() {
+        long size = 0L;
+        for (final Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Number of slots of the index.
+     * @return capacity.
+     */
+    public long capacity() {
+        return (long) shards.length * (shards[0].mask + 1);
+    }
+
+    /**
+     * Getter for rejected.
+     * @return puts rejected because the index was full.
+     **/
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Getter for ttl.
+     * @return ttl in milliseconds.
+     **/
+    public long getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Validates if a <code>message_id</code> can be indexed.
+     * @param messageId <code>message_id</code>.
+     * @return true if it is not empty and not longer than {@link #MAX_KEY_LENGTH}.
+     */
+    private static boolean isValid(final CharSequence messageId) {
+        return Objects.nonNull(messageId) && messageId.length() > 0 && messageId.length() <= MAX_KEY_LENGTH;
+    }
+
+    /**
+     * FNV-1a hash of the chars of the key, mixed so both ends of the hash are usable.
+     * @param key <code>message_id</code>.
+     * @return the hash.
+     */
+    private static int hash(final CharSequence key) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ (key.charAt(i) & 0xFF)) * 0x01000193;
+        }
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Shard of a hash, selected by its highest bits.
+     * @param hash hash of the key.
+     * @return the shard.
+     */
+    private Shard shard(final int hash) {
+        return shardShift == Integer.SIZE ? shards[0] : shards[hash >>> shardShift];
+    }
+
+    /**
+     * One open-addressing table.
+     */
+    private static final class Shard {
+        /**
+         * Slots of the table.
+         */
+        private ByteBuffer         slots;
+        /**
+         * Number of slots minus one.
+         */
+        private final int          mask;
+        /**
+         * Most slots used, full or deleted.
+         */
+        private final int          threshold;
+        /**
+         * Spare table of the index, shared by all the shards.
+         */
+        private final ByteBuffer[] spare;
+        /**
+         * Full slots.
+         */
+        private int                size;
+        /**
+         * Full and deleted slots.
+         */
+        private int                used;
+        /**
+         * Next slot examined for expired entries.
+         */
+        private int                cursor;
+        /**
+         * Earliest expiration time of the entries, may be earlier than the actual one.
+         */
+        private long               nextExpiry = Long.MAX_VALUE;
+
+        /**
+         * Creates an instance of Shard.
+         * @param capacity Number of slots, a power of two.
+         * @param spare Spare table of the index.
+         */
+        private Shard(final int capacity, final ByteBuffer[] spare) {
+            slots = ByteBuffer.allocateDirect(capacity * SLOT);
+            mask = capacity - 1;
+            threshold = capacity - capacity / 4;
+            this.spare = spare;
+        }
+
+        /**
+         * Stores an entry.
+         * @param key <code>message_id</code>.
+         * @param hash hash of the key.
+         * @param internalId internal id.
+         * @param now current time.
+         * @param expiresAt expiration time.
+         * @return false if the table is full of entries.
+         */
+        private synchronized boolean put(final CharSequence key, final int hash, final long internalId, final long now,
+                final long expiresAt) {
+            sweep(now);
+            int slot = find(key, hash);
+            if (slot < 0) {
+                slot = ~slot;
+                if (slots.get(slot + STATE) == EMPTY && used >= threshold) {
+                    if (nextExpiry <= now) {
+                        purge(now);
+                    }
+                    if (used - size < (mask + 1) / 8) {
+                        return false;
+                    }
+                    rebuild(now);
+                    slot = ~find(key, hash);
+                }
+                if (slots.get(slot + STATE) == EMPTY) {
+                    used++;
+                }
+                size++;
+                slots.put(slot + STATE, FULL);
+                slots.put(slot + KEY_LENGTH, (byte) key.length());
+                slots.putInt(slot + HASH, hash);
+                for (int i = 0; i < key.length(); i++) {
+                    slots.put(slot + KEY + i, (byte) key.charAt(i));
+                }
+            }
+            slots.putLong(slot + INTERNAL_ID, internalId);
+            slots.putLong(slot + SUBMITTED_AT, now);
+            slots.putLong(slot + EXPIRES_AT, expiresAt);
+            nextExpiry = Math.min(nextExpiry, expiresAt);
+            return true;
+        }
+
+        /**
+         * Reads an entry.
+         * @param key <code>message_id</code>.
+         * @param hash hash of the key.
+         * @param now current time, the entries expired before it are not found.
+         * @param receipt filled with the entry, may be null.
+         * @param remove removes the entry once read.
+         * @return the internal id, {@link #NOT_FOUND} if not found.
+         */
+        private synchronized long get(final CharSequence key, final int hash, final long now,
+                final DeliveryReceipt receipt, final boolean remove) {
+            final int slot = find(key, hash);
+            if (slot < 0) {
+                return NOT_FOUND;
+            }
+            if (slots.getLong(slot + EXPIRES_AT) <= now) {
+                delete(slot);
+                return NOT_FOUND;
+            }
+            final long internalId = slots.getLong(slot + INTERNAL_ID);
+            if (Objects.nonNull(receipt)) {
+                receipt.setTrackingId(internalId);
+                receipt.setSubmittedAt(slots.getLong(slot + SUBMITTED_AT));
+            }
+            if (remove) {
+                delete(slot);
+            }
+            return internalId;
+        }
+
+        /**
+         * Probes the table for a key.
+         * @param key <code>message_id</code>.
+         * @param hash hash of the key.
+         * @return the offset of its slot, or the complement of the offset where it must be stored.
+         */
+        private int find(final CharSequence key, final int hash) {
+            int index = hash & mask;
+            int free = -1;
+            for (int probes = 0; probes <= mask; probes++) {
+                final int slot = index * SLOT;
+                final byte state = slots.get(slot + STATE);
+                if (state == EMPTY) {
+                    return ~(free < 0 ? slot : free);
+                }
+                if (state == DELETED) {
+                    if (free < 0) {
+                        free = slot;
+                    }
+                } else if (matches(slot, key, hash)) {
+                    return slot;
+                }
+                index = index + 1 & mask;
+            }
+            return ~free;
+        }
+
+        /**
+         * Compares the key of a full slot.
+         * @param slot offset of the slot.
+         * @param key <code>message_id</code>.
+         * @param hash hash of the key.
+         * @return true if it is the same key.
+         */
+        private boolean matches(final int slot, final CharSequence key, final int hash) {
+            if (slots.getInt(slot + HASH) != hash || slots.get(slot + KEY_LENGTH) != key.length()) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); i++) {
+                if (slots.get(slot + KEY + i) != (byte) key.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Marks a slot as deleted.
+         * @param slot offset of the slot.
+         */
+        private void delete(final int slot) {
+            slots.put(slot + STATE, DELETED);
+            size--;
+        }
+
+        /**
+         * Removes the expired entries of the next {@link #SWEEP} slots.
+         * @param now current time.
+         */
+        private void sweep(final long now) {
+            for (int i = 0; i < SWEEP; i++) {
+                final int slot = cursor * SLOT;
+                if (slots.get(slot + STATE) == FULL && slots.getLong(slot + EXPIRES_AT) <= now) {
+                    delete(slot);
+                }
+                cursor = cursor + 1 & mask;
+            }
+        }
+
+        /**
+         * Copies the entries not expired to the spare table, dropping the deleted slots; the previous table becomes
+         * the spare one.
+         * @param now current time.
+         */
+        private void rebuild(final long now) {
+            synchronized (spare) {
+                final ByteBuffer previous = slots;
+                slots = spare[0];
+                for (int slot = 0; slot < slots.capacity(); slot += SLOT) {
+                    slots.put(slot + STATE, EMPTY);
+                }
+                size = 0;
+                used = 0;
+                for (int slot = 0; slot < previous.capacity(); slot += SLOT) {
+                    if (previous.get(slot + STATE) == FULL && previous.getLong(slot + EXPIRES_AT) > now) {
+                        int index = previous.getInt(slot + HASH) & mask;
+                        while (slots.get(index * SLOT + STATE) != EMPTY) {
+                            index = index + 1 & mask;
+                        }
+                        for (int i = 0; i < SLOT; i++) {
+                            slots.put(index * SLOT + i, previous.get(slot + i));
+                        }
+                        size++;
+                        used++;
+                    }
+                }
+                spare[0] = previous;
+            }
+        }
+
+        /**
+         * Removes every expired entry.
+         * @param now current time.
+         * @return number of entries removed.
+         */
+        private synchronized int purge(final long now) {
+            final int before = size;
+            long earliest = Long.MAX_VALUE;
+            for (int slot = 0; slot <= mask * SLOT; slot += SLOT) {
+                if (slots.get(slot + STATE) == FULL) {
+                    final long expiresAt = slots.getLong(slot + EXPIRES_AT);
+                    if (expiresAt <= now) {
+                        delete(slot);
+                    } else {
+                        earliest = Math.min(earliest, expiresAt);
+                    }
+                }
+            }
+            nextExpiry = earliest;
+            return before - size;
+        }
+
+        /**
+         * Number of full slots.
+         * @return size.
+         */
+        private synchronized int size() {
+            return size;
+        }
+    }
+}
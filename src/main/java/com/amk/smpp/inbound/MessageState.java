@@ -0,0 +1,149 @@
+/*
+ *      File: MessageState.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * State of a message reported by a delivery receipt, both as the <code>message_state</code> optional parameter and
+ * as the <code>stat:</code> field of the text.
+ * See "SMPP Protocol Specification 3.4, 5.2.28 message_state" and "Appendix B, Delivery Receipt Format."
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum MessageState {
+    /**
+     * The message is in enroute state.
+     */
+    ENROUTE(1, "ENROUTE", false),
+    /**
+     * Message is delivered to destination.
+     */
+    DELIVERED(2, "DELIVRD", true),
+    /**
+     * Message validity period has expired.
+     */
+    EXPIRED(3, "EXPIRED", true),
+    /**
+     * Message has been deleted.
+     */
+    DELETED(4, "DELETED", true),
+    /**
+     * Message is undeliverable.
+     */
+    UNDELIVERABLE(5, "UNDELIV", true),
+    /**
+     * Message is in accepted state.
+     */
+    ACCEPTED(6, "ACCEPTD", false),
+    /**
+     * Message is in invalid state.
+     */
+    UNKNOWN(7, "UNKNOWN", true),
+    /**
+     * Message is in a rejected state.
+     */
+    REJECTED(8, "REJECTD", true);
+
+    /**
+     * States by value of <code>message_state</code>.
+     */
+    private static final MessageState[] BY_VALUE = new MessageState[9];
+
+    static {
+        for (final MessageState state : values()) {
+            BY_VALUE[state.value] = state;
+        }
+    }
+
+    /**
+     * Value of <code>message_state</code>.
+     */
+    private final int     value;
+    /**
+     * Value of the <code>stat:</code> field, ASCII.
+     */
+    private final byte[]  stat;
+    /**
+     * Indicates if no other receipt follows.
+     */
+    private final boolean fin;
+
+    /**
+     * Creates an instance of MessageState.
+     * @param value Value of <code>message_state</code>.
+     * @param stat Value of the <code>stat:</code> field.
+     * @param fin Indicates if no other receipt follows.
+     */
+    MessageState(final int value, final String stat, final boolean fin) {
+        this.value = value;
+        this.stat = stat.getBytes(StandardCharsets.US_ASCII);
+        this.fin = fin;
+    }
+
+    /**
+     * Returns the state of the <code>message_state</code>.
+     * @param value <code>message_state</code>.
+     * @return the state, {@link #UNKNOWN} if the value is not defined.
+     */
+    public static MessageState valueOf(final int value) {
+        return value > 0 && value < BY_VALUE.length ? BY_VALUE[value] : UNKNOWN;
+    }
+
+    /**
+     * Returns the state of the <code>stat:</code> field, ignoring case.
+     * @param text receipt text.
+     * @param offset first octet of the value.
+     * @param length octets of the value.
+     * @return the state, {@link #UNKNOWN} if the value is not defined.
+     */
+    public static MessageState valueOf(final byte[] text, final int offset, final int length) {
+        for (final MessageState state : values()) {
+            if (state.matches(text, offset, length)) {
+                return state;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Compares the <code>stat:</code> value.
+     * @param text receipt text.
+     * @param offset first octet of the value.
+     * @param length octets of the value.
+     * @return true if equal, ignoring case.
+     */
+    private boolean matches(final byte[] text, final int offset, final int length) {
+        if (length != stat.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((text[offset + i] & 0xDF) != stat[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Getter for value.
+     * @return value of <code>message_state</code>.
+     **/
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Indicates if the state is final, no other receipt follows.
+     * @return true if final.
+     */
+    public boolean isFinal() {
+        return fin;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *      File: ReceiptCorrelator.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Links the delivery receipts with the operations that submitted the messages, through the
+ * <code>message_id</code> assigned by the SMSC. A submission is forgotten when its final receipt arrives, so the
+ * submissions whose final receipt never arrives stay on the heap; the {@link MessageIdIndex} bounds its entries.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReceiptCorrelator {
+    /**
+     * Submissions waiting for its receipt, by message_id.
+     */
+    private final Map< String, PDUOperation > submissions = new ConcurrentHashMap<>();
+
+    /**
+     * Remembers a submission.
+     * @param messageId <code>message_id</code> assigned by the SMSC.
+     * @param submission the operation that submitted the message.
+     */
+    public void track(final String messageId, final PDUOperation submission) {
+        if (Objects.nonNull(messageId) && Objects.nonNull(submission)) {
+            submissions.put(messageId, submission);
+        }
+    }
+
+    /**
+     * Sets the submission of the receipt.
+     * @param receipt parsed receipt.
+     * @return the same receipt.
+     */
+    public DeliveryReceipt correlate(final DeliveryReceipt receipt) {
+        final String messageId = receipt.getMessageId();
+        if (Objects.nonNull(messageId)) {
+            receipt.setSubmission(receipt.getState().isFinal() ? submissions.remove(messageId) : submissions.get(messageId));
+        }
+        return receipt;
+    }
+
+    /**
+     * Number of submissions waiting for its receipt.
+     * @return size.
+     */
+    public int size() {
+        return submissions.size();
+    }
+}
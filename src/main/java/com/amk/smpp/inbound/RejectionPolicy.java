@@ -0,0 +1,32 @@
+/*
+ *      File: RejectionPolicy.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+/**
+ * What the {@link InboundDispatcher} does with a request whose worker queue is full. Running the request on the
+ * caller is not offered because it would break the order of its address.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum RejectionPolicy {
+    /**
+     * The caller waits for room in the queue.
+     */
+    BLOCK,
+    /**
+     * The request is discarded and counted. Not allowed with the reader of the dispatcher, its requests were
+     * already answered.
+     */
+    DISCARD,
+    /**
+     * The dispatch fails with {@link java.util.concurrent.RejectedExecutionException}. Not allowed with the reader
+     * of the dispatcher, its requests were already answered.
+     */
+    ABORT
+}
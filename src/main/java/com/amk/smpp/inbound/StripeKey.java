@@ -0,0 +1,53 @@
+/*
+ *      File: StripeKey.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.inbound;
+
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+
+import org.smpp.pdu.Address;
+import org.smpp.pdu.DataSM;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.Request;
+
+/**
+ * Address that keeps the requests of the {@link InboundDispatcher} in order: requests with the same address run on
+ * the same worker.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum StripeKey {
+    /**
+     * <code>source_addr</code>, the handset of a mobile originated message or a receipt.
+     */
+    SOURCE,
+    /**
+     * <code>destination_addr</code>, e.g. the short code.
+     */
+    DESTINATION;
+
+    /**
+     * Address of the request.
+     * @param request received request.
+     * @return the address, null if the request has none.
+     */
+    @CheckForNull
+    public String addressOf(final Request request) {
+        final Address address;
+        if (request instanceof DeliverSM) {
+            address = this == SOURCE ? ((DeliverSM) request).getSourceAddr() : ((DeliverSM) request).getDestAddr();
+        } else if (request instanceof DataSM) {
+            address = this == SOURCE ? ((DataSM) request).getSourceAddr() : ((DataSM) request).getDestAddr();
+        } else {
+            address = null;
+        }
+        return Objects.isNull(address) ? null : address.getAddress();
+    }
+}
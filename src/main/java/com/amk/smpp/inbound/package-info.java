@@ -0,0 +1,14 @@
+/*
+ *      File: package-info.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+/**
+ * This package must contain all the classes used to process the PDUs sent by the SMSC: delivery receipts and
+ * mobile originated messages.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+package com.amk.smpp.inbound;
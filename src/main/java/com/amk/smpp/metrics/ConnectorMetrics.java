@@ -0,0 +1,149 @@
+/*
+ *      File: ConnectorMetrics.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.amk.smpp.operation.PDUOperationTypes;
+
+/**
+ * Metrics of one bind: an {@link OperationMetrics} for the bind itself and one for every
+ * {@link PDUOperationTypes}.<br/>
+ * The metrics can be read through {@link #snapshot()} or registered as MBeans under the domain
+ * <code>com.amk.smpp</code>, one per operation.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConnectorMetrics {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(ConnectorMetrics.class.getName());
+    /**
+     * Domain of the MBeans.
+     */
+    public static final String  DOMAIN = "com.amk.smpp";
+    /**
+     * Name of the bind metrics.
+     */
+    public static final String  BIND   = "BIND";
+
+    /**
+     * Metrics of the bind operation.
+     */
+    private final OperationMetrics                                 bind       = new OperationMetrics(BIND);
+    /**
+     * Metrics by operation, created once.
+     */
+    private final Map< PDUOperationTypes, OperationMetrics >       operations = new EnumMap<>(PDUOperationTypes.class);
+    /**
+     * Names of the registered MBeans.
+     */
+    private final List< ObjectName >                               registered = new ArrayList<>();
+
+    /**
+     * Creates an instance of ConnectorMetrics.
+     */
+    public ConnectorMetrics() {
+        for (final PDUOperationTypes type : PDUOperationTypes.values()) {
+            operations.put(type, new OperationMetrics(type.name()));
+        }
+    }
+
+    /**
+     * Getter for bind.
+     * @return metrics of the bind operation.
+     **/
+    public OperationMetrics getBind() {
+        return bind;
+    }
+
+    /**
+     * Metrics of one operation.
+     * @param type type of the operation.
+     * @return the metrics.
+     */
+    public OperationMetrics get(final PDUOperationTypes type) {
+        return operations.get(type);
+    }
+
+    /**
+     * Copies the metrics of the bind and of every operation.
+     * @return snapshot by name of the operation.
+     */
+    public Map< String, OperationSnapshot > snapshot() {
+        final Map< String, OperationSnapshot > snapshot = new LinkedHashMap<>();
+        snapshot.put(BIND, bind.snapshot());
+        operations.forEach((type, metrics) -> snapshot.put(type.name(), metrics.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Clears every metric.
+     */
+    public void reset() {
+        bind.reset();
+        operations.values().forEach(OperationMetrics::reset);
+    }
+
+    /**
+     * Registers one MBean per operation in the platform MBean server, named
+     * <code>com.amk.smpp:type=Operation,bind=&lt;bind&gt;,name=&lt;operation&gt;</code>.
+     * @param bindName identifies the bind, e.g. its <code>system_id</code>.
+     */
+    public synchronized void registerMBeans(final String bindName) {
+        unregisterMBeans();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final List< OperationMetrics > all = new ArrayList<>(operations.values());
+        all.add(0, bind);
+        for (final OperationMetrics metrics : all) {
+            try {
+                final ObjectName name = new ObjectName(DOMAIN + ":type=Operation,bind=" + ObjectName.quote(bindName)
+                        + ",name=" + metrics.getName());
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(metrics, name);
+                registered.add(name);
+            } catch (final JMException e) {
+                LOGGER.error("[X] error, MBean of " + metrics.getName() + " not registered " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes the MBeans registered by {@link #registerMBeans(String)}.
+     */
+    public synchronized void unregisterMBeans() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (final ObjectName name : registered) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (final JMException e) {
+                LOGGER.warn("[!] MBean " + name + " not unregistered " + e.getMessage());
+            }
+        }
+        registered.clear();
+    }
+}
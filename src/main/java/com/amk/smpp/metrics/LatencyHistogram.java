@@ -0,0 +1,133 @@
+/*
+ *      File: LatencyHistogram.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of latencies, in nanoseconds.<br/>
+ * Every power of two is split in {@link #SUB_BUCKETS} linear buckets, so any recorded value is reported with a
+ * relative error below 1/{@link #SUB_BUCKETS} using a fixed array of counters. Recording is lock-free and does not
+ * allocate; the percentiles are computed on a {@link #snapshot()}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+    /**
+     * Bits of the linear buckets of every power of two.
+     */
+    private static final int SUB_BITS    = 5;
+    /**
+     * Linear buckets of every power of two.
+     */
+    static final int         SUB_BUCKETS = 1 << SUB_BITS;
+    /**
+     * Number of buckets needed for any positive long.
+     */
+    private static final int BUCKETS     = (Long.SIZE - 2 - SUB_BITS) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+    /**
+     * Counter of every bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    /**
+     * Sum of the recorded values.
+     */
+    private final LongAdder       sum    = new LongAdder();
+    /**
+     * Highest recorded value.
+     */
+    private final AtomicLong      max    = new AtomicLong();
+
+    /**
+     * Records one value.
+     * @param nanos latency, a negative value is recorded as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0L, nanos);
+        counts.incrementAndGet(index(value));
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+        sum.reset();
+        max.set(0L);
+    }
+
+    /**
+     * Copies the recorded values. Values recorded while copying may be partially included.
+     * @return the snapshot.
+     */
+    public LatencySnapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        final long highest = max.get();
+        return new LatencySnapshot(count, count == 0L ? 0L : sum.sum() / count, valueAt(copy, count, 0.5D, highest),
+                valueAt(copy, count, 0.99D, highest), valueAt(copy, count, 0.999D, highest), highest);
+    }
+
+    /**
+     * Bucket of a value.
+     * @param value positive value.
+     * @return index of the bucket.
+     */
+    static int index(final long value) {
+        final int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS);
+        return (shift << SUB_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Highest value of a bucket.
+     * @param index index of the bucket.
+     * @return the value.
+     */
+    static long highestValue(final int index) {
+        final int shift = Math.max(0, (index >>> SUB_BITS) - 1);
+        final long subBucket = index - ((long) shift << SUB_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Value below which the quantile of the recorded values falls.
+     * @param copy counters.
+     * @param count total of the counters.
+     * @param quantile between 0 and 1.
+     * @param highest highest recorded value.
+     * @return the value, 0 if there are no values.
+     */
+    private static long valueAt(final long[] copy, final long count, final double quantile, final long highest) {
+        if (count == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+        long seen = 0L;
+        for (int i = 0; i < copy.length; i++) {
+            seen += copy[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), highest);
+            }
+        }
+        return highest;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *      File: LatencySnapshot.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percentiles of a {@link LatencyHistogram} at a point in time, in nanoseconds.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LatencySnapshot {
+    /**
+     * Recorded values.
+     */
+    private final long count;
+    /**
+     * Mean.
+     */
+    private final long mean;
+    /**
+     * Median.
+     */
+    private final long p50;
+    /**
+     * 99th percentile.
+     */
+    private final long p99;
+    /**
+     * 99.9th percentile.
+     */
+    private final long p999;
+    /**
+     * Highest value.
+     */
+    private final long max;
+
+    /**
+     * Creates an instance of LatencySnapshot.
+     * @param count Recorded values.
+     * @param mean Mean.
+     * @param p50 Median.
+     * @param p99 99th percentile.
+     * @param p999 99.9th percentile.
+     * @param max Highest value.
+     */
+    LatencySnapshot(final long count, final long mean, final long p50, final long p99, final long p999, final long max) {
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    /**
+     * Getter for count.
+     * @return count.
+     **/
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter for mean.
+     * @return mean.
+     **/
+    public long getMean() {
+        return mean;
+    }
+
+    /**
+     * Getter for p50.
+     * @return p50.
+     **/
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Getter for p99.
+     * @return p99.
+     **/
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Getter for p999.
+     * @return p999.
+     **/
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * Getter for max.
+     * @return max.
+     **/
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + " mean=" + micros(mean) + "us p50=" + micros(p50) + "us p99=" + micros(p99)
+                + "us p999=" + micros(p999) + "us max=" + micros(max) + "us";
+    }
+
+    /**
+     * Converts to microseconds.
+     * @param nanos expected.
+     * @return microseconds.
+     */
+    private static long micros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
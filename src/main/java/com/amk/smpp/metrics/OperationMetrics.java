@@ -0,0 +1,150 @@
+/*
+ *      File: OperationMetrics.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latencies of one operation: how many were performed, how the SMSC answered them
+ * (<code>command_status</code>) and how long they took.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+    /**
+     * Name of the operation.
+     */
+    private final String                      name;
+    /**
+     * Operations performed.
+     */
+    private final LongAdder                   requests = new LongAdder();
+    /**
+     * Operations that failed without a response.
+     */
+    private final LongAdder                   failures = new LongAdder();
+    /**
+     * Responses by command_status.
+     */
+    private final Map< Integer, LongAdder >   statuses = new ConcurrentHashMap<>();
+    /**
+     * Latencies.
+     */
+    private final LatencyHistogram            latency  = new LatencyHistogram();
+
+    /**
+     * Creates an instance of OperationMetrics.
+     * @param name Name of the operation.
+     */
+    public OperationMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records an operation answered by the SMSC.
+     * @param nanos time since the operation started.
+     * @param commandStatus <code>command_status</code> of the response.
+     */
+    public void record(final long nanos, final int commandStatus) {
+        requests.increment();
+        latency.record(nanos);
+        LongAdder counter = statuses.get(commandStatus);
+        if (Objects.isNull(counter)) {
+            counter = statuses.computeIfAbsent(commandStatus, status -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Records an operation without response: written asynchronously, or failed.
+     * @param nanos time since the operation started.
+     * @param failed true if the operation failed.
+     */
+    public void record(final long nanos, final boolean failed) {
+        requests.increment();
+        latency.record(nanos);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Copies the counters and the latencies.
+     * @return the snapshot.
+     */
+    public OperationSnapshot snapshot() {
+        final Map< Integer, Long > copy = new TreeMap<>();
+        statuses.forEach((status, counter) -> copy.put(status, counter.sum()));
+        return new OperationSnapshot(name, requests.sum(), failures.sum(), copy, latency.snapshot());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public Map< String, Long > getStatuses() {
+        final Map< String, Long > copy = new TreeMap<>();
+        statuses.forEach((status, counter) -> copy.put(String.format("0x%08X", status), counter.sum()));
+        return copy;
+    }
+
+    @Override
+    public long getP50() {
+        return micros(latency.snapshot().getP50());
+    }
+
+    @Override
+    public long getP99() {
+        return micros(latency.snapshot().getP99());
+    }
+
+    @Override
+    public long getP999() {
+        return micros(latency.snapshot().getP999());
+    }
+
+    @Override
+    public long getMax() {
+        return micros(latency.snapshot().getMax());
+    }
+
+    @Override
+    public void reset() {
+        requests.reset();
+        failures.reset();
+        statuses.clear();
+        latency.reset();
+    }
+
+    /**
+     * Converts to microseconds.
+     * @param nanos expected.
+     * @return microseconds.
+     */
+    private static long micros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
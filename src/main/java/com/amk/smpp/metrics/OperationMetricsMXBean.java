@@ -0,0 +1,72 @@
+/*
+ *      File: OperationMetricsMXBean.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link OperationMetrics} of one operation, latencies in microseconds.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * Name of the operation.
+     * @return name.
+     */
+    String getName();
+
+    /**
+     * Operations performed.
+     * @return count.
+     */
+    long getRequests();
+
+    /**
+     * Operations that failed without a response of the SMSC.
+     * @return count.
+     */
+    long getFailures();
+
+    /**
+     * Responses by <code>command_status</code>, in hexadecimal.
+     * @return count by status.
+     */
+    Map< String, Long > getStatuses();
+
+    /**
+     * Median latency.
+     * @return microseconds.
+     */
+    long getP50();
+
+    /**
+     * 99th percentile latency.
+     * @return microseconds.
+     */
+    long getP99();
+
+    /**
+     * 99.9th percentile latency.
+     * @return microseconds.
+     */
+    long getP999();
+
+    /**
+     * Highest latency.
+     * @return microseconds.
+     */
+    long getMax();
+
+    /**
+     * Clears the counters and the latencies.
+     */
+    void reset();
+}
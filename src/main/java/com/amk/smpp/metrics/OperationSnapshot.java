@@ -0,0 +1,102 @@
+/*
+ *      File: OperationSnapshot.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Counters and latencies of one operation at a point in time.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class OperationSnapshot {
+    /**
+     * Name of the operation.
+     */
+    private final String               name;
+    /**
+     * Operations performed.
+     */
+    private final long                 requests;
+    /**
+     * Operations that failed without a response.
+     */
+    private final long                 failures;
+    /**
+     * Responses by command_status.
+     */
+    private final Map< Integer, Long > statuses;
+    /**
+     * Latencies.
+     */
+    private final LatencySnapshot      latency;
+
+    /**
+     * Creates an instance of OperationSnapshot.
+     * @param name Name of the operation.
+     * @param requests Operations performed.
+     * @param failures Operations that failed without a response.
+     * @param statuses Responses by command_status.
+     * @param latency Latencies.
+     */
+    OperationSnapshot(final String name, final long requests, final long failures, final Map< Integer, Long > statuses,
+            final LatencySnapshot latency) {
+        this.name = name;
+        this.requests = requests;
+        this.failures = failures;
+        this.statuses = Collections.unmodifiableMap(statuses);
+        this.latency = latency;
+    }
+
+    /**
+     * Getter for name.
+     * @return name.
+     **/
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for requests.
+     * @return requests.
+     **/
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Getter for failures.
+     * @return failures.
+     **/
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Getter for statuses.
+     * @return responses by command_status.
+     **/
+    public Map< Integer, Long > getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Getter for latency.
+     * @return latency.
+     **/
+    public LatencySnapshot getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return name + " requests=" + requests + " failures=" + failures + " statuses=" + statuses + " " + latency;
+    }
+}
@@ -0,0 +1,13 @@
+/*
+ *      File: package-info.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+/**
+ * This package must contain all the classes used to measure the operations performed with the SMSC.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+package com.amk.smpp.metrics;
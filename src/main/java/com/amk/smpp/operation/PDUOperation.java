@@ -11,6 +11,7 @@ import java.io.Serializable;
 
 import javax.validation.constraints.NotNull;
 
+import com.amk.smpp.codec.SubmitTemplate;
 import com.amk.smpp.core.BindingType;
 import com.amk.smpp.util.Message;
 import com.amk.smpp.util.PDUListener;
@@ -56,6 +57,18 @@ public class PDUOperation implements Serializable {
      # Possible values are "sync" and "async"
      */
     private boolean asynchronous = false;
+    /**
+     * Id of the operation in the {@link com.amk.smpp.store.WriteAheadLog} or its correlation id, 0 if it has none.
+     */
+    private long    trackingId;
+    /**
+     * Fixed fields of the <code>submit_sm</code> already encoded, may be null.
+     */
+    private transient SubmitTemplate template;
+    /**
+     * Lane of the {@link com.amk.smpp.flow.PriorityScheduler}, null to take it from the <code>priority_flag</code>.
+     */
+    private TrafficClass trafficClass;
 
     /**
      * Creates an instance of PDUOperation.
@@ -69,6 +82,9 @@ public class PDUOperation implements Serializable {
         setSmsMessage(builder.smsMessage);
         setAsynchronous(builder.asynchronous);
         setListener(builder.listener);
+        setTrackingId(builder.trackingId);
+        setTemplate(builder.template);
+        setTrafficClass(builder.trafficClass);
     }
 
     /**
@@ -92,6 +108,9 @@ public class PDUOperation implements Serializable {
         builder.smsMessage = copy.smsMessage;
         builder.asynchronous = copy.asynchronous;
         builder.listener = copy.listener;
+        builder.trackingId = copy.trackingId;
+        builder.template = copy.template;
+        builder.trafficClass = copy.trafficClass;
         return builder;
     }
 
@@ -193,6 +212,56 @@ public class PDUOperation implements Serializable {
         this.listener = listener;
     }
 
+    /**
+     * Getter for trackingId. It is set by the facade when the operation is appended to the write-ahead log or, when
+     * the facade indexes the <code>message_id</code> without record, to a correlation id.
+     * @return trackingId, 0 if the operation was neither logged nor indexed.
+     **/
+    public long getTrackingId() {
+        return trackingId;
+    }
+
+    /**
+     * Setter for trackingId.
+     * @param trackingId expected.
+     **/
+    public void setTrackingId(final long trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    /**
+     * Getter for template.
+     * @return template, null if the request is built from the properties.
+     **/
+    public SubmitTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Setter for template. The fixed fields of the <code>submit_sm</code> are taken from the template, only the
+     * destination address is taken from the properties of the operation.
+     * @param template expected.
+     **/
+    public void setTemplate(final SubmitTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Getter for trafficClass.
+     * @return trafficClass, null if it is taken from the <code>priority_flag</code>.
+     **/
+    public TrafficClass getTrafficClass() {
+        return trafficClass;
+    }
+
+    /**
+     * Setter for trafficClass.
+     * @param trafficClass expected.
+     **/
+    public void setTrafficClass(final TrafficClass trafficClass) {
+        this.trafficClass = trafficClass;
+    }
+
     /**
      * {@code PDUOperation} builder static inner class.
      */
@@ -221,6 +290,18 @@ public class PDUOperation implements Serializable {
          * {@link PDUOperation#listener}.
          */
         private PDUListener listener;
+        /**
+         * {@link PDUOperation#trackingId}.
+         */
+        private long trackingId;
+        /**
+         * {@link PDUOperation#template}.
+         */
+        private SubmitTemplate template;
+        /**
+         * {@link PDUOperation#trafficClass}.
+         */
+        private TrafficClass trafficClass;
 
         /**
          * Creates an instance of Builder.
@@ -295,6 +376,39 @@ public class PDUOperation implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@code trackingId} and returns a reference to this Builder so that the methods can be chained together.
+         * @param trackingId the {@code trackingId} to set
+         * @return a reference to this Builder
+         */
+        @NotNull
+        public Builder withTrackingId(final long trackingId) {
+            this.trackingId = trackingId;
+            return this;
+        }
+
+        /**
+         * Sets the {@code template} and returns a reference to this Builder so that the methods can be chained together.
+         * @param template the {@code template} to set
+         * @return a reference to this Builder
+         */
+        @NotNull
+        public Builder withTemplate(final SubmitTemplate template) {
+            this.template = template;
+            return this;
+        }
+
+        /**
+         * Sets the {@code trafficClass} and returns a reference to this Builder so that the methods can be chained together.
+         * @param trafficClass the {@code trafficClass} to set
+         * @return a reference to this Builder
+         */
+        @NotNull
+        public Builder withTrafficClass(final TrafficClass trafficClass) {
+            this.trafficClass = trafficClass;
+            return this;
+        }
+
         /**
          * Returns a {@code PDUOperation} built from the parameters previously set.
          *
@@ -16,6 +16,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.smpp.Data;
 import org.smpp.pdu.Address;
 
+import com.amk.smpp.codec.ConcatenationType;
+
 /**
  * Mandatory SMPP Parameters.
  * Some of the variables necessary to be able to communicate through the SMPP protocol.
@@ -113,6 +115,15 @@ public class PDUOperationProperties {
      * If not using an SMSC canned message, set to NULL.
      */
     private byte   smDefaultMsgId       = Data.DFLT_DFLTMSGID;
+    /**
+     * How the parts of a message longer than one <code>short_message</code> are joined by the handset.
+     */
+    private ConcatenationType concatenationType = ConcatenationType.UDH_8BIT;
+    /**
+     * Packs the septets of the GSM 7-bit default alphabet, 8 characters in 7 octets. Only some SMSCs expect the
+     * <code>short_message</code> packed, most of them pack it themselves.
+     */
+    private boolean septetPacking;
 
 
     /**
@@ -143,6 +154,8 @@ public class PDUOperationProperties {
         this.setReplaceIfPresentFlag(propsBuilder.getReplaceIfPresentFlag());
         this.setDataCoding(propsBuilder.getDataCoding());
         this.setSmDefaultMsgId(propsBuilder.getSmDefaultMsgId());
+        this.setConcatenationType(propsBuilder.getConcatenationType());
+        this.setSeptetPacking(propsBuilder.isSeptetPacking());
     }
 
     /**
@@ -369,6 +382,38 @@ public class PDUOperationProperties {
         this.smDefaultMsgId = smDefaultMsgId;
     }
 
+    /**
+     * Getter for concatenationType.
+     * @return concatenationType.
+     **/
+    public ConcatenationType getConcatenationType() {
+        return concatenationType;
+    }
+
+    /**
+     * Setter for concatenationType.
+     * @param concatenationType expected.
+     **/
+    public void setConcatenationType(final ConcatenationType concatenationType) {
+        this.concatenationType = concatenationType;
+    }
+
+    /**
+     * Getter for septetPacking.
+     * @return septetPacking.
+     **/
+    public boolean isSeptetPacking() {
+        return septetPacking;
+    }
+
+    /**
+     * Setter for septetPacking.
+     * @param septetPacking expected.
+     **/
+    public void setSeptetPacking(final boolean septetPacking) {
+        this.septetPacking = septetPacking;
+    }
+
     /* La documentación de este método se encuentra en la clase o interface que
      * lo declara (non-Javadoc)
      * @see java.lang.Object#toString()
@@ -14,6 +14,8 @@ import java.util.Objects;
 import org.smpp.Data;
 import org.smpp.pdu.Address;
 
+import com.amk.smpp.codec.ConcatenationType;
+
 /**
  * PDU Operation Property Builder.<br/><br/>
  * <b>Pattern:  </b> <code>Builder</code>.
@@ -111,6 +113,15 @@ public class PDUOperationPropertiesBuilder {
      * If not using an SMSC canned message, set to NULL.
      */
     private byte smDefaultMsgId       = Data.DFLT_DFLTMSGID;
+    /**
+     * How the parts of a message longer than one <code>short_message</code> are joined by the handset.
+     */
+    private ConcatenationType concatenationType = ConcatenationType.UDH_8BIT;
+    /**
+     * Packs the septets of the GSM 7-bit default alphabet, 8 characters in 7 octets. Only some SMSCs expect the
+     * <code>short_message</code> packed, most of them pack it themselves.
+     */
+    private boolean septetPacking;
 
     /**
      * Getter for systemType.
@@ -225,6 +236,22 @@ public class PDUOperationPropertiesBuilder {
         return smDefaultMsgId;
     }
 
+    /**
+     * Getter for concatenationType.
+     * @return concatenationType.
+     **/
+    ConcatenationType getConcatenationType() {
+        return concatenationType;
+    }
+
+    /**
+     * Getter for septetPacking.
+     * @return septetPacking.
+     **/
+    boolean isSeptetPacking() {
+        return septetPacking;
+    }
+
 
     /**
      * Setter for systemType.
@@ -366,6 +393,52 @@ public class PDUOperationPropertiesBuilder {
         return this;
     }
 
+    /**
+     * Setter for concatenationType.
+     * @param concatenationType expected.
+     * @return {@link PDUOperationPropertiesBuilder}
+     **/
+    public PDUOperationPropertiesBuilder setConcatenationType(final ConcatenationType concatenationType) {
+        this.concatenationType = concatenationType;
+        return this;
+    }
+
+    /**
+     * Setter for septetPacking.
+     * @param septetPacking expected.
+     * @return {@link PDUOperationPropertiesBuilder}
+     **/
+    public PDUOperationPropertiesBuilder setSeptetPacking(final boolean septetPacking) {
+        this.septetPacking = septetPacking;
+        return this;
+    }
+
+    /**
+     * Creates a builder with the values of existing properties, e.g. to change one of them without altering the
+     * properties shared by other operations.
+     * @param copy {@link PDUOperationProperties}.
+     * @return {@link PDUOperationPropertiesBuilder}.
+     */
+    public static PDUOperationPropertiesBuilder newBuilder(final PDUOperationProperties copy) {
+        return new PDUOperationPropertiesBuilder()
+                .setSystemType(copy.getSystemType())
+                .setServiceType(copy.getServiceType())
+                .setSourceAddress(copy.getSourceAddress())
+                .setDestAddress(copy.getDestAddress())
+                .setScheduleDeliveryTime(copy.getScheduleDeliveryTime())
+                .setValidityPeriod(copy.getValidityPeriod())
+                .setNumberOfDestination(copy.getNumberOfDestination())
+                .setEsmClass(copy.getEsmClass())
+                .setProtocolId(copy.getProtocolId())
+                .setPriorityFlag(copy.getPriorityFlag())
+                .setRegisteredDelivery(copy.getRegisteredDelivery())
+                .setReplaceIfPresentFlag(copy.getReplaceIfPresentFlag())
+                .setDataCoding(copy.getDataCoding())
+                .setSmDefaultMsgId(copy.getSmDefaultMsgId())
+                .setConcatenationType(copy.getConcatenationType())
+                .setSeptetPacking(copy.isSeptetPacking());
+    }
+
     /**
      * Create a {@link PDUOperationProperties} intance.
      * @return new {@link PDUOperationProperties}.
@@ -0,0 +1,59 @@
+/*
+ *      File: TrafficClass.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.operation;
+
+import java.util.Objects;
+
+/**
+ * Lanes of the {@link com.amk.smpp.flow.PriorityScheduler}, from the lowest to the highest priority.<br/>
+ * An operation without explicit class takes the lane of its <code>priority_flag</code>, level 0 to 3.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TrafficClass {
+    /**
+     * Campaigns and other mass sendings, <code>priority_flag</code> 0.
+     */
+    BULK,
+    /**
+     * Notifications, <code>priority_flag</code> 1.
+     */
+    NORMAL,
+    /**
+     * Alerts, <code>priority_flag</code> 2.
+     */
+    HIGH,
+    /**
+     * One-time passwords and other messages expected by the user right away, <code>priority_flag</code> 3.
+     */
+    URGENT;
+
+    /**
+     * Lane of a <code>priority_flag</code>, the levels above 3 are {@link #URGENT}.
+     * @param priorityFlag priority level of the message.
+     * @return the class.
+     */
+    public static TrafficClass of(final byte priorityFlag) {
+        final TrafficClass[] classes = values();
+        return priorityFlag < 0 || priorityFlag >= classes.length ? URGENT : classes[priorityFlag];
+    }
+
+    /**
+     * Lane of an operation, its explicit class or the class of its <code>priority_flag</code>.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the class, {@link #NORMAL} for an operation without properties.
+     */
+    public static TrafficClass of(final PDUOperation pduOperation) {
+        if (Objects.nonNull(pduOperation.getTrafficClass())) {
+            return pduOperation.getTrafficClass();
+        }
+        final PDUOperationProperties props = pduOperation.getOperationProps();
+        return Objects.isNull(props) ? NORMAL : of(props.getPriorityFlag());
+    }
+}
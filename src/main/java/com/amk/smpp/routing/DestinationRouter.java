@@ -0,0 +1,311 @@
+/*
+ *      File: DestinationRouter.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.SmppException;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.rules.PDUOperationsValidator;
+
+/**
+ * {@link SmppWrapperFacade} that performs every operation through the bind group of the SMSC that serves its
+ * destination, chosen in a {@link RouteTable} by the longest prefix of the first destination address.<br/>
+ * When the chosen group is not available, i.e. {@link SmppWrapperFacade#isAvailable()} is false, the operation is
+ * sent through its fallback. The operations without destination use the default route; the received ones are polled
+ * from every bind group in turn. The table can be replaced at any time with {@link #setRouteTable(RouteTable)}; the
+ * operations already routed finish on the previous one.
+ * <b>Pattern: </b> <code>WrapperFacade.</code>
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DestinationRouter implements SmppWrapperFacade {
+    /**
+     * Logger for class.
+     */
+    private static final Logger          LOGGER = LogManager.getLogger(DestinationRouter.class.getName());
+    /**
+     * Runs the batches of the bind groups of the same batch at the same time, daemon threads created on demand.
+     */
+    private static final ExecutorService GROUPS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "smpp-route-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Routes in use.
+     */
+    private volatile RouteTable routeTable;
+    /**
+     * Next bind group polled by {@link #receiveOperation(PDUOperation)}.
+     */
+    private final AtomicInteger receiver = new AtomicInteger();
+
+    /**
+     * Creates an instance of DestinationRouter.
+     * @param routeTable Routes of the destinations.
+     */
+    public DestinationRouter(@NotNull final RouteTable routeTable) {
+        PDUOperationsValidator.validNotNull(routeTable);
+        this.routeTable = routeTable;
+    }
+
+    @Override
+    public < E extends Response > E executeOperation(final PDUOperation pduOperation) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperation);
+        return route(pduOperation).executeOperation(pduOperation);
+    }
+
+    @Override
+    public < E extends Response > CompletableFuture< E > executeOperationAsync(final PDUOperation pduOperation) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperation);
+        return route(pduOperation).executeOperationAsync(pduOperation);
+    }
+
+    /**
+     * Executes a list of operations, every bind group executes the operations routed to it as one batch. The
+     * batches of the bind groups run at the same time, the last one in the calling thread.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperations requested Operations.
+     * @return the SMCS responses in the same order as the operations.
+     * @throws SmppException If an operation has no route, nothing is written then.
+     * @throws PartialBatchException If the batch of a bind group failed, once every group finished; it carries the
+     * responses of the other groups.
+     */
+    @Override
+    public < E extends Response > List< E > executeBatch(final List< PDUOperation > pduOperations) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperations);
+        final RouteTable table = routeTable;
+        final Map< SmppWrapperFacade, List< Integer > > groups = new IdentityHashMap<>();
+        for (int i = 0; i < pduOperations.size(); i++) {
+            PDUOperationsValidator.validNotNull(pduOperations.get(i));
+            groups.computeIfAbsent(route(table, pduOperations.get(i)), target -> new ArrayList<>()).add(i);
+        }
+        final List< E > responses = new ArrayList<>(Collections.nCopies(pduOperations.size(), (E) null));
+        final List< CompletableFuture< Exception > > running = new ArrayList<>(groups.size());
+        int remaining = groups.size();
+        for (final Map.Entry< SmppWrapperFacade, List< Integer > > group : groups.entrySet()) {
+            final Supplier< Exception > batch = () -> executeGroup(group.getKey(), group.getValue(), pduOperations,
+                    responses);
+            running.add(--remaining == 0
+                    ? CompletableFuture.completedFuture(batch.get())
+                    : CompletableFuture.supplyAsync(batch, GROUPS));
+        }
+        Exception failure = null;
+        final List< Integer > failed = new ArrayList<>();
+        int index = 0;
+        for (final List< Integer > indexes : groups.values()) {
+            final Exception e = running.get(index++).join();
+            if (Objects.isNull(e)) {
+                continue;
+            }
+            failed.addAll(indexes);
+            if (Objects.isNull(failure)) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        if (Objects.nonNull(failure)) {
+            Collections.sort(failed);
+            throw new PartialBatchException(responses, failed, failure);
+        }
+        return responses;
+    }
+
+    /**
+     * Executes the operations routed to one bind group as one batch, a failure leaves their positions null.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param target bind group.
+     * @param indexes positions of its operations in the batch.
+     * @param pduOperations requested Operations.
+     * @param responses responses of the whole batch, each group sets only its own positions.
+     * @return the failure of the group, null if its batch was written.
+     */
+    private static < E extends Response > Exception executeGroup(final SmppWrapperFacade target, final List< Integer > indexes,
+            final List< PDUOperation > pduOperations, final List< E > responses) {
+        final List< PDUOperation > routed = new ArrayList<>(indexes.size());
+        indexes.forEach(index -> routed.add(pduOperations.get(index)));
+        final List< E > groupResponses;
+        try {
+            groupResponses = target.executeBatch(routed);
+        } catch (final SmppException | RuntimeException e) {
+            LOGGER.error("[X] error, batch of " + routed.size() + " operations of a bind group failed " + e);
+            return e;
+        }
+        if (Objects.isNull(groupResponses)) {
+            return null;
+        }
+        synchronized (responses) {
+            for (int i = 0; i < routed.size() && i < groupResponses.size(); i++) {
+                responses.set(indexes.get(i), groupResponses.get(i));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Receives from every available bind group in turn, starting at the group after the one polled first by the
+     * previous call, until one of them returns a request; when none is available the first one is polled anyway. A
+     * blocking receive stops at the first group polled, the operation must carry a listener with an interval time.
+     * @param <E> Classes that inherit from {@link Request}.
+     * @param pduOperation requested Operation.
+     * @return The SMCS request, null if no bind group received one.
+     * @throws SmppException If the table has no bind group, or every group polled failed.
+     */
+    @Override
+    public < E extends Request > E receiveOperation(final PDUOperation pduOperation) throws SmppException {
+        final List< SmppWrapperFacade > targets = routeTable.getTargets();
+        if (targets.isEmpty()) {
+            throw new SmppException("[X] error, no route to receive");
+        }
+        final int first = Math.floorMod(receiver.getAndIncrement(), targets.size());
+        SmppException failure = null;
+        int polled = 0;
+        int failed = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            final SmppWrapperFacade target = targets.get((first + i) % targets.size());
+            if (!target.isAvailable()) {
+                continue;
+            }
+            polled++;
+            try {
+                final E request = target.receiveOperation(pduOperation);
+                if (Objects.nonNull(request)) {
+                    return request;
+                }
+            } catch (final SmppException e) {
+                LOGGER.warn("[!] bind group failed to receive " + e.getMessage());
+                failure = e;
+                failed++;
+            }
+        }
+        if (polled == 0) {
+            return targets.get(first).receiveOperation(pduOperation);
+        }
+        if (failed == polled) {
+            throw failure;
+        }
+        return null;
+    }
+
+    /**
+     * Validates if any bind group of the table is available.
+     * @return true if at least one is.
+     */
+    @Override
+    public boolean isAvailable() {
+        for (final SmppWrapperFacade target : routeTable.getTargets()) {
+            if (target.isAvailable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Chooses the bind group of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the bind group, or its fallback.
+     * @throws SmppException If the destination has no route.
+     */
+    public SmppWrapperFacade route(@NotNull final PDUOperation pduOperation) throws SmppException {
+        return route(routeTable, pduOperation);
+    }
+
+    /**
+     * Chooses the bind group of the operation in a table.
+     * @param table routes.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the bind group, or its fallback.
+     * @throws SmppException If the destination has no route.
+     */
+    private static SmppWrapperFacade route(final RouteTable table, final PDUOperation pduOperation) throws SmppException {
+        final String destination = destination(pduOperation);
+        final SmppWrapperFacade target = table.lookup(destination);
+        if (Objects.isNull(target)) {
+            throw new SmppException("[X] error, no route to " + destination);
+        }
+        return available(table, target);
+    }
+
+    /**
+     * Replaces a target that is not available by its fallback, if the fallback is available.
+     * @param table routes.
+     * @param target chosen bind group.
+     * @return the target or its fallback.
+     */
+    private static SmppWrapperFacade available(final RouteTable table, final SmppWrapperFacade target) {
+        if (target.isAvailable()) {
+            return target;
+        }
+        final SmppWrapperFacade fallback = table.fallbackOf(target);
+        if (Objects.nonNull(fallback) && fallback.isAvailable()) {
+            LOGGER.warn("[!] route not available, using its fallback");
+            return fallback;
+        }
+        return target;
+    }
+
+    /**
+     * First destination address of the operation.
+     * @param pduOperation Object containing the details of the operation.
+     * @return the MSISDN, null if the operation has no destination.
+     */
+    private static String destination(final PDUOperation pduOperation) {
+        final PDUOperationProperties props = pduOperation.getOperationProps();
+        if (Objects.isNull(props) || Objects.isNull(props.getDestAddress())) {
+            return null;
+        }
+        for (final Address address : props.getDestAddress()) {
+            if (Objects.nonNull(address)) {
+                return address.getAddress();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Getter for routeTable.
+     * @return routeTable.
+     **/
+    public RouteTable getRouteTable() {
+        return routeTable;
+    }
+
+    /**
+     * Setter for routeTable, the new routes apply to the next operation.
+     * @param routeTable expected.
+     **/
+    public void setRouteTable(@NotNull final RouteTable routeTable) {
+        PDUOperationsValidator.validNotNull(routeTable);
+        this.routeTable = routeTable;
+    }
+}
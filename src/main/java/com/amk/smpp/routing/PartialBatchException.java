@@ -0,0 +1,69 @@
+/*
+ *      File: PartialBatchException.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.routing;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.smpp.SmppException;
+import org.smpp.pdu.Response;
+
+/**
+ * Thrown by {@link DestinationRouter#executeBatch(List)} when the batch of one or more bind groups failed, the
+ * operations of the other groups were written and their responses are kept. The cause is the failure of the first
+ * group, the failures of the others are suppressed exceptions of it.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PartialBatchException extends SmppException {
+    /**
+     * Serial version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Responses in the same order as the operations, null at the positions of the groups that failed.
+     */
+    private final transient List< ? extends Response > responses;
+    /**
+     * Positions of the operations of the groups that failed.
+     */
+    private final transient List< Integer > failed;
+
+    /**
+     * Creates an instance of PartialBatchException.
+     * @param responses responses in the same order as the operations.
+     * @param failed positions of the operations of the groups that failed.
+     * @param cause failure of the first group.
+     */
+    public PartialBatchException(final List< ? extends Response > responses, final List< Integer > failed,
+            final Exception cause) {
+        super("[X] error, " + failed.size() + " of " + responses.size() + " operations of the batch failed", cause);
+        this.responses = Collections.unmodifiableList(responses);
+        this.failed = Collections.unmodifiableList(failed);
+    }
+
+    /**
+     * Getter for responses.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @return responses in the same order as the operations, null at the positions of the groups that failed.
+     **/
+    @SuppressWarnings("unchecked")
+    public < E extends Response > List< E > getResponses() {
+        return (List< E >) responses;
+    }
+
+    /**
+     * Getter for failed.
+     * @return positions of the operations of the groups that failed, in order.
+     **/
+    public List< Integer > getFailed() {
+        return failed;
+    }
+}
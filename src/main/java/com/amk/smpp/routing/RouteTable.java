@@ -0,0 +1,299 @@
+/*
+ *      File: RouteTable.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.CheckForNull;
+import javax.validation.constraints.NotNull;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+
+/**
+ * Immutable table of routes from the prefixes of the MSISDN to the bind groups, one {@link SmppWrapperFacade} per
+ * SMSC.<br/>
+ * The prefixes are compiled in a trie of decimal digits stored in a single array, ten children per node; the lookup
+ * walks the digits of the destination once, without allocating, and keeps the target of the longest prefix found.
+ * A destination without matching prefix takes the default route. Every target can have a fallback, used by the
+ * {@link DestinationRouter} while the target is not available.<br/>
+ * The table is never modified, a new one is built and swapped in the router.
+ * <b>Pattern: </b> <code>Builder.</code>
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class RouteTable {
+    /**
+     * Children of every node.
+     */
+    private static final int RADIX = 10;
+    /**
+     * Index of a missing child or target.
+     */
+    private static final int NONE  = -1;
+
+    /**
+     * Children of the nodes, <code>node * RADIX + digit</code>; 0 is the root, never a child.
+     */
+    private final int[]                children;
+    /**
+     * Index of the target of every node, {@link #NONE} if no prefix ends there.
+     */
+    private final int[]                values;
+    /**
+     * Bind groups of the table.
+     */
+    private final SmppWrapperFacade[]  targets;
+    /**
+     * Index of the fallback of every target, {@link #NONE} without fallback.
+     */
+    private final int[]                fallbacks;
+    /**
+     * Index of the default target, {@link #NONE} without default route.
+     */
+    private final int                  defaultTarget;
+    /**
+     * Number of prefixes.
+     */
+    private final int                  size;
+
+    /**
+     * Compiles the routes of the builder.
+     * @param builder routes.
+     */
+    private RouteTable(final Builder builder) {
+        final Map< SmppWrapperFacade, Integer > indexes = new IdentityHashMap<>();
+        final List< SmppWrapperFacade > group = new ArrayList<>();
+        int nodes = 1;
+        for (final String prefix : builder.routes.keySet()) {
+            nodes += prefix.length();
+        }
+        int[] trie = new int[nodes * RADIX];
+        int[] ends = new int[nodes];
+        Arrays.fill(ends, NONE);
+        int used = 1;
+        for (final Map.Entry< String, SmppWrapperFacade > route : builder.routes.entrySet()) {
+            int node = 0;
+            final String prefix = route.getKey();
+            for (int i = 0; i < prefix.length(); i++) {
+                final int slot = node * RADIX + prefix.charAt(i) - '0';
+                if (trie[slot] == 0) {
+                    trie[slot] = used++;
+                }
+                node = trie[slot];
+            }
+            ends[node] = index(route.getValue(), indexes, group);
+        }
+        this.children = Arrays.copyOf(trie, used * RADIX);
+        this.values = Arrays.copyOf(ends, used);
+        this.defaultTarget = Objects.isNull(builder.defaultTarget) ? NONE : index(builder.defaultTarget, indexes, group);
+        for (final Map.Entry< SmppWrapperFacade, SmppWrapperFacade > fallback : builder.fallbacks.entrySet()) {
+            index(fallback.getKey(), indexes, group);
+            index(fallback.getValue(), indexes, group);
+        }
+        this.targets = group.toArray(new SmppWrapperFacade[0]);
+        this.fallbacks = new int[targets.length];
+        Arrays.fill(fallbacks, NONE);
+        for (final Map.Entry< SmppWrapperFacade, SmppWrapperFacade > fallback : builder.fallbacks.entrySet()) {
+            fallbacks[indexes.get(fallback.getKey())] = indexes.get(fallback.getValue());
+        }
+        this.size = builder.routes.size();
+    }
+
+    /**
+     * Index of a target, added to the table the first time.
+     * @param target bind group.
+     * @param indexes index of every target added.
+     * @param group targets added.
+     * @return the index.
+     */
+    private static int index(final SmppWrapperFacade target, final Map< SmppWrapperFacade, Integer > indexes,
+            final List< SmppWrapperFacade > group) {
+        Integer index = indexes.get(target);
+        if (Objects.isNull(index)) {
+            index = group.size();
+            indexes.put(target, index);
+            group.add(target);
+        }
+        return index;
+    }
+
+    /**
+     * Creates a static builder.
+     * @return {@link Builder}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Finds the target of the longest prefix of the destination. A leading <code>+</code> is skipped, the walk stops
+     * at the first character that is not a decimal digit.
+     * @param destination MSISDN, may be null.
+     * @return the target, the default one when no prefix matches, null without default route.
+     */
+    @CheckForNull
+    public SmppWrapperFacade lookup(@CheckForNull final CharSequence destination) {
+        final int target = find(destination);
+        return target == NONE ? null : targets[target];
+    }
+
+    /**
+     * Fallback of a target.
+     * @param target bind group of the table.
+     * @return the fallback, null if it has none.
+     */
+    @CheckForNull
+    public SmppWrapperFacade fallbackOf(final SmppWrapperFacade target) {
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == target) {
+                return fallbacks[i] == NONE ? null : targets[fallbacks[i]];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the index of the target of the longest prefix of the destination.
+     * @param destination MSISDN, may be null.
+     * @return the index, {@link #defaultTarget} when no prefix matches.
+     */
+    private int find(final CharSequence destination) {
+        int found = values[0];
+        if (Objects.isNull(destination)) {
+            return found == NONE ? defaultTarget : found;
+        }
+        final int length = destination.length();
+        int i = length > 0 && destination.charAt(0) == '+' ? 1 : 0;
+        int node = 0;
+        for (; i < length; i++) {
+            final int digit = destination.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                break;
+            }
+            node = children[node * RADIX + digit];
+            if (node == 0) {
+                break;
+            }
+            if (values[node] != NONE) {
+                found = values[node];
+            }
+        }
+        return found == NONE ? defaultTarget : found;
+    }
+
+    /**
+     * Getter for defaultTarget.
+     * @return the default route, null if there is none.
+     **/
+    @CheckForNull
+    public SmppWrapperFacade getDefaultTarget() {
+        return defaultTarget == NONE ? null : targets[defaultTarget];
+    }
+
+    /**
+     * Bind groups of the table.
+     * @return every target, default and fallbacks included.
+     */
+    public List< SmppWrapperFacade > getTargets() {
+        return Arrays.asList(targets.clone());
+    }
+
+    /**
+     * Number of prefixes.
+     * @return size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@code RouteTable} builder static inner class.
+     */
+    public static final class Builder {
+        /**
+         * Target of every prefix.
+         */
+        private final Map< String, SmppWrapperFacade >            routes    = new LinkedHashMap<>();
+        /**
+         * Fallback of every target.
+         */
+        private final Map< SmppWrapperFacade, SmppWrapperFacade > fallbacks = new IdentityHashMap<>();
+        /**
+         * Target of the destinations without route.
+         */
+        private SmppWrapperFacade                                 defaultTarget;
+
+        /**
+         * Creates an instance of Builder.
+         */
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Adds a route, replacing the previous one of the same prefix.
+         * @param prefix decimal digits of the MSISDN, e.g. the country code and the operator range; a leading
+         * <code>+</code> is ignored, empty matches every destination.
+         * @param target bind group of the prefix.
+         * @return a reference to this Builder
+         */
+        @NotNull
+        public Builder withRoute(@NotNull final String prefix, @NotNull final SmppWrapperFacade target) {
+            final String digits = prefix.startsWith("+") ? prefix.substring(1) : prefix;
+            for (int i = 0; i < digits.length(); i++) {
+                if (digits.charAt(i) < '0' || digits.charAt(i) > '9') {
+                    throw new IllegalArgumentException("[X] error, invalid route prefix " + prefix);
+                }
+            }
+            routes.put(digits, Objects.requireNonNull(target));
+            return this;
+        }
+
+        /**
+         * Sets the target of the destinations that match no prefix.
+         * @param target bind group, null to reject them.
+         * @return a reference to this Builder
+         */
+        @NotNull
+        public Builder withDefault(@CheckForNull final SmppWrapperFacade target) {
+            this.defaultTarget = target;
+            return this;
+        }
+
+        /**
+         * Sets the target used while another one is not available.
+         * @param target bind group.
+         * @param fallback bind group that replaces it.
+         * @return a reference to this Builder
+         */
+        @NotNull
+        public Builder withFallback(@NotNull final SmppWrapperFacade target, @NotNull final SmppWrapperFacade fallback) {
+            if (target == fallback) {
+                throw new IllegalArgumentException("[X] error, a target can not be its own fallback");
+            }
+            fallbacks.put(Objects.requireNonNull(target), Objects.requireNonNull(fallback));
+            return this;
+        }
+
+        /**
+         * Compiles the routes.
+         * @return a {@code RouteTable} built with parameters of this {@code RouteTable.Builder}
+         */
+        @NotNull
+        public RouteTable build() {
+            return new RouteTable(this);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *      File: NotEmptyRule.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.rules;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Rule that validates that one property of an object is not null or empty.<br/>
+ * The property is read through an accessor resolved at compile time (a getter reference), so the rule neither
+ * uses reflection nor allocates when the validation passes.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @param <E> Type of object expected to evaluate.
+ * @since 1.0.0
+ */
+public class NotEmptyRule< E > implements Ruleable< E > {
+    /**
+     * Error msg.
+     */
+    private static final String EMPTY_PROPERTY = "[X] error, The following properties can not be null or empty -> ";
+
+    /**
+     * Name of the validated property.
+     */
+    private final String              property;
+    /**
+     * Getter of the validated property.
+     */
+    private final Function< E, ? > accessor;
+
+    /**
+     * Creates an instance of NotEmptyRule.
+     * @param property Name of the validated property.
+     * @param accessor Getter of the validated property.
+     */
+    public NotEmptyRule(final String property, final Function< E, ? > accessor) {
+        this.property = property;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the property is null or an empty text.
+     * @param object to validate.
+     */
+    @Override
+    public void validate(final E object) {
+        final Object value = accessor.apply(object);
+        if (Objects.isNull(value) || value instanceof CharSequence && ((CharSequence) value).length() == 0) {
+            throw new IllegalArgumentException(EMPTY_PROPERTY + property);
+        }
+    }
+
+    /**
+     * Getter for property.
+     * @return property.
+     **/
+    public String getProperty() {
+        return property;
+    }
+}
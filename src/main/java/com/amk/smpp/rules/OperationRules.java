@@ -0,0 +1,68 @@
+/*
+ *      File: OperationRules.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.rules;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationTypes;
+
+/**
+ * Rules of every {@link PDUOperationTypes}, compiled once when the class is loaded.<br/>
+ * Every operation requires its type, properties and bind type; all but {@link PDUOperationTypes#RECEIVE} also
+ * require the message. The listener is always optional.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class OperationRules {
+    /**
+     * Rules by operation type.
+     */
+    private static final Map< PDUOperationTypes, Ruleable< PDUOperation >[] > RULES = new EnumMap<>(PDUOperationTypes.class);
+
+    static {
+        final Ruleable< PDUOperation > operationProps = new NotEmptyRule<>("operationProps", PDUOperation::getOperationProps);
+        final Ruleable< PDUOperation > bindingType = new NotEmptyRule<>("bindingType", PDUOperation::getBindingType);
+        final Ruleable< PDUOperation > smsMessage = new NotEmptyRule<>("smsMessage", PDUOperation::getSmsMessage);
+        for (PDUOperationTypes type : PDUOperationTypes.values()) {
+            if (PDUOperationTypes.RECEIVE.equals(type)) {
+                RULES.put(type, rules(operationProps, bindingType));
+            } else {
+                RULES.put(type, rules(operationProps, bindingType, smsMessage));
+            }
+        }
+    }
+
+    /**
+     * Creates an instance of OperationRules.
+     */
+    private OperationRules() {
+        // static rules only
+    }
+
+    /**
+     * Builds the array of rules.
+     * @param rules the rules.
+     * @return the same rules.
+     */
+    @SafeVarargs
+    private static Ruleable< PDUOperation >[] rules(final Ruleable< PDUOperation >... rules) {
+        return rules;
+    }
+
+    /**
+     * Returns the compiled rules of the operation type.
+     * @param type Type of the operation.
+     * @return rules that the operation must satisfy.
+     */
+    static Ruleable< PDUOperation >[] forType(final PDUOperationTypes type) {
+        return RULES.get(type);
+    }
+}
@@ -7,13 +7,9 @@
 
 package com.amk.smpp.rules;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import com.amk.smpp.operation.PDUOperation;
-import com.amk.smpp.operation.PDUOperationTypes;
-import com.amk.smpp.util.SMPPUtil;
 
 /**
  * Contract that defines the behavior for the classes of type Rule that help to validate some characteristics of the
@@ -36,28 +32,16 @@ public interface PDUOperationsValidator extends Ruleable {
     }
 
     /**
-     * Valid that the properties of an object are not null or empty.
+     * Valid that the properties of an object are not null or empty.<br/>
+     * The rules of every operation type are compiled once, see {@link OperationRules}.
      * @param pduOperation .
      */
     static void validNotEmpty(final PDUOperation pduOperation) {
-        final Map< String, Object > mapAux = SMPPUtil.beanProperties(pduOperation);
-        if (pduOperation.getOperationType().equals(PDUOperationTypes.RECEIVE)) {
-            if (mapAux.entrySet()
-                    .stream()
-                    .filter(map -> !map.getKey().equals("smsMessage"))
-                    .filter(map -> !map.getKey().equals("listener"))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)).values().parallelStream()
-                    .anyMatch(SMPPUtil.NULL_VALUE::equals)) {
-                throw new IllegalArgumentException("[X] error, The following properties can not be null or empty -> " + mapAux.toString());
-            }
-        } else {
-            if (mapAux.entrySet()
-                    .stream()
-                    .filter(map -> !map.getKey().equals("listener"))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)).values().parallelStream()
-                    .anyMatch(SMPPUtil.NULL_VALUE::equals)) {
-                throw new IllegalArgumentException("[X] error, The following properties can not be null or empty -> " + mapAux.toString());
-            }
+        if (Objects.isNull(pduOperation.getOperationType())) {
+            throw new IllegalArgumentException("[X] error, The following properties can not be null or empty -> operationType");
+        }
+        for (final Ruleable< PDUOperation > rule : OperationRules.forType(pduOperation.getOperationType())) {
+            rule.validate(pduOperation);
         }
     }
 }
@@ -0,0 +1,463 @@
+/*
+ *      File: DeliveryScheduler.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.schedule;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.CheckForNull;
+import javax.validation.constraints.NotNull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.SmppException;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.codec.SubmitTemplate;
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.flow.TokenBucket;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.rules.PDUOperationsValidator;
+import com.amk.smpp.store.LogRecord;
+import com.amk.smpp.store.PDUOperationCodec;
+import com.amk.smpp.store.WriteAheadLog;
+
+/**
+ * Holds the operations with a <code>schedule_delivery_time</code> in the connector and writes them through the
+ * wrapped facade when they are due, for the SMSCs that do not keep scheduled messages or limit how many they keep.
+ * <br/>
+ * The operations wait in a {@link TimingWheel} of ticks of {@link #tick} milliseconds, so holding millions of them
+ * costs one entry each and scheduling one takes constant time. A single thread advances the wheel with the clock
+ * and writes the due operations, at most at the rate of the {@link TokenBucket} when there is one, so a peak of
+ * messages scheduled at the same minute does not flood the binds. A copy of the operation without schedule is
+ * written, the SMSC delivers it immediately and the operation of the caller is not altered. The schedule of an
+ * operation with a {@link SubmitTemplate} must be in the properties of the operation, not compiled in the template.
+ * <br/>
+ * With a {@link WriteAheadLog} of its own every operation is logged before it is accepted and marked once the
+ * SMSC answers it or it is cancelled; after a restart {@link #recover()} schedules again the operations left
+ * pending. Without log the held operations are lost when the process stops.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DeliveryScheduler implements AutoCloseable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER       = LogManager.getLogger(DeliveryScheduler.class.getName());
+    /**
+     * Default duration of a tick, in milliseconds.
+     */
+    public static final long    DEFAULT_TICK = 100L;
+
+    /**
+     * Facade that performs the operations.
+     */
+    private final SmppWrapperFacade        delegate;
+    /**
+     * Rate of the due operations, null to write them as soon as they are due.
+     */
+    private final TokenBucket              rateLimiter;
+    /**
+     * Log of the held operations, null if they are not persisted.
+     */
+    private final WriteAheadLog            writeAheadLog;
+    /**
+     * Duration of a tick, in milliseconds.
+     */
+    private final long                     tick;
+    /**
+     * Operations not due yet.
+     */
+    private final TimingWheel< Held >      wheel;
+    /**
+     * Operations due, waiting for the rate.
+     */
+    private final ArrayDeque< Held >       ready    = new ArrayDeque<>();
+    /**
+     * Guards the wheel and the ready operations.
+     */
+    private final ReentrantLock            lock     = new ReentrantLock();
+    /**
+     * Signaled every time an operation is due on arrival.
+     */
+    private final Condition                due      = lock.newCondition();
+    /**
+     * Operations written.
+     */
+    private final LongAdder                released = new LongAdder();
+    /**
+     * Advances the wheel and writes the due operations.
+     */
+    private final Thread                   releaser;
+    /**
+     * Indicates the operations of the log were recovered.
+     */
+    private boolean                        recovered;
+    /**
+     * Indicates the scheduler was closed.
+     */
+    private volatile boolean               closed;
+
+    /**
+     * Creates an instance of DeliveryScheduler without persistence and ticks of {@link #DEFAULT_TICK}.
+     * @param delegate Facade that performs the operations.
+     * @param rateLimiter Rate of the due operations, null to write them as soon as they are due.
+     */
+    public DeliveryScheduler(@NotNull final SmppWrapperFacade delegate, @CheckForNull final TokenBucket rateLimiter) {
+        this(delegate, rateLimiter, null, DEFAULT_TICK);
+    }
+
+    /**
+     * Creates an instance of DeliveryScheduler.
+     * @param delegate Facade that performs the operations.
+     * @param rateLimiter Rate of the due operations, null to write them as soon as they are due.
+     * @param writeAheadLog Log of the held operations, not shared with the facade; null to keep them in memory.
+     * @param tick Duration of a tick, in milliseconds; the operations are written up to one tick late.
+     */
+    public DeliveryScheduler(@NotNull final SmppWrapperFacade delegate, @CheckForNull final TokenBucket rateLimiter,
+            @CheckForNull final WriteAheadLog writeAheadLog, final long tick) {
+        PDUOperationsValidator.validNotNull(delegate);
+        if (tick <= 0L) {
+            throw new IllegalArgumentException("[X] error, tick must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.writeAheadLog = writeAheadLog;
+        this.tick = tick;
+        this.wheel = new TimingWheel<>(Math.floorDiv(System.currentTimeMillis(), tick));
+        this.releaser = new Thread(this::release, "smpp-delivery-scheduler");
+        releaser.setDaemon(true);
+        releaser.start();
+    }
+
+    /**
+     * Holds the operation until its <code>schedule_delivery_time</code>; an operation without schedule, or already
+     * due, is written as soon as the rate allows.
+     * @param <E> Classes that inherit from {@link Response}.
+     * @param pduOperation requested Operation.
+     * @return the future completed with the SMCS response once the operation is written and answered; cancelling it
+     * before the operation is due removes the operation.
+     * @throws SmppException If the operation could not be logged, its template has a schedule or the scheduler is
+     * closed.
+     */
+    @SuppressWarnings("unchecked")
+    public < E extends Response > CompletableFuture< E > schedule(@NotNull final PDUOperation pduOperation) throws SmppException {
+        PDUOperationsValidator.validNotNull(pduOperation);
+        final SubmitTemplate template = pduOperation.getTemplate();
+        if (Objects.nonNull(template) && Objects.nonNull(template.getScheduleDeliveryTime())) {
+            throw new SmppException("[X] error, schedule_delivery_time compiled in the template, it would reach the SMSC;"
+                    + " compile the template without schedule and set it in the properties of the operation");
+        }
+        if (closed) {
+            throw new SmppException("[X] error, scheduler closed");
+        }
+        final Held held = hold(pduOperation, log(pduOperation));
+        return (CompletableFuture< E >) (CompletableFuture< ? >) held.future;
+    }
+
+    /**
+     * Schedules again the operations left pending in the log by a previous run, only the first time it is called.
+     * @return the number of operations recovered, 0 without log.
+     */
+    public int recover() {
+        final List< LogRecord > pending;
+        lock.lock();
+        try {
+            if (Objects.isNull(writeAheadLog) || recovered) {
+                return 0;
+            }
+            recovered = true;
+            pending = writeAheadLog.pending();
+        } finally {
+            lock.unlock();
+        }
+        int count = 0;
+        for (final LogRecord record : pending) {
+            try {
+                hold(PDUOperationCodec.decode(record.getPayload()), record.getId());
+                count++;
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.error("[X] error, scheduled operation " + record.getId() + " can not be read " + e);
+            }
+        }
+        LOGGER.info("Delivery scheduler recovered " + count + " operations");
+        return count;
+    }
+
+    /**
+     * Appends the operation to the log and waits until it is durable.
+     * @param pduOperation requested Operation.
+     * @return the id of the record, 0 without log.
+     * @throws SmppException If the operation could not be logged.
+     */
+    private long log(final PDUOperation pduOperation) throws SmppException {
+        if (Objects.isNull(writeAheadLog)) {
+            return 0L;
+        }
+        try {
+            return writeAheadLog.append(PDUOperationCodec.encode(pduOperation)).get();
+        } catch (final IOException | ExecutionException | RuntimeException e) {
+            LOGGER.error("[X] error, scheduled operation not logged " + e);
+            throw new SmppException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmppException(e);
+        }
+    }
+
+    /**
+     * Puts the operation in the slot of its schedule, or with the due operations.
+     * @param pduOperation requested Operation.
+     * @param logId id of its record, 0 without log.
+     * @return the held operation.
+     */
+    private Held hold(final PDUOperation pduOperation, final long logId) {
+        final Held held = new Held(pduOperation, logId);
+        final PDUOperationProperties props = pduOperation.getOperationProps();
+        final Date schedule = Objects.isNull(props) ? null : props.getScheduleDeliveryTime();
+        lock.lock();
+        try {
+            if (closed) {
+                held.future.completeExceptionally(new SmppException("[X] error, scheduler closed"));
+                return held;
+            }
+            if (Objects.nonNull(schedule)) {
+                held.entry = wheel.add(Math.floorDiv(schedule.getTime() + tick - 1L, tick), held);
+            }
+            if (Objects.isNull(held.entry)) {
+                ready.add(held);
+                due.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        held.future.whenComplete((response, error) -> {
+            if (Objects.nonNull(error)) {
+                cancel(held);
+            }
+        });
+        return held;
+    }
+
+    /**
+     * Removes an operation that was cancelled before it was written, its record is marked.
+     * @param held the operation.
+     */
+    private void cancel(final Held held) {
+        if (closed) {
+            return;
+        }
+        final boolean removed;
+        lock.lock();
+        try {
+            removed = Objects.nonNull(held.entry) && wheel.cancel(held.entry) || ready.remove(held);
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            mark(held);
+        }
+    }
+
+    /**
+     * Loop of the releaser: advances the wheel and writes the due operations at the rate.
+     */
+    private void release() {
+        while (!closed) {
+            final Held held;
+            lock.lock();
+            try {
+                final long now = System.currentTimeMillis();
+                wheel.advance(Math.floorDiv(now, tick), ready::add);
+                held = ready.poll();
+                if (Objects.isNull(held)) {
+                    due.await((wheel.getCurrentTick() + 1L) * tick - now, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+            } catch (final InterruptedException e) {
+                break;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                if (Objects.nonNull(rateLimiter) && !rateLimiter.tryAcquire(tick, TimeUnit.MILLISECONDS)) {
+                    requeue(held);
+                    continue;
+                }
+            } catch (final InterruptedException e) {
+                requeue(held);
+                break;
+            }
+            write(held);
+        }
+    }
+
+    /**
+     * Copies the operation with properties without schedule, the properties of the caller may be shared.
+     * @param pduOperation held operation.
+     * @return the operation to write, the same one if it has no schedule.
+     */
+    private static PDUOperation immediate(final PDUOperation pduOperation) {
+        final PDUOperationProperties props = pduOperation.getOperationProps();
+        if (Objects.isNull(props) || Objects.isNull(props.getScheduleDeliveryTime())) {
+            return pduOperation;
+        }
+        return PDUOperation.newBuilder(pduOperation)
+                .withOperationProps(PDUOperationPropertiesBuilder.newBuilder(props).setScheduleDeliveryTime(null).build())
+                .build();
+    }
+
+    /**
+     * Puts a due operation back at the head of the ready ones.
+     * @param held the operation.
+     */
+    private void requeue(final Held held) {
+        lock.lock();
+        try {
+            ready.addFirst(held);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a due operation through the wrapped facade without its schedule.
+     * @param held the operation.
+     */
+    private void write(final Held held) {
+        if (held.future.isDone()) {
+            return;
+        }
+        final CompletableFuture< Response > sent;
+        try {
+            sent = delegate.executeOperationAsync(immediate(held.pduOperation));
+        } catch (final SmppException | RuntimeException e) {
+            LOGGER.error("[X] error, scheduled operation not written " + e.getMessage());
+            held.future.completeExceptionally(e);
+            return;
+        }
+        released.increment();
+        sent.whenComplete((response, error) -> {
+            if (Objects.isNull(error)) {
+                mark(held);
+                held.future.complete(response);
+            } else {
+                held.future.completeExceptionally(error);
+            }
+        });
+    }
+
+    /**
+     * Marks the record of an operation that no longer has to be replayed.
+     * @param held the operation.
+     */
+    private void mark(final Held held) {
+        if (Objects.isNull(writeAheadLog) || held.logId == 0L) {
+            return;
+        }
+        try {
+            writeAheadLog.markSubmitted(held.logId);
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("[!] scheduled operation " + held.logId + " not marked, it will be replayed " + e);
+        }
+    }
+
+    /**
+     * Operations held, not written yet.
+     * @return size.
+     */
+    public int getScheduled() {
+        lock.lock();
+        try {
+            return wheel.size() + ready.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Getter for released.
+     * @return operations written.
+     **/
+    public long getReleased() {
+        return released.sum();
+    }
+
+    /**
+     * Getter for tick.
+     * @return tick, in milliseconds.
+     **/
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Stops the releaser. The held operations fail; with a log they stay pending and are recovered on the next run.
+     */
+    @Override
+    public void close() {
+        final List< Held > held = new ArrayList<>();
+        lock.lock();
+        try {
+            closed = true;
+            wheel.drain(held::add);
+            held.addAll(ready);
+            ready.clear();
+            due.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        releaser.interrupt();
+        held.forEach(operation -> operation.future.completeExceptionally(new SmppException("[X] error, scheduler closed")));
+    }
+
+    /**
+     * An operation held by the scheduler.
+     */
+    private static final class Held {
+        /**
+         * The operation.
+         */
+        private final PDUOperation                  pduOperation;
+        /**
+         * Id of its record, 0 without log.
+         */
+        private final long                          logId;
+        /**
+         * Completed with the response.
+         */
+        private final CompletableFuture< Response > future = new CompletableFuture<>();
+        /**
+         * Entry in the wheel, null if it was due on arrival.
+         */
+        private TimingWheel.Entry< Held >           entry;
+
+        /**
+         * Creates an instance of Held.
+         * @param pduOperation The operation.
+         * @param logId Id of its record.
+         */
+        private Held(final PDUOperation pduOperation, final long logId) {
+            this.pduOperation = pduOperation;
+            this.logId = logId;
+        }
+    }
+}
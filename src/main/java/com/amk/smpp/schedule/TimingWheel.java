@@ -0,0 +1,270 @@
+/*
+ *      File: TimingWheel.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.schedule;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Hierarchical timing wheel of items with a deadline in ticks.<br/>
+ * There are {@link #LEVELS} wheels of {@link #SLOTS} slots; the slot of an item in the wheel of level <i>n</i>
+ * spans <code>SLOTS<sup>n</sup></code> ticks, so the four levels cover <code>2<sup>32</sup></code> ticks ahead and
+ * the farther deadlines wait in the last level. An item is linked into the slot chosen by its deadline, adding and
+ * cancelling it take constant time whatever the number of items. Every time the current tick crosses the span of a
+ * slot of a higher level its items are moved down one or more levels, and the slot of the lowest level is expired;
+ * each item is moved at most {@link #LEVELS} times before it expires.<br/>
+ * The wheel is not thread safe, the owner guards it.
+ * @param <T> Type of the items.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TimingWheel< T > {
+    /**
+     * Bits of the slot of every level.
+     */
+    private static final int BITS   = 8;
+    /**
+     * Slots of every level.
+     */
+    public static final int  SLOTS  = 1 << BITS;
+    /**
+     * Levels of the wheel.
+     */
+    public static final int  LEVELS = 4;
+    /**
+     * Mask of the slot of a level.
+     */
+    private static final int MASK   = SLOTS - 1;
+
+    /**
+     * First entry of every slot, <code>level * SLOTS + slot</code>.
+     */
+    private final Entry< T >[] slots;
+    /**
+     * Last tick advanced.
+     */
+    private long               currentTick;
+    /**
+     * Items in the wheel.
+     */
+    private int                size;
+
+    /**
+     * Creates an instance of TimingWheel.
+     * @param startTick current tick.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(final long startTick) {
+        this.slots = new Entry[LEVELS * SLOTS];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Adds an item.
+     * @param deadline tick when the item expires.
+     * @param item the item.
+     * @return the entry of the item, to cancel it; null if the deadline is not after the current tick, the item is
+     * due and was not added.
+     */
+    @CheckForNull
+    public Entry< T > add(final long deadline, final T item) {
+        if (deadline <= currentTick) {
+            return null;
+        }
+        final Entry< T > entry = new Entry<>(deadline, Objects.requireNonNull(item));
+        link(entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes an item before it expires.
+     * @param entry entry returned by {@link #add(long, Object)}.
+     * @return false if the item already expired or was cancelled.
+     */
+    public boolean cancel(final Entry< T > entry) {
+        if (entry.slot < 0) {
+            return false;
+        }
+        unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to a new tick, expiring the items whose deadline is reached.
+     * @param tick new current tick, a tick before the current one is ignored.
+     * @param expired receives every expired item, in order of deadline.
+     */
+    public void advance(final long tick, final Consumer< T > expired) {
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1L)) == 0L) {
+                    cascade(level * SLOTS + (int) ((currentTick >>> (BITS * level)) & MASK));
+                }
+            }
+            Entry< T > entry = slots[(int) (currentTick & MASK)];
+            while (Objects.nonNull(entry)) {
+                final Entry< T > next = entry.next;
+                unlink(entry);
+                size--;
+                expired.accept(entry.item);
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Removes every item without expiring it.
+     * @param removed receives every item, in no particular order.
+     */
+    public void drain(final Consumer< T > removed) {
+        for (int index = 0; index < slots.length; index++) {
+            Entry< T > entry = slots[index];
+            while (Objects.nonNull(entry)) {
+                final Entry< T > next = entry.next;
+                unlink(entry);
+                size--;
+                removed.accept(entry.item);
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Moves the items of a slot of a higher level down to the level of their remaining ticks.
+     * @param index slot.
+     */
+    private void cascade(final int index) {
+        Entry< T > entry = slots[index];
+        slots[index] = null;
+        while (Objects.nonNull(entry)) {
+            final Entry< T > next = entry.next;
+            entry.previous = null;
+            entry.next = null;
+            link(entry);
+            entry = next;
+        }
+    }
+
+    /**
+     * Links an entry into the slot of its deadline. An entry due at the current tick goes to the current slot of the
+     * lowest level, expired right after the cascade.
+     * @param entry the entry.
+     */
+    private void link(final Entry< T > entry) {
+        final long remaining = Math.max(0L, entry.deadline - currentTick);
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        final long target = remaining >= 1L << (BITS * LEVELS) ? currentTick + (1L << (BITS * LEVELS)) - 1L : entry.deadline;
+        final int index = level * SLOTS + (int) ((target >>> (BITS * level)) & MASK);
+        entry.slot = index;
+        entry.next = slots[index];
+        if (Objects.nonNull(entry.next)) {
+            entry.next.previous = entry;
+        }
+        slots[index] = entry;
+    }
+
+    /**
+     * Unlinks an entry from its slot.
+     * @param entry the entry.
+     */
+    private void unlink(final Entry< T > entry) {
+        if (Objects.isNull(entry.previous)) {
+            slots[entry.slot] = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (Objects.nonNull(entry.next)) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.slot = -1;
+    }
+
+    /**
+     * Getter for currentTick.
+     * @return currentTick.
+     **/
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Items in the wheel.
+     * @return size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * An item in the wheel.
+     * @param <T> Type of the item.
+     */
+    public static final class Entry< T > {
+        /**
+         * Tick when the item expires.
+         */
+        private final long deadline;
+        /**
+         * The item.
+         */
+        private final T    item;
+        /**
+         * Slot of the entry, -1 when it is not in the wheel.
+         */
+        private int        slot = -1;
+        /**
+         * Previous entry of the slot.
+         */
+        private Entry< T > previous;
+        /**
+         * Next entry of the slot.
+         */
+        private Entry< T > next;
+
+        /**
+         * Creates an instance of Entry.
+         * @param deadline Tick when the item expires.
+         * @param item The item.
+         */
+        private Entry(final long deadline, final T item) {
+            this.deadline = deadline;
+            this.item = item;
+        }
+
+        /**
+         * Getter for deadline.
+         * @return deadline.
+         **/
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Getter for item.
+         * @return item.
+         **/
+        public T getItem() {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *      File: LogRecord.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.store;
+
+/**
+ * Record appended to the {@link WriteAheadLog} and not marked as submitted yet.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LogRecord {
+    /**
+     * Identifier assigned by the log, increasing in the order of the appends.
+     */
+    private final long   id;
+    /**
+     * Bytes appended.
+     */
+    private final byte[] payload;
+
+    /**
+     * Creates an instance of LogRecord.
+     * @param id Identifier assigned by the log.
+     * @param payload Bytes appended.
+     */
+    LogRecord(final long id, final byte[] payload) {
+        this.id = id;
+        this.payload = payload;
+    }
+
+    /**
+     * Getter for id.
+     * @return id.
+     **/
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Getter for payload.
+     * @return payload.
+     **/
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return "LogRecord [id=" + id + ", payload=" + payload.length + " bytes]";
+    }
+}
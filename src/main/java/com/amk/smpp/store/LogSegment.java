@@ -0,0 +1,237 @@
+/*
+ *      File: LogSegment.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * One memory-mapped file of the {@link WriteAheadLog}.<br/>
+ * The file is created with its whole size, filled with zeros, so a record length of zero marks the end of the
+ * records. Every record is written as <code>[int length][byte type][long id][payload][int crc32]</code>, the length
+ * includes the header and the checksum; the checksum covers the type, the id and the payload, so a record torn by a
+ * crash is detected and ends the replay of the segment.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class LogSegment {
+    /**
+     * Record of an appended payload.
+     */
+    static final byte APPEND   = 1;
+    /**
+     * Record that marks an appended payload as submitted.
+     */
+    static final byte MARK     = 2;
+    /**
+     * Bytes of the length, type and id.
+     */
+    static final int  HEADER   = Integer.BYTES + Byte.BYTES + Long.BYTES;
+    /**
+     * Bytes of the header and the checksum.
+     */
+    static final int  OVERHEAD = HEADER + Integer.BYTES;
+
+    /**
+     * File of the segment.
+     */
+    private final Path             path;
+    /**
+     * Position of the segment in the log.
+     */
+    private final long             sequence;
+    /**
+     * Mapping of the whole file.
+     */
+    private final MappedByteBuffer buffer;
+    /**
+     * Reused to compute the checksums, guarded by the lock of the log.
+     */
+    private final CRC32            crc = new CRC32();
+    /**
+     * Records appended to this segment and not marked yet, guarded by the lock of the log.
+     */
+    private int pending;
+
+    /**
+     * Creates an instance of LogSegment.
+     * @param path File of the segment.
+     * @param sequence Position of the segment in the log.
+     * @param buffer Mapping of the whole file.
+     */
+    private LogSegment(final Path path, final long sequence, final MappedByteBuffer buffer) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates and maps the file of a new segment.
+     * @param path File of the segment, must not exist.
+     * @param sequence Position of the segment in the log.
+     * @param size Size of the file in bytes.
+     * @return the empty segment.
+     * @throws IOException If the file could not be created.
+     */
+    static LogSegment create(final Path path, final long sequence, final int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return new LogSegment(path, sequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /**
+     * Maps the file of an existing segment.
+     * @param path File of the segment.
+     * @param sequence Position of the segment in the log.
+     * @return the segment, positioned at the beginning.
+     * @throws IOException If the file could not be mapped.
+     */
+    static LogSegment open(final Path path, final long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new LogSegment(path, sequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the records from the beginning of the segment up to the end or the first torn record; the segment is
+     * left positioned after the last valid record.
+     * @param visitor notified of every valid record, in order.
+     */
+    void replay(final Visitor visitor) {
+        buffer.position(0);
+        while (buffer.remaining() >= OVERHEAD) {
+            final int start = buffer.position();
+            final int length = buffer.getInt(start);
+            if (length < OVERHEAD || length > buffer.remaining()) {
+                break;
+            }
+            final byte[] record = new byte[length - Integer.BYTES * 2];
+            buffer.position(start + Integer.BYTES);
+            buffer.get(record);
+            crc.reset();
+            crc.update(record, 0, record.length);
+            if ((int) crc.getValue() != buffer.getInt()) {
+                buffer.position(start);
+                break;
+            }
+            final byte[] payload = new byte[length - OVERHEAD];
+            System.arraycopy(record, Byte.BYTES + Long.BYTES, payload, 0, payload.length);
+            visitor.visit(record[0], readLong(record, Byte.BYTES), payload);
+        }
+    }
+
+    /**
+     * Validates if a record fits in the rest of the segment.
+     * @param length payload length.
+     * @return true if it fits.
+     */
+    boolean fits(final int length) {
+        return buffer.remaining() >= OVERHEAD + length;
+    }
+
+    /**
+     * Writes a record at the current position.
+     * @param type {@link #APPEND} or {@link #MARK}.
+     * @param id id of the record.
+     * @param payload payload, empty for a mark.
+     */
+    void write(final byte type, final long id, final byte[] payload) {
+        final int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.put(type).putLong(id).put(payload);
+        crc.reset();
+        crc.update(type);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            crc.update((int) (id >>> shift));
+        }
+        crc.update(payload, 0, payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.putInt(start, OVERHEAD + payload.length);
+    }
+
+    /**
+     * Forces the written records to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Deletes the file. The mapping is released when the segment is garbage collected.
+     * @throws IOException If the file could not be deleted.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Reads a big-endian long.
+     * @param bytes source.
+     * @param offset first byte.
+     * @return the long.
+     */
+    private static long readLong(final byte[] bytes, final int offset) {
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << Byte.SIZE | bytes[offset + i] & 0xFFL;
+        }
+        return value;
+    }
+
+    /**
+     * Getter for path.
+     * @return path.
+     **/
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Getter for sequence.
+     * @return sequence.
+     **/
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Getter for pending.
+     * @return records appended to this segment and not marked yet.
+     **/
+    int getPending() {
+        return pending;
+    }
+
+    /**
+     * Setter for pending.
+     * @param pending expected.
+     **/
+    void setPending(final int pending) {
+        this.pending = pending;
+    }
+
+    /**
+     * Receives the records of a segment during the replay.
+     */
+    interface Visitor {
+        /**
+         * Called for every valid record.
+         * @param type {@link #APPEND} or {@link #MARK}.
+         * @param id id of the record.
+         * @param payload payload, empty for a mark.
+         */
+        void visit(byte type, long id, byte[] payload);
+    }
+}
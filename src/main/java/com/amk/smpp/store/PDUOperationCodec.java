@@ -0,0 +1,220 @@
+/*
+ *      File: PDUOperationCodec.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Objects;
+
+import org.smpp.pdu.Address;
+import org.smpp.pdu.WrongLengthOfStringException;
+
+import com.amk.smpp.codec.ConcatenationType;
+import com.amk.smpp.core.BindingType;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.operation.TrafficClass;
+import com.amk.smpp.util.Message;
+
+/**
+ * Binary form of a {@link PDUOperation} kept in the {@link WriteAheadLog}.<br/>
+ * Only the data needed to perform the operation again is written: type, bind type, properties, message and traffic
+ * class. The listener is not kept, a recovered asynchronous operation needs a new one. Payloads of the first
+ * version, without traffic class, are still read.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PDUOperationCodec {
+    /**
+     * Version of the format, first byte of every payload.
+     */
+    private static final byte VERSION    = 2;
+    /**
+     * First version, without traffic class.
+     */
+    private static final byte VERSION_1  = 1;
+
+    /**
+     * Creates an instance of PDUOperationCodec.
+     */
+    private PDUOperationCodec() {
+        super();
+    }
+
+    /**
+     * Writes the operation.
+     * @param pduOperation operation to keep.
+     * @return the payload.
+     * @throws IOException If a text is longer than 65535 bytes.
+     */
+    public static byte[] encode(final PDUOperation pduOperation) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(pduOperation.getOperationType().getOperationId());
+            out.writeInt(pduOperation.getBindingType().getBindId());
+            out.writeBoolean(pduOperation.isAsynchronous());
+            final PDUOperationProperties props = pduOperation.getOperationProps();
+            out.writeBoolean(Objects.nonNull(props));
+            if (Objects.nonNull(props)) {
+                writeString(out, props.getSystemType());
+                writeString(out, props.getServiceType());
+                writeAddress(out, props.getSourceAddress());
+                final Address[] destinations = props.getDestAddress();
+                out.writeInt(Objects.isNull(destinations) ? -1 : destinations.length);
+                if (Objects.nonNull(destinations)) {
+                    for (final Address destination : destinations) {
+                        writeAddress(out, destination);
+                    }
+                }
+                final Date schedule = props.getScheduleDeliveryTime();
+                out.writeLong(Objects.isNull(schedule) ? Long.MIN_VALUE : schedule.getTime());
+                writeString(out, props.getValidityPeriod());
+                out.writeInt(props.getNumberOfDestination());
+                out.writeByte(props.getEsmClass());
+                out.writeByte(props.getProtocolId());
+                out.writeByte(props.getPriorityFlag());
+                out.writeByte(props.getRegisteredDelivery());
+                out.writeByte(props.getReplaceIfPresentFlag());
+                out.writeByte(props.getDataCoding());
+                out.writeByte(props.getSmDefaultMsgId());
+                writeString(out, Objects.isNull(props.getConcatenationType()) ? null : props.getConcatenationType().name());
+                out.writeBoolean(props.isSeptetPacking());
+            }
+            final Message message = pduOperation.getSmsMessage();
+            out.writeBoolean(Objects.nonNull(message));
+            if (Objects.nonNull(message)) {
+                writeString(out, message.getId());
+                writeString(out, message.getBody());
+            }
+            final TrafficClass trafficClass = pduOperation.getTrafficClass();
+            writeString(out, Objects.isNull(trafficClass) ? null : trafficClass.name());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads an operation.
+     * @param payload bytes written by {@link #encode(PDUOperation)}.
+     * @return the operation, without listener and tracking id.
+     * @throws IOException If the payload is truncated or of an unknown version.
+     */
+    public static PDUOperation decode(final byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final byte version = in.readByte();
+            if (version != VERSION && version != VERSION_1) {
+                throw new IOException("[X] error, unknown operation format version " + version);
+            }
+            final PDUOperation.Builder builder = PDUOperation.newBuilder()
+                    .withOperationType(PDUOperationTypes.valueOf(in.readInt()))
+                    .withBindingType(BindingType.valueOf(in.readInt()))
+                    .withAsynchronous(in.readBoolean());
+            if (in.readBoolean()) {
+                final PDUOperationPropertiesBuilder props = new PDUOperationPropertiesBuilder()
+                        .setSystemType(readString(in))
+                        .setServiceType(readString(in))
+                        .setSourceAddress(readAddress(in));
+                final int count = in.readInt();
+                if (count >= 0) {
+                    final Address[] destinations = new Address[count];
+                    for (int i = 0; i < count; i++) {
+                        destinations[i] = readAddress(in);
+                    }
+                    props.setDestAddress(destinations);
+                }
+                final long schedule = in.readLong();
+                props.setScheduleDeliveryTime(schedule == Long.MIN_VALUE ? null : new Date(schedule))
+                        .setValidityPeriod(readString(in))
+                        .setNumberOfDestination(in.readInt())
+                        .setEsmClass(in.readByte())
+                        .setProtocolId(in.readByte())
+                        .setPriorityFlag(in.readByte())
+                        .setRegisteredDelivery(in.readByte())
+                        .setReplaceIfPresentFlag(in.readByte())
+                        .setDataCoding(in.readByte())
+                        .setSmDefaultMsgId(in.readByte());
+                final String concatenation = readString(in);
+                props.setConcatenationType(Objects.isNull(concatenation) ? null : ConcatenationType.valueOf(concatenation))
+                        .setSeptetPacking(in.readBoolean());
+                builder.withOperationProps(props.build());
+            }
+            if (in.readBoolean()) {
+                builder.withSmsMessage(new Message(readString(in), readString(in)));
+            }
+            if (version != VERSION_1) {
+                final String trafficClass = readString(in);
+                builder.withTrafficClass(Objects.isNull(trafficClass) ? null : TrafficClass.valueOf(trafficClass));
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Writes a text that may be null.
+     * @param out destination.
+     * @param value text.
+     * @throws IOException If the text is longer than 65535 bytes.
+     */
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeBoolean(Objects.nonNull(value));
+        if (Objects.nonNull(value)) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Reads a text that may be null.
+     * @param in source.
+     * @return the text.
+     * @throws IOException If the payload is truncated.
+     */
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Writes an address that may be null.
+     * @param out destination.
+     * @param address address.
+     * @throws IOException If the address is longer than 65535 bytes.
+     */
+    private static void writeAddress(final DataOutputStream out, final Address address) throws IOException {
+        out.writeBoolean(Objects.nonNull(address));
+        if (Objects.nonNull(address)) {
+            out.writeByte(address.getTon());
+            out.writeByte(address.getNpi());
+            writeString(out, address.getAddress());
+        }
+    }
+
+    /**
+     * Reads an address that may be null.
+     * @param in source.
+     * @return the address.
+     * @throws IOException If the payload is truncated or the address is too long.
+     */
+    private static Address readAddress(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final byte ton = in.readByte();
+        final byte npi = in.readByte();
+        try {
+            return new Address(ton, npi, readString(in));
+        } catch (final WrongLengthOfStringException e) {
+            throw new IOException("[X] error, invalid address " + e.getMessage(), e);
+        }
+    }
+}
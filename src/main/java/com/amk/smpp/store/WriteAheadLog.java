@@ -0,0 +1,481 @@
+/*
+ *      File: WriteAheadLog.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.store;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Write-ahead log of the outbound operations.<br/>
+ * Every payload is appended to a memory-mapped segment file and receives an increasing id; the future returned by
+ * {@link #append(byte[])} is completed once the record is on the storage device. A single flusher thread forces the
+ * segment and completes every append written before the force, so the appends of concurrent callers share one
+ * <code>fsync</code> (group commit). When the SMSC answers the operation the record is marked as submitted; marks
+ * are written without forcing, a mark lost in a crash only means the operation is submitted again.<br/>
+ * A segment is rolled when a record does not fit, and deleted once every record of it and of the older segments has
+ * been marked. A record never marked, e.g. its operation failed or its response was lost, would keep every newer
+ * segment on disk; so on every roll the records still pending in the segments older than the previous one are
+ * copied, with the same id, into the new segment, up to half of it, and their old segments are deleted. When the log
+ * is opened every segment is replayed and the records not marked are available through {@link #pending()}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class WriteAheadLog implements AutoCloseable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger  LOGGER               = LogManager.getLogger(WriteAheadLog.class.getName());
+    /**
+     * Size of every segment file, 64 MB.
+     */
+    public static final int      DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * Name of the segment files.
+     */
+    private static final Pattern SEGMENT_NAME         = Pattern.compile("wal-(\\d{16})\\.log");
+    /**
+     * Error msg.
+     */
+    private static final String  CLOSED               = "[X] error, write-ahead log closed";
+    /**
+     * Empty payload of the marks.
+     */
+    private static final byte[]  NO_PAYLOAD           = new byte[0];
+
+    /**
+     * Directory of the segment files.
+     */
+    private final Path    directory;
+    /**
+     * Size of every new segment file.
+     */
+    private final int     segmentSize;
+    /**
+     * Guards the segments, the ids and the waiters.
+     */
+    private final ReentrantLock lock    = new ReentrantLock();
+    /**
+     * Signaled when there are appends to force or the log is closed.
+     */
+    private final Condition     written = lock.newCondition();
+    /**
+     * Segments with records not marked, oldest first; the last one is {@link #current}.
+     */
+    private final Deque< LogSegment >          segments = new ArrayDeque<>();
+    /**
+     * Segment of every record not marked yet, by id.
+     */
+    private final Map< Long, LogSegment >      owners   = new HashMap<>();
+    /**
+     * Records found not marked when the log was opened, by id.
+     */
+    private final Map< Long, LogRecord >       replayed = new LinkedHashMap<>();
+    /**
+     * Appends waiting for the force, in id order.
+     */
+    private final Deque< Waiter >              waiters  = new ArrayDeque<>();
+    /**
+     * Forces the segments.
+     */
+    private final Thread  flusher;
+    /**
+     * Segment receiving the records.
+     */
+    private LogSegment    current;
+    /**
+     * Id of the next append.
+     */
+    private long          nextId = 1L;
+    /**
+     * Number of forces performed.
+     */
+    private long          forces;
+    /**
+     * The log no longer accepts records.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Opens the log with segments of {@link #DEFAULT_SEGMENT_SIZE} bytes.
+     * @param directory Directory of the segment files, created if it does not exist.
+     * @throws IOException If the segments could not be read or created.
+     */
+    public WriteAheadLog(final Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the log, replays the existing segments and starts a new one.
+     * @param directory Directory of the segment files, created if it does not exist.
+     * @param segmentSize Size of every new segment file in bytes.
+     * @throws IOException If the segments could not be read or created.
+     */
+    public WriteAheadLog(final Path directory, final int segmentSize) throws IOException {
+        if (segmentSize <= LogSegment.OVERHEAD) {
+            throw new IllegalArgumentException("[X] error, segment size must be greater than " + LogSegment.OVERHEAD);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        final long sequence = recover();
+        current = LogSegment.create(segmentPath(sequence), sequence, segmentSize);
+        segments.addLast(current);
+        flusher = new Thread(this::flush, "wal-flusher-" + directory.getFileName());
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Replays every segment of the directory and deletes the ones fully marked.
+     * @return sequence of the next segment.
+     * @throws IOException If a segment could not be read.
+     */
+    private long recover() throws IOException {
+        final TreeMap< Long, Path > files = new TreeMap<>();
+        try (DirectoryStream< Path > stream = Files.newDirectoryStream(directory)) {
+            for (final Path path : stream) {
+                final Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    files.put(Long.parseLong(matcher.group(1)), path);
+                }
+            }
+        }
+        long maxId = 0L;
+        for (final Map.Entry< Long, Path > file : files.entrySet()) {
+            final LogSegment segment = LogSegment.open(file.getValue(), file.getKey());
+            final long[] lastId = {maxId};
+            segment.replay((type, id, payload) -> {
+                if (type == LogSegment.APPEND) {
+                    replayed.put(id, new LogRecord(id, payload));
+                    owners.put(id, segment);
+                    lastId[0] = Math.max(lastId[0], id);
+                } else if (type == LogSegment.MARK) {
+                    replayed.remove(id);
+                    owners.remove(id);
+                }
+            });
+            maxId = lastId[0];
+            segments.addLast(segment);
+        }
+        owners.values().forEach(segment -> segment.setPending(segment.getPending() + 1));
+        nextId = maxId + 1L;
+        release();
+        LOGGER.info("Write-ahead log " + directory + " recovered " + replayed.size() + " pending records from "
+                + files.size() + " segments");
+        return files.isEmpty() ? 0L : files.lastKey() + 1L;
+    }
+
+    /**
+     * Appends a payload to the log.
+     * @param payload bytes to keep.
+     * @return the future completed with the id of the record once it is on the storage device.
+     * @throws IOException If a new segment could not be created.
+     */
+    public CompletableFuture< Long > append(final byte[] payload) throws IOException {
+        final Waiter waiter;
+        lock.lock();
+        try {
+            final long id = write(LogSegment.APPEND, nextId, payload);
+            nextId++;
+            current.setPending(current.getPending() + 1);
+            owners.put(id, current);
+            waiter = new Waiter(id);
+            waiters.addLast(waiter);
+            written.signal();
+        } finally {
+            lock.unlock();
+        }
+        return waiter.future;
+    }
+
+    /**
+     * Marks a record as submitted, it is no longer replayed. The mark is not forced.
+     * @param id id of the record.
+     * @return false if the record is unknown or already marked.
+     * @throws IOException If a new segment could not be created.
+     */
+    public boolean markSubmitted(final long id) throws IOException {
+        lock.lock();
+        try {
+            final LogSegment owner = owners.get(id);
+            if (Objects.isNull(owner)) {
+                return false;
+            }
+            write(LogSegment.MARK, id, NO_PAYLOAD);
+            owners.remove(id);
+            owner.setPending(owner.getPending() - 1);
+            replayed.remove(id);
+            release();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Validates if a record was appended and not marked yet.
+     * @param id id of the record.
+     * @return true if it is pending.
+     */
+    public boolean isPending(final long id) {
+        lock.lock();
+        try {
+            return owners.containsKey(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records found not marked when the log was opened and not marked since.
+     * @return the records in the order they were appended.
+     */
+    public List< LogRecord > pending() {
+        lock.lock();
+        try {
+            return new ArrayList<>(replayed.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a record into the current segment, rolling it if the record does not fit. Must hold the lock.
+     * @param type {@link LogSegment#APPEND} or {@link LogSegment#MARK}.
+     * @param id id of the record.
+     * @param payload payload of the record.
+     * @return the id.
+     * @throws IOException If a new segment could not be created.
+     */
+    private long write(final byte type, final long id, final byte[] payload) throws IOException {
+        if (closed) {
+            throw new IllegalStateException(CLOSED);
+        }
+        if (!current.fits(payload.length)) {
+            if (LogSegment.OVERHEAD + payload.length > segmentSize) {
+                throw new IllegalArgumentException("[X] error, record of " + payload.length
+                        + " bytes does not fit in a segment of " + segmentSize);
+            }
+            roll();
+        }
+        current.write(type, id, payload);
+        return id;
+    }
+
+    /**
+     * Forces the current segment and starts a new one. Must hold the lock.
+     * @throws IOException If the new segment could not be created.
+     */
+    private void roll() throws IOException {
+        current.force();
+        final long sequence = current.getSequence() + 1L;
+        current = LogSegment.create(segmentPath(sequence), sequence, segmentSize);
+        segments.addLast(current);
+        compact();
+        release();
+    }
+
+    /**
+     * Copies the pending records of the oldest segments, all but the last two, into the new current segment while
+     * they fit in half of it, oldest segment first; the copies are forced before the old segments are released.
+     * Must hold the lock.
+     */
+    private void compact() {
+        int budget = segmentSize / 2;
+        int copied = 0;
+        int index = 0;
+        for (final LogSegment segment : segments) {
+            if (index++ >= segments.size() - 2) {
+                break;
+            }
+            if (segment.getPending() == 0) {
+                continue;
+            }
+            final List< LogRecord > live = new ArrayList<>(segment.getPending());
+            segment.replay((type, id, payload) -> {
+                if (type == LogSegment.APPEND && owners.get(id) == segment) {
+                    live.add(new LogRecord(id, payload));
+                }
+            });
+            int size = 0;
+            for (final LogRecord record : live) {
+                size += LogSegment.OVERHEAD + record.getPayload().length;
+            }
+            if (size > budget) {
+                break;
+            }
+            budget -= size;
+            for (final LogRecord record : live) {
+                current.write(LogSegment.APPEND, record.getId(), record.getPayload());
+                owners.put(record.getId(), current);
+            }
+            current.setPending(current.getPending() + live.size());
+            segment.setPending(0);
+            copied += live.size();
+        }
+        if (copied > 0) {
+            current.force();
+            LOGGER.debug("Write-ahead log copied " + copied + " pending records to " + current.getPath());
+        }
+    }
+
+    /**
+     * Deletes the oldest segments while every record of them has been marked. Must hold the lock.
+     */
+    private void release() {
+        while (!segments.isEmpty() && segments.peekFirst() != current && segments.peekFirst().getPending() == 0) {
+            final LogSegment segment = segments.removeFirst();
+            try {
+                segment.delete();
+                LOGGER.debug("Write-ahead segment deleted " + segment.getPath());
+            } catch (final IOException e) {
+                LOGGER.warn("[!] write-ahead segment not deleted " + segment.getPath() + " " + e);
+            }
+        }
+    }
+
+    /**
+     * Loop of the flusher thread: waits for appends, forces the current segment once and completes every append
+     * written before the force.
+     */
+    private void flush() {
+        while (true) {
+            final LogSegment segment;
+            final long lastId;
+            lock.lock();
+            try {
+                while (waiters.isEmpty() && !closed) {
+                    written.awaitUninterruptibly();
+                }
+                if (waiters.isEmpty()) {
+                    return;
+                }
+                segment = current;
+                lastId = nextId - 1L;
+            } finally {
+                lock.unlock();
+            }
+            segment.force();
+            final List< Waiter > durable = new ArrayList<>();
+            lock.lock();
+            try {
+                forces++;
+                while (!waiters.isEmpty() && waiters.peekFirst().id <= lastId) {
+                    durable.add(waiters.removeFirst());
+                }
+            } finally {
+                lock.unlock();
+            }
+            durable.forEach(waiter -> waiter.future.complete(waiter.id));
+        }
+    }
+
+    /**
+     * Forces the pending appends, stops the flusher and rejects new records. The segment files are kept.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            written.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        current.force();
+    }
+
+    /**
+     * File of a segment.
+     * @param sequence position of the segment in the log.
+     * @return the path.
+     */
+    private Path segmentPath(final long sequence) {
+        return directory.resolve(String.format("wal-%016d.log", sequence));
+    }
+
+    /**
+     * Getter for directory.
+     * @return directory.
+     **/
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Getter for segments.
+     * @return number of segment files in use.
+     **/
+    public int getSegments() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Getter for forces.
+     * @return number of forces performed, each one made durable one or more appends.
+     **/
+    public long getForces() {
+        lock.lock();
+        try {
+            return forces;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An append waiting for the force.
+     */
+    private static final class Waiter {
+        /**
+         * Id of the record.
+         */
+        private final long                      id;
+        /**
+         * Completed with the id once the record is durable.
+         */
+        private final CompletableFuture< Long > future = new CompletableFuture<>();
+
+        /**
+         * Creates an instance of Waiter.
+         * @param id Id of the record.
+         */
+        private Waiter(final long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *      File: BufferPool.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.transport;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Direct buffers of the same size, reused to avoid allocating and freeing native memory for every read.<br/>
+ * The pool is not thread safe, every {@link SelectorLoop} owns its own pool.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class BufferPool {
+    /**
+     * Free buffers.
+     */
+    private final Deque< ByteBuffer > free = new ArrayDeque<>();
+    /**
+     * Capacity of every buffer.
+     */
+    private final int bufferSize;
+    /**
+     * Most free buffers kept, the rest are left to the garbage collector.
+     */
+    private final int maxRetained;
+
+    /**
+     * Creates an instance of BufferPool.
+     * @param bufferSize Capacity of every buffer.
+     * @param maxRetained Most free buffers kept.
+     */
+    BufferPool(final int bufferSize, final int maxRetained) {
+        this.bufferSize = bufferSize;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * Takes a free buffer or allocates a new one.
+     * @return an empty buffer.
+     */
+    ByteBuffer acquire() {
+        final ByteBuffer buffer = free.pollFirst();
+        return Objects.isNull(buffer) ? ByteBuffer.allocateDirect(bufferSize) : buffer;
+    }
+
+    /**
+     * Gives back a buffer.
+     * @param buffer buffer taken from this pool.
+     */
+    void release(final ByteBuffer buffer) {
+        buffer.clear();
+        if (free.size() < maxRetained) {
+            free.addFirst(buffer);
+        }
+    }
+
+    /**
+     * Getter for bufferSize.
+     * @return bufferSize.
+     **/
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Number of free buffers.
+     * @return size.
+     */
+    int size() {
+        return free.size();
+    }
+}
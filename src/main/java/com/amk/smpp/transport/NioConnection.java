@@ -0,0 +1,454 @@
+/*
+ *      File: NioConnection.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.transport;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.smpp.Connection;
+import org.smpp.util.ByteBuffer;
+
+import com.amk.smpp.codec.EncodedPDU;
+
+/**
+ * Client {@link Connection} over a non-blocking {@link SocketChannel} served by a {@link NioTransport}.<br/>
+ * The selector thread of the connection reads the socket into a pooled direct buffer and splits the PDUs by their
+ * <code>command_length</code>; every complete PDU is copied out of the buffer and queued until the
+ * {@link org.smpp.Session} receives it, the buffer returns to the pool as soon as it holds no partial PDU. The copy
+ * can not be avoided, the receiver of OpenSMPP keeps the {@link ByteBuffer} it receives. The receiver thread of the
+ * session is still there: it takes the PDUs from that queue instead of reading the socket, so every inbound PDU
+ * crosses one more thread than over a <code>TCPIPConnection</code>. The PDUs are written by the
+ * sending thread; when the socket buffer is full it waits, up to the comms timeout, until the selector reports the
+ * channel writable. A write that stops after part of a PDU was written closes the connection, the next PDU would be
+ * framed inside the previous one. An
+ * {@link EncodedPDU} is encoded straight into the direct write buffer of the connection, taken from the
+ * {@link NioTransport} while the connection is open, and written from it.<br/>
+ * It replaces the <code>TCPIPConnection</code> of a {@link com.amk.smpp.core.BindingManager}; like it, the connection
+ * can be opened again after it is closed.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class NioConnection extends Connection {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER           = LogManager.getLogger(NioConnection.class.getName());
+    /**
+     * Length of the PDU header, the shortest PDU.
+     */
+    private static final int    HEADER           = 16;
+    /**
+     * Queued when the connection fails, wakes up the receiver.
+     */
+    private static final byte[] FAILED           = new byte[0];
+    /**
+     * Maximum time to wait for the selector thread to register the channel, in milliseconds.
+     */
+    private static final long   REGISTER_TIMEOUT = 5000L;
+
+    /**
+     * Host of the SMSC.
+     */
+    private final String        address;
+    /**
+     * Port of the SMSC.
+     */
+    private final int           port;
+    /**
+     * Selector threads.
+     */
+    private final NioTransport  transport;
+    /**
+     * Complete PDUs read and not received yet.
+     */
+    private final BlockingQueue< byte[] > inbound   = new LinkedBlockingQueue<>();
+    /**
+     * Serializes the writers.
+     */
+    private final ReentrantLock           writeLock = new ReentrantLock();
+    /**
+     * Signaled when the channel is writable again.
+     */
+    private final Condition               writable  = writeLock.newCondition();
+    /**
+     * Socket of the connection, null when closed.
+     */
+    private volatile SocketChannel        channel;
+    /**
+     * Key of the channel in the selector.
+     */
+    private volatile SelectionKey         key;
+    /**
+     * Selector thread of the connection.
+     */
+    private volatile SelectorLoop         loop;
+    /**
+     * Why the connection stopped, null while it works.
+     */
+    private volatile IOException          failure;
+    /**
+     * Partial PDU being read, owned by the selector thread.
+     */
+    private java.nio.ByteBuffer           readBuffer;
+    /**
+     * Direct buffer the {@link EncodedPDU}s are encoded into, guarded by {@link #writeLock}.
+     */
+    private java.nio.ByteBuffer           writeBuffer;
+    /**
+     * The selector reported the channel writable, guarded by {@link #writeLock}.
+     */
+    private boolean                       writeReady;
+
+    /**
+     * Creates an instance of NioConnection.
+     * @param address Host of the SMSC.
+     * @param port Port of the SMSC.
+     * @param transport Selector threads.
+     */
+    public NioConnection(final String address, final int port, final NioTransport transport) {
+        this.address = address;
+        this.port = port;
+        this.transport = transport;
+    }
+
+    /**
+     * Connects the socket, waiting up to the comms timeout, and registers it in a selector thread.
+     * @throws IOException If the SMSC is unreachable.
+     */
+    @Override
+    public void open() throws IOException {
+        if (isOpened()) {
+            return;
+        }
+        final SocketChannel socket = SocketChannel.open();
+        try {
+            socket.socket().connect(new InetSocketAddress(address, port), (int) getCommsTimeout());
+            socket.configureBlocking(false);
+            socket.socket().setTcpNoDelay(true);
+            inbound.clear();
+            failure = null;
+            final SelectorLoop selected = transport.nextLoop();
+            loop = selected;
+            channel = socket;
+            final CompletableFuture< SelectionKey > registered = new CompletableFuture<>();
+            selected.execute(() -> {
+                try {
+                    registered.complete(socket.register(selected.getSelector(), SelectionKey.OP_READ, this));
+                } catch (final ClosedChannelException e) {
+                    registered.completeExceptionally(e);
+                }
+            });
+            key = registered.get(REGISTER_TIMEOUT, TimeUnit.MILLISECONDS);
+            LOGGER.debug("NioConnection opened to " + address + ":" + port);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            channel = null;
+            socket.close();
+            throw new IOException(e);
+        } catch (final ExecutionException | TimeoutException | IOException e) {
+            channel = null;
+            socket.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("[X] error, channel not registered", e);
+        }
+    }
+
+    /**
+     * Closes the socket, the PDUs not received yet are discarded when the connection is opened again.
+     * @throws IOException never, the errors closing the socket are logged.
+     */
+    @Override
+    public void close() throws IOException {
+        final SocketChannel socket = channel;
+        if (Objects.isNull(socket)) {
+            return;
+        }
+        channel = null;
+        fail(new IOException("[X] error, connection closed"));
+        loop.execute(this::releaseBuffer);
+        writeLock.lock();
+        try {
+            if (Objects.nonNull(writeBuffer)) {
+                transport.releaseWriteBuffer(writeBuffer);
+                writeBuffer = null;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a PDU. An {@link EncodedPDU} that fits in the write buffer is encoded into it, the rest are written
+     * from their array.
+     * @param data encoded PDU.
+     * @throws IOException If the connection is closed or the socket does not accept data before the comms timeout.
+     */
+    @Override
+    public void send(final ByteBuffer data) throws IOException {
+        if (data instanceof EncodedPDU) {
+            writeLock.lock();
+            try {
+                if (Objects.isNull(channel)) {
+                    throw new IOException("[X] error, connection not opened");
+                }
+                if (Objects.isNull(writeBuffer)) {
+                    writeBuffer = transport.acquireWriteBuffer();
+                }
+                if (data.length() <= writeBuffer.capacity()) {
+                    writeBuffer.clear();
+                    ((EncodedPDU) data).writeTo(writeBuffer);
+                    writeBuffer.flip();
+                    write(writeBuffer);
+                    return;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        write(java.nio.ByteBuffer.wrap(data.getBuffer(), 0, data.length()));
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer, waiting for the selector while the socket buffer is full. If the
+     * write fails after some bytes were written the connection is failed.
+     * @param buffer bytes to write.
+     * @throws IOException If the connection is closed or the socket does not accept data before the comms timeout.
+     */
+    void write(final java.nio.ByteBuffer buffer) throws IOException {
+        final int start = buffer.position();
+        writeLock.lock();
+        try {
+            final SocketChannel socket = channel;
+            if (Objects.isNull(socket)) {
+                throw new IOException("[X] error, connection not opened");
+            }
+            long nanos = TimeUnit.MILLISECONDS.toNanos(getCommsTimeout());
+            while (buffer.hasRemaining()) {
+                socket.write(buffer);
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+                writeReady = false;
+                interest(SelectionKey.OP_WRITE, true);
+                while (!writeReady && Objects.isNull(failure)) {
+                    if (nanos <= 0L) {
+                        throw new IOException("[X] error, socket not writable in " + getCommsTimeout() + " ms");
+                    }
+                    nanos = writable.awaitNanos(nanos);
+                }
+                if (Objects.nonNull(failure)) {
+                    throw failure;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw abort(buffer, start, new IOException(e));
+        } catch (final IOException e) {
+            throw abort(buffer, start, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Fails the connection if a write stopped in the middle of a PDU, the stream of the SMSC is out of frame.
+     * @param buffer bytes being written.
+     * @param start position of the buffer when the write started.
+     * @param cause reason of the stop.
+     * @return the cause, to throw it.
+     */
+    private IOException abort(final java.nio.ByteBuffer buffer, final int start, final IOException cause) {
+        if (buffer.position() != start && buffer.hasRemaining()) {
+            LOGGER.error("[X] error, PDU partially written to " + address + ":" + port + ", closing " + cause.getMessage());
+            fail(cause);
+        }
+        return cause;
+    }
+
+    /**
+     * Receives the next PDU, waiting up to the receive timeout.
+     * @return the PDU, empty if none arrived in time.
+     * @throws IOException If the connection failed or was closed by the SMSC.
+     */
+    @Override
+    public ByteBuffer receive() throws IOException {
+        final byte[] pdu;
+        try {
+            pdu = inbound.poll(getReceiveTimeout(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ByteBuffer();
+        }
+        if (Objects.isNull(pdu)) {
+            return new ByteBuffer();
+        }
+        if (pdu == FAILED) {
+            inbound.offer(FAILED);
+            throw failure;
+        }
+        return new ByteBuffer(pdu);
+    }
+
+    /**
+     * Not supported, the connection is a client.
+     * @return never.
+     * @throws IOException always.
+     */
+    @Override
+    public org.smpp.Connection accept() throws IOException {
+        throw new IOException("[X] error, NioConnection can not accept connections");
+    }
+
+    @Override
+    public boolean isOpened() {
+        final SocketChannel socket = channel;
+        return Objects.nonNull(socket) && socket.isOpen() && Objects.isNull(failure);
+    }
+
+    /**
+     * Reads the socket and queues every complete PDU. Called by the selector thread.
+     */
+    void onReadable() {
+        final SocketChannel socket = channel;
+        if (Objects.isNull(socket)) {
+            return;
+        }
+        final BufferPool pool = loop.getPool();
+        if (Objects.isNull(readBuffer)) {
+            readBuffer = pool.acquire();
+        }
+        try {
+            if (socket.read(readBuffer) < 0) {
+                throw new EOFException("[X] error, connection closed by the SMSC");
+            }
+            readBuffer.flip();
+            while (readBuffer.remaining() >= Integer.BYTES) {
+                final int length = readBuffer.getInt(readBuffer.position());
+                if (length < HEADER || length > readBuffer.capacity()) {
+                    throw new IOException("[X] error, invalid command_length " + length);
+                }
+                if (readBuffer.remaining() < length) {
+                    break;
+                }
+                final byte[] pdu = new byte[length];
+                readBuffer.get(pdu);
+                inbound.offer(pdu);
+            }
+            readBuffer.compact();
+            if (readBuffer.position() == 0) {
+                pool.release(readBuffer);
+                readBuffer = null;
+            }
+        } catch (final IOException e) {
+            LOGGER.error("[X] error, reading from " + address + ":" + port + " " + e.getMessage());
+            fail(e);
+            releaseBuffer();
+        }
+    }
+
+    /**
+     * Wakes up the writer waiting for the channel. Called by the selector thread.
+     */
+    void onWritable() {
+        interest(SelectionKey.OP_WRITE, false);
+        writeLock.lock();
+        try {
+            writeReady = true;
+            writable.signalAll();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the connection: closes the socket, wakes up the receiver and the writers.
+     * @param cause reason of the failure.
+     */
+    void fail(final IOException cause) {
+        if (Objects.nonNull(failure)) {
+            return;
+        }
+        failure = cause;
+        final SelectionKey selected = key;
+        if (Objects.nonNull(selected)) {
+            selected.cancel();
+            try {
+                selected.channel().close();
+            } catch (final IOException e) {
+                LOGGER.warn("[!] channel not closed " + e);
+            }
+        }
+        inbound.offer(FAILED);
+        writeLock.lock();
+        try {
+            writable.signalAll();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gives back the read buffer to the pool. Called by the selector thread.
+     */
+    private void releaseBuffer() {
+        if (Objects.nonNull(readBuffer)) {
+            loop.getPool().release(readBuffer);
+            readBuffer = null;
+        }
+    }
+
+    /**
+     * Adds or removes an operation of the interest set, in the selector thread.
+     * @param operation {@link SelectionKey} operation.
+     * @param enabled true to add it.
+     */
+    private void interest(final int operation, final boolean enabled) {
+        final SelectionKey selected = key;
+        final Runnable change = () -> {
+            if (selected.isValid()) {
+                selected.interestOps(enabled ? selected.interestOps() | operation : selected.interestOps() & ~operation);
+            }
+        };
+        if (loop.inLoop()) {
+            change.run();
+        } else {
+            loop.execute(change);
+        }
+    }
+
+    /**
+     * Getter for address.
+     * @return address.
+     **/
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Getter for port.
+     * @return port.
+     **/
+    public int getPort() {
+        return port;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *      File: NioTransport.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.transport;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Small pool of selector threads shared by every {@link NioConnection}.<br/>
+ * Every connection is assigned to one {@link SelectorLoop} when it is opened, in round robin; the loop reads the
+ * sockets of all its connections into pooled direct buffers. It does not reduce the threads of the process: the
+ * {@link org.smpp.Session} of every bind keeps its own receiver thread, which takes the PDUs read by the loop, and
+ * the selector threads come on top of them. What it shares is the socket I/O and its buffers; the transport also
+ * keeps the direct buffers that the connections write from, see
+ * {@link NioConnection#send(org.smpp.util.ByteBuffer)}.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class NioTransport implements AutoCloseable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER              = LogManager.getLogger(NioTransport.class.getName());
+    /**
+     * Capacity of every read buffer, 64 KB. It is also the longest PDU accepted.
+     */
+    public static final int     DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Free read buffers kept by every selector thread.
+     */
+    private static final int    RETAINED_BUFFERS    = 64;
+
+    /**
+     * Selector threads.
+     */
+    private final SelectorLoop[] loops;
+    /**
+     * Next loop assigned.
+     */
+    private final AtomicInteger  next = new AtomicInteger();
+    /**
+     * Write buffers of the open connections, guarded by itself.
+     */
+    private final BufferPool     writeBuffers;
+
+    /**
+     * Creates an instance of NioTransport with read buffers of {@link #DEFAULT_BUFFER_SIZE} bytes.
+     * @param selectors Number of selector threads.
+     * @throws IOException If a selector could not be opened.
+     */
+    public NioTransport(final int selectors) throws IOException {
+        this(selectors, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an instance of NioTransport and starts its selector threads.
+     * @param selectors Number of selector threads.
+     * @param bufferSize Capacity of every read buffer, the longest PDU accepted.
+     * @throws IOException If a selector could not be opened.
+     */
+    public NioTransport(final int selectors, final int bufferSize) throws IOException {
+        if (selectors <= 0 || bufferSize < 16) {
+            throw new IllegalArgumentException("[X] error, invalid selectors " + selectors + " or buffer size " + bufferSize);
+        }
+        writeBuffers = new BufferPool(bufferSize, RETAINED_BUFFERS);
+        loops = new SelectorLoop[selectors];
+        for (int i = 0; i < selectors; i++) {
+            loops[i] = new SelectorLoop("smpp-selector-" + i, new BufferPool(bufferSize, RETAINED_BUFFERS));
+        }
+        LOGGER.info("NioTransport started with " + selectors + " selector threads");
+    }
+
+    /**
+     * Assigns a selector thread to a connection.
+     * @return the loop.
+     */
+    SelectorLoop nextLoop() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    }
+
+    /**
+     * Takes the write buffer of a connection.
+     * @return an empty direct buffer.
+     */
+    java.nio.ByteBuffer acquireWriteBuffer() {
+        synchronized (writeBuffers) {
+            return writeBuffers.acquire();
+        }
+    }
+
+    /**
+     * Gives back the write buffer of a closed connection.
+     * @param buffer buffer taken with {@link #acquireWriteBuffer()}.
+     */
+    void releaseWriteBuffer(final java.nio.ByteBuffer buffer) {
+        synchronized (writeBuffers) {
+            writeBuffers.release(buffer);
+        }
+    }
+
+    /**
+     * Getter for selectors.
+     * @return number of selector threads.
+     **/
+    public int getSelectors() {
+        return loops.length;
+    }
+
+    /**
+     * Stops the selector threads. The connections still open stop receiving.
+     */
+    @Override
+    public void close() {
+        for (final SelectorLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *      File: SelectorLoop.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.transport;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * One selector thread of the {@link NioTransport}.<br/>
+ * Reads every readable channel registered in it into the buffers of its own {@link BufferPool} and wakes up the
+ * writers waiting for their channel to be writable. The operations over the keys requested by other threads are
+ * queued and run by this thread between two selections. A key cancelled by another thread, or any other error while
+ * serving a key, fails only the connection of the key; the loop keeps serving the rest.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SelectorLoop implements Runnable {
+    /**
+     * Logger for class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(SelectorLoop.class.getName());
+
+    /**
+     * Selector of the channels.
+     */
+    private final Selector          selector;
+    /**
+     * Operations requested by other threads.
+     */
+    private final Queue< Runnable > tasks = new ConcurrentLinkedQueue<>();
+    /**
+     * Read buffers, used only by this thread.
+     */
+    private final BufferPool        pool;
+    /**
+     * Thread of the loop.
+     */
+    private final Thread            thread;
+    /**
+     * The loop keeps selecting.
+     */
+    private volatile boolean        running = true;
+
+    /**
+     * Creates an instance of SelectorLoop and starts its thread.
+     * @param name Name of the thread.
+     * @param pool Read buffers.
+     * @throws IOException If the selector could not be opened.
+     */
+    SelectorLoop(final String name, final BufferPool pool) throws IOException {
+        this.selector = Selector.open();
+        this.pool = pool;
+        this.thread = new Thread(this, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Runs an operation in the thread of the loop.
+     * @param task operation over the keys of the selector.
+     */
+    void execute(final Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Validates if the caller is the thread of the loop.
+     * @return true if it is.
+     */
+    boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Getter for selector.
+     * @return selector.
+     **/
+    Selector getSelector() {
+        return selector;
+    }
+
+    /**
+     * Getter for pool.
+     * @return pool.
+     **/
+    BufferPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                runTasks();
+                final Iterator< SelectionKey > keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    serve(key);
+                }
+            }
+        } catch (final IOException | ClosedSelectorException e) {
+            LOGGER.error("[X] error, selector loop " + thread.getName() + " stopped " + e);
+        } finally {
+            runTasks();
+            try {
+                selector.close();
+            } catch (final IOException e) {
+                LOGGER.warn("[!] selector not closed " + e);
+            }
+        }
+    }
+
+    /**
+     * Serves the ready operations of one key, failing its connection if they throw.
+     * @param key selected key.
+     */
+    private void serve(final SelectionKey key) {
+        final NioConnection connection = (NioConnection) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                connection.onReadable();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (final CancelledKeyException e) {
+            connection.fail(new IOException("[X] error, key cancelled", e));
+        } catch (final RuntimeException e) {
+            LOGGER.error("[X] error, connection of " + thread.getName() + " failed " + e);
+            connection.fail(new IOException(e));
+        }
+    }
+
+    /**
+     * Runs the queued operations.
+     */
+    private void runTasks() {
+        Runnable task;
+        while (Objects.nonNull(task = tasks.poll())) {
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOGGER.error("[X] error, selector task failed " + e);
+            }
+        }
+    }
+
+    /**
+     * Stops the loop and closes the selector.
+     */
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *      File: EventRing.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring of events.<br/>
+ * Every slot carries a sequence number telling whether it can be written or read in the current lap, so the
+ * producer and the consumers only contend on a compare-and-set of their own cursor. Safe for any number of
+ * producers and consumers, although the session has a single receiver thread.
+ * @param <T> type of the events.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class EventRing< T > {
+    /**
+     * Capacity minus one, the capacity is a power of two.
+     */
+    private final int                     mask;
+    /**
+     * Events.
+     */
+    private final AtomicReferenceArray< T > events;
+    /**
+     * Sequence of every slot: equal to the write position when free, write position + 1 when published.
+     */
+    private final AtomicLongArray         sequences;
+    /**
+     * Next position to write.
+     */
+    private final AtomicLong              tail = new AtomicLong();
+    /**
+     * Next position to read.
+     */
+    private final AtomicLong              head = new AtomicLong();
+
+    /**
+     * Creates an instance of EventRing.
+     * @param capacity minimum number of events, rounded up to a power of two not less than 2; with a single slot
+     * a published event could not be told apart from a free slot of the next lap.
+     */
+    EventRing(final int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("[X] error, invalid capacity " + capacity);
+        }
+        final int size = Math.max(2, Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1);
+        mask = size - 1;
+        events = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publishes an event.
+     * @param event expected, not null.
+     * @return false if the ring is full.
+     */
+    boolean offer(final T event) {
+        long position = tail.get();
+        while (true) {
+            final int slot = (int) position & mask;
+            final long distance = sequences.get(slot) - position;
+            if (distance == 0L) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events.lazySet(slot, event);
+                    sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (distance < 0L) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest event.
+     * @return the event, null if the ring is empty.
+     */
+    T poll() {
+        long position = head.get();
+        while (true) {
+            final int slot = (int) position & mask;
+            final long distance = sequences.get(slot) - (position + 1);
+            if (distance == 0L) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final T event = events.get(slot);
+                    events.lazySet(slot, null);
+                    sequences.lazySet(slot, position + mask + 1);
+                    return event;
+                }
+                position = head.get();
+            } else if (distance < 0L) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Number of events, approximate while other threads are writing or reading.
+     * @return size.
+     */
+    int size() {
+        return (int) Math.max(0L, Math.min(tail.get() - head.get(), capacity()));
+    }
+
+    /**
+     * Getter for capacity.
+     * @return capacity.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -7,9 +7,10 @@
 package com.amk.smpp.util;
 
 import java.util.Arrays;
+import java.util.Date;
+import java.util.Objects;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import org.smpp.pdu.Address;
 import org.smpp.pdu.CancelSM;
 import org.smpp.pdu.DataSM;
 import org.smpp.pdu.DestinationAddress;
@@ -31,9 +32,9 @@ import com.amk.smpp.operation.PDUOperationProperties;
  */
 public class OperationPropertiesUtil {
     /**
-     * Logger for class.
+     * Most destinations of one <code>submit_multi</code>, as accepted by {@link SubmitMultiSM}.
      */
-    private static final Logger LOGGER = LogManager.getLogger(OperationPropertiesUtil.class);
+    public static final int MAX_DESTINATIONS = 254;
 
     /**
      * Build the request.
@@ -50,6 +51,7 @@ public class OperationPropertiesUtil {
         request.setSourceAddr(props.getSourceAddress());
         Arrays.asList(props.getDestAddress()).forEach(request::setDestAddr);
         request.setReplaceIfPresentFlag(props.getReplaceIfPresentFlag());
+        request.setScheduleDeliveryTime(scheduleDeliveryTime(props));
         request.setValidityPeriod(props.getValidityPeriod());
         request.setEsmClass(props.getEsmClass());
         request.setProtocolId(props.getProtocolId());
@@ -67,20 +69,36 @@ public class OperationPropertiesUtil {
      * @return {@link SubmitMultiSM} object With their assigned values.
      * @throws WrongLengthOfStringException If any value has exceeds the length.
      * @throws WrongDateFormatException If any value does not comply with the format.
+     * @throws TooManyValuesException If there are more than {@link #MAX_DESTINATIONS} destinations.
      */
     public static SubmitMultiSM setRequestProps(final SubmitMultiSM request, final PDUOperationProperties props)
-            throws WrongLengthOfStringException, WrongDateFormatException {
+            throws WrongLengthOfStringException, WrongDateFormatException, TooManyValuesException {
+        return setRequestProps(request, props, 0, props.getDestAddress().length);
+    }
+
+    /**
+     * Build the request with a range of the destinations, one chunk of a <code>submit_multi</code> with too many
+     * destinations for a single PDU.
+     * @param request {@link SubmitMultiSM}.
+     * @param props Object with the properties of the message.
+     * @param from first destination of the request, inclusive.
+     * @param to last destination of the request, exclusive.
+     * @return {@link SubmitMultiSM} object With their assigned values.
+     * @throws WrongLengthOfStringException If any value has exceeds the length.
+     * @throws WrongDateFormatException If any value does not comply with the format.
+     * @throws TooManyValuesException If the range has more than {@link #MAX_DESTINATIONS} destinations.
+     */
+    public static SubmitMultiSM setRequestProps(final SubmitMultiSM request, final PDUOperationProperties props,
+            final int from, final int to) throws WrongLengthOfStringException, WrongDateFormatException, TooManyValuesException {
         // set other values
         request.setServiceType(props.getServiceType());
         request.setSourceAddr(props.getSourceAddress());
-        Arrays.asList(props.getDestAddress()).forEach(adress -> {
-            try {
-                request.addDestAddress(new DestinationAddress(adress));
-            } catch (final TooManyValuesException e) {
-                LOGGER.error(" [X] error adding destination adresses  ", e);
-            }
-        });
+        final Address[] destinations = props.getDestAddress();
+        for (int i = from; i < to; i++) {
+            request.addDestAddress(new DestinationAddress(destinations[i]));
+        }
         request.setReplaceIfPresentFlag(props.getReplaceIfPresentFlag());
+        request.setScheduleDeliveryTime(scheduleDeliveryTime(props));
         request.setValidityPeriod(props.getValidityPeriod());
         request.setEsmClass(props.getEsmClass());
         request.setProtocolId(props.getProtocolId());
@@ -132,6 +150,7 @@ public class OperationPropertiesUtil {
     public static ReplaceSM setRequestProps(final ReplaceSM request, final PDUOperationProperties props) throws WrongDateFormatException {
         // set values
         request.setSourceAddr(props.getSourceAddress());
+        request.setScheduleDeliveryTime(scheduleDeliveryTime(props));
         request.setValidityPeriod(props.getValidityPeriod());
         request.setRegisteredDelivery(props.getRegisteredDelivery());
         request.setSmDefaultMsgId(props.getSmDefaultMsgId());
@@ -152,4 +171,15 @@ public class OperationPropertiesUtil {
         Arrays.asList(props.getDestAddress()).forEach(request::setDestAddr);
         return request;
     }
+
+    /**
+     * <code>schedule_delivery_time</code> of the properties in the SMPP absolute time format.
+     * @param props Object with the properties of the message.
+     * @return the formatted time, null to deliver immediately.
+     * @see SMPPUtil#transformDate(Date)
+     */
+    public static String scheduleDeliveryTime(final PDUOperationProperties props) {
+        final Date scheduleDeliveryTime = props.getScheduleDeliveryTime();
+        return Objects.isNull(scheduleDeliveryTime) ? null : SMPPUtil.transformDate(scheduleDeliveryTime);
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ *      File: OverflowPolicy.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.util;
+
+/**
+ * What a {@link RingBufferPDUListener} does with an event received while its buffer is full.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+    /**
+     * The receiver thread waits for a free slot; the SMSC stops getting responses and throttles itself, and the
+     * responses of the requests in flight wait too.
+     */
+    BLOCK,
+    /**
+     * The received event is discarded, the default; a discarded request is not answered so the SMSC sends it again.
+     */
+    DROP_NEWEST,
+    /**
+     * The oldest buffered event is discarded to make room for the received one.
+     */
+    DROP_OLDEST
+}
@@ -57,6 +57,19 @@ public abstract class PDUListener extends SmppObject implements ServerPDUEventLi
      */
     public abstract ServerPDUEvent getResponseEvent();
 
+    /**
+     * Keeps an event that was already answered to the SMSC, e.g. by the fast ack of the bind, so it must not be
+     * discarded.<br/>
+     * A listener that may discard events overrides it and rejects the event instead of losing it; the default
+     * implementation handles the event and accepts it.
+     * @param event the event received from the SMSC.
+     * @return true if the event is kept and can be answered, false if it was not kept.
+     */
+    public boolean retain(final ServerPDUEvent event) {
+        handleEvent(event);
+        return true;
+    }
+
     /**
      * Getter for intervalTime.
      * @return intervalTime.
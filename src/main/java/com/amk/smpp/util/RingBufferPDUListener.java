@@ -0,0 +1,350 @@
+/*
+ *      File: RingBufferPDUListener.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.util;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.smpp.ServerPDUEvent;
+import org.smpp.pdu.PDU;
+
+/**
+ * Observer of the asynchronous operations that keeps the received events in two bounded lock-free rings, one for
+ * requests and one for responses.<br/>
+ * The receiver thread of the session publishes without taking any lock; the application threads take the events
+ * waiting with the selected {@link WaitStrategy} up to the interval time of the listener, or until an event
+ * arrives when the interval is not positive. When a ring is full the {@link OverflowPolicy} decides, and every
+ * discarded event is counted and passed to the overflow handler. The events kept with {@link #retain(ServerPDUEvent)}
+ * were already answered and are never discarded: a full ring rejects them unless the policy is
+ * {@link OverflowPolicy#BLOCK}, and {@link OverflowPolicy#DROP_OLDEST} discards the newest request while one of them
+ * is buffered.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RingBufferPDUListener extends PDUListener {
+    /**
+     * Default capacity of every ring.
+     */
+    public static final int     DEFAULT_CAPACITY = 8192;
+    /**
+     * Sleep between checks of {@link WaitStrategy#TIMED} and of the receiver with {@link OverflowPolicy#BLOCK}.
+     */
+    private static final long   PERIOD           = TimeUnit.MICROSECONDS.toNanos(100L);
+
+    /**
+     * Received requests.
+     */
+    private final EventRing< ServerPDUEvent > requests;
+    /**
+     * Received responses.
+     */
+    private final EventRing< ServerPDUEvent > responses;
+    /**
+     * How the consumers wait.
+     */
+    private final WaitStrategy                waitStrategy;
+    /**
+     * What to do when a ring is full.
+     */
+    private final OverflowPolicy              overflowPolicy;
+    /**
+     * Events discarded.
+     */
+    private final LongAdder                   dropped   = new LongAdder();
+    /**
+     * Consumers sleeping with {@link WaitStrategy#PARK}.
+     */
+    private final AtomicInteger               sleeping  = new AtomicInteger();
+    /**
+     * Guards {@link #published}.
+     */
+    private final ReentrantLock               lock      = new ReentrantLock();
+    /**
+     * Signaled when an event is published and a consumer sleeps.
+     */
+    private final Condition                   published = lock.newCondition();
+    /**
+     * Buffered events that were already answered and must not be discarded.
+     */
+    private final Set< ServerPDUEvent >       retained  = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    /**
+     * Receives the discarded events, may be null.
+     */
+    private volatile Consumer< ServerPDUEvent > overflowHandler;
+
+    /**
+     * Creates an instance of RingBufferPDUListener with the default capacity, consumers that sleep until an event
+     * arrives and {@link OverflowPolicy#DROP_NEWEST}: the receiver thread never waits, so the responses of the
+     * requests in flight keep arriving while the application is slow; a discarded request is not answered and the
+     * SMSC sends it again. {@link OverflowPolicy#BLOCK} must be chosen explicitly.
+     */
+    public RingBufferPDUListener() {
+        this(DEFAULT_CAPACITY, WaitStrategy.PARK, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Creates an instance of RingBufferPDUListener.
+     * @param capacity minimum number of events of every ring, rounded up to a power of two not less than 2.
+     * @param waitStrategy How the consumers wait.
+     * @param overflowPolicy What to do when a ring is full.
+     */
+    public RingBufferPDUListener(final int capacity, final WaitStrategy waitStrategy, final OverflowPolicy overflowPolicy) {
+        this.requests = new EventRing<>(capacity);
+        this.responses = new EventRing<>(capacity);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Publishes the event in the ring of its kind.
+     * @param event the event received from the SMSC.
+     */
+    @Override
+    public void handleEvent(final ServerPDUEvent event) {
+        final PDU pdu = event.getPDU();
+        if (pdu.isRequest()) {
+            publish(requests, event);
+        } else if (pdu.isResponse()) {
+            publish(responses, event);
+        } else {
+            LOGGER.warn("[!] pdu of unknown class (not request nor response) received, discarding " + pdu.debugString());
+        }
+    }
+
+    /**
+     * Publishes an event that was already answered, without discarding it nor any other answered event.
+     * @param event the event received from the SMSC.
+     * @return false if the ring is full and the policy does not wait.
+     */
+    @Override
+    public boolean retain(final ServerPDUEvent event) {
+        final EventRing< ServerPDUEvent > ring = event.getPDU().isRequest() ? requests : responses;
+        retained.add(event);
+        boolean kept = ring.offer(event);
+        while (!kept && overflowPolicy == OverflowPolicy.BLOCK && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(PERIOD);
+            kept = ring.offer(event);
+        }
+        if (!kept) {
+            retained.remove(event);
+            return false;
+        }
+        signal();
+        return true;
+    }
+
+    @Override
+    public ServerPDUEvent getRequestEvent() {
+        return take(requests);
+    }
+
+    @Override
+    public ServerPDUEvent getResponseEvent() {
+        return take(responses);
+    }
+
+    /**
+     * Publishes an event applying the overflow policy, then wakes up the sleeping consumers.
+     * @param ring ring of the event.
+     * @param event received event.
+     */
+    private void publish(final EventRing< ServerPDUEvent > ring, final ServerPDUEvent event) {
+        if (!ring.offer(event)) {
+            switch (overflowPolicy) {
+                case BLOCK:
+                    while (!ring.offer(event)) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            drop(event);
+                            return;
+                        }
+                        LockSupport.parkNanos(PERIOD);
+                    }
+                    break;
+                case DROP_OLDEST:
+                    if (ring == requests && !retained.isEmpty()) {
+                        drop(event);
+                        return;
+                    }
+                    while (!ring.offer(event)) {
+                        final ServerPDUEvent oldest = ring.poll();
+                        if (Objects.nonNull(oldest)) {
+                            drop(oldest);
+                        }
+                    }
+                    break;
+                default:
+                    drop(event);
+                    return;
+            }
+        }
+        signal();
+    }
+
+    /**
+     * Wakes up the sleeping consumers.
+     */
+    private void signal() {
+        if (sleeping.get() > 0) {
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Counts and hands over a discarded event.
+     * @param event discarded event.
+     */
+    private void drop(final ServerPDUEvent event) {
+        dropped.increment();
+        LOGGER.warn("[!] listener full, discarding " + event.getPDU().debugString());
+        final Consumer< ServerPDUEvent > handler = overflowHandler;
+        if (Objects.nonNull(handler)) {
+            handler.accept(event);
+        }
+    }
+
+    /**
+     * Takes the oldest event of the ring, waiting up to the interval time of the listener.
+     * @param ring ring of the expected kind.
+     * @return the event, null if none arrived in time or the thread was interrupted.
+     */
+    private ServerPDUEvent take(final EventRing< ServerPDUEvent > ring) {
+        ServerPDUEvent event = ring.poll();
+        if (Objects.nonNull(event)) {
+            return taken(event);
+        }
+        final long interval = getIntervalTime();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+        while (true) {
+            event = ring.poll();
+            if (Objects.nonNull(event)) {
+                return taken(event);
+            }
+            final long remaining = interval > 0L ? deadline - System.nanoTime() : Long.MAX_VALUE;
+            if (remaining <= 0L || Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            idle(ring, remaining);
+        }
+    }
+
+    /**
+     * Forgets a taken event that was retained.
+     * @param event taken event.
+     * @return the event.
+     */
+    private ServerPDUEvent taken(final ServerPDUEvent event) {
+        if (!retained.isEmpty()) {
+            retained.remove(event);
+        }
+        return event;
+    }
+
+    /**
+     * Waits once according to the wait strategy.
+     * @param ring ring of the expected kind.
+     * @param remaining maximum time to wait, in nanoseconds.
+     */
+    private void idle(final EventRing< ServerPDUEvent > ring, final long remaining) {
+        switch (waitStrategy) {
+            case PARK:
+                sleeping.incrementAndGet();
+                lock.lock();
+                try {
+                    if (ring.size() == 0) {
+                        published.awaitNanos(remaining);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    lock.unlock();
+                    sleeping.decrementAndGet();
+                }
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            case TIMED:
+                LockSupport.parkNanos(Math.min(PERIOD, remaining));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Getter for waitStrategy.
+     * @return waitStrategy.
+     **/
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Getter for overflowPolicy.
+     * @return overflowPolicy.
+     **/
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Getter for capacity.
+     * @return events of every ring.
+     **/
+    public int getCapacity() {
+        return requests.capacity();
+    }
+
+    /**
+     * Requests waiting to be taken.
+     * @return size.
+     */
+    public int getPendingRequests() {
+        return requests.size();
+    }
+
+    /**
+     * Responses waiting to be taken.
+     * @return size.
+     */
+    public int getPendingResponses() {
+        return responses.size();
+    }
+
+    /**
+     * Getter for dropped.
+     * @return events discarded by the overflow policy.
+     **/
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Setter for overflowHandler, e.g. to answer a discarded <code>deliver_sm</code> with
+     * <code>ESME_RMSGQFUL</code>.
+     * @param overflowHandler expected, may be null.
+     **/
+    public void setOverflowHandler(final Consumer< ServerPDUEvent > overflowHandler) {
+        this.overflowHandler = overflowHandler;
+    }
+}
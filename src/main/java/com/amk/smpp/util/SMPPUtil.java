@@ -12,7 +12,8 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
-import java.text.SimpleDateFormat;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -42,9 +43,9 @@ import com.amk.smpp.operation.PDUOperation;
 public class SMPPUtil {
 
     /**
-     * Scheduled Delivery Time Format.
+     * Scheduled Delivery Time Format, up to the seconds; the tenths and the offset from UTC are appended.
      */
-    public static final  String SCHEDULED_DELIVERY_TIME_FROMAT = "YYMMDDhhmmssS";
+    public static final  String SCHEDULED_DELIVERY_TIME_FROMAT = "yyMMddHHmmss";
     /**
      * Invoke method error msg.
      */
@@ -57,17 +58,23 @@ public class SMPPUtil {
      * Error msg.
      */
     private static final String INVALID_BIND_MODE              = "[X] Invalid Binding Type, may is null. Operation canceled.";
+    /**
+     * Formatter of {@link #SCHEDULED_DELIVERY_TIME_FROMAT} in UTC, immutable and shared by every thread.
+     */
+    private static final DateTimeFormatter SCHEDULED_DELIVERY_TIME = DateTimeFormatter.ofPattern(SCHEDULED_DELIVERY_TIME_FROMAT)
+            .withZone(ZoneOffset.UTC);
 
 
     /**
-     *  Applies a date format 'YYMMDDhhmmssSSSS' and transforms them to letter.
+     *  Applies the SMPP absolute time format 'YYMMDDhhmmsstnnp' and transforms them to letter. The time is written in
+     *  UTC, i.e. with an offset of 00 quarters of an hour.
      * @param scheduledDeliveryTime Date of delivery of the SMS.
-     * @return Date of delivery of the message with format.
+     * @return Date of delivery of the message with format, 16 characters.
      */
     @CheckForNull
     public static String transformDate(@NotNull final Date scheduledDeliveryTime) {
-        final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(SCHEDULED_DELIVERY_TIME_FROMAT);
-        return simpleDateFormat.format(scheduledDeliveryTime);
+        final long tenths = Math.floorMod(scheduledDeliveryTime.getTime(), 1000L) / 100L;
+        return SCHEDULED_DELIVERY_TIME.format(scheduledDeliveryTime.toInstant()) + tenths + "00+";
     }
 
     /**
@@ -109,8 +116,8 @@ public class SMPPUtil {
      * */
     private static Object invoke(final PropertyDescriptor pd, final Object bean) {
         try {
-            return (Objects.isNull(pd.getReadMethod().invoke(bean))
-                    || pd.getReadMethod().invoke(bean).toString().isEmpty()) ? NULL_VALUE : pd.getReadMethod().invoke(bean);
+            final Object value = pd.getReadMethod().invoke(bean);
+            return (Objects.isNull(value) || value.toString().isEmpty()) ? NULL_VALUE : value;
         } catch (final InvocationTargetException | IllegalAccessException e) {
             return ERROR_INVOKE;
         }
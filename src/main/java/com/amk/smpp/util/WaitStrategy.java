@@ -0,0 +1,33 @@
+/*
+ *      File: WaitStrategy.java
+ *    Author: Orlando Ramos <orlando.ramos@amk-technologies.com>
+ *      Date: Oct 17, 2026
+ * Copyright: AMK Technologies, S.A. de C.V. 2026
+ */
+
+package com.amk.smpp.util;
+
+/**
+ * How a consumer of a {@link RingBufferPDUListener} waits while there are no events.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+    /**
+     * Sleeps until the receiver publishes an event. Lowest CPU, the receiver pays a signal while consumers wait.
+     */
+    PARK,
+    /**
+     * Gives the CPU to other threads between checks.
+     */
+    YIELD,
+    /**
+     * Checks continuously. Lowest latency, takes one core per waiting consumer.
+     */
+    BUSY_SPIN,
+    /**
+     * Sleeps a fixed period between checks, the receiver never signals.
+     */
+    TIMED
+}
@@ -0,0 +1,71 @@
+package com.amk.smpp.codec;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.Data;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.SubmitMultiSMResp;
+import org.smpp.pdu.UnsuccessSME;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ChunkedSubmitMultiSMRespTest {
+
+    private static Address[] destinations(int count) throws Exception {
+        Address[] destinations = new Address[count];
+        for (int i = 0; i < count; i++) {
+            destinations[i] = new Address((byte) 1, (byte) 1, "52155" + i);
+        }
+        return destinations;
+    }
+
+    private static SubmitMultiSMResp chunk(int sequence, int status, String messageId) throws Exception {
+        SubmitMultiSMResp response = new SubmitMultiSMResp();
+        response.setSequenceNumber(sequence);
+        response.setCommandStatus(status);
+        response.setMessageId(messageId);
+        return response;
+    }
+
+    @Test
+    public void merge() throws Exception {
+        Address[] destinations = destinations(7);
+        SubmitMultiSMResp first = chunk(10, Data.ESME_ROK, "A");
+        first.addUnsuccessSME(new UnsuccessSME((byte) 1, (byte) 1, "521551", Data.ESME_RDELIVERYFAILURE));
+        SubmitMultiSMResp rejected = chunk(11, Data.ESME_RTHROTTLED, null);
+        SubmitMultiSMResp last = chunk(13, Data.ESME_ROK, "D");
+
+        ChunkedSubmitMultiSMResp merged = new ChunkedSubmitMultiSMResp(destinations, 2, Arrays.asList(first, rejected, null, last));
+
+        Assert.assertEquals(Data.ESME_ROK, merged.getCommandStatus());
+        Assert.assertEquals(10, merged.getSequenceNumber());
+        Assert.assertEquals("A", merged.getMessageId());
+        Assert.assertEquals(4, merged.getChunks().size());
+        Assert.assertEquals(5, merged.getNoUnsuccess());
+        Assert.assertEquals("521551", merged.getUnsuccessSME(0).getAddress());
+        Assert.assertEquals(Data.ESME_RDELIVERYFAILURE, merged.getUnsuccessSME(0).getErrorStatusCode());
+        Assert.assertEquals("521552", merged.getUnsuccessSME(1).getAddress());
+        Assert.assertEquals(Data.ESME_RTHROTTLED, merged.getUnsuccessSME(2).getErrorStatusCode());
+        Assert.assertEquals("521554", merged.getUnsuccessSME(3).getAddress());
+        Assert.assertEquals(Data.ESME_RSYSERR, merged.getUnsuccessful().get(4).getErrorStatusCode());
+    }
+
+    @Test
+    public void allRejected() throws Exception {
+        Address[] destinations = destinations(3);
+        ChunkedSubmitMultiSMResp merged = new ChunkedSubmitMultiSMResp(destinations, 2,
+                Arrays.asList(chunk(1, Data.ESME_RTOOMANYDEST, null), null));
+
+        Assert.assertEquals(Data.ESME_RTOOMANYDEST, merged.getCommandStatus());
+        Assert.assertNull(merged.getMessageId());
+        Assert.assertEquals(3, merged.getUnsuccessful().size());
+        Assert.assertEquals("521552", merged.getUnsuccessSME(2).getAddress());
+        Assert.assertEquals(Data.ESME_RSYSERR, merged.getUnsuccessSME(2).getErrorStatusCode());
+    }
+}
@@ -0,0 +1,59 @@
+package com.amk.smpp.codec;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Gsm7CodecTest {
+
+    @Test
+    public void encode() {
+        String text = "Año @£ Δ€[x]";
+        byte[] out = new byte[32];
+        int length = Gsm7Codec.encode(text, out, 0);
+        Assert.assertEquals(Gsm7Codec.septetLength(text), length);
+        Assert.assertEquals(15, length);
+        Assert.assertEquals(0x41, out[0]);
+        Assert.assertEquals(0x7D, out[1]);
+        Assert.assertEquals(0x00, out[4]);
+        Assert.assertEquals(0x01, out[5]);
+        Assert.assertEquals(0x10, out[7]);
+        Assert.assertEquals(Gsm7Codec.ESCAPE, out[8]);
+        Assert.assertEquals(0x65, out[9]);
+        Assert.assertEquals(Gsm7Codec.ESCAPE, out[10]);
+        Assert.assertEquals(0x3C, out[11]);
+        Assert.assertEquals(text, Gsm7Codec.decode(out, 0, length));
+        Assert.assertTrue(Gsm7Codec.canEncode(text));
+    }
+
+    @Test
+    public void unknown() {
+        byte[] out = new byte[4];
+        Assert.assertFalse(Gsm7Codec.canEncode("á"));
+        Assert.assertEquals(1, Gsm7Codec.encode("á", out, 0));
+        Assert.assertEquals('?', out[0]);
+    }
+
+    @Test
+    public void pack() {
+        byte[] septets = new byte[8];
+        int length = Gsm7Codec.encode("hello", septets, 0);
+        byte[] packed = new byte[Gsm7Codec.packedLength(length)];
+        Assert.assertEquals(5, Gsm7Codec.pack(septets, 0, length, packed, 0));
+        Assert.assertArrayEquals(new byte[]{(byte) 0xE8, 0x32, (byte) 0x9B, (byte) 0xFD, 0x06}, packed);
+    }
+
+    @Test
+    public void messageCodec() {
+        Assert.assertArrayEquals(new byte[]{0x00, 0x41, 0x20, (byte) 0xAC}, MessageCodec.encode("A€", MessageCodec.DC_UCS2));
+        Assert.assertArrayEquals(new byte[]{(byte) 0xF1, '?'}, MessageCodec.encode("ñ€", MessageCodec.DC_LATIN1));
+        Assert.assertArrayEquals(new byte[]{'?', 'a'}, MessageCodec.encode("ña", MessageCodec.DC_IA5));
+        Assert.assertArrayEquals(new byte[]{0x7D, Gsm7Codec.ESCAPE, 0x28}, MessageCodec.encode("ñ{", MessageCodec.DC_DEFAULT));
+        Assert.assertSame(MessageCodec.buffer(16), MessageCodec.buffer(32));
+    }
+}
@@ -0,0 +1,139 @@
+package com.amk.smpp.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MessageSegmenterTest {
+
+    private static String repeat(final String text, final int times) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void singlePart() {
+        byte[] payload = "Mi mensaje de prueba".getBytes(StandardCharsets.US_ASCII);
+        List< Segment > segments = new MessageSegmenter().split(payload, payload.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(1, segments.size());
+        Assert.assertArrayEquals(payload, segments.get(0).getData());
+        Assert.assertEquals(1, segments.get(0).getTotal());
+    }
+
+    @Test
+    public void udh8Bit() {
+        byte[] payload = repeat("0123456789", 30).getBytes(StandardCharsets.US_ASCII);
+        List< Segment > segments = new MessageSegmenter().split(payload, payload.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(3, segments.size());
+        int text = 0;
+        for (Segment segment : segments) {
+            byte[] data = segment.getData();
+            Assert.assertTrue(data.length <= MessageSegmenter.MAX_LENGTH);
+            Assert.assertEquals(0x05, data[0]);
+            Assert.assertEquals(0x00, data[1]);
+            Assert.assertEquals((byte) segments.get(0).getReference(), data[3]);
+            Assert.assertEquals(3, data[4]);
+            Assert.assertEquals(segment.getNumber(), data[5]);
+            text += data.length - 6;
+        }
+        Assert.assertEquals(payload.length, text);
+        Assert.assertEquals(payload[134], segments.get(1).getData()[6]);
+    }
+
+    @Test
+    public void udh16BitAndSar() {
+        byte[] payload = repeat("x", 300).getBytes(StandardCharsets.US_ASCII);
+        MessageSegmenter segmenter = new MessageSegmenter();
+        List< Segment > segments = segmenter.split(payload, payload.length, MessageCodec.DC_IA5, ConcatenationType.UDH_16BIT);
+        Assert.assertEquals(3, segments.size());
+        Assert.assertEquals(0x08, segments.get(0).getData()[1]);
+        Assert.assertEquals(133 + 7, segments.get(0).getData().length);
+        segments = segmenter.split(payload, payload.length, MessageCodec.DC_IA5, ConcatenationType.SAR);
+        Assert.assertEquals(3, segments.size());
+        Assert.assertEquals(MessageSegmenter.MAX_LENGTH, segments.get(0).getData().length);
+        Assert.assertEquals('x', segments.get(2).getData()[0]);
+    }
+
+    @Test
+    public void surrogatePairs() {
+        String body = repeat("a", 66) + "😀" + repeat("b", 100);
+        byte[] payload = body.getBytes(StandardCharsets.UTF_16BE);
+        List< Segment > segments = new MessageSegmenter().split(payload, payload.length, MessageCodec.DC_UCS2, ConcatenationType.UDH_8BIT);
+        StringBuilder joined = new StringBuilder();
+        for (Segment segment : segments) {
+            byte[] data = segment.getData();
+            Assert.assertEquals(0, (data.length - 6) % 2);
+            String part = new String(data, 6, data.length - 6, StandardCharsets.UTF_16BE);
+            Assert.assertFalse(Character.isHighSurrogate(part.charAt(part.length() - 1)));
+            joined.append(part);
+        }
+        Assert.assertEquals(body, joined.toString());
+    }
+
+    @Test
+    public void escapeNotSplit() {
+        String body = repeat("a", 152) + "€" + repeat("b", 20);
+        byte[] payload = MessageCodec.encode(body, MessageCodec.DC_DEFAULT);
+        List< Segment > segments = new MessageSegmenter().split(payload, payload.length, MessageCodec.DC_DEFAULT, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(2, segments.size());
+        Assert.assertEquals(6 + 152, segments.get(0).getData().length);
+        Assert.assertEquals(Gsm7Codec.ESCAPE, segments.get(1).getData()[6]);
+    }
+
+    @Test
+    public void defaultAlphabetSeptets() {
+        byte[] payload = MessageCodec.encode(repeat("0123456789", 16), MessageCodec.DC_DEFAULT);
+        MessageSegmenter segmenter = new MessageSegmenter();
+        List< Segment > segments = segmenter.split(payload, payload.length, MessageCodec.DC_DEFAULT, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(1, segments.size());
+        Assert.assertEquals(Gsm7Codec.MAX_SEPTETS, segments.get(0).getData().length);
+        payload = MessageCodec.encode(repeat("0123456789", 30), MessageCodec.DC_DEFAULT);
+        segments = segmenter.split(payload, payload.length, MessageCodec.DC_DEFAULT, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(2, segments.size());
+        Assert.assertEquals(6 + 153, segments.get(0).getData().length);
+        Assert.assertEquals(6 + 147, segments.get(1).getData().length);
+        segments = segmenter.split(payload, payload.length, MessageCodec.DC_DEFAULT, ConcatenationType.UDH_16BIT);
+        Assert.assertEquals(7 + 152, segments.get(0).getData().length);
+    }
+
+    @Test
+    public void packed() {
+        String body = repeat("0123456789", 20);
+        byte[] septets = MessageCodec.encode(body, MessageCodec.DC_DEFAULT);
+        MessageSegmenter segmenter = new MessageSegmenter();
+        List< Segment > segments = segmenter.splitPacked(septets, 160, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(1, segments.size());
+        Assert.assertEquals(140, segments.get(0).getData().length);
+        segments = segmenter.splitPacked(septets, septets.length, ConcatenationType.UDH_8BIT);
+        Assert.assertEquals(2, segments.size());
+        byte[] first = segments.get(0).getData();
+        Assert.assertEquals(140, first.length);
+        Assert.assertEquals(0x05, first[0]);
+        Assert.assertEquals(2, first[4]);
+        // 1 fill bit after the 6 octets of the header, the first septet starts at bit 1 of octet 6
+        Assert.assertEquals((byte) ('0' << 1), first[6]);
+        Assert.assertEquals(Gsm7Codec.packedLength(7 + 47), segments.get(1).getData().length);
+    }
+
+    @Test
+    public void tooLong() {
+        byte[] payload = new byte[MessageSegmenter.MAX_SEGMENTS * 134 + 1];
+        try {
+            new MessageSegmenter().split(payload, payload.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) {
+            // error expected
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.amk.smpp.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.Data;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.SubmitSM;
+
+import com.amk.smpp.operation.PDUOperationProperties;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SubmitTemplateTest {
+
+    private static void cOctet(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        out.write(bytes, 0, bytes.length);
+        out.write(0);
+    }
+
+    private static PDUOperationProperties props() throws Exception {
+        return new PDUOperationPropertiesBuilder()
+                .setServiceType("CMT")
+                .setSourceAddress(new Address((byte) 5, (byte) 0, "AMK"))
+                .setValidityPeriod("")
+                .setProtocolId((byte) 0)
+                .setPriorityFlag((byte) 1)
+                .setRegisteredDelivery((byte) 1)
+                .setReplaceIfPresentFlag((byte) 0)
+                .setDataCoding(MessageCodec.DC_IA5)
+                .setSmDefaultMsgId((byte) 0)
+                .setEsmClass((byte) 0)
+                .build();
+    }
+
+    @Test
+    public void body() throws Exception {
+        SubmitTemplate template = SubmitTemplate.compile(props());
+        byte[] text = "hola".getBytes(StandardCharsets.US_ASCII);
+        Segment segment = new MessageSegmenter().split(text, text.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT).get(0);
+        SubmitSM request = template.newSubmit(new Address((byte) 1, (byte) 1, "5215512345678"), segment);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        cOctet(expected, "CMT");
+        expected.write(5);
+        expected.write(0);
+        cOctet(expected, "AMK");
+        expected.write(1);
+        expected.write(1);
+        cOctet(expected, "5215512345678");
+        expected.write(0);
+        expected.write(0);
+        expected.write(1);
+        cOctet(expected, "");
+        cOctet(expected, "");
+        expected.write(1);
+        expected.write(0);
+        expected.write(MessageCodec.DC_IA5);
+        expected.write(0);
+        expected.write(text.length);
+        expected.write(text, 0, text.length);
+        Assert.assertArrayEquals(expected.toByteArray(), request.getBody().getBuffer());
+        Assert.assertEquals("5215512345678", request.getDestAddr().getAddress());
+        Assert.assertEquals(1, request.getRegisteredDelivery());
+        Assert.assertEquals(4, request.getSmLength());
+    }
+
+    @Test
+    public void scheduled() throws Exception {
+        PDUOperationProperties props = props();
+        props.setScheduleDeliveryTime(new Date(1767225600500L));
+        SubmitTemplate template = SubmitTemplate.compile(props);
+        byte[] text = "hola".getBytes(StandardCharsets.US_ASCII);
+        Segment segment = new MessageSegmenter().split(text, text.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT).get(0);
+        Address destination = new Address((byte) 1, (byte) 1, "5215512345678");
+        SubmitSM request = template.newSubmit(destination, segment);
+        SubmitSM immediate = SubmitTemplate.compile(props()).newSubmit(destination, segment);
+
+        Assert.assertEquals("260101000000500+", request.getScheduleDeliveryTime());
+        byte[] body = request.getBody().getBuffer();
+        Assert.assertEquals(immediate.getBody().getBuffer().length + 16, body.length);
+        String encoded = new String(body, StandardCharsets.US_ASCII);
+        Assert.assertTrue(encoded.contains("\u0001260101000000500+\u0000\u0000\u0001"));
+        Assert.assertEquals(16 + body.length, ((EncodedPDU) request.getData()).length());
+    }
+
+    @Test
+    public void multipart() throws Exception {
+        SubmitTemplate template = SubmitTemplate.compile(props());
+        byte[] text = new byte[300];
+        List< Segment > segments = new MessageSegmenter().split(text, text.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT);
+        Address destination = new Address((byte) 1, (byte) 1, "5215512345678");
+        for (Segment segment : segments) {
+            SubmitSM request = template.newSubmit(destination, segment);
+            Assert.assertEquals(Data.SM_UDH_GSM, request.getEsmClass());
+            byte[] body = request.getBody().getBuffer();
+            Assert.assertEquals(segment.getData().length, body[body.length - segment.getData().length - 1] & 0xFF);
+        }
+    }
+
+    @Test
+    public void encoded() throws Exception {
+        SubmitTemplate template = SubmitTemplate.compile(props());
+        byte[] text = "hola".getBytes(StandardCharsets.US_ASCII);
+        Segment segment = new MessageSegmenter().split(text, text.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT).get(0);
+        SubmitSM request = template.newSubmit(new Address((byte) 1, (byte) 1, "5215512345678"), segment);
+        request.setSequenceNumber(42);
+        byte[] body = request.getBody().getBuffer();
+
+        EncodedPDU data = (EncodedPDU) request.getData();
+        Assert.assertEquals(16 + body.length, data.length());
+        ByteBuffer direct = ByteBuffer.allocateDirect(256);
+        direct.put((byte) 9);
+        data.writeTo(direct);
+        direct.flip();
+        Assert.assertEquals(9, direct.get());
+        Assert.assertEquals(data.length(), direct.getInt());
+        Assert.assertEquals(Data.SUBMIT_SM, direct.getInt());
+        Assert.assertEquals(0, direct.getInt());
+        Assert.assertEquals(42, direct.getInt());
+        byte[] written = new byte[direct.remaining()];
+        direct.get(written);
+        Assert.assertArrayEquals(body, written);
+
+        byte[] array = data.getBuffer();
+        Assert.assertEquals(data.length(), array.length);
+        Assert.assertEquals(42, array[15]);
+        Assert.assertSame(array, data.getBuffer());
+    }
+
+    @Test
+    public void encodedSar() throws Exception {
+        SubmitTemplate template = SubmitTemplate.compile(props());
+        byte[] text = new byte[200];
+        Segment segment = new MessageSegmenter().split(text, text.length, MessageCodec.DC_IA5, ConcatenationType.SAR).get(1);
+        SubmitSM request = template.newSubmit(new Address((byte) 1, (byte) 1, "5215512345678"), segment);
+        byte[] body = request.getBody().getBuffer();
+
+        byte[] array = request.getData().getBuffer();
+        Assert.assertEquals(16 + body.length + 16, array.length);
+        ByteBuffer tlvs = ByteBuffer.wrap(array, 16 + body.length, 16);
+        Assert.assertEquals(0x020C, tlvs.getShort());
+        Assert.assertEquals(2, tlvs.getShort());
+        Assert.assertEquals((short) segment.getReference(), tlvs.getShort());
+        Assert.assertEquals(0x020E, tlvs.getShort());
+        Assert.assertEquals(1, tlvs.getShort());
+        Assert.assertEquals(segment.getTotal(), tlvs.get());
+        Assert.assertEquals(0x020F, tlvs.getShort());
+        Assert.assertEquals(1, tlvs.getShort());
+        Assert.assertEquals(2, tlvs.get());
+    }
+}
@@ -1,6 +1,10 @@
 package com.amk.smpp.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -155,6 +159,112 @@ public class AMKSmppFacadeASyncSubmitTest {
         enquire();
     }
 
+    @Test
+    public void executeOperationAsync() throws Exception {
+        setUpSimulator(32000);
+        setUpConnection(32000);
+        submitPipelined();
+    }
+
+    @Test
+    public void executeOperationPool() throws Exception {
+        setUpSimulator(33000);
+        BindingPool pool = new BindingPool("hugo", "ggoohu", () -> new TCPIPConnection("0.0.0.0", 33000), 3,
+                BindSelectionStrategy.leastOutstanding());
+        AMKSmppFacade pooledFacade = AMKSmppFacade.newInstance(pool);
+        PDUOperationProperties props = new PDUOperationPropertiesBuilder()
+                .setSourceAddress(new Address("5529094190"))
+                .setDestAddress(new Address[]{new Address("5529094190")})
+                .build();
+        BasicPDUListener listener = new BasicPDUListener();
+        listener.setIntervalTime(1000);
+        List< CompletableFuture< SubmitSMResp > > futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            PDUOperation submit = PDUOperation
+                    .newBuilder()
+                    .withOperationProps(props)
+                    .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                    .withSmsMessage(new Message(null, "Mi mensaje de prueba pool " + i))
+                    .withBindingType(BindingType.TRX)
+                    .withListener(listener)
+                    .build();
+            futures.add(pooledFacade.executeOperationAsync(submit));
+        }
+        for (CompletableFuture< SubmitSMResp > future : futures) {
+            Assert.assertNotNull(future.get(5, TimeUnit.SECONDS).getMessageId());
+        }
+        for (BindingManager member : pool.getMembers()) {
+            Assert.assertTrue(member.isBound());
+        }
+        pool.unBind();
+    }
+
+    @Test
+    public void executeBatch() throws Exception {
+        setUpSimulator(34000);
+        setUpConnection(34000);
+        PDUOperationProperties props = new PDUOperationPropertiesBuilder()
+                .setSourceAddress(new Address("5529094190"))
+                .setDestAddress(new Address[]{new Address("5529094190")})
+                .build();
+        BasicPDUListener listener = new BasicPDUListener();
+        listener.setIntervalTime(1000);
+        List< PDUOperation > batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(PDUOperation
+                    .newBuilder()
+                    .withOperationProps(props)
+                    .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                    .withSmsMessage(new Message(null, "Mi mensaje de prueba batch " + i))
+                    .withBindingType(BindingType.TRX)
+                    .withListener(listener)
+                    .build());
+        }
+        List< SubmitSMResp > responses = smppFacade.executeBatch(batch);
+        Assert.assertEquals(batch.size(), responses.size());
+        for (SubmitSMResp response : responses) {
+            Assert.assertNotNull(response.getMessageId());
+        }
+        batch.add(PDUOperation.newBuilder().withOperationType(PDUOperationTypes.SUBMIT_SMS).build());
+        try {
+            smppFacade.executeBatch(batch);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) {
+            // error expected, the whole batch is validated before writing
+        }
+        bindingManager.unBind();
+    }
+
+    private void submitPipelined() throws Exception {
+        LOGGER.debug("executeOperationAsync: " + PDUOperationTypes.SUBMIT_SMS);
+        bindingManager.setWindowSize(4);
+        PDUOperationProperties props = new PDUOperationPropertiesBuilder()
+                .setSourceAddress(new Address("5529094190"))
+                .setDestAddress(new Address[]{new Address("5529094190")})
+                .build();
+        BasicPDUListener listener = new BasicPDUListener();
+        listener.setIntervalTime(1000);
+        List< CompletableFuture< SubmitSMResp > > futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PDUOperation submit = PDUOperation
+                    .newBuilder()
+                    .withOperationProps(props)
+                    .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                    .withSmsMessage(new Message(null, "Mi mensaje de prueba " + i))
+                    .withBindingType(BindingType.TRX)
+                    .withListener(listener)
+                    .build();
+            futures.add(smppFacade.executeOperationAsync(submit));
+            Assert.assertTrue(bindingManager.getWindow().getOutstanding() <= 4);
+        }
+        for (CompletableFuture< SubmitSMResp > future : futures) {
+            SubmitSMResp response = future.get(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(response.getMessageId());
+        }
+        Assert.assertEquals(0, bindingManager.getWindow().getOutstanding());
+        bindingManager.unBind();
+    }
+
     private void submit() throws Exception {
         LOGGER.debug("executeOperation: " + PDUOperationTypes.SUBMIT_SMS);
         Assert.assertNotNull(connection);
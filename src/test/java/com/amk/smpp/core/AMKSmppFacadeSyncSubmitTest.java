@@ -22,6 +22,8 @@ import org.smpp.pdu.ReplaceSMResp;
 import org.smpp.pdu.SubmitMultiSMResp;
 import org.smpp.pdu.SubmitSMResp;
 
+import com.amk.smpp.codec.ConcatenationType;
+import com.amk.smpp.codec.MultipartSubmitSMResp;
 import com.amk.smpp.operation.PDUOperation;
 import com.amk.smpp.operation.PDUOperationProperties;
 import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
@@ -112,6 +114,30 @@ public class AMKSmppFacadeSyncSubmitTest {
         submit();
         data();
         multi();
+        multipart();
+    }
+
+    private void multipart() throws Exception {
+        PDUOperationProperties props = new PDUOperationPropertiesBuilder()
+                .setSourceAddress(new Address("5529094190"))
+                .setDestAddress(new Address[]{new Address("5529094190")})
+                .setConcatenationType(ConcatenationType.UDH_16BIT)
+                .build();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            body.append("Mi mensaje ");
+        }
+        PDUOperation submit = PDUOperation
+                .newBuilder()
+                .withOperationProps(props)
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .withAsynchronous(false)
+                .withSmsMessage(new Message(null, body.toString()))
+                .withBindingType(BindingType.TRX)
+                .build();
+        MultipartSubmitSMResp response = smppFacade.executeOperation(submit);
+        Assert.assertEquals(4, response.getParts().size());
+        Assert.assertEquals(response.getParts().get(0).getMessageId(), response.getMessageId());
     }
 
     private void submit() throws Exception {
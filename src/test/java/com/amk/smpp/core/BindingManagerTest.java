@@ -6,15 +6,27 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.smpp.Connection;
+import org.smpp.Data;
+import org.smpp.Receiver;
+import org.smpp.ServerPDUEvent;
+import org.smpp.SmppException;
 import org.smpp.TCPIPConnection;
 import org.smpp.pdu.Address;
+import org.smpp.pdu.DataSM;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.SubmitSM;
 
+import com.amk.smpp.flow.AccountThrottles;
+import com.amk.smpp.flow.TokenBucket;
 import com.amk.smpp.operation.PDUOperation;
 import com.amk.smpp.operation.PDUOperationProperties;
 import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
 import com.amk.smpp.operation.PDUOperationTypes;
 import com.amk.smpp.sim.SIMSimulator;
 import com.amk.smpp.util.Message;
+import com.amk.smpp.util.OverflowPolicy;
+import com.amk.smpp.util.RingBufferPDUListener;
+import com.amk.smpp.util.WaitStrategy;
 
 /** TODO Descripción de las responsabilidades de la clase, patrones utilizados, algoritmos utilizados.
  *
@@ -81,6 +93,26 @@ public class BindingManagerTest {
         connection = null;
     }
 
+    @Test
+    public void throttleGivesBackBindPermit() throws Exception {
+        connection = new TCPIPConnection("0.0.0.0", 2302);
+        bindingManager = new BindingManager("throttled", "ggoohu", connection);
+        TokenBucket bindLimit = new TokenBucket(1.0, 1);
+        bindingManager.setRateLimiter(bindLimit);
+        bindingManager.setWindowTimeout(50L);
+        Assert.assertTrue(AccountThrottles.setLimit("throttled", 1.0, 1).tryAcquire());
+        try {
+            bindingManager.throttle();
+            Assert.fail();
+        } catch (final SmppException e) {
+            // error expected, no permit of the account
+        } finally {
+            AccountThrottles.remove("throttled");
+        }
+        Assert.assertTrue(bindLimit.tryAcquire());
+        connection = null;
+    }
+
     @Test
     public void bind() throws Exception {
         setUpSimulator();
@@ -99,4 +131,40 @@ public class BindingManagerTest {
         connection.close();
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void fastAck() throws Exception {
+        bindingManager = new BindingManager("hugo", "ggoohu", new TCPIPConnection("0.0.0.0", 2303));
+        DeliverSM deliver = new DeliverSM();
+        Assert.assertFalse(bindingManager.isFastAcked(deliver));
+        Assert.assertFalse(bindingManager.fastAck(deliver));
+        bindingManager.setFastAck(true);
+        bindingManager.setFastAckStatus(Data.ESME_RMSGQFUL);
+        Assert.assertEquals(Data.ESME_RMSGQFUL, bindingManager.getFastAckStatus());
+        Assert.assertTrue(bindingManager.fastAck(deliver));
+        Assert.assertTrue(bindingManager.fastAck(new DataSM()));
+        Assert.assertFalse(bindingManager.fastAck(new SubmitSM()));
+    }
+
+    @Test
+    public void fastAckRetained() throws Exception {
+        Connection tcp = new TCPIPConnection("0.0.0.0", 2303);
+        bindingManager = new BindingManager("hugo", "ggoohu", tcp);
+        bindingManager.setFastAck(true);
+        RingBufferPDUListener ring = new RingBufferPDUListener(2, WaitStrategy.BUSY_SPIN, OverflowPolicy.DROP_OLDEST);
+        ring.setIntervalTime(10);
+        BindingPDUListener listener = new BindingPDUListener(bindingManager, ring);
+        Receiver receiver = new Receiver(tcp);
+        for (int i = 0; i < 3; i++) {
+            listener.handleEvent(new ServerPDUEvent(receiver, tcp, new DeliverSM()));
+        }
+        Assert.assertEquals(2, ring.getPendingRequests());
+        Assert.assertTrue(ring.getRequestEvent() instanceof BindingPDUListener.AckedEvent);
+        Assert.assertTrue(ring.getRequestEvent() instanceof BindingPDUListener.AckedEvent);
+        Assert.assertEquals(0, ring.getDropped());
+
+        bindingManager.setFastAck(false);
+        listener.handleEvent(new ServerPDUEvent(receiver, tcp, new DeliverSM()));
+        Assert.assertFalse(ring.getRequestEvent() instanceof BindingPDUListener.AckedEvent);
+    }
+}
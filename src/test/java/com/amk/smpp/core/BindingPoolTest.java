@@ -0,0 +1,84 @@
+package com.amk.smpp.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.TCPIPConnection;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.pdu.SubmitSMResp;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BindingPoolTest {
+
+    private BindingPool newPool(int size, BindSelectionStrategy strategy) {
+        return new BindingPool("hugo", "ggoohu", () -> new TCPIPConnection("0.0.0.0", 2303), size, strategy);
+    }
+
+    @Test
+    public void bindingPool() throws Exception {
+        try {
+            new BindingPool(new ArrayList<>(), BindSelectionStrategy.roundRobin());
+            Assert.fail();
+        } catch (final IllegalArgumentException e) {
+            // error expected
+        }
+        BindingPool pool = newPool(3, null);
+        Assert.assertEquals(3, pool.getMembers().size());
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+        BindingPool pool = newPool(4, BindSelectionStrategy.roundRobin());
+        Set< BindingManager > selected = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            selected.add(pool.select(null));
+        }
+        Assert.assertEquals(4, selected.size());
+        Assert.assertSame(pool.getMembers().get(0), pool.select(null));
+    }
+
+    @Test
+    public void leastOutstanding() throws Exception {
+        BindingPool pool = newPool(3, BindSelectionStrategy.leastOutstanding());
+        List< BindingManager > members = pool.getMembers();
+        for (BindingManager member : Arrays.asList(members.get(0), members.get(2))) {
+            SubmitSM request = new SubmitSM();
+            request.assignSequenceNumber(true);
+            member.getWindow().register(request, 10, 0L);
+        }
+        for (int i = 0; i < 3; i++) {
+            Assert.assertSame(members.get(1), pool.select(null));
+        }
+    }
+
+    @Test
+    public void healthAware() throws Exception {
+        BindingPool pool = newPool(2, BindSelectionStrategy.roundRobin());
+        List< BindingManager > members = pool.getMembers();
+        members.get(1).markDown(new SmppException("link dropped"));
+        Assert.assertTrue(members.get(1).isDown());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertSame(members.get(0), pool.select(null));
+        }
+        SubmitSM request = new SubmitSM();
+        request.assignSequenceNumber(true);
+        CompletableFuture< SubmitSMResp > future = members.get(0).getWindow().register(request, 10, 0L);
+        members.get(0).markDown(new SmppException("link dropped"));
+        // no healthy bind to move the request to
+        Assert.assertTrue(future.isCompletedExceptionally());
+        Assert.assertEquals(0, members.get(0).getWindow().getOutstanding());
+        Assert.assertNotNull(pool.select(null));
+    }
+}
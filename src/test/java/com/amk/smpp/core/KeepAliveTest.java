@@ -0,0 +1,111 @@
+package com.amk.smpp.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.TCPIPConnection;
+import org.smpp.pdu.EnquireLink;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.pdu.SubmitSMResp;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class KeepAliveTest {
+
+    @Test
+    public void backoff() {
+        for (int attempt = 0; attempt < 40; attempt++) {
+            long expected = Math.min(60000L, 1000L << Math.min(attempt, 30));
+            long wait = KeepAlive.backoff(attempt, 1000L, 60000L);
+            Assert.assertTrue("attempt " + attempt + " wait " + wait, wait >= expected / 2 && wait <= expected);
+        }
+    }
+
+    @Test
+    public void markDown() throws Exception {
+        BindingManager manager = new BindingManager("hugo", "ggoohu", new TCPIPConnection("0.0.0.0", 2304));
+        SubmitSM request = new SubmitSM();
+        request.assignSequenceNumber(true);
+        CompletableFuture< SubmitSMResp > future = manager.getWindow().register(request, 10, 0L);
+        manager.markDown(new SmppException("link dropped"));
+        Assert.assertTrue(manager.isDown());
+        Assert.assertFalse(manager.isBound());
+        Assert.assertTrue(future.isCompletedExceptionally());
+        try {
+            manager.rebind();
+            Assert.fail();
+        } catch (final SmppException e) {
+            // error expected, never bound
+        }
+        try (KeepAlive keepAlive = new KeepAlive(10000L)) {
+            keepAlive.watch(manager);
+            keepAlive.unwatch(manager);
+        }
+    }
+
+    @Test
+    public void pingWhileWriting() throws Exception {
+        List< Request > pings = new CopyOnWriteArrayList<>();
+        BindingManager manager = new BindingManager("hugo", "ggoohu", new TCPIPConnection("0.0.0.0", 2305)) {
+            @Override
+            public boolean isBound() {
+                return true;
+            }
+
+            @Override
+            public CompletableFuture< Response > enquireLink() {
+                EnquireLink request = new EnquireLink();
+                pings.add(request);
+                return CompletableFuture.completedFuture(request.getResponse());
+            }
+        };
+        try (KeepAlive keepAlive = new KeepAlive(50L)) {
+            keepAlive.watch(manager);
+            long end = System.currentTimeMillis() + 500L;
+            while (System.currentTimeMillis() < end && pings.isEmpty()) {
+                manager.throttle();
+                Thread.sleep(5L);
+            }
+        }
+        Assert.assertFalse(pings.isEmpty());
+        Assert.assertTrue(pings.get(0) instanceof EnquireLink);
+    }
+
+    @Test
+    public void unansweredPing() throws Exception {
+        AtomicInteger pings = new AtomicInteger();
+        BindingManager manager = new BindingManager("hugo", "ggoohu", new TCPIPConnection("0.0.0.0", 2306)) {
+            @Override
+            public boolean isBound() {
+                return true;
+            }
+
+            @Override
+            public CompletableFuture< Response > enquireLink() {
+                pings.incrementAndGet();
+                return new CompletableFuture<>();
+            }
+        };
+        manager.setResponseTimeout(200L);
+        try (KeepAlive keepAlive = new KeepAlive(20L)) {
+            keepAlive.watch(manager);
+            long end = System.currentTimeMillis() + 2000L;
+            while (System.currentTimeMillis() < end && !manager.isDown()) {
+                Thread.sleep(5L);
+            }
+        }
+        Assert.assertTrue(manager.isDown());
+        Assert.assertEquals(1, pings.get());
+    }
+}
@@ -0,0 +1,123 @@
+package com.amk.smpp.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.pdu.GenericNack;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.pdu.SubmitSMResp;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RequestWindowTest {
+
+    private SubmitSM newRequest() {
+        SubmitSM request = new SubmitSM();
+        request.assignSequenceNumber(true);
+        return request;
+    }
+
+    private SubmitSMResp newResponse(SubmitSM request) {
+        SubmitSMResp response = new SubmitSMResp();
+        response.setSequenceNumber(request.getSequenceNumber());
+        return response;
+    }
+
+    @Test
+    public void register() throws Exception {
+        RequestWindow window = new RequestWindow(2);
+        SubmitSM first = newRequest();
+        SubmitSM second = newRequest();
+        CompletableFuture< SubmitSMResp > firstFuture = window.register(first, 10, 0L);
+        window.register(second, 10, 0L);
+        Assert.assertEquals(2, window.getOutstanding());
+        try {
+            window.register(newRequest(), 10, 0L);
+            Assert.fail();
+        } catch (final SmppException e) {
+            // error expected, window full
+        }
+        SubmitSMResp response = newResponse(first);
+        Assert.assertTrue(window.complete(response));
+        Assert.assertSame(response, firstFuture.get());
+        Assert.assertEquals(1, window.getOutstanding());
+        Assert.assertFalse(window.complete(response));
+        window.register(newRequest(), 10, 0L);
+        Assert.assertEquals(2, window.getOutstanding());
+    }
+
+    @Test
+    public void genericNack() throws Exception {
+        RequestWindow window = new RequestWindow(1);
+        SubmitSM request = newRequest();
+        CompletableFuture< SubmitSMResp > future = window.register(request, 10, 0L);
+        GenericNack nack = new GenericNack();
+        nack.setSequenceNumber(request.getSequenceNumber());
+        Assert.assertTrue(window.complete(nack));
+        Assert.assertTrue(future.isCompletedExceptionally());
+        Assert.assertEquals(0, window.getOutstanding());
+    }
+
+    @Test
+    public void failAll() throws Exception {
+        RequestWindow window = new RequestWindow(4);
+        CompletableFuture< SubmitSMResp > first = window.register(newRequest(), 10, 0L);
+        CompletableFuture< SubmitSMResp > second = window.register(newRequest(), 10, 0L);
+        window.failAll(new SmppException("unbound"));
+        Assert.assertTrue(first.isCompletedExceptionally());
+        Assert.assertTrue(second.isCompletedExceptionally());
+        Assert.assertEquals(0, window.getOutstanding());
+    }
+
+    @Test
+    public void observe() throws Exception {
+        RequestWindow window = new RequestWindow(1);
+        SubmitSM request = newRequest();
+        CompletableFuture< SubmitSMResp > future = window.observe(request, 10, 0L);
+        SubmitSMResp response = newResponse(request);
+        Assert.assertFalse(window.complete(response));
+        Assert.assertSame(response, future.get());
+        Assert.assertEquals(0, window.getOutstanding());
+    }
+
+    @Test
+    public void responseTimeout() throws Exception {
+        RequestWindow window = new RequestWindow(1);
+        SubmitSM request = newRequest();
+        CompletableFuture< SubmitSMResp > future = window.register(request, 10, 50L);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof SmppException);
+        }
+        window.register(newRequest(), 1000, 0L);
+        Assert.assertEquals(1, window.getOutstanding());
+        Assert.assertFalse(window.complete(newResponse(request)));
+    }
+
+    @Test
+    public void setSize() throws Exception {
+        RequestWindow window = new RequestWindow(1);
+        CompletableFuture< SubmitSMResp > future = window.register(newRequest(), 10, 0L);
+        window.setSize(2);
+        window.register(newRequest(), 10, 0L);
+        Assert.assertEquals(2, window.getSize());
+        future.cancel(true);
+        Assert.assertEquals(1, window.getOutstanding());
+        try {
+            window.setSize(0);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) {
+            // error expected
+        }
+    }
+}
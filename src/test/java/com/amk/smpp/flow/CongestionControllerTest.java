@@ -0,0 +1,70 @@
+package com.amk.smpp.flow;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.Data;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CongestionControllerTest {
+
+    @Test
+    public void decrease() {
+        AtomicInteger size = new AtomicInteger();
+        TokenBucket limiter = new TokenBucket(100.0, 10);
+        CongestionController controller = new CongestionController(size::set, limiter, 2, 16);
+        controller.onResponse(Data.ESME_RTHROTTLED);
+        Assert.assertEquals(8, size.get());
+        Assert.assertEquals(50.0, limiter.getPermitsPerSecond(), 0.001);
+        // same congestion episode, ignored
+        controller.onResponse(Data.ESME_RMSGQFUL);
+        Assert.assertEquals(8, controller.getWindow());
+        controller.setHoldTime(0);
+        controller.onResponse(Data.ESME_RMSGQFUL);
+        controller.onResponse(Data.ESME_RTHROTTLED);
+        controller.onResponse(Data.ESME_RTHROTTLED);
+        Assert.assertEquals(2, size.get());
+        controller.onResponse(Data.ESME_RSYSERR);
+        Assert.assertEquals(2, controller.getWindow());
+    }
+
+    @Test
+    public void increase() {
+        AtomicInteger size = new AtomicInteger();
+        TokenBucket limiter = new TokenBucket(100.0, 10);
+        CongestionController controller = new CongestionController(size::set, limiter, 1, 4);
+        controller.onResponse(Data.ESME_RTHROTTLED);
+        Assert.assertEquals(2, size.get());
+        controller.onResponse(Data.ESME_ROK);
+        controller.onResponse(Data.ESME_ROK);
+        Assert.assertEquals(2, size.get());
+        controller.onResponse(Data.ESME_ROK);
+        Assert.assertEquals(3, size.get());
+        for (int i = 0; i < 100; i++) {
+            controller.onResponse(Data.ESME_ROK);
+        }
+        Assert.assertEquals(4, size.get());
+        Assert.assertEquals(100.0, limiter.getPermitsPerSecond(), 0.001);
+    }
+
+    @Test
+    public void withoutRate() {
+        AtomicInteger size = new AtomicInteger();
+        CongestionController controller = new CongestionController(size::set, null, 1, 10);
+        controller.onResponse(Data.ESME_RTHROTTLED);
+        Assert.assertEquals(5, size.get());
+        Assert.assertEquals(0.0, controller.getRate(), 0.0);
+        try {
+            new CongestionController(size::set, null, 5, 4);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) {
+            // error expected
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.amk.smpp.flow;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.pdu.Address;
+
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.util.Message;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DuplicateFilterTest {
+
+    private static PDUOperation submit(String destination, String id, String body) throws Exception {
+        return PDUOperation.newBuilder()
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .withOperationProps(new PDUOperationPropertiesBuilder()
+                        .setSourceAddress(new Address((byte) 5, (byte) 0, "AMK"))
+                        .setDestAddress(new Address[] { new Address((byte) 1, (byte) 1, destination) })
+                        .build())
+                .withSmsMessage(new Message(id, body))
+                .build();
+    }
+
+    @Test
+    public void suppress() throws Exception {
+        DuplicateFilter filter = new DuplicateFilter(60000, 1000);
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "1", "hola"), 1000));
+        Assert.assertTrue(filter.isDuplicate(submit("5215512345678", "1", "hola"), 2000));
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345679", "1", "hola"), 3000));
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "2", "hola"), 4000));
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "1", "adios"), 5000));
+        Assert.assertEquals(5, filter.getChecked());
+        Assert.assertEquals(1, filter.getSuppressed());
+    }
+
+    @Test
+    public void window() throws Exception {
+        DuplicateFilter filter = new DuplicateFilter(60000, 1000);
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "1", "hola"), 0));
+        Assert.assertTrue(filter.isDuplicate(submit("5215512345678", "1", "hola"), 59999));
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "1", "hola"), 75000));
+    }
+
+    @Test
+    public void forget() throws Exception {
+        DuplicateFilter filter = new DuplicateFilter(60000, 1000);
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "1", "hola"), 1000));
+        filter.forget(submit("5215512345678", "1", "hola"), 2000);
+        Assert.assertFalse(filter.isDuplicate(submit("5215512345678", "1", "hola"), 3000));
+        Assert.assertTrue(filter.isDuplicate(submit("5215512345678", "1", "hola"), 4000));
+    }
+
+    @Test
+    public void falsePositives() throws Exception {
+        DuplicateFilter filter = new DuplicateFilter(60000, 10000, 1.0E-3);
+        int duplicates = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.isDuplicate(submit("52155" + i, String.valueOf(i), "hola"), i * 6L)) {
+                duplicates++;
+            }
+        }
+        Assert.assertTrue(duplicates < 50);
+        Assert.assertTrue(filter.getMemory() < 1024 * 1024);
+    }
+
+    @Test
+    public void invalid() {
+        try {
+            new DuplicateFilter(60000, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().startsWith("[X] error"));
+        }
+        try {
+            new DuplicateFilter(60000, 10, 1.0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.amk.smpp.flow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.operation.TrafficClass;
+import com.amk.smpp.sim.RecordingFacade;
+import com.amk.smpp.util.Message;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PrioritySchedulerTest {
+
+    private static PDUOperation submit(String id, byte priorityFlag) {
+        return PDUOperation.newBuilder()
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .withOperationProps(new PDUOperationPropertiesBuilder().setPriorityFlag(priorityFlag).build())
+                .withSmsMessage(new Message(id, "hola"))
+                .build();
+    }
+
+    @Test
+    public void trafficClass() {
+        Assert.assertEquals(TrafficClass.BULK, TrafficClass.of(submit("1", (byte) 0)));
+        Assert.assertEquals(TrafficClass.URGENT, TrafficClass.of(submit("1", (byte) 3)));
+        Assert.assertEquals(TrafficClass.URGENT, TrafficClass.of((byte) 9));
+        PDUOperation explicit = PDUOperation.newBuilder(submit("1", (byte) 0)).withTrafficClass(TrafficClass.HIGH).build();
+        Assert.assertEquals(TrafficClass.HIGH, TrafficClass.of(explicit));
+    }
+
+    @Test
+    public void strict() throws Exception {
+        RecordingFacade bind = new RecordingFacade(false);
+        try (PriorityScheduler scheduler = new PriorityScheduler(bind, 1)) {
+            CompletableFuture< Response > first = scheduler.executeOperationAsync(submit("B0", (byte) 0));
+            RecordingFacade.Written written = bind.next();
+            Assert.assertEquals("B0", written.id());
+            for (int i = 1; i <= 3; i++) {
+                scheduler.executeOperationAsync(submit("B" + i, (byte) 0));
+            }
+            scheduler.executeOperationAsync(submit("N", (byte) 1));
+            CompletableFuture< Response > otp = scheduler.executeOperationAsync(submit("U", (byte) 3));
+            Assert.assertEquals(3, scheduler.getQueued(TrafficClass.BULK));
+            Assert.assertEquals(1, scheduler.getOutstanding());
+
+            written.answer();
+            Assert.assertNotNull(first.get(5, TimeUnit.SECONDS));
+            List< String > order = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                written = bind.next();
+                order.add(written.id());
+                written.answer();
+            }
+            Assert.assertEquals(Arrays.asList("U", "N", "B1", "B2", "B3"), order);
+            Assert.assertTrue(otp.isDone());
+        }
+    }
+
+    @Test
+    public void weighted() throws Exception {
+        RecordingFacade bind = new RecordingFacade(false);
+        try (PriorityScheduler scheduler = new PriorityScheduler(bind, 1, new int[] { 1, 1, 1, 3 })) {
+            scheduler.executeOperationAsync(submit("B", (byte) 0));
+            RecordingFacade.Written written = bind.next();
+            for (int i = 0; i < 8; i++) {
+                scheduler.executeOperationAsync(submit("B", (byte) 0));
+                scheduler.executeOperationAsync(submit("U", (byte) 3));
+            }
+            written.answer();
+            int urgent = 0;
+            for (int i = 0; i < 8; i++) {
+                written = bind.next();
+                if ("U".equals(written.id())) {
+                    urgent++;
+                }
+                written.answer();
+            }
+            Assert.assertEquals(6, urgent);
+        }
+    }
+
+    @Test
+    public void cancelReleasesSlot() throws Exception {
+        RecordingFacade bind = new RecordingFacade(false);
+        try (PriorityScheduler scheduler = new PriorityScheduler(bind, 1)) {
+            CompletableFuture< Response > first = scheduler.executeOperationAsync(submit("1", (byte) 0));
+            RecordingFacade.Written written = bind.next();
+            scheduler.executeOperationAsync(submit("2", (byte) 0));
+            first.cancel(false);
+            Assert.assertEquals("2", bind.next().id());
+            Assert.assertTrue(written.future.isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    public void laneFull() throws Exception {
+        RecordingFacade bind = new RecordingFacade(false);
+        try (PriorityScheduler scheduler = new PriorityScheduler(bind, 1, null, 2)) {
+            scheduler.executeOperationAsync(submit("0", (byte) 0));
+            RecordingFacade.Written written = bind.next();
+            scheduler.executeOperationAsync(submit("1", (byte) 0));
+            scheduler.executeOperationAsync(submit("2", (byte) 0));
+            try {
+                scheduler.executeOperationAsync(submit("3", (byte) 0));
+                Assert.fail();
+            } catch (SmppException e) {
+                Assert.assertTrue(e.getMessage().contains("full"));
+            }
+            scheduler.setQueueTimeout(5000L);
+            CompletableFuture.runAsync(() -> {
+                try {
+                    Thread.sleep(100L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.answer();
+            });
+            scheduler.executeOperationAsync(submit("3", (byte) 0));
+            Assert.assertEquals("1", bind.next().id());
+            Assert.assertEquals(2, scheduler.getQueued(TrafficClass.BULK));
+        }
+    }
+
+    @Test
+    public void closed() throws Exception {
+        RecordingFacade bind = new RecordingFacade(false);
+        PriorityScheduler scheduler = new PriorityScheduler(bind, 2);
+        scheduler.close();
+        Assert.assertTrue(scheduler.awaitTermination(5000));
+        try {
+            scheduler.executeOperationAsync(submit("1", (byte) 0));
+            Assert.fail();
+        } catch (SmppException e) {
+            Assert.assertTrue(e.getMessage().startsWith("[X] error"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidWeights() {
+        new PriorityScheduler(new RecordingFacade(false), 1, new int[] { 1, 2 });
+    }
+}
@@ -0,0 +1,81 @@
+package com.amk.smpp.flow;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TokenBucketTest {
+
+    @Test
+    public void burst() {
+        TokenBucket bucket = new TokenBucket(1.0, 3);
+        Assert.assertTrue(bucket.tryAcquire());
+        Assert.assertTrue(bucket.tryAcquire());
+        Assert.assertTrue(bucket.tryAcquire());
+        Assert.assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    public void pacing() throws Exception {
+        TokenBucket bucket = new TokenBucket(100.0, 1);
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            bucket.acquire();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue("elapsed " + elapsed, elapsed >= 90);
+    }
+
+    @Test
+    public void timedAcquire() throws Exception {
+        TokenBucket bucket = new TokenBucket(10.0, 1);
+        Assert.assertTrue(bucket.tryAcquire(0, TimeUnit.MILLISECONDS));
+        Assert.assertFalse(bucket.tryAcquire(10, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(bucket.tryAcquire(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void reserveAndRelease() {
+        TokenBucket bucket = new TokenBucket(10.0, 1);
+        Assert.assertEquals(0L, bucket.tryReserve(0, TimeUnit.MILLISECONDS));
+        long wait = bucket.tryReserve(200, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(wait > 0L);
+        Assert.assertEquals(-1L, bucket.tryReserve(10, TimeUnit.MILLISECONDS));
+        bucket.release();
+        bucket.release();
+        Assert.assertTrue(bucket.tryAcquire());
+        Assert.assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    public void setPermitsPerSecond() throws Exception {
+        TokenBucket bucket = new TokenBucket(1.0, 1);
+        Assert.assertTrue(bucket.tryAcquire());
+        Assert.assertFalse(bucket.tryAcquire(50, TimeUnit.MILLISECONDS));
+        bucket.setPermitsPerSecond(1000.0);
+        Assert.assertTrue(bucket.tryAcquire(50, TimeUnit.MILLISECONDS));
+        try {
+            bucket.setPermitsPerSecond(0.0);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) {
+            // error expected
+        }
+    }
+
+    @Test
+    public void accountThrottles() {
+        Assert.assertNull(AccountThrottles.get("hugo"));
+        TokenBucket limit = AccountThrottles.setLimit("hugo", 50.0, 5);
+        Assert.assertSame(limit, AccountThrottles.get("hugo"));
+        AccountThrottles.remove("hugo");
+        Assert.assertNull(AccountThrottles.get("hugo"));
+        Assert.assertNull(AccountThrottles.get(null));
+    }
+}
@@ -0,0 +1,74 @@
+package com.amk.smpp.inbound;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.pdu.DeliverSM;
+
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DeliveryReceiptParserTest {
+
+    private DeliveryReceipt parse(String text) {
+        byte[] octets = text.getBytes(StandardCharsets.US_ASCII);
+        DeliveryReceipt receipt = new DeliveryReceipt(new DeliverSM());
+        DeliveryReceiptParser.parse(octets, octets.length, receipt);
+        return receipt;
+    }
+
+    @Test
+    public void parse() throws Exception {
+        DeliveryReceipt receipt = parse("id:0123456789 sub:001 dlvrd:001 submit date:2610171230 "
+                + "done date:2610171231 stat:DELIVRD err:000 text:Hola id:999");
+        Assert.assertEquals("0123456789", receipt.getMessageId());
+        Assert.assertEquals(1, receipt.getSubmitted());
+        Assert.assertEquals(1, receipt.getDelivered());
+        Assert.assertEquals(MessageState.DELIVERED, receipt.getState());
+        Assert.assertEquals(0, receipt.getError());
+        Calendar done = Calendar.getInstance();
+        done.setTime(receipt.getDoneDate());
+        Assert.assertEquals(2026, done.get(Calendar.YEAR));
+        Assert.assertEquals(Calendar.OCTOBER, done.get(Calendar.MONTH));
+        Assert.assertEquals(17, done.get(Calendar.DAY_OF_MONTH));
+        Assert.assertEquals(12, done.get(Calendar.HOUR_OF_DAY));
+        Assert.assertEquals(31, done.get(Calendar.MINUTE));
+    }
+
+    @Test
+    public void caseAndOrder() throws Exception {
+        DeliveryReceipt receipt = parse("STAT:undeliv  ERR:034 ID:abc");
+        Assert.assertEquals("abc", receipt.getMessageId());
+        Assert.assertEquals(MessageState.UNDELIVERABLE, receipt.getState());
+        Assert.assertEquals(34, receipt.getError());
+        Assert.assertNull(receipt.getSubmitDate());
+    }
+
+    @Test
+    public void notAReceipt() throws Exception {
+        Assert.assertFalse(DeliveryReceiptParser.isReceipt(new DeliverSM()));
+        Assert.assertNull(DeliveryReceiptParser.parse(new DeliverSM()));
+        DeliveryReceipt receipt = parse("Hola mundo");
+        Assert.assertNull(receipt.getMessageId());
+        Assert.assertEquals(MessageState.UNKNOWN, receipt.getState());
+    }
+
+    @Test
+    public void correlate() throws Exception {
+        ReceiptCorrelator correlator = new ReceiptCorrelator();
+        PDUOperation submission = PDUOperation.newBuilder().build();
+        correlator.track("abc", submission);
+        Assert.assertSame(submission, correlator.correlate(parse("id:abc stat:ENROUTE")).getSubmission());
+        Assert.assertEquals(1, correlator.size());
+        Assert.assertSame(submission, correlator.correlate(parse("id:abc stat:DELIVRD")).getSubmission());
+        Assert.assertEquals(0, correlator.size());
+        Assert.assertNull(correlator.correlate(parse("id:abc stat:DELIVRD")).getSubmission());
+    }
+}
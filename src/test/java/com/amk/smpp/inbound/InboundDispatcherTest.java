@@ -0,0 +1,148 @@
+package com.amk.smpp.inbound;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationTypes;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InboundDispatcherTest {
+
+    private DeliverSM newDeliver(String source, int sequenceNumber) throws Exception {
+        DeliverSM deliver = new DeliverSM();
+        deliver.setSourceAddr(new Address(source));
+        deliver.setSequenceNumber(sequenceNumber);
+        return deliver;
+    }
+
+    @Test
+    public void orderByAddress() throws Exception {
+        Map< String, List< Integer > > received = new ConcurrentHashMap<>();
+        Map< String, String > threads = new ConcurrentHashMap<>();
+        InboundDispatcher dispatcher = new InboundDispatcher(request -> {
+            String source = ((DeliverSM) request).getSourceAddr().getAddress();
+            received.computeIfAbsent(source, key -> new CopyOnWriteArrayList<>()).add(request.getSequenceNumber());
+            String previous = threads.putIfAbsent(source, Thread.currentThread().getName());
+            Assert.assertTrue(previous == null || previous.equals(Thread.currentThread().getName()));
+        }, 4, 16, RejectionPolicy.BLOCK, StripeKey.SOURCE);
+        for (int i = 0; i < 2000; i++) {
+            dispatcher.dispatch(newDeliver("55290941" + (i % 20), i));
+        }
+        dispatcher.close();
+        Assert.assertTrue(dispatcher.awaitTermination(5000));
+        Assert.assertEquals(20, received.size());
+        for (List< Integer > sequence : received.values()) {
+            Assert.assertEquals(100, sequence.size());
+            for (int i = 1; i < sequence.size(); i++) {
+                Assert.assertTrue(sequence.get(i - 1) < sequence.get(i));
+            }
+        }
+        Assert.assertTrue(threads.values().stream().distinct().count() > 1);
+    }
+
+    @Test
+    public void rejection() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        InboundHandler blocked = request -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        InboundDispatcher discard = new InboundDispatcher(blocked, 1, 1, RejectionPolicy.DISCARD, StripeKey.SOURCE);
+        discard.dispatch(newDeliver("1", 1));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        discard.dispatch(newDeliver("1", 2));
+        discard.dispatch(newDeliver("1", 3));
+        Assert.assertEquals(1, discard.getRejected());
+        Assert.assertEquals(1, discard.getQueued());
+
+        InboundDispatcher abort = new InboundDispatcher(blocked, 1, 1, RejectionPolicy.ABORT, StripeKey.DESTINATION);
+        abort.dispatch(newDeliver("1", 1));
+        abort.dispatch(newDeliver("1", 2));
+        try {
+            abort.dispatch(newDeliver("1", 3));
+            Assert.fail();
+        } catch (final RejectedExecutionException e) {
+            // error expected, queue full
+        }
+        try {
+            discard.start(null, PDUOperation.newBuilder().withOperationType(PDUOperationTypes.RECEIVE).build());
+            Assert.fail();
+        } catch (final IllegalStateException e) {
+            // error expected, the reader acknowledges before the dispatch
+        }
+        release.countDown();
+        discard.close();
+        abort.close();
+        Assert.assertTrue(discard.awaitTermination(5000));
+        Assert.assertTrue(abort.awaitTermination(5000));
+    }
+
+    @Test
+    public void readerBacksOff() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger checks = new AtomicInteger();
+        SmppWrapperFacade down = new SmppWrapperFacade() {
+            @Override
+            public < E extends Response > E executeOperation(PDUOperation pduOperation) {
+                return null;
+            }
+
+            @Override
+            public < E extends Response > CompletableFuture< E > executeOperationAsync(PDUOperation pduOperation) {
+                return null;
+            }
+
+            @Override
+            public < E extends Response > List< E > executeBatch(List< PDUOperation > pduOperations) {
+                return null;
+            }
+
+            @Override
+            public < E extends Request > E receiveOperation(PDUOperation pduOperation) throws SmppException {
+                reads.incrementAndGet();
+                throw new SmppException("[X] error, bind down");
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return checks.incrementAndGet() <= 3;
+            }
+        };
+        InboundDispatcher dispatcher = new InboundDispatcher(request -> { }, 1, 1, RejectionPolicy.BLOCK, StripeKey.SOURCE);
+        dispatcher.setMinBackoff(20L);
+        dispatcher.setMaxBackoff(100L);
+        dispatcher.start(down, PDUOperation.newBuilder().withOperationType(PDUOperationTypes.RECEIVE).build());
+        Thread.sleep(600L);
+        dispatcher.close();
+        Assert.assertTrue(dispatcher.awaitTermination(5000));
+        Assert.assertEquals(3, reads.get());
+        Assert.assertTrue(checks.get() < 15);
+    }
+}
@@ -0,0 +1,101 @@
+package com.amk.smpp.inbound;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.pdu.DeliverSM;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MessageIdIndexTest {
+
+    @Test
+    public void putAndLookup() throws Exception {
+        MessageIdIndex index = new MessageIdIndex(10000, 60000L);
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertTrue(index.put("MSG" + i, i));
+        }
+        Assert.assertEquals(10000, index.size());
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertEquals(i, index.lookup("MSG" + i));
+        }
+        StringBuilder reused = new StringBuilder("MSG42");
+        Assert.assertEquals(42L, index.lookup(reused));
+        Assert.assertEquals(MessageIdIndex.NOT_FOUND, index.lookup("MSG10000"));
+        Assert.assertTrue(index.put("MSG42", 4242L));
+        Assert.assertEquals(4242L, index.lookup("MSG42"));
+        Assert.assertTrue(index.remove("MSG42"));
+        Assert.assertFalse(index.remove("MSG42"));
+        Assert.assertEquals(MessageIdIndex.NOT_FOUND, index.lookup("MSG42"));
+        Assert.assertEquals(MessageIdIndex.NOT_FOUND, index.lookup("MSG43" + new String(new char[64])));
+    }
+
+    @Test
+    public void expiration() throws Exception {
+        MessageIdIndex index = new MessageIdIndex(100, 1000L);
+        index.put("old", 1L, 0L);
+        index.put("new", 2L, 5000L);
+        Assert.assertEquals(MessageIdIndex.NOT_FOUND, index.lookup("old", 1000L));
+        Assert.assertEquals(2L, index.lookup("new", 1000L));
+        Assert.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void full() throws Exception {
+        MessageIdIndex index = new MessageIdIndex(32, 1000L);
+        int stored = 0;
+        for (int i = 0; i < 100; i++) {
+            if (index.put("ID" + i, i, 0L)) {
+                stored++;
+            }
+        }
+        Assert.assertEquals(48, stored);
+        Assert.assertEquals(52, index.getRejected());
+        Assert.assertTrue(index.put("ID" + 100, 100L, 2000L));
+        Assert.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void fullOfLiveEntries() throws Exception {
+        MessageIdIndex index = new MessageIdIndex(32, 1000L);
+        for (int i = 0; i < 48; i++) {
+            Assert.assertTrue(index.put("ID" + i, i, 0L));
+        }
+        Assert.assertFalse(index.put("ID48", 48L, 10L));
+        Assert.assertEquals(1, index.getRejected());
+        for (int i = 0; i < 7; i++) {
+            Assert.assertTrue(index.remove("ID" + i));
+        }
+        Assert.assertTrue(index.put("ID1", 1L, 10L));
+        for (int i = 7; i < 15; i++) {
+            Assert.assertTrue(index.remove("ID" + i));
+        }
+        for (int i = 48; i < 62; i++) {
+            Assert.assertTrue(index.put("ID" + i, i, 10L));
+        }
+        Assert.assertEquals(48, index.size());
+        Assert.assertFalse(index.put("ID62", 62L, 10L));
+        Assert.assertEquals(61L, index.lookup("ID61", 10L));
+        Assert.assertEquals(1L, index.lookup("ID1", 10L));
+        Assert.assertEquals(47L, index.lookup("ID47", 10L));
+        Assert.assertEquals(MessageIdIndex.NOT_FOUND, index.lookup("ID7", 10L));
+    }
+
+    @Test
+    public void correlate() throws Exception {
+        MessageIdIndex index = new MessageIdIndex(16);
+        index.put("abc123", 77L);
+        DeliveryReceipt receipt = new DeliveryReceipt(new DeliverSM());
+        receipt.setMessageId("abc123");
+        receipt.setState(MessageState.ENROUTE);
+        index.correlate(receipt);
+        Assert.assertEquals(77L, receipt.getTrackingId());
+        Assert.assertTrue(receipt.getSubmittedAt() > 0L);
+        receipt.setState(MessageState.DELIVERED);
+        index.correlate(receipt);
+        Assert.assertEquals(MessageIdIndex.NOT_FOUND, index.lookup("abc123"));
+    }
+}
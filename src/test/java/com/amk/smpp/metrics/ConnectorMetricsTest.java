@@ -0,0 +1,61 @@
+package com.amk.smpp.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.Data;
+
+import com.amk.smpp.operation.PDUOperationTypes;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConnectorMetricsTest {
+
+    @Test
+    public void snapshot() {
+        ConnectorMetrics metrics = new ConnectorMetrics();
+        OperationMetrics submit = metrics.get(PDUOperationTypes.SUBMIT_SMS);
+        submit.record(2000L, Data.ESME_ROK);
+        submit.record(3000L, Data.ESME_ROK);
+        submit.record(4000L, Data.ESME_RTHROTTLED);
+        submit.record(5000L, true);
+        metrics.getBind().record(1000L, Data.ESME_ROK);
+        Map< String, OperationSnapshot > snapshot = metrics.snapshot();
+        OperationSnapshot submits = snapshot.get(PDUOperationTypes.SUBMIT_SMS.name());
+        Assert.assertEquals(4L, submits.getRequests());
+        Assert.assertEquals(1L, submits.getFailures());
+        Assert.assertEquals(Long.valueOf(2L), submits.getStatuses().get(Data.ESME_ROK));
+        Assert.assertEquals(Long.valueOf(1L), submits.getStatuses().get(Data.ESME_RTHROTTLED));
+        Assert.assertEquals(5000L, submits.getLatency().getMax());
+        Assert.assertEquals(1L, snapshot.get(ConnectorMetrics.BIND).getRequests());
+        Assert.assertEquals(0L, snapshot.get(PDUOperationTypes.QUERY.name()).getRequests());
+        metrics.reset();
+        Assert.assertEquals(0L, submit.getRequests());
+    }
+
+    @Test
+    public void mbeans() throws Exception {
+        ConnectorMetrics metrics = new ConnectorMetrics();
+        metrics.get(PDUOperationTypes.SUBMIT_SMS).record(7000L, Data.ESME_ROK);
+        metrics.registerMBeans("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(ConnectorMetrics.DOMAIN + ":type=Operation,bind=\"test\",name=SUBMIT_SMS");
+        try {
+            Assert.assertEquals(1L, server.getAttribute(name, "Requests"));
+            Assert.assertEquals(7L, server.getAttribute(name, "Max"));
+            Assert.assertNotNull(server.getAttribute(name, "Statuses"));
+        } finally {
+            metrics.unregisterMBeans();
+        }
+        Assert.assertFalse(server.isRegistered(name));
+    }
+}
@@ -0,0 +1,41 @@
+package com.amk.smpp.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void buckets() {
+        for (long value : new long[] {0L, 1L, 31L, 63L, 64L, 65L, 1000L, 123456789L, Long.MAX_VALUE}) {
+            long highest = LatencyHistogram.highestValue(LatencyHistogram.index(value));
+            Assert.assertTrue(highest >= value);
+            Assert.assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKETS);
+        }
+        Assert.assertEquals(LatencyHistogram.index(63L) + 1, LatencyHistogram.index(64L));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(1000L, snapshot.getCount());
+        Assert.assertEquals(500500L, snapshot.getMean());
+        Assert.assertEquals(500000D, snapshot.getP50(), 500000D / LatencyHistogram.SUB_BUCKETS);
+        Assert.assertEquals(990000D, snapshot.getP99(), 990000D / LatencyHistogram.SUB_BUCKETS);
+        Assert.assertEquals(999000D, snapshot.getP999(), 999000D / LatencyHistogram.SUB_BUCKETS);
+        Assert.assertEquals(1000000L, snapshot.getMax());
+        histogram.reset();
+        Assert.assertEquals(0L, histogram.snapshot().getCount());
+        Assert.assertEquals(0L, histogram.snapshot().getP99());
+    }
+}
@@ -52,4 +52,24 @@ public class PDUOperationPropertiesBuilderTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void copy() throws Exception {
+        Date schedule = new Date();
+        PDUOperationProperties props = new PDUOperationPropertiesBuilder()
+                .setSourceAddress(new Address("5529094190"))
+                .setDestAddress(new Address[]{new Address("5529094190")})
+                .setScheduleDeliveryTime(schedule)
+                .setPriorityFlag((byte) 2)
+                .setRegisteredDelivery((byte) 1)
+                .setSeptetPacking(true)
+                .build();
+        PDUOperationProperties copy = PDUOperationPropertiesBuilder.newBuilder(props).setScheduleDeliveryTime(null).build();
+        Assert.assertNotSame(props, copy);
+        Assert.assertEquals(schedule, props.getScheduleDeliveryTime());
+        Assert.assertNull(copy.getScheduleDeliveryTime());
+        Assert.assertSame(props.getSourceAddress(), copy.getSourceAddress());
+        Assert.assertEquals(2, copy.getPriorityFlag());
+        Assert.assertEquals(1, copy.getRegisteredDelivery());
+        Assert.assertTrue(copy.isSeptetPacking());
+    }
+}
@@ -0,0 +1,200 @@
+package com.amk.smpp.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+import org.smpp.pdu.SubmitSMResp;
+
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.util.Message;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DestinationRouterTest {
+
+    static class Recorder extends RouteTableTest.Target {
+        final List< PDUOperation > executed = new ArrayList<>();
+        final String name;
+        CountDownLatch batches;
+        boolean failing;
+        int polled;
+        Request received;
+
+        Recorder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public < E extends Response > E executeOperation(PDUOperation pduOperation) {
+            executed.add(pduOperation);
+            return (E) response(pduOperation);
+        }
+
+        @Override
+        public < E extends Response > List< E > executeBatch(List< PDUOperation > pduOperations) throws SmppException {
+            if (batches != null) {
+                batches.countDown();
+                try {
+                    batches.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new SmppException(e);
+                }
+            }
+            if (failing) {
+                throw new SmppException("[X] error, bind down");
+            }
+            List< E > responses = new ArrayList<>();
+            for (PDUOperation pduOperation : pduOperations) {
+                responses.add(executeOperation(pduOperation));
+            }
+            return responses;
+        }
+
+        @Override
+        public < E extends Request > E receiveOperation(PDUOperation pduOperation) {
+            polled++;
+            Request request = received;
+            received = null;
+            return (E) request;
+        }
+
+        private Response response(PDUOperation pduOperation) {
+            SubmitSMResp response = new SubmitSMResp();
+            try {
+                response.setMessageId(name + pduOperation.getOperationProps().getDestAddress()[0].getAddress());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        }
+    }
+
+    private static PDUOperation submit(String destination) throws Exception {
+        return PDUOperation.newBuilder()
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .withOperationProps(new PDUOperationPropertiesBuilder()
+                        .setSourceAddress(new Address((byte) 5, (byte) 0, "AMK"))
+                        .setDestAddress(new Address[] { new Address((byte) 1, (byte) 1, destination) })
+                        .build())
+                .withSmsMessage(new Message("1", "hola"))
+                .build();
+    }
+
+    @Test
+    public void routeAndFallback() throws Exception {
+        Recorder telcel = new Recorder("T");
+        Recorder movistar = new Recorder("M");
+        DestinationRouter router = new DestinationRouter(RouteTable.newBuilder()
+                .withRoute("52155", telcel)
+                .withRoute("52", movistar)
+                .withFallback(telcel, movistar)
+                .build());
+
+        SubmitSMResp response = router.executeOperation(submit("5215512345678"));
+        Assert.assertEquals("T5215512345678", response.getMessageId());
+        Assert.assertEquals(1, telcel.executed.size());
+
+        telcel.available = false;
+        Assert.assertSame(movistar, router.route(submit("5215512345678")));
+        movistar.available = false;
+        Assert.assertSame(telcel, router.route(submit("5215512345678")));
+        Assert.assertFalse(router.isAvailable());
+
+        try {
+            router.executeOperation(submit("15551234"));
+            Assert.fail("no route");
+        } catch (SmppException e) {
+            Assert.assertTrue(e.getMessage().contains("15551234"));
+        }
+    }
+
+    @Test
+    public void batchAndSwap() throws Exception {
+        Recorder telcel = new Recorder("T");
+        Recorder other = new Recorder("O");
+        DestinationRouter router = new DestinationRouter(RouteTable.newBuilder()
+                .withRoute("52155", telcel)
+                .withDefault(other)
+                .build());
+
+        List< SubmitSMResp > responses = router.executeBatch(Arrays.asList(submit("5215511"), submit("1555"), submit("5215522")));
+        Assert.assertEquals("T5215511", responses.get(0).getMessageId());
+        Assert.assertEquals("O1555", responses.get(1).getMessageId());
+        Assert.assertEquals("T5215522", responses.get(2).getMessageId());
+        Assert.assertEquals(2, telcel.executed.size());
+
+        router.setRouteTable(RouteTable.newBuilder().withDefault(other).build());
+        Assert.assertSame(other, router.route(submit("5215511")));
+    }
+
+    @Test
+    public void concurrentGroups() throws Exception {
+        Recorder telcel = new Recorder("T");
+        Recorder movistar = new Recorder("M");
+        Recorder other = new Recorder("O");
+        CountDownLatch batches = new CountDownLatch(3);
+        telcel.batches = batches;
+        movistar.batches = batches;
+        other.batches = batches;
+        movistar.failing = true;
+        DestinationRouter router = new DestinationRouter(RouteTable.newBuilder()
+                .withRoute("52155", telcel)
+                .withRoute("52", movistar)
+                .withDefault(other)
+                .build());
+
+        long start = System.currentTimeMillis();
+        try {
+            router.executeBatch(Arrays.asList(submit("5215511"), submit("5233"), submit("1555")));
+            Assert.fail();
+        } catch (final PartialBatchException e) {
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+            Assert.assertEquals(Collections.singletonList(1), e.getFailed());
+            Assert.assertNotNull(e.getCause());
+            List< SubmitSMResp > responses = e.getResponses();
+            Assert.assertEquals("T5215511", responses.get(0).getMessageId());
+            Assert.assertNull(responses.get(1));
+            Assert.assertEquals("O1555", responses.get(2).getMessageId());
+        }
+    }
+
+    @Test
+    public void receiveRoundRobin() throws Exception {
+        Recorder telcel = new Recorder("T");
+        Recorder other = new Recorder("O");
+        DestinationRouter router = new DestinationRouter(RouteTable.newBuilder()
+                .withRoute("52155", telcel)
+                .withDefault(other)
+                .build());
+        PDUOperation receive = PDUOperation.newBuilder().withOperationType(PDUOperationTypes.RECEIVE).build();
+
+        DeliverSM deliver = new DeliverSM();
+        telcel.received = deliver;
+        Assert.assertSame(deliver, router.receiveOperation(receive));
+        Assert.assertNull(router.receiveOperation(receive));
+        Assert.assertEquals(2, telcel.polled);
+        Assert.assertEquals(1, other.polled);
+
+        other.available = false;
+        other.received = new DeliverSM();
+        Assert.assertNull(router.receiveOperation(receive));
+        Assert.assertEquals(1, other.polled);
+    }
+}
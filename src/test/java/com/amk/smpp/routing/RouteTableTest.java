@@ -0,0 +1,100 @@
+package com.amk.smpp.routing;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RouteTableTest {
+
+    static class Target implements SmppWrapperFacade {
+        boolean available = true;
+
+        @Override
+        public < E extends Response > E executeOperation(PDUOperation pduOperation) {
+            return null;
+        }
+
+        @Override
+        public < E extends Response > CompletableFuture< E > executeOperationAsync(PDUOperation pduOperation) {
+            return null;
+        }
+
+        @Override
+        public < E extends Response > List< E > executeBatch(List< PDUOperation > pduOperations) throws SmppException {
+            return null;
+        }
+
+        @Override
+        public < E extends Request > E receiveOperation(PDUOperation pduOperation) {
+            return null;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+
+    @Test
+    public void longestPrefix() {
+        Target mexico = new Target();
+        Target telcel = new Target();
+        Target movistar = new Target();
+        RouteTable table = RouteTable.newBuilder()
+                .withRoute("52", mexico)
+                .withRoute("+52155", telcel)
+                .withRoute("5215512", movistar)
+                .build();
+
+        Assert.assertEquals(3, table.size());
+        Assert.assertSame(mexico, table.lookup("5233"));
+        Assert.assertSame(telcel, table.lookup("5215599"));
+        Assert.assertSame(telcel, table.lookup("+52155"));
+        Assert.assertSame(movistar, table.lookup("521551234"));
+        Assert.assertSame(mexico, table.lookup("52 1551234"));
+        Assert.assertNull(table.lookup("1555"));
+        Assert.assertNull(table.lookup(""));
+        Assert.assertNull(table.lookup(null));
+    }
+
+    @Test
+    public void defaultAndFallback() {
+        Target mexico = new Target();
+        Target other = new Target();
+        Target backup = new Target();
+        RouteTable table = RouteTable.newBuilder()
+                .withRoute("52", mexico)
+                .withDefault(other)
+                .withFallback(mexico, backup)
+                .build();
+
+        Assert.assertSame(other, table.lookup("1555"));
+        Assert.assertSame(other, table.lookup(null));
+        Assert.assertSame(other, table.getDefaultTarget());
+        Assert.assertSame(backup, table.fallbackOf(mexico));
+        Assert.assertNull(table.fallbackOf(other));
+        Assert.assertEquals(3, table.getTargets().size());
+
+        RouteTable catchAll = RouteTable.newBuilder().withRoute("", mexico).build();
+        Assert.assertSame(mexico, catchAll.lookup("1555"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPrefix() {
+        RouteTable.newBuilder().withRoute("52A", new Target());
+    }
+}
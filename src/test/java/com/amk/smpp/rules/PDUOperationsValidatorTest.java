@@ -5,7 +5,9 @@ import org.junit.Test;
 
 import com.amk.smpp.core.BindingType;
 import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
 import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.util.Message;
 
 /** TODO Descripción de las responsabilidades de la clase, patrones utilizados, algoritmos utilizados.
  *
@@ -54,4 +56,46 @@ public class PDUOperationsValidatorTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void validNotEmptyCompiledRules() throws Exception {
+        PDUOperation receive = PDUOperation.newBuilder()
+                .withOperationProps(new PDUOperationPropertiesBuilder().build())
+                .withBindingType(BindingType.RX)
+                .withOperationType(PDUOperationTypes.RECEIVE)
+                .build();
+        PDUOperationsValidator.validNotEmpty(receive);
+
+        PDUOperation submit = PDUOperation.newBuilder(receive)
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .build();
+        try {
+            PDUOperationsValidator.validNotEmpty(submit);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().endsWith("smsMessage"));
+        }
+        submit.setSmsMessage(new Message(null, "body"));
+        PDUOperationsValidator.validNotEmpty(submit);
+
+        submit.setOperationType(null);
+        try {
+            PDUOperationsValidator.validNotEmpty(submit);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            //error expected
+        }
+    }
+
+    @Test
+    public void notEmptyRule() throws Exception {
+        NotEmptyRule< Message > rule = new NotEmptyRule<>("body", Message::getBody);
+        rule.validate(new Message(null, "body"));
+        try {
+            rule.validate(new Message(null, ""));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("body", rule.getProperty());
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.amk.smpp.schedule;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.smpp.SmppException;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.Response;
+
+import com.amk.smpp.codec.SubmitTemplate;
+import com.amk.smpp.core.BindingType;
+import com.amk.smpp.flow.TokenBucket;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.sim.RecordingFacade;
+import com.amk.smpp.store.WriteAheadLog;
+import com.amk.smpp.util.Message;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DeliverySchedulerTest {
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("scheduled");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Stream< Path > files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static PDUOperation submit(String id, Date schedule) throws Exception {
+        return PDUOperation.newBuilder()
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .withBindingType(BindingType.TRX)
+                .withOperationProps(new PDUOperationPropertiesBuilder()
+                        .setSourceAddress(new Address((byte) 5, (byte) 0, "AMK"))
+                        .setDestAddress(new Address[] { new Address((byte) 1, (byte) 1, "5215512345678") })
+                        .setScheduleDeliveryTime(schedule)
+                        .build())
+                .withSmsMessage(new Message(id, "hola"))
+                .build();
+    }
+
+    @Test
+    public void releaseWhenDue() throws Exception {
+        RecordingFacade bind = new RecordingFacade(true);
+        try (DeliveryScheduler scheduler = new DeliveryScheduler(bind, null, null, 10L)) {
+            long due = System.currentTimeMillis() + 200L;
+            PDUOperation scheduled = submit("later", new Date(due));
+            CompletableFuture< Response > later = scheduler.schedule(scheduled);
+            scheduler.schedule(submit("now", null));
+            Assert.assertEquals("now", bind.next().id());
+            Assert.assertEquals(1, scheduler.getScheduled());
+
+            RecordingFacade.Written released = bind.next();
+            Assert.assertEquals("later", released.id());
+            Assert.assertTrue(released.writtenAt >= due);
+            Assert.assertNull(released.pduOperation.getOperationProps().getScheduleDeliveryTime());
+            Assert.assertEquals(due, scheduled.getOperationProps().getScheduleDeliveryTime().getTime());
+            Assert.assertNotNull(later.get(5, TimeUnit.SECONDS));
+            Assert.assertEquals(2, scheduler.getReleased());
+        }
+    }
+
+    @Test
+    public void scheduledTemplate() throws Exception {
+        PDUOperation operation = submit("1", new Date(System.currentTimeMillis() + 60000L));
+        PDUOperation template = PDUOperation.newBuilder(operation)
+                .withTemplate(SubmitTemplate.compile(operation.getOperationProps()))
+                .build();
+        try (DeliveryScheduler scheduler = new DeliveryScheduler(new RecordingFacade(true), null)) {
+            try {
+                scheduler.schedule(template);
+                Assert.fail();
+            } catch (final SmppException e) {
+                // error expected, schedule compiled in the template
+            }
+            PDUOperation unscheduled = submit("2", null);
+            scheduler.schedule(PDUOperation.newBuilder(operation)
+                    .withTemplate(SubmitTemplate.compile(unscheduled.getOperationProps()))
+                    .build());
+            Assert.assertEquals(1, scheduler.getScheduled());
+        }
+    }
+
+    @Test
+    public void rate() throws Exception {
+        RecordingFacade bind = new RecordingFacade(true);
+        try (DeliveryScheduler scheduler = new DeliveryScheduler(bind, new TokenBucket(20.0, 1), null, 10L)) {
+            Date due = new Date(System.currentTimeMillis() + 50L);
+            for (int i = 0; i < 5; i++) {
+                scheduler.schedule(submit(String.valueOf(i), due));
+            }
+            long first = 0L;
+            long last = 0L;
+            for (int i = 0; i < 5; i++) {
+                last = bind.next().writtenAt;
+                if (i == 0) {
+                    first = last;
+                }
+            }
+            Assert.assertTrue(last - first >= 150L);
+        }
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        RecordingFacade bind = new RecordingFacade(true);
+        try (WriteAheadLog log = new WriteAheadLog(directory, 4096);
+                DeliveryScheduler scheduler = new DeliveryScheduler(bind, null, log, 10L)) {
+            CompletableFuture< Response > future = scheduler.schedule(submit("1", new Date(System.currentTimeMillis() + 60000L)));
+            Assert.assertTrue(log.isPending(1L));
+            future.cancel(false);
+            Assert.assertEquals(0, scheduler.getScheduled());
+            Assert.assertFalse(log.isPending(1L));
+        }
+    }
+
+    @Test
+    public void recover() throws Exception {
+        Date due = new Date(System.currentTimeMillis() + 300L);
+        try (WriteAheadLog log = new WriteAheadLog(directory, 4096);
+                DeliveryScheduler scheduler = new DeliveryScheduler(new RecordingFacade(true), null, log, 10L)) {
+            scheduler.schedule(submit("1", due));
+            scheduler.schedule(submit("2", new Date(System.currentTimeMillis() + 3600000L)));
+        }
+        RecordingFacade bind = new RecordingFacade(true);
+        try (WriteAheadLog log = new WriteAheadLog(directory, 4096);
+                DeliveryScheduler scheduler = new DeliveryScheduler(bind, null, log, 10L)) {
+            Assert.assertEquals(2, scheduler.recover());
+            Assert.assertEquals(0, scheduler.recover());
+            RecordingFacade.Written released = bind.next();
+            Assert.assertEquals("1", released.id());
+            Assert.assertTrue(released.writtenAt >= due.getTime());
+            Assert.assertEquals(1, scheduler.getScheduled());
+            long timeout = System.currentTimeMillis() + 5000L;
+            while (log.isPending(1L) && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10L);
+            }
+            Assert.assertFalse(log.isPending(1L));
+            Assert.assertTrue(log.isPending(2L));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.amk.smpp.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TimingWheelTest {
+
+    @Test
+    public void expireOnDeadline() {
+        TimingWheel< Long > wheel = new TimingWheel<>(1000L);
+        Random random = new Random(7L);
+        Map< Long, Integer > expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            long deadline = 1001L + (i % 3 == 0 ? random.nextInt(300) : random.nextInt(1 << 20));
+            Assert.assertNotNull(wheel.add(deadline, deadline));
+            expected.merge(deadline, 1, Integer::sum);
+        }
+        Assert.assertEquals(20000, wheel.size());
+        long end = 1000L + (1 << 20) + 1L;
+        for (long tick = 1001L; tick <= end; tick++) {
+            final long now = tick;
+            wheel.advance(now, deadline -> {
+                Assert.assertEquals(now, deadline.longValue());
+                expected.merge(deadline, -1, Integer::sum);
+            });
+        }
+        Assert.assertEquals(0, wheel.size());
+        expected.values().forEach(count -> Assert.assertEquals(0, count.intValue()));
+    }
+
+    @Test
+    public void jump() {
+        TimingWheel< String > wheel = new TimingWheel<>(0L);
+        wheel.add(70000L, "later");
+        wheel.add(5L, "soon");
+        List< String > expired = new ArrayList<>();
+        wheel.advance(100L, expired::add);
+        Assert.assertEquals(1, expired.size());
+        wheel.advance(70000L, expired::add);
+        Assert.assertEquals("later", expired.get(1));
+        Assert.assertEquals(70000L, wheel.getCurrentTick());
+        wheel.advance(90000L, expired::add);
+        Assert.assertEquals(90000L, wheel.getCurrentTick());
+    }
+
+    @Test
+    public void dueAndCancel() {
+        TimingWheel< String > wheel = new TimingWheel<>(10L);
+        Assert.assertNull(wheel.add(10L, "due"));
+        TimingWheel.Entry< String > entry = wheel.add(500L, "cancelled");
+        wheel.add(500L, "kept");
+        Assert.assertTrue(wheel.cancel(entry));
+        Assert.assertFalse(wheel.cancel(entry));
+        List< String > expired = new ArrayList<>();
+        wheel.advance(600L, expired::add);
+        Assert.assertEquals(1, expired.size());
+        Assert.assertEquals("kept", expired.get(0));
+    }
+
+    @Test
+    public void beyondRange() {
+        long far = (1L << 32) + 300L;
+        TimingWheel< String > wheel = new TimingWheel<>((1L << 32) - 10L);
+        wheel.add((1L << 32) - 10L + far, "far");
+        List< String > drained = new ArrayList<>();
+        wheel.drain(drained::add);
+        Assert.assertEquals(1, drained.size());
+        Assert.assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,81 @@
+package com.amk.smpp.sim;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.smpp.pdu.Request;
+import org.smpp.pdu.Response;
+import org.smpp.pdu.SubmitSMResp;
+
+import com.amk.smpp.core.SmppWrapperFacade;
+import com.amk.smpp.operation.PDUOperation;
+
+/**
+ * Test double of the facade of a bind, records every operation written asynchronously; shared by the scheduler
+ * tests.
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RecordingFacade implements SmppWrapperFacade {
+
+    public static class Written {
+        public final PDUOperation pduOperation;
+        public final long writtenAt = System.currentTimeMillis();
+        public final CompletableFuture< Response > future = new CompletableFuture<>();
+
+        Written(PDUOperation pduOperation) {
+            this.pduOperation = pduOperation;
+        }
+
+        public String id() {
+            return pduOperation.getSmsMessage().getId();
+        }
+
+        public void answer() {
+            future.complete(new SubmitSMResp());
+        }
+    }
+
+    public final BlockingQueue< Written > written = new LinkedBlockingQueue<>();
+    private final boolean answered;
+
+    public RecordingFacade(boolean answered) {
+        this.answered = answered;
+    }
+
+    @Override
+    public < E extends Response > E executeOperation(PDUOperation pduOperation) {
+        return null;
+    }
+
+    @Override
+    public < E extends Response > CompletableFuture< E > executeOperationAsync(PDUOperation pduOperation) {
+        Written entry = new Written(pduOperation);
+        if (answered) {
+            entry.answer();
+        }
+        written.add(entry);
+        return (CompletableFuture< E >) (CompletableFuture< ? >) entry.future;
+    }
+
+    @Override
+    public < E extends Response > List< E > executeBatch(List< PDUOperation > pduOperations) {
+        return null;
+    }
+
+    @Override
+    public < E extends Request > E receiveOperation(PDUOperation pduOperation) {
+        return null;
+    }
+
+    public Written next() throws InterruptedException {
+        Written entry = written.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(entry);
+        return entry;
+    }
+}
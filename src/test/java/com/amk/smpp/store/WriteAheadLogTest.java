@@ -0,0 +1,177 @@
+package com.amk.smpp.store;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.smpp.pdu.Address;
+
+import com.amk.smpp.core.BindingType;
+import com.amk.smpp.operation.PDUOperation;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+import com.amk.smpp.operation.PDUOperationTypes;
+import com.amk.smpp.operation.TrafficClass;
+import com.amk.smpp.util.Message;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class WriteAheadLogTest {
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("wal");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Stream< Path > files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream< Path > files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void groupCommit() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, 4096)) {
+            List< CompletableFuture< Long > > futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(log.append(bytes("message " + i)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assert.assertEquals(Long.valueOf(i + 1), futures.get(i).get());
+            }
+            Assert.assertTrue(log.getForces() >= 1 && log.getForces() <= 100);
+            Assert.assertTrue(log.isPending(1));
+            Assert.assertTrue(log.markSubmitted(1));
+            Assert.assertFalse(log.markSubmitted(1));
+            Assert.assertFalse(log.isPending(1));
+        }
+    }
+
+    @Test
+    public void replay() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, 4096)) {
+            for (int i = 1; i <= 5; i++) {
+                log.append(bytes("message " + i)).get();
+            }
+            log.markSubmitted(2);
+            log.markSubmitted(4);
+        }
+        try (WriteAheadLog log = new WriteAheadLog(directory, 4096)) {
+            List< LogRecord > pending = log.pending();
+            Assert.assertEquals(3, pending.size());
+            Assert.assertEquals(1, pending.get(0).getId());
+            Assert.assertEquals(3, pending.get(1).getId());
+            Assert.assertEquals("message 5", new String(pending.get(2).getPayload(), StandardCharsets.UTF_8));
+            Assert.assertEquals(Long.valueOf(6), log.append(bytes("message 6")).get());
+            Assert.assertTrue(log.markSubmitted(3));
+            Assert.assertEquals(2, log.pending().size());
+        }
+    }
+
+    @Test
+    public void rollAndDelete() throws Exception {
+        byte[] payload = new byte[100];
+        try (WriteAheadLog log = new WriteAheadLog(directory, 256)) {
+            for (int i = 0; i < 6; i++) {
+                log.append(payload).get();
+            }
+            Assert.assertEquals(3, log.getSegments());
+            Assert.assertEquals(3, segmentFiles());
+            for (long id = 1; id <= 4; id++) {
+                log.markSubmitted(id);
+            }
+            Assert.assertTrue(log.getSegments() <= 2);
+            Assert.assertEquals(log.getSegments(), segmentFiles());
+            try {
+                log.append(new byte[256]);
+                Assert.fail();
+            } catch (final IllegalArgumentException e) {
+                // error expected, does not fit in a segment
+            }
+        }
+        try (WriteAheadLog log = new WriteAheadLog(directory, 256)) {
+            Assert.assertEquals(2, log.pending().size());
+            Assert.assertEquals(5, log.pending().get(0).getId());
+        }
+    }
+
+    @Test
+    public void compactPending() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory, 256)) {
+            log.append(bytes("never answered")).get();
+            for (int i = 0; i < 50; i++) {
+                long id = log.append(new byte[40]).get();
+                Assert.assertTrue(log.markSubmitted(id));
+            }
+            Assert.assertTrue(log.getSegments() <= 3);
+            Assert.assertEquals(log.getSegments(), segmentFiles());
+            Assert.assertTrue(log.isPending(1L));
+        }
+        try (WriteAheadLog log = new WriteAheadLog(directory, 256)) {
+            Assert.assertEquals(1, log.pending().size());
+            Assert.assertEquals(1L, log.pending().get(0).getId());
+            Assert.assertEquals("never answered", new String(log.pending().get(0).getPayload(), StandardCharsets.UTF_8));
+            Assert.assertTrue(log.markSubmitted(1L));
+        }
+    }
+
+    @Test
+    public void codec() throws Exception {
+        PDUOperation operation = PDUOperation.newBuilder()
+                .withOperationType(PDUOperationTypes.SUBMIT_SMS)
+                .withBindingType(BindingType.TX)
+                .withOperationProps(new PDUOperationPropertiesBuilder()
+                        .setSourceAddress(new Address((byte) 5, (byte) 0, "AMK"))
+                        .setDestAddress(new Address[] {new Address((byte) 1, (byte) 1, "5215512345678")})
+                        .setRegisteredDelivery((byte) 1)
+                        .build())
+                .withSmsMessage(new Message("1", "hola"))
+                .withTrafficClass(TrafficClass.URGENT)
+                .build();
+        PDUOperation decoded = PDUOperationCodec.decode(PDUOperationCodec.encode(operation));
+        Assert.assertEquals(PDUOperationTypes.SUBMIT_SMS, decoded.getOperationType());
+        Assert.assertEquals(BindingType.TX, decoded.getBindingType());
+        Assert.assertEquals("AMK", decoded.getOperationProps().getSourceAddress().getAddress());
+        Assert.assertEquals(5, decoded.getOperationProps().getSourceAddress().getTon());
+        Assert.assertEquals("5215512345678", decoded.getOperationProps().getDestAddress()[0].getAddress());
+        Assert.assertEquals(1, decoded.getOperationProps().getRegisteredDelivery());
+        Assert.assertNull(decoded.getOperationProps().getScheduleDeliveryTime());
+        Assert.assertEquals("hola", decoded.getSmsMessage().getBody());
+        Assert.assertEquals(0L, decoded.getTrackingId());
+        Assert.assertEquals(TrafficClass.URGENT, decoded.getTrafficClass());
+        operation.setTrafficClass(null);
+        byte[] payload = PDUOperationCodec.encode(operation);
+        Assert.assertNull(PDUOperationCodec.decode(payload).getTrafficClass());
+        // first version: no traffic class at the end
+        byte[] first = Arrays.copyOf(payload, payload.length - 1);
+        first[0] = 1;
+        Assert.assertEquals("hola", PDUOperationCodec.decode(first).getSmsMessage().getBody());
+    }
+}
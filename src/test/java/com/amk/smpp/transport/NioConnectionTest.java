@@ -0,0 +1,175 @@
+package com.amk.smpp.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.smpp.pdu.Address;
+import org.smpp.pdu.SubmitSM;
+import org.smpp.util.ByteBuffer;
+
+import com.amk.smpp.codec.ConcatenationType;
+import com.amk.smpp.codec.MessageCodec;
+import com.amk.smpp.codec.MessageSegmenter;
+import com.amk.smpp.codec.SubmitTemplate;
+import com.amk.smpp.operation.PDUOperationPropertiesBuilder;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class NioConnectionTest {
+    private ServerSocket  server;
+    private NioTransport  transport;
+    private NioConnection connection;
+    private Socket        peer;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new ServerSocket(0);
+        transport = new NioTransport(1);
+        connection = new NioConnection("localhost", server.getLocalPort(), transport);
+        connection.setReceiveTimeout(2000);
+        connection.open();
+        peer = server.accept();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+        peer.close();
+        server.close();
+        transport.close();
+    }
+
+    private static byte[] pdu(int length, int sequence) {
+        byte[] pdu = new byte[length];
+        pdu[0] = (byte) (length >>> 24);
+        pdu[1] = (byte) (length >>> 16);
+        pdu[2] = (byte) (length >>> 8);
+        pdu[3] = (byte) length;
+        pdu[15] = (byte) sequence;
+        return pdu;
+    }
+
+    @Test
+    public void receiveFragmented() throws Exception {
+        byte[] first = pdu(16, 1);
+        byte[] second = pdu(40, 2);
+        byte[] stream = new byte[first.length + second.length];
+        System.arraycopy(first, 0, stream, 0, first.length);
+        System.arraycopy(second, 0, stream, first.length, second.length);
+        OutputStream out = peer.getOutputStream();
+        out.write(stream, 0, 3);
+        out.flush();
+        Thread.sleep(50);
+        out.write(stream, 3, 20);
+        out.flush();
+        Thread.sleep(50);
+        out.write(stream, 23, stream.length - 23);
+        out.flush();
+
+        Assert.assertArrayEquals(first, connection.receive().getBuffer());
+        Assert.assertArrayEquals(second, connection.receive().getBuffer());
+    }
+
+    @Test
+    public void send() throws Exception {
+        byte[] sent = pdu(24, 7);
+        connection.send(new ByteBuffer(sent));
+        byte[] read = new byte[sent.length];
+        InputStream in = peer.getInputStream();
+        int offset = 0;
+        while (offset < read.length) {
+            offset += in.read(read, offset, read.length - offset);
+        }
+        Assert.assertArrayEquals(sent, read);
+    }
+
+    @Test
+    public void sendEncoded() throws Exception {
+        SubmitTemplate template = SubmitTemplate.compile(new PDUOperationPropertiesBuilder()
+                .setSourceAddress(new Address((byte) 5, (byte) 0, "AMK"))
+                .setDataCoding(MessageCodec.DC_IA5)
+                .build());
+        byte[] text = "hola".getBytes("US-ASCII");
+        SubmitSM request = template.newSubmit(new Address((byte) 1, (byte) 1, "5215512345678"),
+                new MessageSegmenter().split(text, text.length, MessageCodec.DC_IA5, ConcatenationType.UDH_8BIT).get(0));
+        request.setSequenceNumber(3);
+        ByteBuffer data = request.getData();
+        connection.send(data);
+        connection.send(data);
+
+        byte[] expected = data.getBuffer();
+        InputStream in = peer.getInputStream();
+        for (int i = 0; i < 2; i++) {
+            byte[] read = new byte[expected.length];
+            int offset = 0;
+            while (offset < read.length) {
+                offset += in.read(read, offset, read.length - offset);
+            }
+            Assert.assertArrayEquals(expected, read);
+        }
+    }
+
+    @Test
+    public void timeoutAndClose() throws Exception {
+        connection.setReceiveTimeout(100);
+        Assert.assertEquals(0, connection.receive().length());
+        Assert.assertTrue(connection.isOpened());
+        peer.close();
+        try {
+            connection.receive();
+            Assert.fail("connection closed by the peer");
+        } catch (IOException e) {
+            Assert.assertFalse(connection.isOpened());
+        }
+    }
+
+    @Test
+    public void partialWriteCloses() throws Exception {
+        connection.setCommsTimeout(100);
+        java.nio.ByteBuffer large = java.nio.ByteBuffer.wrap(pdu(32 * 1024 * 1024, 9));
+        try {
+            connection.write(large);
+            Assert.fail("peer never reads");
+        } catch (IOException e) {
+            Assert.assertTrue(large.position() > 0);
+            Assert.assertFalse(connection.isOpened());
+        }
+    }
+
+    @Test
+    public void failingConnectionKeepsLoop() throws Exception {
+        NioConnection broken = new NioConnection("localhost", server.getLocalPort(), transport) {
+            @Override
+            void onReadable() {
+                throw new IllegalStateException("broken");
+            }
+        };
+        broken.setReceiveTimeout(2000);
+        broken.open();
+        try (Socket brokenPeer = server.accept()) {
+            brokenPeer.getOutputStream().write(pdu(16, 1));
+            try {
+                broken.receive();
+                Assert.fail("connection failed by the loop");
+            } catch (IOException e) {
+                Assert.assertFalse(broken.isOpened());
+            }
+            byte[] sent = pdu(16, 2);
+            peer.getOutputStream().write(sent);
+            Assert.assertArrayEquals(sent, connection.receive().getBuffer());
+        } finally {
+            broken.close();
+        }
+    }
+}
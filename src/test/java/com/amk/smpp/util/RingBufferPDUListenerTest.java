@@ -0,0 +1,148 @@
+package com.amk.smpp.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.smpp.Connection;
+import org.smpp.Receiver;
+import org.smpp.ServerPDUEvent;
+import org.smpp.TCPIPConnection;
+import org.smpp.pdu.DeliverSM;
+import org.smpp.pdu.PDU;
+import org.smpp.pdu.SubmitSMResp;
+
+/**
+ * Test
+ * @author Orlando Ramos &lt;orlando.ramos@amk-technologies.com&gt;
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RingBufferPDUListenerTest {
+
+    private final Connection connection = new TCPIPConnection("localhost", 0);
+    private final Receiver   receiver   = new Receiver(connection);
+
+    private ServerPDUEvent newEvent(boolean request) {
+        PDU pdu = request ? new DeliverSM() : new SubmitSMResp();
+        return new ServerPDUEvent(receiver, connection, pdu);
+    }
+
+    @Test
+    public void ring() {
+        EventRing< Integer > ring = new EventRing<>(3);
+        Assert.assertEquals(4, ring.capacity());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                Assert.assertTrue(ring.offer(i));
+            }
+            Assert.assertFalse(ring.offer(4));
+            Assert.assertEquals(4, ring.size());
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals(Integer.valueOf(i), ring.poll());
+            }
+            Assert.assertNull(ring.poll());
+        }
+    }
+
+    @Test
+    public void dropNewest() {
+        RingBufferPDUListener listener = new RingBufferPDUListener(2, WaitStrategy.BUSY_SPIN, OverflowPolicy.DROP_NEWEST);
+        listener.setIntervalTime(10);
+        List< ServerPDUEvent > discarded = new ArrayList<>();
+        listener.setOverflowHandler(discarded::add);
+        ServerPDUEvent first = newEvent(true);
+        ServerPDUEvent second = newEvent(true);
+        ServerPDUEvent third = newEvent(true);
+        ServerPDUEvent response = newEvent(false);
+        listener.handleEvent(first);
+        listener.handleEvent(second);
+        listener.handleEvent(third);
+        listener.handleEvent(response);
+        Assert.assertEquals(1, listener.getDropped());
+        Assert.assertSame(third, discarded.get(0));
+        Assert.assertSame(first, listener.getRequestEvent());
+        Assert.assertSame(second, listener.getRequestEvent());
+        Assert.assertNull(listener.getRequestEvent());
+        Assert.assertSame(response, listener.getResponseEvent());
+    }
+
+    @Test
+    public void defaultDoesNotBlock() {
+        RingBufferPDUListener listener = new BasicPDUListener();
+        Assert.assertEquals(OverflowPolicy.DROP_NEWEST, listener.getOverflowPolicy());
+        for (int i = 0; i <= listener.getCapacity(); i++) {
+            listener.handleEvent(newEvent(true));
+        }
+        Assert.assertEquals(1, listener.getDropped());
+        Assert.assertFalse(listener.retain(newEvent(true)));
+    }
+
+    @Test
+    public void dropOldest() {
+        RingBufferPDUListener listener = new RingBufferPDUListener(2, WaitStrategy.TIMED, OverflowPolicy.DROP_OLDEST);
+        listener.setIntervalTime(10);
+        List< ServerPDUEvent > discarded = new ArrayList<>();
+        listener.setOverflowHandler(discarded::add);
+        ServerPDUEvent first = newEvent(true);
+        ServerPDUEvent second = newEvent(true);
+        ServerPDUEvent third = newEvent(true);
+        listener.handleEvent(first);
+        listener.handleEvent(second);
+        listener.handleEvent(third);
+        Assert.assertSame(first, discarded.get(0));
+        Assert.assertSame(second, listener.getRequestEvent());
+        Assert.assertSame(third, listener.getRequestEvent());
+        Assert.assertEquals(0, listener.getPendingRequests());
+    }
+
+    @Test
+    public void retain() {
+        RingBufferPDUListener listener = new RingBufferPDUListener(2, WaitStrategy.BUSY_SPIN, OverflowPolicy.DROP_OLDEST);
+        listener.setIntervalTime(10);
+        List< ServerPDUEvent > discarded = new ArrayList<>();
+        listener.setOverflowHandler(discarded::add);
+        ServerPDUEvent first = newEvent(true);
+        ServerPDUEvent second = newEvent(true);
+        ServerPDUEvent third = newEvent(true);
+        Assert.assertTrue(listener.retain(first));
+        Assert.assertTrue(listener.retain(second));
+        Assert.assertFalse(listener.retain(newEvent(true)));
+        listener.handleEvent(third);
+        Assert.assertSame(third, discarded.get(0));
+        Assert.assertSame(first, listener.getRequestEvent());
+        Assert.assertSame(second, listener.getRequestEvent());
+        Assert.assertEquals(1, listener.getDropped());
+
+        ServerPDUEvent fourth = newEvent(true);
+        ServerPDUEvent fifth = newEvent(true);
+        listener.handleEvent(fourth);
+        listener.handleEvent(fifth);
+        listener.handleEvent(newEvent(true));
+        Assert.assertSame(fourth, discarded.get(1));
+    }
+
+    @Test
+    public void parkAndBlock() throws Exception {
+        RingBufferPDUListener listener = new RingBufferPDUListener(1, WaitStrategy.PARK, OverflowPolicy.BLOCK);
+        Assert.assertEquals(2, listener.getCapacity());
+        listener.setIntervalTime(5000);
+        CompletableFuture< ServerPDUEvent > consumer = CompletableFuture.supplyAsync(listener::getRequestEvent);
+        ServerPDUEvent first = newEvent(true);
+        ServerPDUEvent second = newEvent(true);
+        listener.handleEvent(first);
+        Assert.assertSame(first, consumer.get(2, TimeUnit.SECONDS));
+        listener.handleEvent(second);
+        listener.handleEvent(newEvent(true));
+        CompletableFuture< Void > producer = CompletableFuture.runAsync(() -> listener.handleEvent(newEvent(true)));
+        Thread.sleep(50);
+        Assert.assertFalse(producer.isDone());
+        Assert.assertSame(second, listener.getRequestEvent());
+        producer.get(2, TimeUnit.SECONDS);
+        Assert.assertEquals(2, listener.getPendingRequests());
+        Assert.assertEquals(0, listener.getDropped());
+    }
+}
@@ -50,9 +50,11 @@ public class SMPPUtilTest {
 
     @Test
     public void transformDate() throws Exception {
-        // TODO
         String stringDate = SMPPUtil.transformDate(new Date());
         Assert.assertNotNull(stringDate);
+        Assert.assertEquals(16, stringDate.length());
+        Assert.assertEquals("260101000000500+", SMPPUtil.transformDate(new Date(1767225600500L)));
+        Assert.assertEquals("261017153045900+", SMPPUtil.transformDate(new Date(1792251045999L)));
     }
 
     @Test